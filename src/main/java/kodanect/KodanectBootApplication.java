@@ -1,5 +1,6 @@
 package kodanect;
 
+import kodanect.common.config.properties.ActionLogProperties;
 import kodanect.common.config.properties.GlobalsProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -7,7 +8,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableConfigurationProperties(GlobalsProperties.class)
+@EnableConfigurationProperties({GlobalsProperties.class, ActionLogProperties.class})
 @EnableScheduling
 public class KodanectBootApplication {
 
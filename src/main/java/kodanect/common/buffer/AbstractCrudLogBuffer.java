@@ -0,0 +1,328 @@
+package kodanect.common.buffer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import kodanect.common.buffer.journal.ActionLogJournal;
+import kodanect.common.constant.CrudCode;
+import kodanect.common.constant.UserActionKey;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 로그 이벤트를 CRUD 코드별 고정 크기 링 버퍼에 적재하고, 세션 단위로 배출하는 공통 버퍼입니다.
+ *
+ * - 적재 경로: {@link ActionLogJournal}에 먼저 기록한 뒤 CRUD 코드별 {@link LogRingBuffer}에 추가 (이벤트당 키/노드 객체 생성 없음)
+ * - 배출 경로: 링 버퍼를 세션별 목록으로 옮긴 뒤(staging) 전체 또는 CRUD 코드 단위로 추출
+ * - 적재 건수: CRUD 코드별 카운터로 O(1) 조회하며, 고수위(high-water mark) 도달 시 신규 이벤트를 거부
+ * - 적재 용량(추정 바이트)과 가장 오래된 이벤트의 적재 시각을 CRUD 코드별로 함께 관리하여 배출 시점 판단에 사용합니다.
+ * - 거부된 이벤트 수는 누적 집계되어 {@link #getDroppedCount()}로 확인할 수 있습니다.
+ * - 저장에 실패한 이벤트는 {@link #requeue(CrudCode, String, Object)}로 다시 적재되어 다음 배출에서 저장됩니다.
+ * - CRUD 코드별 적재 건수/용량과 거부 건수는 {@code action.log.buffer.*{buffer}} 메트릭으로 노출됩니다.
+ *
+ * 배출 메서드는 단일 소비자 규약을 지키기 위해 동기화되어 있습니다.
+ *
+ * @param <T> 로그 DTO 타입
+ */
+public abstract class AbstractCrudLogBuffer<T> implements MeterBinder {
+
+    protected static final String UNKNOWN_SESSION_ID = "Unknown";
+
+    private final int highWaterMark;
+    private final Map<CrudCode, LogRingBuffer<T>> rings = new EnumMap<>(CrudCode.class);
+    private final Map<CrudCode, Map<String, List<T>>> staged = new EnumMap<>(CrudCode.class);
+    private final AtomicIntegerArray pending = new AtomicIntegerArray(CrudCode.values().length);
+    private final AtomicLongArray pendingBytes = new AtomicLongArray(CrudCode.values().length);
+    private final AtomicLongArray oldestEnqueuedAt = new AtomicLongArray(CrudCode.values().length);
+    private final LongAdder droppedCount = new LongAdder();
+    private final ActionLogJournal journal;
+
+    /**
+     * @param capacity      CRUD 코드별 링 버퍼 슬롯 수
+     * @param highWaterMark CRUD 코드별 최대 적재 건수
+     * @param journal       적재 전 이벤트를 기록할 선기록 저널
+     */
+    protected AbstractCrudLogBuffer(int capacity, int highWaterMark, ActionLogJournal journal) {
+        this.journal = journal;
+        for (CrudCode code : CrudCode.values()) {
+            rings.put(code, new LogRingBuffer<>(capacity));
+            staged.put(code, new HashMap<>());
+        }
+        this.highWaterMark = Math.min(highWaterMark, rings.get(CrudCode.X).capacity());
+    }
+
+    /**
+     * 이벤트를 저널에 기록한 뒤 해당 CRUD 코드의 링 버퍼에 추가합니다.
+     *
+     * 고수위에 도달했거나 링 버퍼에 빈 슬롯이 없으면 이벤트를 버리고 거부 건수를 증가시킵니다.
+     * 고수위 검사는 저널 기록 전에 수행되므로, 거부된 이벤트는 저널에도 남지 않습니다.
+     *
+     * @param code      CRUD 코드
+     * @param sessionId 사용자 세션 ID
+     * @param event     로그 이벤트
+     * @return 적재에 성공하면 true
+     */
+    protected boolean offer(CrudCode code, String sessionId, T event) {
+        if (!reserve(code)) {
+            return false;
+        }
+
+        if (!journal.isOpen()) {
+            return publish(code, sessionId, event);
+        }
+
+        Lock lock = journal.ingestLock();
+        lock.lock();
+        try {
+            writeJournal(journal, sessionId, event);
+            return publish(code, sessionId, event);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 저널 재생 등으로 복원된 이벤트를 저널 기록 없이 링 버퍼에 추가합니다.
+     *
+     * @param code      CRUD 코드
+     * @param sessionId 사용자 세션 ID
+     * @param event     로그 이벤트
+     * @return 적재에 성공하면 true
+     */
+    protected boolean restore(CrudCode code, String sessionId, T event) {
+        return reserve(code) && publish(code, sessionId, event);
+    }
+
+    /**
+     * 저장에 실패하여 되돌려 받은 이벤트를 저널에 다시 기록한 뒤 링 버퍼에 추가합니다.
+     *
+     * 새 이벤트와 같은 적재 경로를 사용하므로, 원래 기록된 세그먼트가 체크포인트로 삭제되더라도 재시작 시 복구됩니다.
+     *
+     * @param code      배출 시의 CRUD 코드
+     * @param sessionId 사용자 세션 ID
+     * @param event     로그 이벤트
+     * @return 적재에 성공하면 true
+     */
+    public boolean requeue(CrudCode code, String sessionId, T event) {
+        return offer(code, sessionId, event);
+    }
+
+    /**
+     * 이벤트 한 건을 저널에 기록합니다.
+     *
+     * @param journal   선기록 저널
+     * @param sessionId 사용자 세션 ID
+     * @param event     로그 이벤트
+     */
+    protected abstract void writeJournal(ActionLogJournal journal, String sessionId, T event);
+
+    /**
+     * 이벤트 한 건이 차지하는 대략적인 크기(바이트)를 계산합니다.
+     *
+     * @param event 로그 이벤트
+     * @return 추정 크기
+     */
+    protected abstract int estimateSize(T event);
+
+    /**
+     * 배출된 이벤트 목록을 반환하기 전에 호출됩니다.
+     *
+     * 하위 클래스는 배출 결과의 이벤트를 다른 이벤트로 바꿀 수 있으며, 기본 구현은 아무것도 하지 않습니다.
+     * 배출 메서드와 같은 락 안에서 호출됩니다.
+     *
+     * @param drained 배출된 사용자 액션 키 및 해당 로그 목록 (변경 가능)
+     */
+    protected void afterDrain(Map<UserActionKey, List<T>> drained) {
+    }
+
+    /**
+     * 메트릭 태그(buffer)에 사용할 버퍼 이름을 반환합니다.
+     *
+     * @return 버퍼 이름
+     */
+    protected abstract String bufferName();
+
+    /**
+     * 문자열 필드의 추정 크기를 계산합니다. (null은 0)
+     *
+     * @param value 문자열 필드
+     * @return 문자 수
+     */
+    protected static int sizeOf(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    /**
+     * 버퍼에 저장된 모든 로그를 배출하고 버퍼를 초기화합니다.
+     *
+     * @return 모든 사용자 액션 키 및 해당 로그 목록
+     */
+    public synchronized Map<UserActionKey, List<T>> drainAll() {
+        Map<UserActionKey, List<T>> result = new HashMap<>();
+
+        for (CrudCode code : CrudCode.values()) {
+            result.putAll(drainAll(code));
+        }
+
+        return result;
+    }
+
+    /**
+     * 지정한 CRUD 코드의 로그를 모두 배출합니다.
+     *
+     * 배출 전 가장 오래된 이벤트 시각을 초기화하므로, 배출 도중 새로 적재된 이벤트는 새 시각으로 다시 기록됩니다.
+     *
+     * @param code 배출할 CRUD 코드
+     * @return 해당 CRUD 코드의 사용자 액션 키 및 로그 목록
+     */
+    public synchronized Map<UserActionKey, List<T>> drainAll(CrudCode code) {
+        oldestEnqueuedAt.set(code.ordinal(), 0);
+
+        Map<String, List<T>> sessions = stage(code);
+        Map<UserActionKey, List<T>> result = new HashMap<>();
+        int drained = 0;
+        long drainedBytes = 0;
+
+        for (Map.Entry<String, List<T>> entry : sessions.entrySet()) {
+            drained += entry.getValue().size();
+            drainedBytes += sizeOf(entry.getValue());
+            result.put(new UserActionKey(entry.getKey(), code), entry.getValue());
+        }
+
+        sessions.clear();
+        pending.addAndGet(code.ordinal(), -drained);
+        pendingBytes.addAndGet(code.ordinal(), -drainedBytes);
+
+        afterDrain(result);
+        return result;
+    }
+
+    /**
+     * 지정한 CRUD 코드로 현재 적재된 이벤트 수를 반환합니다.
+     *
+     * @param code CRUD 코드
+     * @return 적재 이벤트 수
+     */
+    public int getBufferedCount(CrudCode code) {
+        return pending.get(code.ordinal());
+    }
+
+    /**
+     * 지정한 CRUD 코드로 현재 적재된 이벤트의 추정 크기(바이트)를 반환합니다.
+     *
+     * @param code CRUD 코드
+     * @return 추정 적재 크기
+     */
+    public long getBufferedBytes(CrudCode code) {
+        return Math.max(0, pendingBytes.get(code.ordinal()));
+    }
+
+    /**
+     * 지정한 CRUD 코드에서 가장 오래 대기 중인 이벤트의 적재 시각을 반환합니다.
+     *
+     * @param code CRUD 코드
+     * @return 적재 시각 (epoch 밀리초), 대기 중인 이벤트가 없으면 0
+     */
+    public long getOldestEnqueuedAt(CrudCode code) {
+        return getBufferedCount(code) > 0 ? oldestEnqueuedAt.get(code.ordinal()) : 0;
+    }
+
+    /**
+     * 지정한 CRUD 코드의 버퍼가 고수위에 도달했는지 확인합니다.
+     *
+     * @param code CRUD 코드
+     * @return 포화 상태이면 true
+     */
+    public boolean isSaturated(CrudCode code) {
+        return getBufferedCount(code) >= highWaterMark;
+    }
+
+    /**
+     * 버퍼 포화로 거부된 누적 이벤트 수를 반환합니다.
+     *
+     * @return 거부 이벤트 수
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * CRUD 코드별 적재 건수/용량 게이지와 거부 건수 카운터를 등록합니다.
+     *
+     * @param registry 메트릭 레지스트리
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Tags bufferTags = Tags.of("buffer", bufferName());
+
+        for (CrudCode code : CrudCode.values()) {
+            Tags tags = bufferTags.and("crud_code", code.name());
+            Gauge.builder("action.log.buffer.events", this, buffer -> buffer.getBufferedCount(code))
+                    .description("CRUD 코드별 적재 이벤트 수")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("action.log.buffer.bytes", this, buffer -> buffer.getBufferedBytes(code))
+                    .description("CRUD 코드별 적재 이벤트의 추정 크기")
+                    .tags(tags)
+                    .baseUnit("bytes")
+                    .register(registry);
+        }
+
+        FunctionCounter.builder("action.log.buffer.dropped", this, AbstractCrudLogBuffer::getDroppedCount)
+                .description("버퍼 포화로 거부된 이벤트 수")
+                .tags(bufferTags)
+                .register(registry);
+    }
+
+    private boolean reserve(CrudCode code) {
+        int index = code.ordinal();
+
+        if (pending.incrementAndGet(index) > highWaterMark) {
+            pending.decrementAndGet(index);
+            droppedCount.increment();
+            return false;
+        }
+
+        return true;
+    }
+
+    private boolean publish(CrudCode code, String sessionId, T event) {
+        if (rings.get(code).offer(sessionId, event)) {
+            pendingBytes.addAndGet(code.ordinal(), estimateSize(event));
+            oldestEnqueuedAt.compareAndSet(code.ordinal(), 0, System.currentTimeMillis());
+            return true;
+        }
+
+        pending.decrementAndGet(code.ordinal());
+        droppedCount.increment();
+        return false;
+    }
+
+    private long sizeOf(List<T> events) {
+        long size = 0;
+        for (T event : events) {
+            size += estimateSize(event);
+        }
+        return size;
+    }
+
+    /**
+     * 링 버퍼에 게시된 이벤트를 세션별 목록으로 옮깁니다.
+     *
+     * @param code CRUD 코드
+     * @return 해당 CRUD 코드의 세션별 이벤트 목록
+     */
+    private Map<String, List<T>> stage(CrudCode code) {
+        Map<String, List<T>> sessions = staged.get(code);
+        rings.get(code).drain((sessionId, event) ->
+                sessions.computeIfAbsent(sessionId, k -> new ArrayList<>()).add(event));
+        return sessions;
+    }
+
+}
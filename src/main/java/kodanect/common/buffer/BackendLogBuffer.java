@@ -1,106 +1,74 @@
 package kodanect.common.buffer;
 
+import kodanect.common.buffer.journal.ActionLogJournal;
+import kodanect.common.config.properties.ActionLogProperties;
 import kodanect.common.constant.CrudCode;
 import kodanect.domain.logging.dto.BackendLogDto;
-import kodanect.common.constant.UserActionKey;
 import org.springframework.stereotype.Component;
 
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-
 /**
  * 백엔드 로그를 세션 ID 및 CRUD 단위로 버퍼링하는 컴포넌트입니다.
  *
- * - 버퍼 구조: {@code Map<UserActionKey, Queue<BackendLogDto>>}
+ * - 버퍼 구조: CRUD 코드별 고정 크기 링 버퍼 ({@link AbstractCrudLogBuffer})
+ * - 버퍼에 들어가기 전 {@link ActionLogJournal}에 먼저 기록되어 재시작 시 복구됩니다.
  * - HTTP Method를 기반으로 {@link CrudCode}를 분류하여 그룹핑합니다.
- * - 동시성 안전을 위해 {@link ConcurrentHashMap}과 {@link ConcurrentLinkedQueue}를 사용합니다.
- * - 특정 임계치(threshold)를 넘은 경우 또는 전체 배출 시 로그를 추출합니다.
+ * - 적재 건수가 고수위(high-water mark)에 도달하면 신규 로그를 거부하여 메모리 사용량을 제한합니다.
+ * - 전체 배출 또는 CRUD 코드 단위 배출 시 로그를 추출합니다.
  */
 @Component
-public class BackendLogBuffer {
+public class BackendLogBuffer extends AbstractCrudLogBuffer<BackendLogDto> {
 
-    private static final String UNKNOWN_SESSION_ID = "Unknown";
-    private final Map<UserActionKey, Queue<BackendLogDto>> buffer = new ConcurrentHashMap<>();
+    public BackendLogBuffer(ActionLogProperties properties, ActionLogJournal journal) {
+        super(properties.getBuffer().getCapacity(), properties.getBuffer().getHighWaterMark(), journal);
+    }
 
     /**
      * 백엔드 로그를 버퍼에 추가합니다.
      *
      * 세션 ID와 HTTP 메서드를 기반으로 {@link CrudCode}를 분류하여,
-     * {@link UserActionKey} 단위로 로그를 누적 저장합니다.
+     * CRUD 코드별 링 버퍼에 로그를 누적 저장합니다.
      *
      * @param sessionId 사용자 세션 ID
      * @param log       백엔드 로그 객체
+     * @return 버퍼 포화로 거부된 경우 false
      */
-    public void add(String sessionId, BackendLogDto log) {
+    public boolean add(String sessionId, BackendLogDto log) {
         if (UNKNOWN_SESSION_ID.equals(sessionId) || log == null) {
-            return;
+            return true;
         }
 
-        CrudCode crudCode = CrudCode.fromHttpMethod(log.getHttpMethod());
-        UserActionKey key = new UserActionKey(sessionId, crudCode);
-
-        buffer.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>()).add(log);
+        return offer(CrudCode.fromHttpMethod(log.getHttpMethod()), sessionId, log);
     }
 
     /**
-     * 주어진 CRUD 코드에 해당하는 키 중, 로그 개수가 임계값 이상인 것만 추출합니다.
+     * 저널에서 복원된 백엔드 로그를 저널 기록 없이 버퍼에 추가합니다.
      *
-     * 조건을 만족하는 항목만 추출하며, 그렇지 않은 항목은 유지됩니다.
-     *
-     * @param code      필터링할 CRUD 코드
-     * @param threshold 로그 배출 임계값
-     * @return 배출된 사용자 액션 키 및 해당 로그 목록
+     * @param sessionId 사용자 세션 ID
+     * @param log       복원된 백엔드 로그
+     * @return 적재에 성공하면 true
      */
-    public Map<UserActionKey, List<BackendLogDto>> drainIfThresholdMet(CrudCode code, int threshold) {
-        Map<UserActionKey, List<BackendLogDto>> result = new HashMap<>();
-
-        for (Map.Entry<UserActionKey, Queue<BackendLogDto>> entry : buffer.entrySet()) {
-            UserActionKey key = entry.getKey();
-
-            if (key.getCrudCode() != code) {
-                continue;
-            }
-
-            Queue<BackendLogDto> queue = entry.getValue();
-
-            if (queue.size() >= threshold) {
-                List<BackendLogDto> drained = new ArrayList<>();
-
-                while (!queue.isEmpty() && drained.size() < threshold) {
-                    drained.add(queue.poll());
-                }
-
-                result.put(key, drained);
-            }
-        }
-
-        return result;
+    public boolean restore(String sessionId, BackendLogDto log) {
+        return restore(CrudCode.fromHttpMethod(log.getHttpMethod()), sessionId, log);
     }
 
-    /**
-     * 버퍼에 저장된 모든 로그를 배출하고 버퍼를 초기화합니다.
-     *
-     * @return 모든 사용자 액션 키 및 해당 로그 목록
-     */
-    public Map<UserActionKey, List<BackendLogDto>> drainAll() {
-        Map<UserActionKey, List<BackendLogDto>> result = new HashMap<>();
-
-        for (Map.Entry<UserActionKey, Queue<BackendLogDto>> entry : buffer.entrySet()) {
-            Queue<BackendLogDto> queue = entry.getValue();
-            List<BackendLogDto> drained = new ArrayList<>();
-
-            while (!queue.isEmpty()) {
-                drained.add(queue.poll());
-            }
+    @Override
+    protected String bufferName() {
+        return "backend";
+    }
 
-            if (!drained.isEmpty()) {
-                result.put(entry.getKey(), drained);
-            }
-        }
+    @Override
+    protected void writeJournal(ActionLogJournal journal, String sessionId, BackendLogDto log) {
+        journal.appendBackendLog(sessionId, log);
+    }
 
-        buffer.clear();
-        return result;
+    @Override
+    protected int estimateSize(BackendLogDto log) {
+        return sizeOf(log.getHttpMethod())
+                + sizeOf(log.getEndpoint())
+                + sizeOf(log.getController())
+                + sizeOf(log.getMethod())
+                + sizeOf(log.getParameters())
+                + sizeOf(log.getTimestamp());
     }
 
 }
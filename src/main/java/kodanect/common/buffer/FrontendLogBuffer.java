@@ -1,108 +1,252 @@
 package kodanect.common.buffer;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kodanect.common.buffer.journal.ActionLogJournal;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.common.config.properties.ActionLogProperties.Sampling.Mode;
 import kodanect.common.constant.CrudCode;
-import kodanect.domain.logging.dto.FrontendLogDto;
 import kodanect.common.constant.UserActionKey;
+import kodanect.common.exception.config.SecureLogger;
+import kodanect.domain.logging.dto.FrontendLogDto;
 import org.springframework.stereotype.Component;
 
-import java.util.*;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 프론트엔드 로그를 세션 ID 및 CRUD 단위로 버퍼링하는 컴포넌트입니다.
  *
- * - 버퍼 구조: {@code Map<UserActionKey, Queue<FrontendLogDto>>}
+ * - 버퍼 구조: CRUD 코드별 고정 크기 링 버퍼 ({@link AbstractCrudLogBuffer})
+ * - 버퍼에 들어가기 전 {@link ActionLogJournal}에 먼저 기록되어 재시작 시 복구됩니다.
  * - 이벤트 타입을 기반으로 {@link CrudCode}를 분류하여 그룹핑합니다.
- * - 동시성 안전을 위해 {@link ConcurrentHashMap}과 {@link ConcurrentLinkedQueue} 사용합니다.
- * - 특정 임계치(threshold)를 넘은 경우 또는 전체 배출 시 로그를 추출합니다.
+ * - 적재 건수가 고수위(high-water mark)에 도달하면 신규 로그를 거부하여 메모리 사용량을 제한합니다.
+ * - 전체 배출 또는 CRUD 코드 단위 배출 시 로그를 추출합니다.
+ * - 조회(R) 이벤트는 유형별 적재 정책(action-log.sampling.*)을 {@link #add(String, List)} 시점에 적용하므로,
+ *   버려지거나 요약된 이벤트는 버퍼와 저널에 남지 않습니다.
+ *   - SAMPLE: 유형별로 N건 중 1건만 적재합니다.
+ *   - SUMMARIZE: 세션별 첫 이벤트만 적재하고 이후 이벤트는 건수와 마지막 발생 시각만 누적하며,
+ *     배출 시 첫 이벤트를 요약 로그(summaryCount, lastTimestamp)로 바꿉니다.
+ *     누적 건수는 저널에 기록되지 않으므로 재시작 시 첫 이벤트만 복구됩니다.
  */
 @Component
-public class FrontendLogBuffer {
+public class FrontendLogBuffer extends AbstractCrudLogBuffer<FrontendLogDto> {
+
+    private static final SecureLogger logger = SecureLogger.getLogger(FrontendLogBuffer.class);
+
+    private final Map<String, SamplingRule> samplingRules = new HashMap<>();
+    private final Map<String, FrontendLogSummary> summaries = new ConcurrentHashMap<>();
+    private final LongAdder sampledOutCount = new LongAdder();
+    private final LongAdder summarizedCount = new LongAdder();
 
-    private static final String UNKNOWN_SESSION_ID = "Unknown";
-    private final Map<UserActionKey, Queue<FrontendLogDto>> buffer = new ConcurrentHashMap<>();
+    public FrontendLogBuffer(ActionLogProperties properties, ActionLogJournal journal) {
+        super(properties.getBuffer().getCapacity(), properties.getBuffer().getHighWaterMark(), journal);
+
+        properties.getSampling().getEventTypes().forEach((eventType, policy) -> {
+            if (CrudCode.fromEventType(eventType) != CrudCode.R) {
+                logger.warn("[액션 로그 버퍼] 조회(R) 이벤트가 아니므로 적재 정책을 무시합니다: {}", eventType);
+            } else if (policy.getMode() != Mode.KEEP) {
+                samplingRules.put(eventType.toLowerCase(Locale.ROOT), new SamplingRule(policy.getMode(), policy.getRate()));
+            }
+        });
+    }
 
     /**
      * 프론트엔드 로그를 버퍼에 추가합니다.
      *
      * 세션 ID와 이벤트 타입을 기반으로 {@link CrudCode}를 추출하여,
-     * {@link UserActionKey} 단위로 로그를 누적 저장합니다.
+     * CRUD 코드별 링 버퍼에 로그를 누적 저장합니다.
      *
      * @param sessionId 사용자 세션 ID
      * @param logs      프론트엔드 로그 리스트
+     * @return 버퍼 포화로 거부된 로그 수 (모두 적재되었거나 무시된 경우 0)
      */
-    public void add(String sessionId, List<FrontendLogDto> logs) {
+    public int add(String sessionId, List<FrontendLogDto> logs) {
         if (UNKNOWN_SESSION_ID.equals(sessionId) || logs == null || logs.isEmpty()) {
-            return;
+            return 0;
         }
 
-        for (FrontendLogDto log : logs) {
-            CrudCode crudCode = CrudCode.fromEventType(log.getEventType());
-            UserActionKey key = new UserActionKey(sessionId, crudCode);
+        int rejected = 0;
 
-            buffer.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>()).add(log);
+        for (FrontendLogDto log : logs) {
+            if (!accept(sessionId, log)) {
+                rejected++;
+            }
         }
+
+        return rejected;
+    }
+
+    /**
+     * 적재 정책에 따라 표본 추출로 버려진 누적 이벤트 수를 반환합니다.
+     *
+     * @return 버려진 이벤트 수
+     */
+    public long getSampledOutCount() {
+        return sampledOutCount.sum();
     }
 
     /**
-     * 주어진 CRUD 코드에 해당하는 키 중, 로그 개수가 임계값 이상인 것만 추출합니다.
+     * 적재 정책에 따라 요약 로그에 합쳐진 누적 이벤트 수를 반환합니다. (요약 로그의 첫 이벤트 제외)
      *
-     * 조건을 만족하는 항목만 추출하며, 그렇지 않은 항목은 유지됩니다.
+     * @return 요약된 이벤트 수
+     */
+    public long getSummarizedCount() {
+        return summarizedCount.sum();
+    }
+
+    /**
+     * 저널에서 복원된 프론트엔드 로그를 저널 기록 없이 버퍼에 추가합니다.
      *
-     * @param code      필터링할 CRUD 코드
-     * @param threshold 로그 배출 임계값
-     * @return 배출된 사용자 액션 키 및 해당 로그 목록
+     * @param sessionId 사용자 세션 ID
+     * @param log       복원된 프론트엔드 로그
+     * @return 적재에 성공하면 true
      */
-    public Map<UserActionKey, List<FrontendLogDto>> drainIfThresholdMet(CrudCode code, int threshold) {
-        Map<UserActionKey, List<FrontendLogDto>> result = new HashMap<>();
+    public boolean restore(String sessionId, FrontendLogDto log) {
+        return restore(CrudCode.fromEventType(log.getEventType()), sessionId, log);
+    }
 
-        for (Map.Entry<UserActionKey, Queue<FrontendLogDto>> entry : buffer.entrySet()) {
-            UserActionKey key = entry.getKey();
+    /**
+     * 배출되는 요약 대상 첫 이벤트를 요약 로그로 바꾸고, 해당 요약을 닫습니다.
+     */
+    @Override
+    protected void afterDrain(Map<UserActionKey, List<FrontendLogDto>> drained) {
+        if (summaries.isEmpty()) {
+            return;
+        }
 
-            if (key.getCrudCode() != code) {
+        for (Map.Entry<UserActionKey, List<FrontendLogDto>> entry : drained.entrySet()) {
+            if (entry.getKey().getCrudCode() != CrudCode.R) {
                 continue;
             }
 
-            Queue<FrontendLogDto> queue = entry.getValue();
-
-            if (queue.size() >= threshold) {
-                List<FrontendLogDto> drained = new ArrayList<>();
+            List<FrontendLogDto> events = entry.getValue();
+            for (int i = 0; i < events.size(); i++) {
+                String summaryKey = summaryKey(entry.getKey().getSessionId(), events.get(i).getEventType());
+                FrontendLogSummary summary = summaries.get(summaryKey);
 
-                while (!queue.isEmpty() && drained.size() < threshold) {
-                    drained.add(queue.poll());
+                if (summary != null && summary.getHead() == events.get(i)) {
+                    events.set(i, summary.seal());
+                    summaries.remove(summaryKey, summary);
                 }
-
-                result.put(key, drained);
             }
         }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        super.bindTo(registry);
+
+        FunctionCounter.builder("action.log.buffer.sampled", this, FrontendLogBuffer::getSampledOutCount)
+                .description("적재 정책에 따라 표본 추출로 버려진 이벤트 수")
+                .tags("buffer", bufferName(), "mode", "sample")
+                .register(registry);
+        FunctionCounter.builder("action.log.buffer.sampled", this, FrontendLogBuffer::getSummarizedCount)
+                .description("적재 정책에 따라 요약 로그에 합쳐진 이벤트 수")
+                .tags("buffer", bufferName(), "mode", "summarize")
+                .register(registry);
+    }
+
+    @Override
+    protected String bufferName() {
+        return "frontend";
+    }
+
+    @Override
+    protected void writeJournal(ActionLogJournal journal, String sessionId, FrontendLogDto log) {
+        journal.appendFrontendLog(sessionId, log);
+    }
 
-        return result;
+    @Override
+    protected int estimateSize(FrontendLogDto log) {
+        return sizeOf(log.getEventType())
+                + sizeOf(log.getElementId())
+                + sizeOf(log.getPageUrl())
+                + sizeOf(log.getReferrerUrl())
+                + sizeOf(log.getTimestamp());
     }
 
     /**
-     * 버퍼에 저장된 모든 로그를 배출하고 버퍼를 초기화합니다.
+     * 이벤트 유형의 적재 정책을 적용하여 이벤트 한 건을 처리합니다.
      *
-     * @return 모든 사용자 액션 키 및 해당 로그 목록
+     * @return 버퍼 포화로 거부되었으면 false (정책에 따라 버리거나 요약한 경우 true)
      */
-    public Map<UserActionKey, List<FrontendLogDto>> drainAll() {
-        Map<UserActionKey, List<FrontendLogDto>> result = new HashMap<>();
+    private boolean accept(String sessionId, FrontendLogDto log) {
+        CrudCode code = CrudCode.fromEventType(log.getEventType());
+        SamplingRule rule = code == CrudCode.R ? samplingRules.get(log.getEventType().toLowerCase(Locale.ROOT)) : null;
+
+        if (rule == null) {
+            return offer(code, sessionId, log);
+        }
 
-        for (Map.Entry<UserActionKey, Queue<FrontendLogDto>> entry : buffer.entrySet()) {
-            Queue<FrontendLogDto> queue = entry.getValue();
-            List<FrontendLogDto> drained = new ArrayList<>();
+        if (rule.mode == Mode.SAMPLE) {
+            if (!rule.sample()) {
+                sampledOutCount.increment();
+                return true;
+            }
+            return offer(code, sessionId, log);
+        }
+
+        return summarize(code, sessionId, log);
+    }
 
-            while (!queue.isEmpty()) {
-                drained.add(queue.poll());
+    /**
+     * 진행 중인 요약이 있으면 건수만 더하고, 없거나 이미 배출되었으면 이벤트를 새 요약의 첫 이벤트로 적재합니다.
+     */
+    private boolean summarize(CrudCode code, String sessionId, FrontendLogDto log) {
+        String summaryKey = summaryKey(sessionId, log.getEventType());
+
+        while (true) {
+            FrontendLogSummary current = summaries.get(summaryKey);
+            if (current != null && current.record(log.getTimestamp())) {
+                summarizedCount.increment();
+                return true;
             }
 
-            if (!drained.isEmpty()) {
-                result.put(entry.getKey(), drained);
+            FrontendLogSummary created = new FrontendLogSummary(log);
+            boolean installed = current == null
+                    ? summaries.putIfAbsent(summaryKey, created) == null
+                    : summaries.replace(summaryKey, current, created);
+
+            if (installed) {
+                if (!offer(code, sessionId, log)) {
+                    summaries.remove(summaryKey, created);
+                    return false;
+                }
+                return true;
             }
         }
+    }
+
+    private static String summaryKey(String sessionId, String eventType) {
+        return sessionId + '\u0000' + eventType.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 이벤트 유형 하나의 적재 정책
+     */
+    private static final class SamplingRule {
+
+        private final Mode mode;
+        private final int rate;
+        private final AtomicLong sequence = new AtomicLong();
+
+        private SamplingRule(Mode mode, int rate) {
+            this.mode = mode;
+            this.rate = Math.max(1, rate);
+        }
 
-        buffer.clear();
-        return result;
+        /**
+         * N건 중 첫 번째 이벤트만 적재 대상으로 선택합니다.
+         */
+        private boolean sample() {
+            return sequence.getAndIncrement() % rate == 0;
+        }
     }
 
 }
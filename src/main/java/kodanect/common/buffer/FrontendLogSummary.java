@@ -0,0 +1,69 @@
+package kodanect.common.buffer;
+
+import kodanect.domain.logging.dto.FrontendLogDto;
+
+/**
+ * 요약(SUMMARIZE) 정책이 적용된 이벤트 유형의 세션별 누적 상태입니다.
+ *
+ * 처음 들어온 이벤트(head)만 버퍼에 적재되고, 이후 같은 세션/유형의 이벤트는 건수와 마지막 발생 시각만 갱신합니다.
+ * 배출 시 {@link #seal()}로 닫힌 뒤에는 더 이상 갱신되지 않으며, 이후 이벤트는 새 요약을 시작합니다.
+ */
+final class FrontendLogSummary {
+
+    private final FrontendLogDto head;
+    private int count = 1;
+    private String lastTimestamp;
+    private boolean sealed;
+
+    FrontendLogSummary(FrontendLogDto head) {
+        this.head = head;
+        this.lastTimestamp = head.getTimestamp();
+    }
+
+    /**
+     * 버퍼에 적재된 첫 이벤트를 반환합니다.
+     *
+     * @return 첫 이벤트
+     */
+    FrontendLogDto getHead() {
+        return head;
+    }
+
+    /**
+     * 같은 세션/유형의 이벤트 한 건을 요약에 더합니다.
+     *
+     * @param timestamp 이벤트 발생 시각
+     * @return 이미 배출되어 닫힌 요약이면 false
+     */
+    synchronized boolean record(String timestamp) {
+        if (sealed) {
+            return false;
+        }
+
+        count++;
+        if (timestamp != null) {
+            lastTimestamp = timestamp;
+        }
+        return true;
+    }
+
+    /**
+     * 요약을 닫고, 건수와 처음/마지막 발생 시각을 담은 로그로 변환합니다.
+     *
+     * @return 요약 로그
+     */
+    synchronized FrontendLogDto seal() {
+        sealed = true;
+
+        return FrontendLogDto.builder()
+                .eventType(head.getEventType())
+                .elementId(head.getElementId())
+                .pageUrl(head.getPageUrl())
+                .referrerUrl(head.getReferrerUrl())
+                .timestamp(head.getTimestamp())
+                .summaryCount(count)
+                .lastTimestamp(lastTimestamp)
+                .build();
+    }
+
+}
@@ -0,0 +1,135 @@
+package kodanect.common.buffer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BiConsumer;
+
+/**
+ * 세션 ID와 로그 이벤트 쌍을 저장하는 고정 크기 MPSC(다중 생산자 / 단일 소비자) 링 버퍼입니다.
+ *
+ * - 슬롯 배열은 생성 시점에 한 번만 할당되며, 이벤트 추가 시 별도의 노드 객체를 만들지 않습니다.
+ * - 생산자는 슬롯별 시퀀스 번호와 CAS를 이용해 락 없이 슬롯을 점유합니다.
+ * - 소비자는 반드시 하나의 스레드(또는 외부 동기화 블록)에서만 {@link #drain(BiConsumer)}를 호출해야 합니다.
+ * - 버퍼가 가득 찬 경우 {@link #offer(String, Object)}는 대기하지 않고 즉시 false를 반환합니다.
+ *
+ * @param <T> 저장할 로그 이벤트 타입
+ */
+public final class LogRingBuffer<T> {
+
+    private static final int MIN_CAPACITY = 2;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final int mask;
+    private final String[] sessionIds;
+    private final Object[] events;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * 지정한 용량 이상의 가장 작은 2의 거듭제곱 크기로 링 버퍼를 생성합니다.
+     *
+     * 슬롯 시퀀스 규약상 최소 2개의 슬롯이 필요합니다.
+     *
+     * @param capacity 최소 슬롯 수
+     */
+    public LogRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+
+        int size = capacity >= MAX_CAPACITY ? MAX_CAPACITY : Integer.highestOneBit(capacity - 1) << 1;
+        size = Math.max(size, MIN_CAPACITY);
+
+        this.mask = size - 1;
+        this.sessionIds = new String[size];
+        this.events = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 이벤트를 링 버퍼에 추가합니다. 여러 스레드에서 동시에 호출할 수 있습니다.
+     *
+     * @param sessionId 사용자 세션 ID
+     * @param event     로그 이벤트
+     * @return 추가에 성공하면 true, 빈 슬롯이 없으면 false
+     */
+    public boolean offer(String sessionId, T event) {
+        long position = tail.get();
+
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    sessionIds[index] = sessionId;
+                    events[index] = event;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 게시가 완료된 이벤트를 순서대로 꺼내 소비자에게 전달합니다.
+     *
+     * 단일 소비자 전용 메서드이므로 동시에 두 스레드에서 호출해서는 안 됩니다.
+     *
+     * @param consumer 세션 ID와 이벤트를 전달받을 소비자
+     * @return 꺼낸 이벤트 수
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(BiConsumer<String, T> consumer) {
+        long position = head;
+        int drained = 0;
+
+        while (true) {
+            int index = (int) (position & mask);
+
+            if (sequences.get(index) != position + 1) {
+                return drained;
+            }
+
+            String sessionId = sessionIds[index];
+            T event = (T) events[index];
+
+            sessionIds[index] = null;
+            events[index] = null;
+            sequences.set(index, position + mask + 1);
+            head = ++position;
+            drained++;
+
+            consumer.accept(sessionId, event);
+        }
+    }
+
+    /**
+     * 현재 버퍼에 남아 있는 대략적인 이벤트 수를 반환합니다.
+     *
+     * @return 적재 이벤트 수 (동시 추가 중에는 근삿값)
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * 실제 할당된 슬롯 수를 반환합니다.
+     *
+     * @return 링 버퍼 슬롯 수
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+}
@@ -1,31 +1,80 @@
 package kodanect.common.buffer;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kodanect.common.buffer.journal.ActionLogJournal;
+import kodanect.common.config.properties.ActionLogProperties;
 import kodanect.domain.logging.dto.SystemInfoDto;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
 
 /**
  * 사용자 시스템 정보를 세션 ID를 기준으로 버퍼링하는 컴포넌트입니다.
  *
- * - 버퍼 구조: {@code Map<String, SystemInfoDto>}
- * - 동시성 안전을 위해 {@link ConcurrentHashMap} 사용합니다.
+ * - 버퍼 구조: 최대 세션 수와 유휴 만료 시간이 있는 Caffeine 캐시
  * - 동일 세션 ID에 대해 한 번만 저장되며, 이후 덮어쓰기 방지합니다.
  * - 백엔드 로그와 함께 시스템 정보를 연결하기 위한 목적입니다.
+ * - 신규 세션의 시스템 정보는 버퍼에 들어가기 전 {@link ActionLogJournal}에 먼저 기록됩니다.
+ *
+ * 퇴출 처리:
+ * - 최대 세션 수 초과 또는 유휴 만료로 퇴출된 항목은 바로 버리지 않고 퇴출 목록으로 옮깁니다.
+ * - 퇴출 목록의 항목도 {@link #get(String)}으로 조회되므로, 아직 배출되지 않은 로그와 함께 저장될 수 있습니다.
+ * - 전체 배출 시 배출 시작 전에 퇴출된 항목은 {@link #purgeRetired(long)}로 정리됩니다.
+ *
+ * 캐시 적중/퇴출 통계는 {@code cache.*{cache=action-log-system-info}} 메트릭으로 노출됩니다.
  */
 @Component
 public class SystemInfoBuffer {
 
     private static final String UNKNOWN_SESSION_ID = "Unknown";
-    private final Map<String, SystemInfoDto> buffer = new ConcurrentHashMap<>();
+    private static final String CACHE_NAME = "action-log-system-info";
+
+    private final Cache<String, SystemInfoDto> buffer;
+    private final Map<String, RetiredSystemInfo> retired = new ConcurrentHashMap<>();
+    private final AtomicLong retiredSequence = new AtomicLong();
+    private final AtomicLong retiredDroppedCount = new AtomicLong();
+    private final long maximumRetired;
+    private final ActionLogJournal journal;
+
+    @Autowired
+    public SystemInfoBuffer(ActionLogJournal journal, ActionLogProperties properties, MeterRegistry meterRegistry) {
+        this(journal, properties, meterRegistry, Ticker.systemTicker());
+    }
+
+    SystemInfoBuffer(ActionLogJournal journal, ActionLogProperties properties, MeterRegistry meterRegistry, Ticker ticker) {
+        ActionLogProperties.SystemInfo systemInfo = properties.getSystemInfo();
+        this.journal = journal;
+        this.maximumRetired = systemInfo.getMaximumSessions();
+        this.buffer = Caffeine.newBuilder()
+                .maximumSize(systemInfo.getMaximumSessions())
+                .expireAfterAccess(systemInfo.getIdleTimeout())
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .removalListener(this::onRemoval)
+                .recordStats()
+                .build();
+
+        registerMetrics(meterRegistry);
+    }
 
     /**
      * 시스템 정보를 버퍼에 추가합니다.
      *
      * 세션 ID 단위로 시스템 정보를 누적 저장합니다.
      * 이미 해당 세션 ID에 정보가 존재할 경우 기존 값을 유지하며 덮어쓰지 않습니다.
+     * 퇴출 목록에 있던 세션이 다시 활동하면 기존 정보를 버퍼로 되돌립니다.
      *
      * @param sessionId   사용자 세션 ID
      * @param systemInfo  시스템 정보 객체
@@ -35,12 +84,61 @@ public class SystemInfoBuffer {
             return;
         }
 
-        buffer.putIfAbsent(sessionId, systemInfo);
+        if (buffer.getIfPresent(sessionId) != null) {
+            return;
+        }
+
+        RetiredSystemInfo revived = retired.remove(sessionId);
+        if (revived != null) {
+            buffer.asMap().putIfAbsent(sessionId, revived.systemInfo);
+            return;
+        }
+
+        if (!journal.isOpen()) {
+            buffer.asMap().putIfAbsent(sessionId, systemInfo);
+            return;
+        }
+
+        Lock lock = journal.ingestLock();
+        lock.lock();
+        try {
+            journal.appendSystemInfo(sessionId, systemInfo);
+            buffer.asMap().putIfAbsent(sessionId, systemInfo);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 저널에서 복원된 시스템 정보를 저널 기록 없이 버퍼에 추가합니다.
+     *
+     * @param sessionId  사용자 세션 ID
+     * @param systemInfo 복원된 시스템 정보
+     */
+    public void restore(String sessionId, SystemInfoDto systemInfo) {
+        buffer.asMap().putIfAbsent(sessionId, systemInfo);
+    }
+
+    /**
+     * 현재 버퍼와 퇴출 목록에 남아 있는 시스템 정보를 모두 저널에 다시 기록합니다.
+     *
+     * 저널 체크포인트로 이전 세그먼트가 삭제되더라도,
+     * 아직 로그와 함께 저장되지 않은 세션의 시스템 정보를 복구할 수 있도록 유지하는 용도입니다.
+     */
+    public void rewriteJournal() {
+        if (!journal.isOpen()) {
+            return;
+        }
+
+        buffer.asMap().forEach(journal::appendSystemInfo);
+        retired.forEach((sessionId, entry) -> journal.appendSystemInfo(sessionId, entry.systemInfo));
     }
 
     /**
      * 세션 ID에 해당하는 시스템 정보를 조회합니다.
      *
+     * 버퍼에 없으면 퇴출 목록에서 조회합니다.
+     *
      * @param sessionId 조회 대상 세션 ID
      * @return 존재할 경우 {@link Optional}로 감싼 시스템 정보, 없을 경우 {@link Optional#empty()}
      */
@@ -48,16 +146,118 @@ public class SystemInfoBuffer {
         if (sessionId == null || sessionId.isBlank()) {
             return Optional.empty();
         }
-        return Optional.ofNullable(buffer.get(sessionId));
+
+        SystemInfoDto systemInfo = buffer.getIfPresent(sessionId);
+        if (systemInfo != null) {
+            return Optional.of(systemInfo);
+        }
+
+        RetiredSystemInfo entry = retired.get(sessionId);
+        return Optional.ofNullable(entry != null ? entry.systemInfo : null);
     }
 
     /**
-     * 지정된 세션 ID의 시스템 정보를 버퍼에서 제거합니다.
+     * 지정된 세션 ID의 시스템 정보를 버퍼와 퇴출 목록에서 제거합니다.
      *
      * @param sessionId 삭제 대상 세션 ID
      */
     public void remove(String sessionId) {
-        buffer.remove(sessionId);
+        buffer.invalidate(sessionId);
+        retired.remove(sessionId);
+    }
+
+    /**
+     * 현재까지 퇴출된 항목의 기준 번호를 반환합니다.
+     *
+     * 전체 배출 전에 보관해 두었다가 배출 후 {@link #purgeRetired(long)}에 전달합니다.
+     *
+     * @return 퇴출 기준 번호
+     */
+    public long retiredMark() {
+        return retiredSequence.get();
+    }
+
+    /**
+     * 기준 번호 이전에 퇴출된 항목을 퇴출 목록에서 제거합니다.
+     *
+     * 해당 항목의 세션 로그는 퇴출 이전에 버퍼에 들어갔으므로, 그 이후의 전체 배출로 모두 저장된 상태입니다.
+     *
+     * @param mark 전체 배출 전에 조회한 {@link #retiredMark()} 값
+     */
+    public void purgeRetired(long mark) {
+        retired.values().removeIf(entry -> entry.sequence <= mark);
+    }
+
+    /**
+     * 유휴 만료 등 대기 중인 캐시 정리 작업을 즉시 수행합니다.
+     */
+    public void cleanUp() {
+        buffer.cleanUp();
+    }
+
+    /**
+     * 버퍼에 보관 중인 세션 수를 반환합니다. (퇴출 목록 제외)
+     *
+     * @return 세션 수
+     */
+    public long size() {
+        return buffer.estimatedSize();
+    }
+
+    /**
+     * 퇴출 목록에 있는 세션 수를 반환합니다.
+     *
+     * @return 퇴출 목록 크기
+     */
+    public int getRetiredCount() {
+        return retired.size();
+    }
+
+    /**
+     * 퇴출 목록이 가득 차 버려진 누적 세션 수를 반환합니다.
+     *
+     * @return 폐기 건수
+     */
+    public long getRetiredDroppedCount() {
+        return retiredDroppedCount.get();
+    }
+
+    private void onRemoval(String sessionId, SystemInfoDto systemInfo, RemovalCause cause) {
+        if (!cause.wasEvicted() || sessionId == null || systemInfo == null) {
+            return;
+        }
+
+        if (retired.size() >= maximumRetired) {
+            retiredDroppedCount.incrementAndGet();
+            return;
+        }
+
+        retired.put(sessionId, new RetiredSystemInfo(systemInfo, retiredSequence.incrementAndGet()));
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, buffer, CACHE_NAME);
+
+        Gauge.builder("action.log.system.info.retired", retired, Map::size)
+                .description("퇴출되었지만 아직 로그와 함께 저장되지 않은 세션 수")
+                .register(registry);
+        FunctionCounter.builder("action.log.system.info.retired.dropped", retiredDroppedCount, AtomicLong::get)
+                .description("퇴출 목록이 가득 차 버려진 세션 수")
+                .register(registry);
+    }
+
+    /**
+     * 퇴출된 시스템 정보와 퇴출 순번
+     */
+    private static final class RetiredSystemInfo {
+
+        private final SystemInfoDto systemInfo;
+        private final long sequence;
+
+        private RetiredSystemInfo(SystemInfoDto systemInfo, long sequence) {
+            this.systemInfo = systemInfo;
+            this.sequence = sequence;
+        }
     }
 
 }
@@ -0,0 +1,701 @@
+package kodanect.common.buffer.journal;
+
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.common.exception.config.SecureLogger;
+import kodanect.domain.logging.dto.BackendLogDto;
+import kodanect.domain.logging.dto.FrontendLogDto;
+import kodanect.domain.logging.dto.SystemInfoDto;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 버퍼링된 액션 로그를 재시작 후에도 복구할 수 있도록 기록하는 메모리 매핑 기반 선기록(write-ahead) 저널입니다.
+ *
+ * - 저널은 고정 크기 세그먼트 파일({@code segment-<번호>.wal})을 {@link FileChannel#map}으로 매핑하여 추가 기록만 수행합니다.
+ * - 레코드 형식: {@code [int 전체 길이][byte 타입][필드...]}, 문자열 필드는 {@code [int 바이트 길이 | -1][UTF-8]}
+ * - 기록 위치는 세그먼트의 기록 위치를 CAS로 증가시켜 예약하므로, 여러 적재 스레드가 잠금 없이 동시에 기록합니다.
+ *   모니터는 세그먼트가 가득 찼을 때의 전환과 {@link #rollover()}에서만 사용합니다.
+ * - 세그먼트를 전환할 때는 이전 세그먼트를 봉인하고 기록 중인 스레드가 모두 끝난 뒤에 force/close하므로,
+ *   닫힌 매핑에 기록하거나 기록이 끝나지 않은 레코드를 플러시하지 않습니다.
+ * - 예약 직후 길이 필드를, 본문을 모두 쓴 뒤 마지막에 타입을 기록하므로, 타입이 비어 있는(중간에 종료된) 레코드는 복구 시 건너뜁니다.
+ * - 문자열은 매핑 버퍼에 직접 인코딩하여 기록 경로에서 중간 바이트 배열을 만들지 않습니다.
+ *
+ * 체크포인트 규약:
+ * - {@link #rollover()}로 새 세그먼트를 시작하고 반환된 번호를 보관합니다.
+ * - 그 이전 세그먼트의 로그가 모두 저장된 뒤 {@link #checkpoint(long)}를 호출하면 이전 세그먼트를 삭제합니다.
+ * - 버퍼 적재 경로는 {@link #ingestLock()}을 잡고 기록하므로, rollover가 끝난 시점에는
+ *   이전 세그먼트에 기록된 로그가 모두 버퍼에 들어가 있음이 보장됩니다.
+ * - 저장에 실패한 로그를 버퍼로 되돌리지 못하면 {@link #retain()}으로 보존 하한(low-water mark)을 고정합니다.
+ *   이후 체크포인트는 보존 하한 이전의 세그먼트만 삭제하므로, 되돌리지 못한 로그는 재시작 시 재생으로 복구됩니다.
+ * - 재생 중 핸들러가 받아들이지 못한 레코드가 있는 세그먼트는 재시작 전까지 체크포인트에서 제외합니다.
+ *
+ * 비활성화(action-log.journal.enabled=false) 상태에서는 모든 기록 메서드가 아무 동작도 하지 않습니다.
+ */
+@Component
+public class ActionLogJournal implements DisposableBean {
+
+    static final byte FRONTEND_LOG = 1;
+    static final byte BACKEND_LOG = 2;
+    static final byte SYSTEM_INFO = 3;
+
+    private static final SecureLogger log = SecureLogger.getLogger(ActionLogJournal.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES + Byte.BYTES;
+    private static final int NULL_LENGTH = -1;
+    private static final byte INCOMPLETE = 0;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentSize;
+    private final ReentrantReadWriteLock ingestLock = new ReentrantReadWriteLock();
+    private final List<Path> recoveredSegments = new ArrayList<>();
+    private final Set<Long> pinnedSegments = ConcurrentHashMap.newKeySet();
+
+    private volatile Segment current;
+    private volatile long recoveryCompletedAt = Long.MAX_VALUE;
+    /* 이 번호 이상의 세그먼트는 재시작 전까지 삭제하지 않음 (retain() 전에는 제한 없음) */
+    private volatile long retainedFrom = Long.MAX_VALUE;
+
+    public ActionLogJournal(ActionLogProperties properties) {
+        ActionLogProperties.Journal journal = properties.getJournal();
+        this.enabled = journal.isEnabled();
+        this.directory = Paths.get(journal.getDirectory());
+        this.segmentSize = journal.getSegmentSize();
+    }
+
+    /**
+     * 저널 디렉터리를 준비하고, 이전 실행에서 남은 세그먼트를 복구 대상으로 등록한 뒤 새 세그먼트를 엽니다.
+     *
+     * @throws IOException 디렉터리 또는 세그먼트 파일 생성에 실패한 경우
+     */
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        if (!enabled || current != null) {
+            return;
+        }
+
+        Files.createDirectories(directory);
+
+        long lastId = 0;
+        for (Path path : listSegments()) {
+            recoveredSegments.add(path);
+            lastId = Math.max(lastId, parseSegmentId(path));
+        }
+
+        openSegment(lastId + 1);
+        if (recoveredSegments.isEmpty()) {
+            recoveryCompletedAt = 0;
+        }
+        log.info("[액션 로그 저널] 세그먼트 {} 시작, 복구 대상 세그먼트 {}개", current.id, recoveredSegments.size());
+    }
+
+    /**
+     * 저널이 열려 있는지 확인합니다.
+     *
+     * @return 기록 가능한 상태이면 true
+     */
+    public boolean isOpen() {
+        return current != null;
+    }
+
+    /**
+     * 버퍼 적재 시 저널 기록과 버퍼 추가를 하나의 단위로 묶기 위한 공유 잠금을 반환합니다.
+     *
+     * @return 적재 경로용 잠금
+     */
+    public Lock ingestLock() {
+        return ingestLock.readLock();
+    }
+
+    /**
+     * 프론트엔드 로그를 저널에 기록합니다.
+     *
+     * @param sessionId   사용자 세션 ID
+     * @param frontendLog 프론트엔드 로그
+     */
+    public void appendFrontendLog(String sessionId, FrontendLogDto frontendLog) {
+        if (!isOpen()) {
+            return;
+        }
+
+        int length = RECORD_HEADER_BYTES
+                + sizeOf(sessionId)
+                + sizeOf(frontendLog.getEventType())
+                + sizeOf(frontendLog.getElementId())
+                + sizeOf(frontendLog.getPageUrl())
+                + sizeOf(frontendLog.getReferrerUrl())
+                + sizeOf(frontendLog.getTimestamp());
+
+        for (Segment target = writableSegment(length); target != null; target = roll(target)) {
+            if (!target.enter()) {
+                continue;
+            }
+            try {
+                int start = target.reserve(length);
+                if (start < 0) {
+                    continue;
+                }
+                MappedByteBuffer buffer = target.buffer;
+                int cursor = begin(buffer, start, length);
+                cursor = putString(buffer, cursor, sessionId);
+                cursor = putString(buffer, cursor, frontendLog.getEventType());
+                cursor = putString(buffer, cursor, frontendLog.getElementId());
+                cursor = putString(buffer, cursor, frontendLog.getPageUrl());
+                cursor = putString(buffer, cursor, frontendLog.getReferrerUrl());
+                putString(buffer, cursor, frontendLog.getTimestamp());
+                commit(buffer, start, FRONTEND_LOG);
+                return;
+            } finally {
+                target.exit();
+            }
+        }
+    }
+
+    /**
+     * 백엔드 로그를 저널에 기록합니다.
+     *
+     * @param sessionId  사용자 세션 ID
+     * @param backendLog 백엔드 로그
+     */
+    public void appendBackendLog(String sessionId, BackendLogDto backendLog) {
+        if (!isOpen()) {
+            return;
+        }
+
+        int length = RECORD_HEADER_BYTES
+                + sizeOf(sessionId)
+                + sizeOf(backendLog.getHttpMethod())
+                + sizeOf(backendLog.getEndpoint())
+                + sizeOf(backendLog.getController())
+                + sizeOf(backendLog.getMethod())
+                + sizeOf(backendLog.getParameters())
+                + sizeOf(backendLog.getTimestamp());
+
+        for (Segment target = writableSegment(length); target != null; target = roll(target)) {
+            if (!target.enter()) {
+                continue;
+            }
+            try {
+                int start = target.reserve(length);
+                if (start < 0) {
+                    continue;
+                }
+                MappedByteBuffer buffer = target.buffer;
+                int cursor = begin(buffer, start, length);
+                cursor = putString(buffer, cursor, sessionId);
+                cursor = putString(buffer, cursor, backendLog.getHttpMethod());
+                cursor = putString(buffer, cursor, backendLog.getEndpoint());
+                cursor = putString(buffer, cursor, backendLog.getController());
+                cursor = putString(buffer, cursor, backendLog.getMethod());
+                cursor = putString(buffer, cursor, backendLog.getParameters());
+                putString(buffer, cursor, backendLog.getTimestamp());
+                commit(buffer, start, BACKEND_LOG);
+                return;
+            } finally {
+                target.exit();
+            }
+        }
+    }
+
+    /**
+     * 시스템 정보를 저널에 기록합니다.
+     *
+     * @param sessionId  사용자 세션 ID
+     * @param systemInfo 시스템 정보
+     */
+    public void appendSystemInfo(String sessionId, SystemInfoDto systemInfo) {
+        if (!isOpen()) {
+            return;
+        }
+
+        int length = RECORD_HEADER_BYTES
+                + sizeOf(sessionId)
+                + sizeOf(systemInfo.getBrowserName())
+                + sizeOf(systemInfo.getBrowserVersion())
+                + sizeOf(systemInfo.getOperatingSystem())
+                + sizeOf(systemInfo.getDevice())
+                + sizeOf(systemInfo.getLocale());
+
+        for (Segment target = writableSegment(length); target != null; target = roll(target)) {
+            if (!target.enter()) {
+                continue;
+            }
+            try {
+                int start = target.reserve(length);
+                if (start < 0) {
+                    continue;
+                }
+                MappedByteBuffer buffer = target.buffer;
+                int cursor = begin(buffer, start, length);
+                cursor = putString(buffer, cursor, sessionId);
+                cursor = putString(buffer, cursor, systemInfo.getBrowserName());
+                cursor = putString(buffer, cursor, systemInfo.getBrowserVersion());
+                cursor = putString(buffer, cursor, systemInfo.getOperatingSystem());
+                cursor = putString(buffer, cursor, systemInfo.getDevice());
+                putString(buffer, cursor, systemInfo.getLocale());
+                commit(buffer, start, SYSTEM_INFO);
+                return;
+            } finally {
+                target.exit();
+            }
+        }
+    }
+
+    /**
+     * 새 세그먼트로 전환하고 그 번호를 반환합니다.
+     *
+     * 적재 경로의 공유 잠금이 모두 해제될 때까지 기다리므로,
+     * 반환 시점에는 이전 세그먼트에 기록된 로그가 모두 버퍼에 적재되어 있습니다.
+     *
+     * @return 새 세그먼트 번호 (저널 비활성 시 -1)
+     */
+    public long rollover() {
+        if (!isOpen()) {
+            return -1;
+        }
+
+        Lock lock = ingestLock.writeLock();
+        lock.lock();
+        try {
+            synchronized (this) {
+                openSegment(current.id + 1);
+                return current.id;
+            }
+        } catch (IOException e) {
+            log.error("[액션 로그 저널] 세그먼트 전환 실패", e);
+            return -1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 지정한 세그먼트 번호보다 이전의 세그먼트를 모두 삭제합니다.
+     *
+     * {@link #rollover()} 이전에 버퍼에 있던 로그가 모두 저장된 뒤에만 호출해야 합니다.
+     * 복구 대상 세그먼트는 재생이 끝난 뒤 발급된 번호로 체크포인트할 때만 삭제되며,
+     * {@link #retain()}으로 고정된 보존 하한 이후의 세그먼트와 재생 중 받아들여지지 않은 레코드가 있는 세그먼트는 삭제되지 않습니다.
+     *
+     * @param mark {@link #rollover()}가 반환한 세그먼트 번호
+     */
+    public void checkpoint(long mark) {
+        if (!isOpen() || mark < 0) {
+            return;
+        }
+
+        boolean includeRecovered = mark > recoveryCompletedAt;
+        long limit = Math.min(mark, retainedFrom);
+
+        try {
+            for (Path path : listSegments()) {
+                long id = parseSegmentId(path);
+                if (id < limit && !pinnedSegments.contains(id) && (includeRecovered || !isRecovered(path))) {
+                    Files.deleteIfExists(path);
+                }
+            }
+            if (includeRecovered) {
+                synchronized (this) {
+                    recoveredSegments.clear();
+                }
+            }
+        } catch (IOException e) {
+            log.warn("[액션 로그 저널] 체크포인트 정리 실패", e);
+        }
+    }
+
+    /**
+     * 현재 남아 있는 세그먼트를 재시작할 때까지 삭제하지 않도록 보존 하한을 고정합니다.
+     *
+     * 배출에 실패한 로그를 버퍼로 되돌리지 못했을 때 호출하며,
+     * 되돌리지 못한 로그는 이미 저장된 로그와 함께 재시작 시 다시 재생됩니다.
+     */
+    public void retain() {
+        if (!isOpen()) {
+            return;
+        }
+
+        try {
+            long oldest = listSegments().stream().mapToLong(ActionLogJournal::parseSegmentId).min().orElse(Long.MAX_VALUE);
+            synchronized (this) {
+                retainedFrom = Math.min(retainedFrom, Math.min(oldest, current.id));
+            }
+            log.warn("[액션 로그 저널] 세그먼트 {} 이후를 재시작 전까지 보존합니다.", retainedFrom);
+        } catch (IOException e) {
+            retainedFrom = 0;
+            log.error("[액션 로그 저널] 세그먼트 목록 조회 실패, 재시작 전까지 모든 세그먼트를 보존합니다.", e);
+        }
+    }
+
+    /**
+     * 이전 실행에서 남은 세그먼트의 레코드를 순서대로 읽어 핸들러에 전달합니다.
+     *
+     * 재생된 세그먼트는 다음 체크포인트까지 유지되므로, 재생 중 다시 저널에 기록할 필요가 없습니다.
+     * 핸들러가 받아들이지 못한 레코드가 있는 세그먼트는 재시작 전까지 삭제하지 않으며, 그 건수를 로그로 남깁니다.
+     * 재생 중에는 적재 경로와 같은 공유 잠금을 잡으므로 {@link #rollover()}와 겹치지 않습니다.
+     *
+     * @param handler 레코드를 전달받을 핸들러
+     * @return 핸들러가 받아들인 레코드 수
+     */
+    public int replay(JournalRecordHandler handler) {
+        if (!isOpen()) {
+            return 0;
+        }
+
+        List<Path> targets;
+        synchronized (this) {
+            targets = new ArrayList<>(recoveredSegments);
+        }
+        targets.sort((a, b) -> Long.compare(parseSegmentId(a), parseSegmentId(b)));
+
+        int replayed = 0;
+        Lock lock = ingestLock();
+        lock.lock();
+        try {
+            for (Path path : targets) {
+                try {
+                    int[] counts = replaySegment(path, handler);
+                    replayed += counts[0];
+                    if (counts[1] > 0) {
+                        pinnedSegments.add(parseSegmentId(path));
+                        log.warn("[액션 로그 저널] 세그먼트 {}의 레코드 {}건을 버퍼에 적재하지 못해 재시작 전까지 보존합니다.",
+                                parseSegmentId(path), counts[1]);
+                    }
+                } catch (IOException e) {
+                    pinnedSegments.add(parseSegmentId(path));
+                    log.warn("[액션 로그 저널] 세그먼트 재생 실패, 재시작 전까지 보존합니다.", e);
+                }
+            }
+            synchronized (this) {
+                recoveryCompletedAt = current.id;
+            }
+        } finally {
+            lock.unlock();
+        }
+        return replayed;
+    }
+
+    @Override
+    public synchronized void destroy() throws IOException {
+        if (current != null) {
+            Segment closing = current;
+            current = null;
+            close(closing);
+        }
+    }
+
+    /**
+     * 세그먼트 하나를 재생합니다.
+     *
+     * @return {받아들인 레코드 수, 받아들이지 못한 레코드 수}
+     */
+    private int[] replaySegment(Path path, JournalRecordHandler handler) throws IOException {
+        int accepted = 0;
+        int rejected = 0;
+
+        try (FileChannel readChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, readChannel.size());
+            int cursor = 0;
+
+            while (cursor + RECORD_HEADER_BYTES <= buffer.limit()) {
+                int length = buffer.getInt(cursor);
+                if (length < RECORD_HEADER_BYTES || cursor + length > buffer.limit()) {
+                    break;
+                }
+
+                byte type = buffer.get(cursor + Integer.BYTES);
+                if (type != INCOMPLETE) {
+                    buffer.position(cursor + RECORD_HEADER_BYTES);
+                    if (dispatch(type, buffer, handler)) {
+                        accepted++;
+                    } else {
+                        rejected++;
+                    }
+                }
+                cursor += length;
+            }
+        }
+
+        return new int[]{accepted, rejected};
+    }
+
+    private boolean dispatch(byte type, ByteBuffer buffer, JournalRecordHandler handler) {
+        String sessionId = getString(buffer);
+
+        return switch (type) {
+            case FRONTEND_LOG -> handler.onFrontendLog(sessionId, FrontendLogDto.builder()
+                    .eventType(getString(buffer))
+                    .elementId(getString(buffer))
+                    .pageUrl(getString(buffer))
+                    .referrerUrl(getString(buffer))
+                    .timestamp(getString(buffer))
+                    .build());
+            case BACKEND_LOG -> handler.onBackendLog(sessionId, BackendLogDto.builder()
+                    .httpMethod(getString(buffer))
+                    .endpoint(getString(buffer))
+                    .controller(getString(buffer))
+                    .method(getString(buffer))
+                    .parameters(getString(buffer))
+                    .timestamp(getString(buffer))
+                    .build());
+            case SYSTEM_INFO -> handler.onSystemInfo(sessionId, SystemInfoDto.builder()
+                    .browserName(getString(buffer))
+                    .browserVersion(getString(buffer))
+                    .operatingSystem(getString(buffer))
+                    .device(getString(buffer))
+                    .locale(getString(buffer))
+                    .build());
+            default -> {
+                log.warn("[액션 로그 저널] 알 수 없는 레코드 타입: {}", type);
+                yield true;
+            }
+        };
+    }
+
+    /**
+     * 기록할 세그먼트를 반환합니다. 레코드가 세그먼트 크기를 넘거나 저널이 닫혀 있으면 null을 반환합니다.
+     */
+    private Segment writableSegment(int length) {
+        if (length + Integer.BYTES > segmentSize) {
+            log.warn("[액션 로그 저널] 레코드가 세그먼트 크기를 초과하여 기록하지 않습니다. (length: {})", length);
+            return null;
+        }
+        return current;
+    }
+
+    /**
+     * 가득 찬 세그먼트를 다음 세그먼트로 전환하고, 기록할 세그먼트를 반환합니다.
+     *
+     * 다른 스레드가 이미 전환해 봉인된 세그먼트이면 현재 세그먼트를 반환하며, 전환에 실패하면 null을 반환합니다.
+     */
+    private Segment roll(Segment full) {
+        synchronized (this) {
+            if (current == full) {
+                try {
+                    openSegment(full.id + 1);
+                } catch (IOException e) {
+                    log.error("[액션 로그 저널] 세그먼트 전환 실패", e);
+                    return null;
+                }
+            }
+            return current;
+        }
+    }
+
+    /**
+     * 예약한 위치에 길이 필드를 기록합니다. 타입은 {@link #commit(MappedByteBuffer, int, byte)}에서 기록됩니다.
+     *
+     * @return 필드 기록 시작 위치
+     */
+    private static int begin(MappedByteBuffer buffer, int start, int length) {
+        buffer.putInt(start, length);
+        return start + RECORD_HEADER_BYTES;
+    }
+
+    private static void commit(MappedByteBuffer buffer, int start, byte type) {
+        buffer.put(start + Integer.BYTES, type);
+    }
+
+    private void openSegment(long id) throws IOException {
+        Path path = directory.resolve(SEGMENT_PREFIX + id + SEGMENT_SUFFIX);
+        FileChannel next = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer mapped = next.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+
+        Segment previous = current;
+        current = new Segment(id, next, mapped, segmentSize);
+
+        if (previous != null) {
+            close(previous);
+        }
+    }
+
+    /**
+     * 세그먼트를 봉인하고, 이미 기록을 시작한 스레드가 모두 끝나면 디스크에 반영한 뒤 닫습니다.
+     */
+    private static void close(Segment segment) throws IOException {
+        segment.seal();
+        segment.buffer.force();
+        segment.channel.close();
+    }
+
+    private synchronized boolean isRecovered(Path path) {
+        return recoveredSegments.stream().anyMatch(recovered -> recovered.getFileName().equals(path.getFileName()));
+    }
+
+    private List<Path> listSegments() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).toList();
+        }
+    }
+
+    private static long parseSegmentId(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * 문자열 필드가 차지하는 바이트 수 (길이 prefix 포함)를 계산합니다.
+     */
+    private static int sizeOf(String value) {
+        return Integer.BYTES + (value == null ? 0 : utf8Length(value));
+    }
+
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * 문자열을 매핑 버퍼의 지정 위치에 UTF-8로 직접 기록합니다.
+     *
+     * @return 다음 기록 위치
+     */
+    private static int putString(MappedByteBuffer segment, int cursor, String value) {
+        if (value == null) {
+            segment.putInt(cursor, NULL_LENGTH);
+            return cursor + Integer.BYTES;
+        }
+
+        int start = cursor + Integer.BYTES;
+        int out = start;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                segment.put(out++, (byte) c);
+            } else if (c < 0x800) {
+                segment.put(out++, (byte) (0xC0 | (c >> 6)));
+                segment.put(out++, (byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                segment.put(out++, (byte) (0xF0 | (codePoint >> 18)));
+                segment.put(out++, (byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                segment.put(out++, (byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                segment.put(out++, (byte) (0x80 | (codePoint & 0x3F)));
+            } else {
+                char encoded = Character.isSurrogate(c) ? '\uFFFD' : c;
+                segment.put(out++, (byte) (0xE0 | (encoded >> 12)));
+                segment.put(out++, (byte) (0x80 | ((encoded >> 6) & 0x3F)));
+                segment.put(out++, (byte) (0x80 | (encoded & 0x3F)));
+            }
+        }
+
+        segment.putInt(cursor, out - start);
+        return out;
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 매핑된 세그먼트 하나와 그 기록 위치
+     */
+    private static final class Segment {
+
+        private final long id;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final int limit;
+        private final AtomicInteger position = new AtomicInteger();
+        private final AtomicInteger writers = new AtomicInteger();
+        private volatile boolean sealed;
+
+        private Segment(long id, FileChannel channel, MappedByteBuffer buffer, int segmentSize) {
+            this.id = id;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.limit = segmentSize - Integer.BYTES;
+        }
+
+        /**
+         * 레코드 길이만큼 기록 위치를 예약합니다. 끝에는 종료 표시용 길이 필드 공간을 남깁니다.
+         *
+         * @return 예약한 시작 위치, 세그먼트에 공간이 없으면 -1
+         */
+        private int reserve(int length) {
+            int start = position.getAndAdd(length);
+            return start >= 0 && start <= limit - length ? start : -1;
+        }
+
+        /**
+         * 기록을 시작합니다. 이미 봉인된 세그먼트이면 기록하지 않고 false를 반환합니다.
+         *
+         * true를 반환했으면 기록이 끝난 뒤 반드시 {@link #exit()}를 호출해야 합니다.
+         */
+        private boolean enter() {
+            writers.incrementAndGet();
+            if (sealed) {
+                writers.decrementAndGet();
+                return false;
+            }
+            return true;
+        }
+
+        private void exit() {
+            writers.decrementAndGet();
+        }
+
+        /**
+         * 새 기록을 막고, 기록 중인 스레드가 모두 끝날 때까지 기다립니다.
+         *
+         * 기록 경로는 잠금이나 I/O 없이 매핑 버퍼에 인코딩만 하므로 짧게 대기합니다.
+         */
+        private void seal() {
+            sealed = true;
+            while (writers.get() > 0) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+}
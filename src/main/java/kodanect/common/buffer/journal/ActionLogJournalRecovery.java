@@ -0,0 +1,91 @@
+package kodanect.common.buffer.journal;
+
+import kodanect.common.buffer.BackendLogBuffer;
+import kodanect.common.buffer.FrontendLogBuffer;
+import kodanect.common.buffer.SystemInfoBuffer;
+import kodanect.common.constant.CrudCode;
+import kodanect.common.exception.config.SecureLogger;
+import kodanect.domain.logging.dto.BackendLogDto;
+import kodanect.domain.logging.dto.FrontendLogDto;
+import kodanect.domain.logging.dto.SystemInfoDto;
+import kodanect.domain.logging.flusher.ActionLogFlusher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 기동 시 이전 실행에서 저장되지 못한 저널 세그먼트를 재생하여 로그 버퍼를 복원하는 컴포넌트입니다.
+ *
+ * 복원된 로그는 다음 flush에서 다른 로그와 동일하게 저장되며,
+ * 재생한 세그먼트는 그 이후의 체크포인트에서 삭제됩니다.
+ *
+ * 재생할 레코드가 버퍼 고수위보다 많으면, 해당 CRUD 코드를 배출해 버퍼를 비운 뒤 다시 적재합니다.
+ * 그래도 적재하지 못한 레코드는 받아들이지 않은 것으로 알려, 그 세그먼트가 재시작 전까지 삭제되지 않게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ActionLogJournalRecovery implements JournalRecordHandler {
+
+    private static final SecureLogger log = SecureLogger.getLogger(ActionLogJournalRecovery.class);
+
+    private final ActionLogJournal journal;
+    private final FrontendLogBuffer frontendLogBuffer;
+    private final BackendLogBuffer backendLogBuffer;
+    private final SystemInfoBuffer systemInfoBuffer;
+    private final ActionLogFlusher flusher;
+
+    /**
+     * 애플리케이션 준비 완료 시점에 남은 저널 세그먼트를 재생합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        int replayed = journal.replay(this);
+
+        if (replayed > 0) {
+            log.info("[액션 로그 저널] 저장되지 않은 레코드 {}건을 버퍼로 복원했습니다.", replayed);
+        }
+    }
+
+    @Override
+    public boolean onFrontendLog(String sessionId, FrontendLogDto frontendLog) {
+        if (frontendLogBuffer.restore(sessionId, frontendLog)) {
+            return true;
+        }
+        return relieve(CrudCode.fromEventType(frontendLog.getEventType()))
+                && frontendLogBuffer.restore(sessionId, frontendLog);
+    }
+
+    @Override
+    public boolean onBackendLog(String sessionId, BackendLogDto backendLog) {
+        if (backendLogBuffer.restore(sessionId, backendLog)) {
+            return true;
+        }
+        return relieve(CrudCode.fromHttpMethod(backendLog.getHttpMethod()))
+                && backendLogBuffer.restore(sessionId, backendLog);
+    }
+
+    @Override
+    public boolean onSystemInfo(String sessionId, SystemInfoDto systemInfo) {
+        systemInfoBuffer.restore(sessionId, systemInfo);
+        return true;
+    }
+
+    /**
+     * 포화된 CRUD 코드의 로그를 배출하여 재생할 공간을 만듭니다.
+     *
+     * 재생 중에는 저널의 공유 잠금을 잡고 있으므로, 세그먼트를 전환하지 않는 CRUD 코드별 배출만 사용합니다.
+     *
+     * @return 배출에 성공했으면 true
+     */
+    private boolean relieve(CrudCode code) {
+        try {
+            flusher.flushAllByCrudCode(code);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("[액션 로그 저널] 재생 중 {} 로그 배출 실패: {}", code, e.getMessage());
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,41 @@
+package kodanect.common.buffer.journal;
+
+import kodanect.domain.logging.dto.BackendLogDto;
+import kodanect.domain.logging.dto.FrontendLogDto;
+import kodanect.domain.logging.dto.SystemInfoDto;
+
+/**
+ * {@link ActionLogJournal} 재생 시 복원된 레코드를 전달받는 핸들러입니다.
+ *
+ * 레코드를 받아들이지 못하면 false를 반환하며, 그 레코드가 있던 세그먼트는 재시작 전까지 삭제되지 않습니다.
+ */
+public interface JournalRecordHandler {
+
+    /**
+     * 프론트엔드 로그 레코드를 전달받습니다.
+     *
+     * @param sessionId 사용자 세션 ID
+     * @param log       복원된 프론트엔드 로그
+     * @return 받아들였으면 true
+     */
+    boolean onFrontendLog(String sessionId, FrontendLogDto log);
+
+    /**
+     * 백엔드 로그 레코드를 전달받습니다.
+     *
+     * @param sessionId 사용자 세션 ID
+     * @param log       복원된 백엔드 로그
+     * @return 받아들였으면 true
+     */
+    boolean onBackendLog(String sessionId, BackendLogDto log);
+
+    /**
+     * 시스템 정보 레코드를 전달받습니다.
+     *
+     * @param sessionId  사용자 세션 ID
+     * @param systemInfo 복원된 시스템 정보
+     * @return 받아들였으면 true
+     */
+    boolean onSystemInfo(String sessionId, SystemInfoDto systemInfo);
+
+}
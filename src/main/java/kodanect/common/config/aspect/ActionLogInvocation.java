@@ -0,0 +1,122 @@
+package kodanect.common.config.aspect;
+
+import org.slf4j.MDC;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Map;
+
+/**
+ * 현재 스레드에서 실행 중인 컨트롤러 호출의 메타데이터를 보관하는 스레드별 재사용 레코드입니다.
+ *
+ * {@link ActionLogMdcAspect}는 컨트롤러 진입 시 메서드 메타데이터와 인자 참조만 이 레코드에 담고,
+ * 파라미터 JSON 생성과 User-Agent 분석 등 비용이 드는 MDC 설정은
+ * 백엔드 로그가 실제로 적재될 때({@link #exportCurrentToMdc()})로 미룹니다.
+ * 처음 설정할 때 만든 MDC 값은 호출 단위로 보관하므로, 여러 번 설정하더라도
+ * 파라미터 직렬화와 User-Agent 분석은 한 번만 수행되고 이후에는 보관된 값만 다시 설정합니다.
+ *
+ * 레코드는 스레드마다 하나씩 재사용되며, 컨트롤러 호출이 끝나면 참조를 모두 해제합니다.
+ */
+public final class ActionLogInvocation {
+
+    private static final ThreadLocal<ActionLogInvocation> CURRENT = ThreadLocal.withInitial(ActionLogInvocation::new);
+
+    private ActionLogMdcAspect exporter;
+    private ControllerMethodDescriptor descriptor;
+    private Object[] args;
+    private HttpServletRequest request;
+    private String sessionId;
+    private long invokedAt;
+    private boolean active;
+    private String parametersJson;
+    private Map<String, String> mdcValues;
+
+    private ActionLogInvocation() {
+    }
+
+    /**
+     * 현재 스레드의 레코드를 반환합니다.
+     */
+    static ActionLogInvocation current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드에서 진행 중인 컨트롤러 호출의 메타데이터를 MDC에 설정합니다.
+     *
+     * 진행 중인 호출이 없으면 아무 작업도 하지 않습니다.
+     * 서비스 계층의 로깅 Aspect가 MDC를 비울 수 있으므로, 보관된 값은 호출될 때마다 다시 설정합니다.
+     */
+    public static void exportCurrentToMdc() {
+        ActionLogInvocation invocation = CURRENT.get();
+
+        if (!invocation.active) {
+            return;
+        }
+        if (invocation.mdcValues == null) {
+            invocation.mdcValues = invocation.exporter.renderMdc(invocation);
+        }
+        invocation.mdcValues.forEach(MDC::put);
+    }
+
+    void begin(ActionLogMdcAspect exporter,
+               ControllerMethodDescriptor descriptor,
+               Object[] args,
+               HttpServletRequest request,
+               String sessionId,
+               long invokedAt) {
+        this.exporter = exporter;
+        this.descriptor = descriptor;
+        this.args = args;
+        this.request = request;
+        this.sessionId = sessionId;
+        this.invokedAt = invokedAt;
+        this.active = true;
+        this.parametersJson = null;
+        this.mdcValues = null;
+    }
+
+    void clear() {
+        this.exporter = null;
+        this.descriptor = null;
+        this.args = null;
+        this.request = null;
+        this.sessionId = null;
+        this.invokedAt = 0L;
+        this.active = false;
+        this.parametersJson = null;
+        this.mdcValues = null;
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    ControllerMethodDescriptor getDescriptor() {
+        return descriptor;
+    }
+
+    Object[] getArgs() {
+        return args;
+    }
+
+    HttpServletRequest getRequest() {
+        return request;
+    }
+
+    String getSessionId() {
+        return sessionId;
+    }
+
+    long getInvokedAt() {
+        return invokedAt;
+    }
+
+    String getParametersJson() {
+        return parametersJson;
+    }
+
+    void setParametersJson(String parametersJson) {
+        this.parametersJson = parametersJson;
+    }
+
+}
@@ -1,12 +1,13 @@
 package kodanect.common.config.aspect;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import eu.bitwalker.useragentutils.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import kodanect.common.exception.config.SecureLogger;
 import kodanect.common.constant.MdcKey;
+import kodanect.common.util.ParsedUserAgent;
+import kodanect.common.util.UserAgentResolver;
 import kodanect.domain.logging.exception.ActionLogJsonSerializationException;
-import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -18,33 +19,50 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.lang.reflect.Method;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 컨트롤러 계층 진입 시 사용자 요청 메타데이터를 MDC에 설정하는 AOP 컴포넌트
  *
  * 주요 기능:
  * - 세션 쿠키(sessionId)가 존재하는 요청에 한해 MDC 설정
- * - User-Agent 분석을 통해 브라우저, OS, 디바이스 정보 수집
- * - 클라이언트 IP, HTTP 메서드, 엔드포인트, 컨트롤러명, 메서드명, 파라미터, 타임스탬프 저장
- * - 수집된 정보를 SLF4J MDC에 등록
- * - 모든 작업이 완료된 후에는 MDC가 반드시 초기화됩니다.
+ * - 컨트롤러 메서드별 메타데이터({@link ControllerMethodDescriptor})는 최초 호출 시 한 번만 계산하여 재사용
+ * - 진입 시에는 세션 ID와 이미 계산된 컨트롤러/메서드 이름만 MDC에 등록하고 (예외 처리 핸들러와 로그 패턴에서 사용),
+ *   나머지 정보는 스레드별 {@link ActionLogInvocation}에 참조로만 보관
+ * - 백엔드 로그가 적재될 때 클라이언트 IP, HTTP 메서드, 엔드포인트, 컨트롤러명, 메서드명, 파라미터, 타임스탬프,
+ *   User-Agent 분석 결과(파싱 결과는 {@link UserAgentResolver}가 캐시)를 MDC에 등록 (호출당 한 번 계산)
+ * - 모든 작업이 완료된 후에는 MDC와 호출 레코드가 반드시 초기화됩니다.
  */
 @Aspect
 @Component
-@RequiredArgsConstructor
 public class ActionLogMdcAspect {
 
     private static final String SESSION_ID_COOKIE_NAME = "sessionId";
     private static final SecureLogger log = SecureLogger.getLogger(ActionLogMdcAspect.class);
     private final ObjectMapper objectMapper;
+    private final UserAgentResolver userAgentResolver;
+    private final Map<Method, ControllerMethodDescriptor> descriptors = new ConcurrentHashMap<>();
+    private final Counter serializationFailureCounter;
+
+    public ActionLogMdcAspect(ObjectMapper objectMapper, UserAgentResolver userAgentResolver, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.userAgentResolver = userAgentResolver;
+        this.serializationFailureCounter = Counter.builder("action.log.serialization.failures")
+                .description("액션 로그 JSON 직렬화 실패 건수")
+                .tag("stage", "mdc")
+                .register(meterRegistry);
+    }
 
     /**
      * 컨트롤러 메서드 실행 전후로 MDC 메타데이터를 설정하고 정리합니다.
      *
-     * 세션 쿠키(sessionId)가 존재하는 요청에 대해서만 MDC를 설정합니다.
+     * 세션 쿠키(sessionId)가 존재하는 요청에 대해서만 호출 정보를 기록합니다.
+     * 컨트롤러가 다른 컨트롤러 메서드를 호출하는 경우에는 가장 바깥 호출의 정보만 유지합니다.
      *
      * @param joinPoint 현재 실행 중인 컨트롤러 메서드 조인 포인트
      * @return 원래의 메서드 실행 결과
@@ -58,6 +76,12 @@ public class ActionLogMdcAspect {
             return joinPoint.proceed();
         }
 
+        ActionLogInvocation invocation = ActionLogInvocation.current();
+
+        if (invocation.isActive()) {
+            return joinPoint.proceed();
+        }
+
         HttpServletRequest request = attributes.getRequest();
         String sessionId = extractSessionIdFromCookie(request);
 
@@ -65,46 +89,101 @@ public class ActionLogMdcAspect {
             return joinPoint.proceed();
         }
 
-        try {
-            String ipAddress = orUnknown(extractClientIp(request));
-            String httpMethod = orUnknown(request.getMethod());
-            String endpoint = orUnknown(request.getRequestURI());
-            String controllerClassName = joinPoint.getSignature().getDeclaringTypeName();
-            String controllerSimpleName = joinPoint.getSignature().getDeclaringType().getSimpleName();
-            String methodName = joinPoint.getSignature().getName();
-            Map<String, String> params = extractParameters(joinPoint);
-            String parametersJson = objectMapper.writeValueAsString(params);
-            String userAgentString = request.getHeader("User-Agent");
-            UserAgent userAgent = UserAgent.parseUserAgentString(userAgentString);
-            Version browserVersion = userAgent.getBrowserVersion();
-            OperatingSystem os = userAgent.getOperatingSystem();
-            String locale = orUnknown(request.getLocale().toLanguageTag());
+        ControllerMethodDescriptor descriptor = resolveDescriptor(((MethodSignature) joinPoint.getSignature()).getMethod());
 
+        try {
+            invocation.begin(this, descriptor, joinPoint.getArgs(), request, sessionId, System.currentTimeMillis());
             MDC.put(MdcKey.SESSION_ID, sessionId);
-            MDC.put(MdcKey.IP_ADDRESS, ipAddress);
-            MDC.put(MdcKey.HTTP_METHOD, httpMethod);
-            MDC.put(MdcKey.ENDPOINT, endpoint);
-            MDC.put(MdcKey.CONTROLLER, controllerClassName);
-            MDC.put(MdcKey.METHOD, methodName);
-            MDC.put(MdcKey.PARAMETERS, parametersJson);
-            MDC.put(MdcKey.TIMESTAMP, Instant.now().toString());
-            MDC.put(MdcKey.BROWSER_NAME, orUnknown(userAgent.getBrowser().getName()));
-            MDC.put(MdcKey.BROWSER_VERSION, orUnknown(browserVersion != null ? browserVersion.getVersion() : null));
-            MDC.put(MdcKey.OPERATING_SYSTEM, orUnknown(os != null ? os.getName() : null));
-            MDC.put(MdcKey.DEVICE, orUnknown(os != null ? os.getDeviceType().getName() : null));
-            MDC.put(MdcKey.LOCALE, locale);
-
-            log.info("[{}] {}.{} 호출 (세션: {}, IP: {}, 파라미터: {})",
-                    httpMethod, controllerSimpleName, methodName, sessionId, ipAddress, parametersJson);
+            putMethodKeys(descriptor);
+
+            log.debug("[{}] {}.{} 호출 (세션: {})",
+                    request.getMethod(), descriptor.getControllerSimpleName(), descriptor.getMethodName(), sessionId);
 
             return joinPoint.proceed();
-        } catch (JsonProcessingException e) {
-            throw new ActionLogJsonSerializationException("MDC 파라미터 추출");
         } finally {
+            invocation.clear();
             MDC.clear();
         }
     }
 
+    /**
+     * 호출 레코드에 보관된 메타데이터로 MDC에 설정할 값을 만듭니다.
+     *
+     * 만든 값은 호출 레코드가 보관하므로 호출당 한 번만 실행됩니다.
+     *
+     * @param invocation 현재 스레드의 호출 레코드
+     * @return MDC 키와 값
+     */
+    Map<String, String> renderMdc(ActionLogInvocation invocation) {
+        ControllerMethodDescriptor descriptor = invocation.getDescriptor();
+        HttpServletRequest request = invocation.getRequest();
+        ParsedUserAgent userAgent = userAgentResolver.resolve(request.getHeader("User-Agent"));
+        Map<String, String> values = new HashMap<>();
+
+        values.put(MdcKey.SESSION_ID, invocation.getSessionId());
+        values.put(MdcKey.IP_ADDRESS, orUnknown(extractClientIp(request)));
+        values.put(MdcKey.HTTP_METHOD, orUnknown(request.getMethod()));
+        values.put(MdcKey.ENDPOINT, orUnknown(request.getRequestURI()));
+        values.put(MdcKey.CONTROLLER, descriptor.getControllerClassName());
+        values.put(MdcKey.CLASS, descriptor.getControllerSimpleName());
+        values.put(MdcKey.METHOD, descriptor.getMethodName());
+        values.put(MdcKey.PARAMETERS, renderParameters(invocation));
+        values.put(MdcKey.TIMESTAMP, Instant.ofEpochMilli(invocation.getInvokedAt()).toString());
+        values.put(MdcKey.BROWSER_NAME, userAgent.getBrowserName());
+        values.put(MdcKey.BROWSER_VERSION, userAgent.getBrowserVersion());
+        values.put(MdcKey.OPERATING_SYSTEM, userAgent.getOperatingSystem());
+        values.put(MdcKey.DEVICE, userAgent.getDevice());
+        values.put(MdcKey.LOCALE, orUnknown(request.getLocale().toLanguageTag()));
+        return values;
+    }
+
+    /**
+     * 컨트롤러 클래스와 메서드 이름을 MDC에 설정합니다.
+     *
+     * 메서드 메타데이터에 미리 계산된 값이므로 진입 시 바로 설정하며,
+     * 컨트롤러 실행 중 발생한 예외를 기록할 때 발생 위치로 사용됩니다.
+     *
+     * @param descriptor 컨트롤러 메서드 메타데이터
+     */
+    private void putMethodKeys(ControllerMethodDescriptor descriptor) {
+        MDC.put(MdcKey.CONTROLLER, descriptor.getControllerClassName());
+        MDC.put(MdcKey.CLASS, descriptor.getControllerSimpleName());
+        MDC.put(MdcKey.METHOD, descriptor.getMethodName());
+    }
+
+    /**
+     * 컨트롤러 메서드의 메타데이터를 조회하고, 없으면 생성하여 보관합니다.
+     *
+     * @param method 컨트롤러 메서드
+     * @return 메서드 메타데이터
+     */
+    private ControllerMethodDescriptor resolveDescriptor(Method method) {
+        ControllerMethodDescriptor descriptor = descriptors.get(method);
+        return (descriptor != null) ? descriptor : descriptors.computeIfAbsent(method, ControllerMethodDescriptor::of);
+    }
+
+    /**
+     * 호출 인자를 파라미터 JSON으로 렌더링합니다. 이미 렌더링된 경우 보관된 값을 반환합니다.
+     *
+     * @param invocation 현재 스레드의 호출 레코드
+     * @return 파라미터 JSON 문자열
+     */
+    private String renderParameters(ActionLogInvocation invocation) {
+        String parametersJson = invocation.getParametersJson();
+
+        if (parametersJson == null) {
+            try {
+                parametersJson = invocation.getDescriptor().renderParameters(invocation.getArgs(), objectMapper);
+            } catch (IOException e) {
+                serializationFailureCounter.increment();
+                throw new ActionLogJsonSerializationException("MDC 파라미터 추출");
+            }
+            invocation.setParametersJson(parametersJson);
+        }
+
+        return parametersJson;
+    }
+
     /**
      * HttpServletRequest의 쿠키에서 sessionId 값을 추출합니다.
      *
@@ -124,37 +203,6 @@ public class ActionLogMdcAspect {
         return null;
     }
 
-    /**
-     * AOP 조인 포인트로부터 메서드 파라미터 이름과 값을 추출합니다.
-     *
-     * - HttpServletRequest 타입의 파라미터는 제외되지 않고 toString 처리됩니다.
-     * - 각 파라미터 값은 문자열로 변환되며, null 값은 "null", toString 실패 시 "NON_STRINGIFIABLE"로 대체됩니다.
-     *
-     * @param joinPoint 현재 실행 중인 컨트롤러 메서드 조인 포인트
-     * @return 파라미터 이름과 문자열 값의 Map
-     */
-    private Map<String, String> extractParameters(ProceedingJoinPoint joinPoint) {
-        Map<String, String> paramMap = new HashMap<>();
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        String[] names = signature.getParameterNames();
-        Object[] values = joinPoint.getArgs();
-
-        for (int i = 0; i < names.length; i++) {
-            Object value = values[i];
-
-            String stringValue;
-
-            try {
-                stringValue = (value != null) ? value.toString() : "null";
-            } catch (Exception e) {
-                stringValue = "NON_STRINGIFIABLE";
-            }
-
-            paramMap.put(names[i], stringValue);
-        }
-        return paramMap;
-    }
-
     /**
      * 클라이언트의 IP 주소를 추출합니다.
      *
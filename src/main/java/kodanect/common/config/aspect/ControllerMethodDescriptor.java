@@ -0,0 +1,185 @@
+package kodanect.common.config.aspect;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.ResolvableType;
+import org.springframework.ui.Model;
+import org.springframework.validation.Errors;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpSession;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 컨트롤러 메서드별로 한 번만 계산하여 재사용하는 액션 로그 메타데이터입니다.
+ *
+ * - 컨트롤러 클래스명, 메서드명, 파라미터 이름을 미리 계산합니다.
+ * - 파라미터 타입에 따라 기록 방식을 정해 두어, 호출 시에는 인자 값만 렌더링합니다.
+ * - 서블릿 요청/응답, 세션, 바인딩 결과, 스트림 등은 로그 가치가 없으므로 기록하지 않습니다.
+ * - 업로드 파일은 내용 대신 파일명과 크기만 기록합니다.
+ */
+@Getter
+public final class ControllerMethodDescriptor {
+
+    private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+    private static final String NON_STRINGIFIABLE = "NON_STRINGIFIABLE";
+
+    /**
+     * 파라미터 기록 방식
+     */
+    enum ArgumentRenderer {
+        /** 기록하지 않음 */
+        SKIP,
+        /** 업로드 파일 (파일명, 크기) */
+        MULTIPART,
+        /** 업로드 파일 배열 또는 컬렉션 */
+        MULTIPART_COLLECTION,
+        /** toString() 결과 */
+        TO_STRING
+    }
+
+    private final String controllerClassName;
+    private final String controllerSimpleName;
+    private final String methodName;
+    private final String[] parameterNames;
+    private final ArgumentRenderer[] renderers;
+
+    private ControllerMethodDescriptor(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        String[] discovered = PARAMETER_NAME_DISCOVERER.getParameterNames(method);
+
+        this.controllerClassName = declaringClass.getName();
+        this.controllerSimpleName = declaringClass.getSimpleName();
+        this.methodName = method.getName();
+        this.parameterNames = new String[parameterTypes.length];
+        this.renderers = new ArgumentRenderer[parameterTypes.length];
+
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameterNames[i] = (discovered != null && i < discovered.length) ? discovered[i] : "arg" + i;
+            renderers[i] = rendererOf(method, i, parameterTypes[i]);
+        }
+    }
+
+    /**
+     * 컨트롤러 메서드의 메타데이터를 생성합니다.
+     *
+     * @param method 컨트롤러 메서드
+     * @return 메서드 메타데이터
+     */
+    public static ControllerMethodDescriptor of(Method method) {
+        return new ControllerMethodDescriptor(method);
+    }
+
+    /**
+     * 인자 값을 파라미터 이름을 키로 하는 JSON 객체 문자열로 렌더링합니다.
+     *
+     * 값이 null이면 "null", toString() 실패 시 "NON_STRINGIFIABLE"로 기록합니다.
+     *
+     * @param args         컨트롤러 메서드 인자
+     * @param objectMapper JSON 생성에 사용할 ObjectMapper
+     * @return 파라미터 JSON 문자열
+     * @throws IOException JSON 생성에 실패한 경우
+     */
+    public String renderParameters(Object[] args, ObjectMapper objectMapper) throws IOException {
+        StringWriter writer = new StringWriter();
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.writeStartObject();
+            for (int i = 0; i < renderers.length && i < args.length; i++) {
+                if (renderers[i] != ArgumentRenderer.SKIP) {
+                    generator.writeStringField(parameterNames[i], render(renderers[i], args[i]));
+                }
+            }
+            generator.writeEndObject();
+        }
+
+        return writer.toString();
+    }
+
+    /**
+     * 지정한 위치의 파라미터 기록 방식을 반환합니다.
+     */
+    ArgumentRenderer rendererAt(int index) {
+        return renderers[index];
+    }
+
+    private static ArgumentRenderer rendererOf(Method method, int index, Class<?> type) {
+        if (isSkipped(type)) {
+            return ArgumentRenderer.SKIP;
+        }
+        if (MultipartFile.class.isAssignableFrom(type)) {
+            return ArgumentRenderer.MULTIPART;
+        }
+        if (type.isArray() && MultipartFile.class.isAssignableFrom(type.getComponentType())) {
+            return ArgumentRenderer.MULTIPART_COLLECTION;
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            Class<?> element = ResolvableType.forMethodParameter(method, index).asCollection().resolveGeneric();
+            if (element != null && MultipartFile.class.isAssignableFrom(element)) {
+                return ArgumentRenderer.MULTIPART_COLLECTION;
+            }
+        }
+        return ArgumentRenderer.TO_STRING;
+    }
+
+    private static boolean isSkipped(Class<?> type) {
+        return ServletRequest.class.isAssignableFrom(type)
+                || ServletResponse.class.isAssignableFrom(type)
+                || HttpSession.class.isAssignableFrom(type)
+                || Errors.class.isAssignableFrom(type)
+                || Model.class.isAssignableFrom(type)
+                || InputStream.class.isAssignableFrom(type)
+                || OutputStream.class.isAssignableFrom(type)
+                || Reader.class.isAssignableFrom(type)
+                || Writer.class.isAssignableFrom(type);
+    }
+
+    private static String render(ArgumentRenderer renderer, Object value) {
+        if (value == null) {
+            return "null";
+        }
+
+        try {
+            return switch (renderer) {
+                case MULTIPART -> renderFile((MultipartFile) value);
+                case MULTIPART_COLLECTION -> renderFiles(value);
+                default -> value.toString();
+            };
+        } catch (Exception e) {
+            return NON_STRINGIFIABLE;
+        }
+    }
+
+    private static String renderFiles(Object value) {
+        Iterable<?> files = value instanceof Object[] array ? Arrays.asList(array) : (Iterable<?>) value;
+        StringBuilder builder = new StringBuilder("[");
+
+        for (Object file : files) {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(file instanceof MultipartFile multipartFile ? renderFile(multipartFile) : "null");
+        }
+
+        return builder.append(']').toString();
+    }
+
+    private static String renderFile(MultipartFile file) {
+        return "MultipartFile(name=" + file.getOriginalFilename() + ", size=" + file.getSize() + ")";
+    }
+
+}
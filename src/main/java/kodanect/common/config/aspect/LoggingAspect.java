@@ -6,6 +6,8 @@ import org.aspectj.lang.annotation.Aspect;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
 /**
  * 서비스 계층 메서드 실행 시 클래스명, 메서드명을 MDC에 저장하는 로깅 AOP
  *
@@ -15,7 +17,8 @@ import org.springframework.stereotype.Component;
  *
  * 특징:
  * - 모든 서비스 로직(@Service) 내부 메서드 실행 전/후 자동 수행
- * - 반드시 `finally` 블록에서 MDC를 clear() 하여 누적 방지
+ * - 반드시 `finally` 블록에서 진입 전의 MDC로 되돌려 누적 방지
+ *   (컨트롤러 Aspect가 설정한 세션 ID와 컨트롤러/메서드 이름은 서비스 호출 이후에도 유지)
  */
 @Aspect
 @Component
@@ -23,6 +26,7 @@ public class LoggingAspect {
 
     @Around("execution(* kodanect.domain..service..*(..))")
     public Object logMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        Map<String, String> previous = MDC.getCopyOfContextMap();
         try {
             String className = joinPoint.getTarget().getClass().getSimpleName();
             String methodName = joinPoint.getSignature().getName();
@@ -32,7 +36,11 @@ public class LoggingAspect {
 
             return joinPoint.proceed();
         } finally {
-            MDC.clear();
+            if (previous != null) {
+                MDC.setContextMap(previous);
+            } else {
+                MDC.clear();
+            }
         }
     }
 }
@@ -1,5 +1,8 @@
 package kodanect.common.config.async;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kodanect.common.config.properties.ActionLogProperties;
 import kodanect.common.decorator.MdcTaskDecorator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,6 +27,7 @@ public class AsyncExecutorConfig {
     private static final int LOG_EXECUTOR_MAX_POOL_SIZE = 2;
     private static final int LOG_EXECUTOR_QUEUE_CAPACITY = 100;
     private static final int LOG_EXECUTOR_AWAIT_TERMINATION_SECONDS = 5;
+    private static final int FLUSH_EXECUTOR_AWAIT_TERMINATION_SECONDS = 30;
 
     /**
      * 로그 비동기 처리 전용 Executor Bean
@@ -31,24 +35,64 @@ public class AsyncExecutorConfig {
      * 로그 식별을 위한 스레드 이름 prefix 설정
      * MDC context 전파를 위한 TaskDecorator 설정
      * 낮은 처리 빈도에 맞춰 최소 리소스로 구성
-     * 큐 초과 시 작업 유실 방지를 위한 CallerRunsPolicy 적용
+     * 큐 초과 시 작업 유실 방지를 위한 CallerRunsPolicy 적용 (발생 횟수는 executor.caller.runs 메트릭으로 집계)
      * 스레드 종료 전 작업 완료 보장
      *
+     * 스레드 풀 상태(executor.*{name=logExecutor})는 Spring Boot가 자동으로 메트릭에 등록합니다.
+     *
+     * @param meterRegistry 메트릭 레지스트리
      * @return 로그 비동기 처리를 위한 Executor
      */
     @Bean("logExecutor")
-    public Executor logExecutor() {
+    public Executor logExecutor(MeterRegistry meterRegistry) {
+        Counter callerRuns = Counter.builder("executor.caller.runs")
+                .description("큐 초과로 호출 스레드에서 직접 실행된 작업 수")
+                .tag("name", "logExecutor")
+                .register(meterRegistry);
+        ThreadPoolExecutor.CallerRunsPolicy callerRunsPolicy = new ThreadPoolExecutor.CallerRunsPolicy();
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(LOG_EXECUTOR_CORE_POOL_SIZE);
         executor.setMaxPoolSize(LOG_EXECUTOR_MAX_POOL_SIZE);
         executor.setQueueCapacity(LOG_EXECUTOR_QUEUE_CAPACITY);
         executor.setThreadNamePrefix("log-worker-");
         executor.setTaskDecorator(new MdcTaskDecorator());
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            callerRuns.increment();
+            callerRunsPolicy.rejectedExecution(task, pool);
+        });
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(LOG_EXECUTOR_AWAIT_TERMINATION_SECONDS);
         executor.initialize();
         return executor;
     }
 
+    /**
+     * 액션 로그 병렬 배출 전용 Executor Bean
+     *
+     * 배출 한 번에 세션별로 나눈 작업을 최대 action-log.flush.workers개 스레드에서 동시에 직렬화/저장
+     * 작업 수가 스레드 수를 넘지 않으므로 큐는 스레드 수만큼만 두고, 초과 시 호출 스레드에서 직접 실행
+     * 종료 시 진행 중인 배출 작업이 끝날 때까지 대기
+     *
+     * 스레드 풀 상태(executor.*{name=actionLogFlushExecutor})는 Spring Boot가 자동으로 메트릭에 등록합니다.
+     *
+     * @param properties 액션 로그 설정
+     * @return 액션 로그 배출을 위한 Executor
+     */
+    @Bean("actionLogFlushExecutor")
+    public Executor actionLogFlushExecutor(ActionLogProperties properties) {
+        int workers = Math.max(1, properties.getFlush().getWorkers());
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("action-log-flush-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(FLUSH_EXECUTOR_AWAIT_TERMINATION_SECONDS);
+        executor.initialize();
+        return executor;
+    }
+
 }
@@ -0,0 +1,106 @@
+package kodanect.common.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * 커넥션 풀 설정
+ *
+ * 사용자 요청용 기본 풀과 백그라운드 작업(액션 로그 배출, 집계, 분할 테이블 관리 등)용 풀을 분리하여,
+ * 대량 배출이 사용자 요청의 커넥션을 점유하지 않도록 합니다.
+ *
+ * - 기본 풀(dataSource): spring.datasource.* / spring.datasource.hikari.* (JPA, 기본 JdbcTemplate)
+ * - 백그라운드 풀(backgroundDataSource): 접속 정보는 spring.datasource.*를 그대로 쓰고,
+ *   풀 설정만 background.datasource.hikari.*로 따로 지정
+ *
+ * 두 풀 모두 Spring Boot가 {@code hikaricp.*{pool=풀 이름}} 메트릭으로 노출합니다.
+ * 기본 풀을 직접 등록하므로 DataSource 자동 구성은 적용되지 않으며, 같은 프로퍼티로 동일하게 구성합니다.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * 백그라운드 작업용 DataSource Bean 이름
+     */
+    public static final String BACKGROUND_DATA_SOURCE = "backgroundDataSource";
+
+    /**
+     * 백그라운드 작업용 JdbcTemplate Bean 이름
+     */
+    public static final String BACKGROUND_JDBC_TEMPLATE = "backgroundJdbcTemplate";
+
+    /**
+     * 백그라운드 작업용 트랜잭션 매니저 Bean 이름
+     */
+    public static final String BACKGROUND_TRANSACTION_MANAGER = "backgroundTransactionManager";
+
+    /**
+     * 사용자 요청용 기본 DataSource Bean
+     *
+     * @param properties spring.datasource.* 접속 정보
+     * @return 기본 커넥션 풀
+     */
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * 백그라운드 작업용 DataSource Bean
+     *
+     * @param properties spring.datasource.* 접속 정보
+     * @return 백그라운드 커넥션 풀
+     */
+    @Bean(BACKGROUND_DATA_SOURCE)
+    @ConfigurationProperties("background.datasource.hikari")
+    public HikariDataSource backgroundDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * 기본 풀을 사용하는 JdbcTemplate Bean
+     *
+     * @param dataSource 기본 DataSource
+     * @return 기본 JdbcTemplate
+     */
+    @Bean
+    @Primary
+    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * 백그라운드 풀을 사용하는 JdbcTemplate Bean
+     *
+     * @param dataSource 백그라운드 DataSource
+     * @return 백그라운드 JdbcTemplate
+     */
+    @Bean(BACKGROUND_JDBC_TEMPLATE)
+    public JdbcTemplate backgroundJdbcTemplate(@Qualifier(BACKGROUND_DATA_SOURCE) DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * 백그라운드 풀의 JDBC 트랜잭션 매니저 Bean
+     *
+     * @param dataSource 백그라운드 DataSource
+     * @return 백그라운드 트랜잭션 매니저
+     */
+    @Bean(BACKGROUND_TRANSACTION_MANAGER)
+    public PlatformTransactionManager backgroundTransactionManager(@Qualifier(BACKGROUND_DATA_SOURCE) DataSource dataSource) {
+        return new DataSourceTransactionManager(dataSource);
+    }
+
+}
@@ -0,0 +1,54 @@
+package kodanect.common.config.logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.domain.logging.repository.ActionLogBatchWriter;
+import kodanect.domain.logging.sink.ActionLogSink;
+import kodanect.domain.logging.sink.ColumnarSegmentActionLogSink;
+import kodanect.domain.logging.sink.CompositeActionLogSink;
+import kodanect.domain.logging.sink.JdbcActionLogSink;
+import kodanect.domain.logging.sink.NdjsonFileActionLogSink;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * 액션 로그 저장 대상(싱크) 설정
+ *
+ * action-log.sink.types에 나열된 싱크를 순서대로 구성하여 하나의 {@link CompositeActionLogSink}로 등록합니다.
+ * 프로필별 properties에서 값을 바꿔 운영 DB 외의 저장소로 로그를 분산하거나 병행 기록할 수 있습니다.
+ */
+@Configuration
+public class ActionLogSinkConfig {
+
+    /**
+     * 액션 로그 싱크 Bean
+     *
+     * 같은 종류가 중복 지정되면 한 번만 구성합니다.
+     *
+     * @param properties    액션 로그 설정
+     * @param batchWriter   JDBC 배치 저장소
+     * @param meterRegistry 메트릭 레지스트리
+     * @return 설정된 싱크 전체에 기록하는 싱크
+     */
+    @Bean
+    public CompositeActionLogSink actionLogSink(ActionLogProperties properties,
+                                                ActionLogBatchWriter batchWriter,
+                                                MeterRegistry meterRegistry) {
+        List<ActionLogSink> sinks = new ArrayList<>();
+
+        for (ActionLogProperties.Sink.Type type : new LinkedHashSet<>(properties.getSink().getTypes())) {
+            sinks.add(switch (type) {
+                case JDBC -> new JdbcActionLogSink(batchWriter);
+                case NDJSON -> new NdjsonFileActionLogSink(properties);
+                case COLUMNAR -> new ColumnarSegmentActionLogSink(properties);
+            });
+        }
+
+        return new CompositeActionLogSink(sinks, meterRegistry);
+    }
+
+}
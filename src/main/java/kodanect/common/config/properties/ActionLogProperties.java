@@ -0,0 +1,634 @@
+package kodanect.common.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 액션 로그 파이프라인 설정 프로퍼티 클래스
+ *
+ * application.properties 내의 action-log.* 값을 객체로 바인딩하여 사용하는 용도
+ * 값이 지정되지 않은 항목은 필드에 선언된 기본값을 사용합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "action-log")
+public class ActionLogProperties {
+
+    /**
+     * 로그 버퍼 설정
+     */
+    private final Buffer buffer = new Buffer();
+
+    /**
+     * 로그 선기록(write-ahead) 저널 설정
+     */
+    private final Journal journal = new Journal();
+
+    /**
+     * 로그 저장(JDBC 배치) 설정
+     */
+    private final Writer writer = new Writer();
+
+    /**
+     * 로그 본문(log_text) 인코딩 설정
+     */
+    private final Codec codec = new Codec();
+
+    /**
+     * 적응형 배출(flush) 제어 설정
+     */
+    private final Flush flush = new Flush();
+
+    /**
+     * User-Agent 파싱 결과 캐시 설정
+     */
+    private final UserAgentCache userAgentCache = new UserAgentCache();
+
+    /**
+     * 요청 스레드 → 버퍼 적재 큐 설정
+     */
+    private final Ingest ingest = new Ingest();
+
+    /**
+     * 세션별 시스템 정보 보관 설정
+     */
+    private final SystemInfo systemInfo = new SystemInfo();
+
+    /**
+     * 로그 저장 대상(싱크) 설정
+     */
+    private final Sink sink = new Sink();
+
+    /**
+     * 액션 로그 테이블 기간 분할 및 보존 설정
+     */
+    private final Partition partition = new Partition();
+
+    /**
+     * 시간대별 집계(rollup) 설정
+     */
+    private final Rollup rollup = new Rollup();
+
+    /**
+     * 반복 문자열(컨트롤러, 엔드포인트, 시스템 정보) 사전 치환 설정
+     */
+    private final Dimension dimension = new Dimension();
+
+    /**
+     * 집계/사전 테이블 스키마 적용 설정
+     */
+    private final Schema schema = new Schema();
+
+    /**
+     * 조회(R) 이벤트 유형별 표본 추출/요약 설정
+     */
+    private final Sampling sampling = new Sampling();
+
+    /**
+     * 프론트엔드 로그 수집 요청(POST /action-logs) 처리 설정
+     */
+    private final Collect collect = new Collect();
+
+    /**
+     * 재전송된 프론트엔드 로그 묶음의 중복 제거 설정
+     */
+    private final Dedup dedup = new Dedup();
+
+    /**
+     * 애플리케이션 종료 시 마지막 배출 설정
+     */
+    private final Shutdown shutdown = new Shutdown();
+
+    /**
+     * 로그 버퍼 설정 (action-log.buffer.*)
+     */
+    @Getter
+    @Setter
+    public static class Buffer {
+
+        /**
+         * CRUD 코드별 링 버퍼 슬롯 수 (2의 거듭제곱으로 올림 처리)
+         */
+        private int capacity = 4096;
+
+        /**
+         * CRUD 코드별 최대 적재 건수, 초과 시 신규 이벤트를 거부
+         */
+        private int highWaterMark = 3072;
+
+        /**
+         * 버퍼 포화 시 클라이언트에 안내할 재시도 대기 시간 (초)
+         */
+        private int retryAfterSeconds = 30;
+
+    }
+
+    /**
+     * 로그 선기록 저널 설정 (action-log.journal.*)
+     */
+    @Getter
+    @Setter
+    public static class Journal {
+
+        /**
+         * 저널 사용 여부
+         */
+        private boolean enabled = false;
+
+        /**
+         * 세그먼트 파일 저장 디렉터리
+         */
+        private String directory = "./action-log-journal";
+
+        /**
+         * 세그먼트 파일 하나의 크기 (바이트)
+         */
+        private int segmentSize = 8 * 1024 * 1024;
+
+    }
+
+    /**
+     * 로그 저장 설정 (action-log.writer.*)
+     */
+    @Getter
+    @Setter
+    public static class Writer {
+
+        /**
+         * 하나의 트랜잭션에서 배치로 INSERT 할 최대 행 수
+         */
+        private int chunkSize = 500;
+
+    }
+
+    /**
+     * 로그 본문 인코딩 설정 (action-log.codec.*)
+     */
+    @Getter
+    @Setter
+    public static class Codec {
+
+        /**
+         * 로그 본문 압축 사용 여부
+         */
+        private boolean compress = true;
+
+        /**
+         * 압축을 적용할 최소 JSON 크기 (바이트), 미만이면 JSON 원문으로 저장
+         */
+        private int compressMinBytes = 256;
+
+        /**
+         * Deflate 압축 레벨 (0~9)
+         */
+        private int compressionLevel = 6;
+
+    }
+
+    /**
+     * 적응형 배출 제어 설정 (action-log.flush.*)
+     */
+    @Getter
+    @Setter
+    public static class Flush {
+
+        /**
+         * 전체 배출을 유발하는 적재 이벤트 수 (프론트엔드 + 백엔드, 모든 CRUD 코드 합계)
+         */
+        private int maxBufferedEvents = 2000;
+
+        /**
+         * 전체 배출을 유발하는 적재 용량 (추정 바이트)
+         */
+        private long maxBufferedBytes = 4L * 1024 * 1024;
+
+        /**
+         * READ 로그의 최대 대기 시간, 가장 오래된 이벤트가 이 시간을 넘으면 해당 CRUD 코드를 배출
+         */
+        private Duration readMaxAge = Duration.ofMinutes(5);
+
+        /**
+         * C/U/D/X 로그의 최대 대기 시간
+         */
+        private Duration otherMaxAge = Duration.ofMinutes(2);
+
+        /**
+         * 조건과 무관하게 전체 배출(저널 체크포인트 포함)을 수행하는 주기
+         */
+        private Duration fullFlushInterval = Duration.ofMinutes(30);
+
+        /**
+         * 연속된 배출 사이의 최소 간격 (배출 빈도 상한)
+         */
+        private Duration minInterval = Duration.ofSeconds(5);
+
+        /**
+         * DB 쓰기 지연에 따라 늘어날 수 있는 최소 간격의 상한
+         */
+        private Duration maxInterval = Duration.ofSeconds(60);
+
+        /**
+         * 목표 DB 쓰기 지연, 평균 배출 시간이 이를 넘으면 그 비율만큼 최소 간격을 늘림
+         */
+        private Duration targetWriteLatency = Duration.ofMillis(500);
+
+        /**
+         * 배출 시 세션별로 나누어 직렬화/저장을 병렬 수행할 최대 작업 스레드 수 (1이면 호출 스레드에서 순차 처리)
+         */
+        private int workers = 4;
+
+        /**
+         * 작업 스레드 하나가 맡을 최소 세션 키 수, 배출 대상이 적으면 작업 스레드 수를 줄임
+         */
+        private int minKeysPerWorker = 64;
+
+        /**
+         * 한 번의 배출에서 모든 작업 스레드가 끝나야 하는 제한 시간
+         */
+        private Duration deadline = Duration.ofSeconds(30);
+
+        /**
+         * 일시적인 저장 실패(DB 연결, 잠금 대기 등)로 버퍼에 다시 적재할 최대 횟수, 초과한 로그는 버리고 메트릭으로 기록
+         */
+        private int maxRetries = 3;
+
+    }
+
+    /**
+     * User-Agent 파싱 결과 캐시 설정 (action-log.user-agent-cache.*)
+     */
+    @Getter
+    @Setter
+    public static class UserAgentCache {
+
+        /**
+         * 캐시에 보관할 최대 User-Agent 종류 수
+         */
+        private long maximumSize = 1000;
+
+        /**
+         * 캐시 대상 User-Agent 최대 길이, 초과 시 캐시하지 않고 매번 파싱
+         */
+        private int maxKeyLength = 512;
+
+    }
+
+    /**
+     * 백엔드 로그/시스템 정보 적재 큐 설정 (action-log.ingest.*)
+     */
+    @Getter
+    @Setter
+    public static class Ingest {
+
+        /**
+         * 큐에 대기할 수 있는 최대 이벤트 수
+         */
+        private int capacity = 10_000;
+
+        /**
+         * 큐가 가득 찼을 때의 처리 정책
+         */
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+        /**
+         * 적재 큐 포화 시 처리 정책
+         */
+        public enum OverflowPolicy {
+            /** 새 이벤트를 버리고 폐기 건수를 기록 (요청 스레드 지연 없음) */
+            DROP,
+            /** 요청 스레드에서 직접 버퍼에 적재 (유실 없음, 요청 지연 발생) */
+            CALLER_RUNS
+        }
+
+    }
+
+    /**
+     * 세션별 시스템 정보 보관 설정 (action-log.system-info.*)
+     */
+    @Getter
+    @Setter
+    public static class SystemInfo {
+
+        /**
+         * 보관할 최대 세션 수, 초과 시 오래 사용되지 않은 세션부터 퇴출
+         */
+        private long maximumSessions = 10_000;
+
+        /**
+         * 마지막 접근 후 이 시간이 지나면 세션을 퇴출
+         */
+        private Duration idleTimeout = Duration.ofMinutes(30);
+
+    }
+
+    /**
+     * 로그 저장 대상 설정 (action-log.sink.*)
+     */
+    @Getter
+    @Setter
+    public static class Sink {
+
+        /**
+         * 사용할 싱크 목록, 둘 이상이면 모든 싱크에 동일한 로그를 기록 (fan-out, 첫 번째 싱크의 실패만 배출 실패로 처리)
+         */
+        private List<Type> types = new ArrayList<>(List.of(Type.JDBC));
+
+        /**
+         * gzip 압축 NDJSON 파일 싱크 설정
+         */
+        private final Ndjson ndjson = new Ndjson();
+
+        /**
+         * 컬럼 단위 세그먼트 파일 싱크 설정
+         */
+        private final Columnar columnar = new Columnar();
+
+        /**
+         * 싱크 종류
+         */
+        public enum Type {
+            /** tb25_940_action_log 테이블 (JDBC 배치 INSERT) */
+            JDBC,
+            /** 크기/시간 기준으로 교체되는 gzip 압축 NDJSON 파일 */
+            NDJSON,
+            /** 컬럼별 사전 인코딩을 적용한 세그먼트 파일 */
+            COLUMNAR
+        }
+
+        /**
+         * NDJSON 파일 싱크 설정 (action-log.sink.ndjson.*)
+         */
+        @Getter
+        @Setter
+        public static class Ndjson {
+
+            /**
+             * 파일 저장 디렉터리
+             */
+            private String directory = "./action-log-sink/ndjson";
+
+            /**
+             * 파일 하나에 기록할 최대 크기 (압축 전 바이트), 초과 시 새 파일로 교체
+             */
+            private long maxFileBytes = 64L * 1024 * 1024;
+
+            /**
+             * 파일을 연 뒤 이 시간이 지나면 새 파일로 교체
+             */
+            private Duration rollInterval = Duration.ofHours(1);
+
+        }
+
+        /**
+         * 컬럼 세그먼트 싱크 설정 (action-log.sink.columnar.*)
+         */
+        @Getter
+        @Setter
+        public static class Columnar {
+
+            /**
+             * 세그먼트 파일 저장 디렉터리
+             */
+            private String directory = "./action-log-sink/columnar";
+
+            /**
+             * 세그먼트 하나에 기록할 최대 행 수
+             */
+            private int maxRowsPerSegment = 10_000;
+
+        }
+
+    }
+
+    /**
+     * 액션 로그 테이블 기간 분할 설정 (action-log.partition.*)
+     */
+    @Getter
+    @Setter
+    public static class Partition {
+
+        /**
+         * 월별 테이블 분할 사용 여부, 비활성화 시 tb25_940_action_log 단일 테이블에 저장
+         */
+        private boolean enabled = false;
+
+        /**
+         * 보존할 월 수 (현재 월 포함), 이보다 오래된 월별 테이블은 만료 처리
+         */
+        private int retentionMonths = 12;
+
+        /**
+         * 미리 생성해 둘 다음 월 테이블 수
+         */
+        private int createAheadMonths = 1;
+
+        /**
+         * 만료된 월별 테이블 처리 방식
+         */
+        private ExpiredAction expiredAction = ExpiredAction.DROP;
+
+        /**
+         * 보관용 테이블을 유지할 월 수 (보존 기간 이후 기준), 지나면 삭제하며 0이면 삭제하지 않음
+         */
+        private int archiveRetentionMonths = 12;
+
+        /**
+         * 월별 테이블 생성/만료 처리 주기 (cron)
+         */
+        private String maintenanceCron = "0 10 0 * * *";
+
+        /**
+         * 만료된 월별 테이블 처리 방식
+         */
+        public enum ExpiredAction {
+            /** 테이블 삭제 */
+            DROP,
+            /** 보관용 이름(tb25_940_action_log_archive_yyyyMM)으로 변경하여 분할 대상에서 제외, 보관 기간이 지나면 삭제 */
+            ARCHIVE
+        }
+
+    }
+
+    /**
+     * 시간대별 집계 설정 (action-log.rollup.*)
+     */
+    @Getter
+    @Setter
+    public static class Rollup {
+
+        /**
+         * 배출 시 시간대별 집계 누적 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 집계 조회 API의 최대 조회 기간
+         */
+        private Duration maxQueryRange = Duration.ofDays(31);
+
+    }
+
+    /**
+     * 집계/사전 테이블 스키마 적용 설정 (action-log.schema.*)
+     */
+    @Getter
+    @Setter
+    public static class Schema {
+
+        /**
+         * 기동 완료 후 db/action-log/schema.sql을 실행하여 테이블을 만들지 여부,
+         * 스키마를 마이그레이션으로 관리하는 환경(ddl-auto=validate)에서는 false
+         */
+        private boolean createTables = true;
+
+    }
+
+    /**
+     * 로그 본문 반복 문자열 사전 치환 설정 (action-log.dimension.*)
+     */
+    @Getter
+    @Setter
+    public static class Dimension {
+
+        /**
+         * 로그 본문의 반복 문자열을 사전 ID로 저장할지 여부
+         */
+        private boolean enabled = false;
+
+        /**
+         * 사전에 등록할 최대 값 수, 초과 시 신규 값은 문자열 그대로 저장
+         */
+        private int maxEntries = 10_000;
+
+        /**
+         * 처음 보는 값을 사전에 등록하는 주기 (밀리초), 등록 전까지는 문자열 그대로 저장
+         */
+        private long registerInterval = 1000;
+
+    }
+
+    /**
+     * 조회(R) 이벤트 유형별 적재 정책 설정 (action-log.sampling.*)
+     *
+     * 예: action-log.sampling.event-types.clickCard.mode=sample, action-log.sampling.event-types.clickCard.rate=10
+     */
+    @Getter
+    @Setter
+    public static class Sampling {
+
+        /**
+         * 이벤트 유형(예: clickButton)별 적재 정책, 지정하지 않은 유형은 모두 적재
+         */
+        private Map<String, Policy> eventTypes = new LinkedHashMap<>();
+
+        /**
+         * 이벤트 유형 하나의 적재 정책
+         */
+        @Getter
+        @Setter
+        public static class Policy {
+
+            /**
+             * 적재 방식
+             */
+            private Mode mode = Mode.KEEP;
+
+            /**
+             * SAMPLE 방식에서 적재할 비율의 분모 (N건 중 1건 적재)
+             */
+            private int rate = 1;
+
+        }
+
+        /**
+         * 이벤트 적재 방식
+         */
+        public enum Mode {
+            /** 모든 이벤트를 적재 */
+            KEEP,
+            /** N건 중 1건만 적재 */
+            SAMPLE,
+            /** 세션별로 건수와 처음/마지막 발생 시각만 남기고 하나로 요약 */
+            SUMMARIZE
+        }
+
+    }
+
+    /**
+     * 프론트엔드 로그 수집 요청 처리 설정 (action-log.collect.*)
+     */
+    @Getter
+    @Setter
+    public static class Collect {
+
+        /**
+         * 요청 본문의 최대 크기 (gzip 요청은 압축 해제 후 기준, 바이트)
+         *
+         * 본문 전체를 검증한 뒤 적재하므로 요청 하나가 이 크기만큼의 로그를 메모리에 보관합니다.
+         */
+        private long maxBodyBytes = 1024L * 1024;
+
+        /**
+         * 요청 본문을 읽으면서 묶는 로그 수 (본문 전체를 검증한 뒤 묶음 단위로 버퍼에 적재)
+         */
+        private int chunkSize = 256;
+
+    }
+
+    /**
+     * 프론트엔드 로그 묶음 중복 제거 설정 (action-log.dedup.*)
+     */
+    @Getter
+    @Setter
+    public static class Dedup {
+
+        /**
+         * 묶음 번호 기반 중복 제거 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 최고 묶음 번호 아래로 순서가 뒤바뀐 묶음을 기억하는 범위 (1~64)
+         */
+        private int windowSize = 64;
+
+        /**
+         * 묶음 번호를 기억할 최대 세션 수, 초과 시 오래 사용되지 않은 세션부터 퇴출
+         */
+        private long maximumSessions = 100_000;
+
+        /**
+         * 마지막 묶음 수신 후 이 시간이 지나면 세션의 묶음 번호를 잊음
+         */
+        private Duration idleTimeout = Duration.ofMinutes(30);
+
+    }
+
+    /**
+     * 종료 시 마지막 배출 설정 (action-log.shutdown.*)
+     */
+    @Getter
+    @Setter
+    public static class Shutdown {
+
+        /**
+         * 종료 시 적재 큐와 버퍼를 비우고 마지막 전체 배출을 수행할지 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 마지막 배출 전체에 허용하는 시간, spring.lifecycle.timeout-per-shutdown-phase를 넘지 않아야 하며
+         * 두 시간의 합이 컨테이너의 종료 유예 시간(예: Kubernetes 30초)보다 짧아야 함
+         */
+        private Duration timeout = Duration.ofSeconds(10);
+
+    }
+
+}
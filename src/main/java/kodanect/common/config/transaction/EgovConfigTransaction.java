@@ -6,6 +6,7 @@ import org.springframework.aop.support.DefaultPointcutAdvisor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
@@ -40,8 +41,10 @@ public class EgovConfigTransaction {
 	 * 트랜잭션 매니저 Bean (JPA 전용)
 	 *
 	 * EntityManagerFactory 기반의 JPA 트랜잭션 처리기 등록
+	 * 백그라운드 풀의 트랜잭션 매니저(backgroundTransactionManager)와 구분하기 위해 기본값으로 지정
 	 */
 	@Bean(name = "transactionManager")
+	@Primary
 	public PlatformTransactionManager transactionManager(EntityManagerFactory emf) {
 		return new JpaTransactionManager(emf);
 	}
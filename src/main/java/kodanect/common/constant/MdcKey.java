@@ -33,6 +33,11 @@ public final class MdcKey {
      */
     public static final String CONTROLLER = "controller";
 
+    /**
+     * 실행된 클래스의 단순 이름 (예외 처리 핸들러가 발생 위치로 사용)
+     */
+    public static final String CLASS = "class";
+
     /**
      * 실행된 메서드 이름
      */
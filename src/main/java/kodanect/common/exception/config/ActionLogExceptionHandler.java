@@ -2,17 +2,26 @@ package kodanect.common.exception.config;
 
 import kodanect.common.exception.custom.AbstractCustomException;
 import kodanect.common.response.ApiResponse;
+import kodanect.domain.logging.exception.ActionLogBufferSaturatedException;
 import kodanect.domain.logging.exception.ActionLogJsonSerializationException;
+import kodanect.domain.logging.exception.ActionLogRollupRangeException;
 import kodanect.domain.logging.exception.EmptyFrontendLogListException;
+import kodanect.domain.logging.exception.FrontendLogStreamTooLargeException;
+import kodanect.domain.logging.exception.InvalidFrontendLogStreamException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import static kodanect.common.exception.config.MessageKeys.ACTION_LOG_BUFFER_SATURATED;
 import static kodanect.common.exception.config.MessageKeys.ACTION_LOG_JSON_SERIALIZATION_FAIL;
+import static kodanect.common.exception.config.MessageKeys.ACTION_LOG_ROLLUP_RANGE_INVALID;
+import static kodanect.common.exception.config.MessageKeys.ACTION_LOG_STREAM_INVALID;
+import static kodanect.common.exception.config.MessageKeys.ACTION_LOG_STREAM_TOO_LARGE;
 import static kodanect.common.exception.config.MessageKeys.FRONTEND_LOG_LIST_EMPTY;
 
 /**
@@ -46,10 +55,62 @@ public class ActionLogExceptionHandler {
         return handle(ex, FRONTEND_LOG_LIST_EMPTY, "프론트엔드 로그 리스트는 비어 있을 수 없습니다.");
     }
 
+    /**
+     * 로그 버퍼 포화 시 예외 처리
+     * - 429 응답과 함께 Retry-After 헤더로 재시도 대기 시간을 안내
+     */
+    @ExceptionHandler(ActionLogBufferSaturatedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleBufferSaturated(ActionLogBufferSaturatedException ex) {
+        String resolvedMessage = resolve(ex, ACTION_LOG_BUFFER_SATURATED, "로그 수집 요청이 많아 잠시 후 다시 시도해 주세요.");
+
+        return ResponseEntity
+                .status(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.fail(ex.getStatus(), resolvedMessage));
+    }
+
+    /**
+     * 로그 집계 조회 기간이 올바르지 않을 경우 예외 처리
+     * - 시작 시각이 종료 시각 이후이거나 최대 조회 기간을 넘는 경우
+     */
+    @ExceptionHandler(ActionLogRollupRangeException.class)
+    public ResponseEntity<ApiResponse<Void>> handleRollupRange(ActionLogRollupRangeException ex) {
+        return handle(ex, ACTION_LOG_ROLLUP_RANGE_INVALID, "조회 기간이 올바르지 않습니다.");
+    }
+
+    /**
+     * 프론트엔드 로그 요청 본문을 읽을 수 없을 경우 예외 처리
+     * - JSON 형식 오류, 손상된 gzip 본문, 지원하지 않는 Content-Encoding
+     */
+    @ExceptionHandler(InvalidFrontendLogStreamException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidStream(InvalidFrontendLogStreamException ex) {
+        return handle(ex, ACTION_LOG_STREAM_INVALID, "로그 요청 본문을 읽을 수 없습니다.");
+    }
+
+    /**
+     * 프론트엔드 로그 요청 본문이 너무 클 경우 예외 처리
+     * - 압축 해제 후 크기가 최대 크기를 넘는 경우 413 응답
+     */
+    @ExceptionHandler(FrontendLogStreamTooLargeException.class)
+    public ResponseEntity<ApiResponse<Void>> handleStreamTooLarge(FrontendLogStreamTooLargeException ex) {
+        return handle(ex, ACTION_LOG_STREAM_TOO_LARGE, "로그 요청 본문이 너무 큽니다.");
+    }
+
     /**
      * 공통 처리 메서드
      */
     private ResponseEntity<ApiResponse<Void>> handle(AbstractCustomException ex, String messageKey, String defaultMessage) {
+        String resolvedMessage = resolve(ex, messageKey, defaultMessage);
+
+        return ResponseEntity
+                .status(ex.getStatus())
+                .body(ApiResponse.fail(ex.getStatus(), resolvedMessage));
+    }
+
+    /**
+     * 메시지 키를 해석하고 예외 로그를 남깁니다.
+     */
+    private String resolve(AbstractCustomException ex, String messageKey, String defaultMessage) {
         String resolvedMessage = messageSourceAccessor.getMessage(
                 messageKey,
                 ex.getArguments(),
@@ -58,9 +119,7 @@ public class ActionLogExceptionHandler {
 
         log.warn("[액션 로그 예외] {} - {}: {}", ex.getClass().getSimpleName(), messageKey, resolvedMessage, ex);
 
-        return ResponseEntity
-                .status(ex.getStatus())
-                .body(ApiResponse.fail(ex.getStatus(), resolvedMessage));
+        return resolvedMessage;
     }
 
 }
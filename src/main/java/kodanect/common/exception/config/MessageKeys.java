@@ -66,6 +66,11 @@ public final class MessageKeys {
     // 액션 로그 관련
     public static final String ACTION_LOG_JSON_SERIALIZATION_FAIL = "error.actionlog.json.serialization";
     public static final String FRONTEND_LOG_LIST_EMPTY = "error.frontend.log.empty";
+    public static final String ACTION_LOG_BUFFER_SATURATED = "error.actionlog.buffer.saturated";
+    public static final String ACTION_LOG_ROLLUP_RANGE_INVALID = "error.actionlog.rollup.range";
+    public static final String ACTION_LOG_STREAM_INVALID = "error.actionlog.stream.invalid";
+    public static final String ACTION_LOG_STREAM_TOO_LARGE = "error.actionlog.stream.too.large";
+    public static final String ACTION_LOG_FLUSH_TIMEOUT = "error.actionlog.flush.timeout";
 
     private MessageKeys() {}
 
@@ -0,0 +1,175 @@
+package kodanect.common.readcount;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kodanect.common.exception.config.SecureLogger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시물 상세 조회 시 발생하는 조회 수 증가를 메모리에 모았다가 주기적으로 한꺼번에 반영하는 컴포넌트입니다. (write-behind)
+ *
+ * - 요청 스레드는 (게시판 종류, 게시물) 키의 {@link LongAdder}만 증가시키므로, 인기 게시물의 같은 행에 대한 잠금 대기가 없습니다.
+ * - 스케줄러가 키별 증가분을 꺼내 게시판마다 한 번의 일괄 UPDATE({@code read_count = read_count + ?})로 반영합니다.
+ * - 반영에 실패한 증가분은 다시 더해 두었다가 다음 주기에 재시도합니다.
+ * - 상세 응답은 저장된 조회 수에 {@link #getPendingCount(ReadCountKey)}를 더해 보여줍니다.
+ * - 종료 시 남은 증가분을 한 번 더 반영합니다.
+ *
+ * 직전 배출 이후 증가분이 없는 키는 배출 때 제거하므로, 맵에는 최근에 조회된 게시물만 남습니다.
+ * 제거된 키에 동시에 더해진 증가분은 배출 스레드나 증가시킨 요청 스레드가 회수하여 새 키에 다시 더합니다.
+ * 반영 대기 중인 조회 수와 반영 실패 횟수는 {@code read.count.pending}, {@code read.count.flush.failures} 메트릭으로 노출됩니다.
+ */
+@Component
+public class ReadCountAggregator implements DisposableBean {
+
+    private static final SecureLogger log = SecureLogger.getLogger(ReadCountAggregator.class);
+
+    private final ReadCountRepository readCountRepository;
+    private final Map<ReadCountKey, Slot> counts = new ConcurrentHashMap<>();
+    private final Counter failureCounter;
+
+    public ReadCountAggregator(ReadCountRepository readCountRepository, MeterRegistry meterRegistry) {
+        this.readCountRepository = readCountRepository;
+        this.failureCounter = Counter.builder("read.count.flush.failures")
+                .description("조회 수 반영에 실패한 게시판 단위 일괄 UPDATE 횟수")
+                .register(meterRegistry);
+        Gauge.builder("read.count.pending", this, ReadCountAggregator::getTotalPendingCount)
+                .description("DB에 반영되지 않은 조회 수 합계")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 게시물의 조회 수를 1 증가시킵니다. 실제 반영은 다음 배출 때 이루어집니다.
+     *
+     * @param key 조회 수 집계 키
+     */
+    public void increment(ReadCountKey key) {
+        add(key, 1);
+    }
+
+    /**
+     * 게시물의 아직 반영되지 않은 조회 수를 반환합니다.
+     *
+     * @param key 조회 수 집계 키
+     * @return 반영 대기 중인 조회 수
+     */
+    public long getPendingCount(ReadCountKey key) {
+        Slot slot = counts.get(key);
+        return slot == null ? 0 : slot.adder.sum();
+    }
+
+    /**
+     * 전체 게시물의 아직 반영되지 않은 조회 수 합계를 반환합니다.
+     *
+     * @return 반영 대기 중인 조회 수 합계
+     */
+    public long getTotalPendingCount() {
+        long total = 0;
+        for (Slot slot : counts.values()) {
+            total += slot.adder.sum();
+        }
+        return total;
+    }
+
+    /* 현재 추적 중인 키 수 */
+    int size() {
+        return counts.size();
+    }
+
+    /**
+     * 모아 둔 조회 수를 게시판별 일괄 UPDATE로 반영합니다.
+     *
+     * 게시판 하나의 반영이 실패해도 나머지 게시판은 반영하며, 실패한 증가분은 다음 배출 때 다시 시도합니다.
+     *
+     * @return 반영한 게시물 수
+     */
+    @Scheduled(fixedDelayString = "${read-count.flush-interval:5000}", initialDelayString = "${read-count.flush-interval:5000}")
+    public synchronized int flush() {
+        Map<ReadCountBoard, Map<ReadCountKey, Long>> deltasByBoard = drain();
+        int flushed = 0;
+
+        for (Map.Entry<ReadCountBoard, Map<ReadCountKey, Long>> entry : deltasByBoard.entrySet()) {
+            Map<ReadCountKey, Long> deltas = entry.getValue();
+            try {
+                readCountRepository.addReadCounts(entry.getKey(), deltas);
+                flushed += deltas.size();
+            } catch (RuntimeException e) {
+                failureCounter.increment();
+                deltas.forEach(this::restore);
+                log.warn("[조회 수 반영] 반영 실패, 다음 주기에 재시도 (게시판: {}, 게시물 수: {}): {}",
+                        entry.getKey(), deltas.size(), e.getMessage());
+            }
+        }
+        return flushed;
+    }
+
+    /**
+     * 종료 시 남은 조회 수를 반영합니다.
+     */
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private Map<ReadCountBoard, Map<ReadCountKey, Long>> drain() {
+        Map<ReadCountBoard, Map<ReadCountKey, Long>> deltasByBoard = new EnumMap<>(ReadCountBoard.class);
+
+        counts.forEach((key, slot) -> {
+            long delta = slot.adder.sumThenReset();
+            if (delta > 0) {
+                deltasByBoard.computeIfAbsent(key.getBoard(), board -> new HashMap<>()).put(key, delta);
+            } else {
+                retire(key, slot);
+            }
+        });
+        return deltasByBoard;
+    }
+
+    private void restore(ReadCountKey key, long delta) {
+        add(key, delta);
+    }
+
+    /*
+     * 증가분이 없는 키를 제거합니다.
+     * 제거와 retired 표시 사이에 더해진 증가분은 여기서 회수하고,
+     * 그 이후에 더해진 증가분은 retired 를 확인한 요청 스레드가 add()에서 회수합니다.
+     * sumThenReset()은 각 증가분을 한 번만 가져가므로 중복 반영되지 않습니다.
+     */
+    private void retire(ReadCountKey key, Slot slot) {
+        if (counts.remove(key, slot)) {
+            slot.retired = true;
+            add(key, slot.adder.sumThenReset());
+        }
+    }
+
+    private void add(ReadCountKey key, long delta) {
+        while (delta > 0) {
+            Slot slot = counts.computeIfAbsent(key, k -> new Slot());
+            slot.adder.add(delta);
+            if (!slot.retired) {
+                return;
+            }
+            /* 배출 중 제거된 키에 더했다면 남은 증가분을 회수하여 새 키에 다시 더함 */
+            delta = slot.adder.sumThenReset();
+        }
+    }
+
+    /**
+     * 게시물 하나의 증가분과 제거 여부
+     */
+    private static final class Slot {
+
+        private final LongAdder adder = new LongAdder();
+        private volatile boolean retired;
+
+    }
+
+}
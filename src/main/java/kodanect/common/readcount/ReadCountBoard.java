@@ -0,0 +1,51 @@
+package kodanect.common.readcount;
+
+/**
+ * 조회 수를 모아서 반영하는 게시판 종류와 게시판별 조회 수 증가 SQL입니다.
+ *
+ * 모든 SQL은 첫 번째 인자로 더할 조회 수를 받고, 이어서 게시물 식별 값을 받습니다.
+ * 삭제된 게시물의 조회 수는 반영하지 않습니다.
+ * 조회 수 컬럼이 NULL 을 허용하는 게시판(하늘나라 편지, 기증 후 스토리)은 NULL 을 0으로 보고 더합니다.
+ */
+public enum ReadCountBoard {
+
+    /**
+     * 하늘나라 편지 (letter_seq)
+     */
+    HEAVEN("UPDATE tb25_410_heaven_letter SET read_count = COALESCE(read_count, 0) + ? "
+            + "WHERE letter_seq = ? AND del_flag = 'N'"),
+
+    /**
+     * 게시판 게시글 (board_code, article_seq)
+     */
+    ARTICLE("UPDATE tb25_210_article_dtl SET read_count = read_count + ? "
+            + "WHERE board_code = ? AND article_seq = ? AND del_flag = 'N'"),
+
+    /**
+     * 수혜자 편지 (letter_seq)
+     */
+    RECIPIENT("UPDATE tb25_430_recipient_letter SET read_count = read_count + ? "
+            + "WHERE letter_seq = ? AND del_flag = 'N'"),
+
+    /**
+     * 기증 후 스토리 (story_seq)
+     */
+    DONATION("UPDATE tb25_420_donation_story SET read_count = COALESCE(read_count, 0) + ? "
+            + "WHERE story_seq = ? AND del_flag = 'N'");
+
+    private final String updateSql;
+
+    ReadCountBoard(String updateSql) {
+        this.updateSql = updateSql;
+    }
+
+    /**
+     * 조회 수 증가 SQL을 반환합니다.
+     *
+     * @return {@code UPDATE ... SET read_count = read_count + ?} 문 (NULL 허용 게시판은 {@code COALESCE(read_count, 0) + ?})
+     */
+    public String getUpdateSql() {
+        return updateSql;
+    }
+
+}
@@ -0,0 +1,65 @@
+package kodanect.common.readcount;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 조회 수 집계 키 (게시판 종류, 게시물 식별 값)
+ *
+ * 게시판 게시글은 게시판 코드와 게시글 순번이 함께 식별 값이므로 게시판 코드를 추가로 가집니다.
+ * 다른 게시판의 게시판 코드는 null입니다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReadCountKey {
+
+    /**
+     * 게시판 종류
+     */
+    private final ReadCountBoard board;
+
+    /**
+     * 게시판 코드 (게시판 게시글만 사용)
+     */
+    private final String boardCode;
+
+    /**
+     * 게시물 일련번호
+     */
+    private final long seq;
+
+    public static ReadCountKey heaven(int letterSeq) {
+        return new ReadCountKey(ReadCountBoard.HEAVEN, null, letterSeq);
+    }
+
+    public static ReadCountKey article(String boardCode, int articleSeq) {
+        return new ReadCountKey(ReadCountBoard.ARTICLE, boardCode, articleSeq);
+    }
+
+    public static ReadCountKey recipient(int letterSeq) {
+        return new ReadCountKey(ReadCountBoard.RECIPIENT, null, letterSeq);
+    }
+
+    public static ReadCountKey donation(long storySeq) {
+        return new ReadCountKey(ReadCountBoard.DONATION, null, storySeq);
+    }
+
+    /**
+     * {@link ReadCountBoard#getUpdateSql()}에 넘길 인자를 만듭니다.
+     *
+     * @param delta 더할 조회 수
+     * @return (조회 수, 게시물 식별 값...) 순서의 인자 배열
+     */
+    Object[] toUpdateArgs(long delta) {
+        if (board == ReadCountBoard.ARTICLE) {
+            return new Object[]{delta, boardCode, seq};
+        }
+        return new Object[]{delta, seq};
+    }
+
+}
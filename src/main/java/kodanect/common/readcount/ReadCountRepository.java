@@ -0,0 +1,49 @@
+package kodanect.common.readcount;
+
+import kodanect.common.config.datasource.DataSourceConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모아 둔 조회 수를 게시판별 테이블에 JDBC 일괄 UPDATE로 더하는 저장소입니다.
+ *
+ * 게시판 하나의 증가분은 하나의 트랜잭션으로 반영되므로, 실패하면 해당 게시판의 증가분 전체가 반영되지 않습니다.
+ * 백그라운드 풀({@link DataSourceConfig#BACKGROUND_DATA_SOURCE})을 사용합니다.
+ */
+@Repository
+public class ReadCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReadCountRepository(@Qualifier(DataSourceConfig.BACKGROUND_JDBC_TEMPLATE) JdbcTemplate jdbcTemplate,
+                               @Qualifier(DataSourceConfig.BACKGROUND_TRANSACTION_MANAGER) PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 게시판 하나의 게시물별 증가분을 한 번의 일괄 UPDATE로 더합니다.
+     *
+     * @param board  게시판 종류
+     * @param deltas 게시물별 증가분
+     */
+    public void addReadCounts(ReadCountBoard board, Map<ReadCountKey, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> rows.add(key.toUpdateArgs(delta)));
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(board.getUpdateSql(), rows));
+    }
+
+}
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
  * 게시글 존재 유무 확인 및 Memorial 반환 클래스
  *
  * <p>사용법: MemorialFinder.findByIdOrThrow(Integer donateSeq)</p>
+ * <p>존재 여부만 필요할 때: MemorialFinder.existsOrThrow(Integer donateSeq)</p>
  *
  **/
 @Component
@@ -32,4 +33,17 @@ public class MemorialFinder {
 
         return memorialRepository.findById(donateSeq).orElseThrow(() -> new MemorialNotFoundException(donateSeq));
     }
+
+    /**
+     *
+     * 게시글 존재 유무 확인 메서드 (엔티티를 로딩하지 않음)
+     *
+     * @param donateSeq 상세 게시글 번호
+     * */
+    public void existsOrThrow(Integer donateSeq) throws MemorialNotFoundException {
+
+        if (!memorialRepository.existsById(donateSeq)) {
+            throw new MemorialNotFoundException(donateSeq);
+        }
+    }
 }
\ No newline at end of file
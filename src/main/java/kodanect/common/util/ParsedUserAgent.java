@@ -0,0 +1,65 @@
+package kodanect.common.util;
+
+import eu.bitwalker.useragentutils.Browser;
+import eu.bitwalker.useragentutils.OperatingSystem;
+import eu.bitwalker.useragentutils.UserAgent;
+import eu.bitwalker.useragentutils.Version;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * User-Agent 문자열을 파싱한 브라우저/운영체제/디바이스 정보를 담는 불변 객체입니다.
+ *
+ * 값이 없거나 공백이면 "Unknown"으로 정규화되어 있으므로, MDC 등에 그대로 기록할 수 있습니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ParsedUserAgent {
+
+    private static final String UNKNOWN = "Unknown";
+
+    /**
+     * 브라우저 이름
+     */
+    private final String browserName;
+
+    /**
+     * 브라우저 버전
+     */
+    private final String browserVersion;
+
+    /**
+     * 운영 체제
+     */
+    private final String operatingSystem;
+
+    /**
+     * 디바이스 종류
+     */
+    private final String device;
+
+    /**
+     * User-Agent 문자열을 파싱하여 생성합니다.
+     *
+     * @param userAgentString User-Agent 헤더 값
+     * @return 파싱 결과
+     */
+    public static ParsedUserAgent parse(String userAgentString) {
+        UserAgent userAgent = UserAgent.parseUserAgentString(userAgentString);
+        Browser browser = userAgent.getBrowser();
+        Version version = userAgent.getBrowserVersion();
+        OperatingSystem os = userAgent.getOperatingSystem();
+
+        return new ParsedUserAgent(
+                orUnknown(browser != null ? browser.getName() : null),
+                orUnknown(version != null ? version.getVersion() : null),
+                orUnknown(os != null ? os.getName() : null),
+                orUnknown(os != null ? os.getDeviceType().getName() : null));
+    }
+
+    private static String orUnknown(String value) {
+        return (value != null && !value.isBlank()) ? value : UNKNOWN;
+    }
+
+}
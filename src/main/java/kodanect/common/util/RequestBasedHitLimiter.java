@@ -1,9 +1,15 @@
 package kodanect.common.util;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
 
 /**
  * 게시글 조회 수 중복 증가 방지를 위한 제한 도구
@@ -11,25 +17,233 @@ import java.util.concurrent.ConcurrentHashMap;
  * 동일한 사용자가 일정 시간 내에 같은 게시글을 여러 번 조회해도
  * 조회 수가 중복 증가하지 않도록 제어하는 컴포넌트입니다.
  *
- * IP + 게시글 기준으로 제한하며,
- * 10분(600,000ms) 이내의 중복 조회는 무시합니다.
+ * IP + 게시글 기준으로 제한하며, 번갈아 교체되는 블룸 필터 두 개(현재, 직전)로 판정합니다.
+ * - 두 필터 중 하나라도 (게시판 코드, 게시글, IP)를 포함하면 중복 조회로 판정합니다.
+ * - 포함하지 않으면 현재 필터에 기록하고 첫 조회로 판정합니다.
+ * - 10분(600,000ms)마다 현재 필터가 직전 필터가 되고, 새 빈 필터가 현재 필터가 됩니다.
+ *   따라서 첫 조회 후 최소 10분, 최대 20분 동안 중복 조회로 판정됩니다.
+ *
+ * 필터 크기는 예상 초당 조회 수(article.hit-limiter.expected-qps) x 10분을 항목 수로,
+ * 오탐률(article.hit-limiter.false-positive-rate)을 목표로 정해지며, 트래픽과 무관하게 메모리가 고정됩니다.
+ * 오탐(처음 조회인데 중복으로 판정)은 조회 수가 덜 증가하는 방향으로만 발생합니다.
+ * 현재 필터의 채움 비율과 추정 항목 수는 {@code article.hit.limiter.fill}, {@code article.hit.limiter.estimated.entries} 메트릭으로 노출됩니다.
  * 단일 인스턴스 서버에만 유지가능
  */
 @Component
 public class RequestBasedHitLimiter {
 
     private static final long VIEW_LIMIT_DURATION_MILLIS = 10L * 60 * 1000;
-    private static final Map<String, Long> hitTimeMap = new ConcurrentHashMap<>();
+
+    private final long windowMillis;
+    private final int bitCount;
+    private final int hashCount;
+    private final LongSupplier clock;
+    private final AtomicReference<Generation> generation;
+
+    @Autowired
+    public RequestBasedHitLimiter(@Value("${article.hit-limiter.expected-qps:50}") int expectedQps,
+                                  @Value("${article.hit-limiter.false-positive-rate:0.001}") double falsePositiveRate,
+                                  MeterRegistry meterRegistry) {
+        this(expectedQps, falsePositiveRate, meterRegistry, VIEW_LIMIT_DURATION_MILLIS, System::currentTimeMillis);
+    }
+
+    RequestBasedHitLimiter(int expectedQps, double falsePositiveRate, MeterRegistry meterRegistry,
+                           long windowMillis, LongSupplier clock) {
+        if (expectedQps < 1) {
+            throw new IllegalArgumentException("expectedQps must be positive: " + expectedQps);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1: " + falsePositiveRate);
+        }
+
+        long expectedEntries = Math.max(1, expectedQps * (windowMillis / 1000));
+        this.windowMillis = windowMillis;
+        this.bitCount = optimalBitCount(expectedEntries, falsePositiveRate);
+        this.hashCount = optimalHashCount(expectedEntries, bitCount);
+        this.clock = clock;
+
+        long epoch = clock.getAsLong() / windowMillis;
+        this.generation = new AtomicReference<>(new Generation(epoch, new Filter(bitCount), null));
+
+        Gauge.builder("article.hit.limiter.fill", this, RequestBasedHitLimiter::getFillRatio)
+                .description("현재 조회 중복 판정 필터에서 1로 설정된 비트 비율")
+                .register(meterRegistry);
+        Gauge.builder("article.hit.limiter.estimated.entries", this, RequestBasedHitLimiter::getEstimatedEntries)
+                .description("현재 조회 중복 판정 필터에 기록된 (게시글, IP) 추정 항목 수")
+                .register(meterRegistry);
+    }
 
     public boolean isFirstView(String boardCode, int articleSeq, String ip) {
-        String key = boardCode + ":" + articleSeq + ":" + ip;
-        long now = System.currentTimeMillis();
+        long hash = hash(boardCode, articleSeq, ip);
+        Generation current = currentGeneration();
+
+        if (current.previous != null && current.previous.mightContain(hash, hashCount)) {
+            return false;
+        }
+        return current.filter.put(hash, hashCount);
+    }
+
+    /**
+     * 현재 필터에서 1로 설정된 비트 비율을 반환합니다.
+     *
+     * @return 채움 비율 (0.0 ~ 1.0)
+     */
+    public double getFillRatio() {
+        return (double) currentGeneration().filter.setBits.sum() / bitCount;
+    }
+
+    /**
+     * 채움 비율로부터 현재 필터에 기록된 항목 수를 추정합니다. ( -m/k * ln(1 - X/m) )
+     *
+     * @return 추정 항목 수
+     */
+    public double getEstimatedEntries() {
+        double fill = getFillRatio();
+        if (fill >= 1.0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return -((double) bitCount / hashCount) * Math.log1p(-fill);
+    }
 
-        Long lastViewed = hitTimeMap.get(key);
-        if (lastViewed == null || now - lastViewed > VIEW_LIMIT_DURATION_MILLIS) {
-            hitTimeMap.put(key, now);
+    /* 기록하지 않고 두 필터 중 하나에 포함되는지만 확인 */
+    boolean mightContain(String boardCode, int articleSeq, String ip) {
+        long hash = hash(boardCode, articleSeq, ip);
+        Generation current = currentGeneration();
+
+        return current.filter.mightContain(hash, hashCount)
+                || (current.previous != null && current.previous.mightContain(hash, hashCount));
+    }
+
+    int getBitCount() {
+        return bitCount;
+    }
+
+    int getHashCount() {
+        return hashCount;
+    }
+
+    private Generation currentGeneration() {
+        long epoch = clock.getAsLong() / windowMillis;
+
+        while (true) {
+            Generation current = generation.get();
+            if (current.epoch >= epoch) {
+                return current;
+            }
+
+            /* 창 하나가 지났으면 현재 필터를 직전 필터로, 둘 이상 지났으면 둘 다 비움 */
+            Filter previous = current.epoch == epoch - 1 ? current.filter : null;
+            Generation rotated = new Generation(epoch, new Filter(bitCount), previous);
+            if (generation.compareAndSet(current, rotated)) {
+                return rotated;
+            }
+        }
+    }
+
+    static int optimalBitCount(long expectedEntries, double falsePositiveRate) {
+        double bits = -expectedEntries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        long words = Math.max(1, (long) Math.ceil(bits / Long.SIZE));
+        return (int) Math.min(Integer.MAX_VALUE - Long.SIZE + 1L, words * Long.SIZE);
+    }
+
+    static int optimalHashCount(long expectedEntries, int bitCount) {
+        return Math.max(1, (int) Math.round((double) bitCount / expectedEntries * Math.log(2)));
+    }
+
+    /* 문자열 키를 만들지 않고 (게시판 코드, 게시글 순번, IP)를 FNV-1a 64비트로 해시한 뒤 섞습니다. */
+    private static long hash(String boardCode, int articleSeq, String ip) {
+        long hash = 0xCBF29CE484222325L;
+        hash = fnv(hash, boardCode);
+        hash = (hash ^ articleSeq) * 0x100000001B3L;
+        hash = fnv(hash, ip);
+
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private static long fnv(long hash, String value) {
+        if (value == null) {
+            return (hash ^ 0xFF) * 0x100000001B3L;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return (hash ^ ':') * 0x100000001B3L;
+    }
+
+    /**
+     * 한 창의 현재 필터와 직전 필터
+     */
+    private static final class Generation {
+
+        private final long epoch;
+        private final Filter filter;
+        private final Filter previous;
+
+        private Generation(long epoch, Filter filter, Filter previous) {
+            this.epoch = epoch;
+            this.filter = filter;
+            this.previous = previous;
+        }
+
+    }
+
+    /**
+     * 비트 배열 하나로 된 블룸 필터 (해시 두 개를 조합해 k개 위치를 만드는 이중 해싱)
+     */
+    private static final class Filter {
+
+        private final AtomicLongArray words;
+        private final int bitCount;
+        private final LongAdder setBits = new LongAdder();
+
+        private Filter(int bitCount) {
+            this.bitCount = bitCount;
+            this.words = new AtomicLongArray(bitCount / Long.SIZE);
+        }
+
+        boolean mightContain(long hash, int hashCount) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+
+            for (int i = 0; i < hashCount; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
             return true;
         }
-        return false;
+
+        /**
+         * 항목을 기록합니다.
+         *
+         * @return 새로 1이 된 비트가 있으면(처음 기록한 항목이면) true
+         */
+        boolean put(long hash, int hashCount) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+            boolean changed = false;
+
+            for (int i = 0; i < hashCount; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bitCount);
+                long mask = 1L << bit;
+                if ((words.get(bit >>> 6) & mask) != 0) {
+                    continue;
+                }
+
+                long previous = words.getAndAccumulate(bit >>> 6, mask, (word, m) -> word | m);
+                if ((previous & mask) == 0) {
+                    setBits.increment();
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
     }
+
 }
@@ -0,0 +1,52 @@
+package kodanect.common.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kodanect.common.config.properties.ActionLogProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * User-Agent 문자열을 {@link ParsedUserAgent}로 변환하고, 결과를 크기 제한 캐시에 보관하는 컴포넌트입니다.
+ *
+ * User-Agent 파싱은 큰 열거형 테이블을 순회하므로 비용이 크지만, 실제 요청에서 등장하는 User-Agent 종류는 적습니다.
+ * 따라서 원문 문자열을 키로 파싱 결과를 캐시하고, 적중률은 {@code cache.*{cache=user-agent}} 메트릭으로 노출합니다.
+ *
+ * - 최대 크기를 넘으면 Caffeine의 빈도 기반 정책으로 오래 쓰이지 않은 항목부터 제거합니다.
+ * - 최대 길이를 넘는 User-Agent는 캐시를 오염시키지 않도록 캐시하지 않고 매번 파싱합니다.
+ */
+@Component
+public class UserAgentResolver {
+
+    private static final String CACHE_NAME = "user-agent";
+
+    private final Cache<String, ParsedUserAgent> cache;
+    private final int maxKeyLength;
+
+    public UserAgentResolver(ActionLogProperties properties, MeterRegistry meterRegistry) {
+        ActionLogProperties.UserAgentCache cacheProperties = properties.getUserAgentCache();
+        this.maxKeyLength = cacheProperties.getMaxKeyLength();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMaximumSize())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * User-Agent 문자열의 파싱 결과를 반환합니다.
+     *
+     * @param userAgentString User-Agent 헤더 값 (null 허용)
+     * @return 파싱 결과
+     */
+    public ParsedUserAgent resolve(String userAgentString) {
+        if (userAgentString == null || userAgentString.length() > maxKeyLength) {
+            return ParsedUserAgent.parse(userAgentString);
+        }
+
+        return cache.get(userAgentString, ParsedUserAgent::parse);
+    }
+
+}
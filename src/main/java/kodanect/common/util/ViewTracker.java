@@ -1,34 +1,215 @@
 package kodanect.common.util;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
 
+/**
+ * 같은 IP의 같은 게시물 재조회를 일정 시간(30분) 동안 조회 수에 반영하지 않도록 판정하는 컴포넌트입니다.
+ *
+ * (게시물 ID, IP 해시)를 long 하나로 묶은 키를 시간 구간(bucket)별 고정 크기 long 배열(개방 주소법)에 기록합니다.
+ * - 판정: 지난 구간들에 키가 있으면 재조회, 없으면 현재 구간에 CAS로 키를 선점한 스레드만 첫 조회로 판정합니다.
+ * - 만료: 항목별 시간을 기록하지 않고, 구간이 창(window) 밖으로 밀려나면 구간 배열을 통째로 새 배열로 교체합니다.
+ *   따라서 재조회로 판정되는 기간은 창 길이 이상, 창 길이 + 구간 하나 이하입니다.
+ * - 메모리: 구간 수 x 구간 용량 x 8바이트로 고정되며, 구간이 가득 차면 기록하지 않고 첫 조회로 판정합니다.
+ *
+ * IP는 32비트 해시로 줄여 저장하므로, 같은 게시물에서 해시가 충돌한 다른 IP가 재조회로 판정될 수 있습니다.
+ * 기록 중인 항목 수와 용량 초과 건수는 {@code view.tracker.entries}, {@code view.tracker.overflow} 메트릭으로 노출됩니다.
+ */
 @Component
 public class ViewTracker {
 
     private static final long EXPIRATION_TIME = 1000 * 60 * 30L; // 30분
-    private final ConcurrentHashMap<String, Long> viewMap = new ConcurrentHashMap<>();
+    private static final int WINDOW_BUCKETS = 6; // 5분 구간 6개
+    private static final int BUCKET_CAPACITY = 1 << 16; // 구간당 슬롯 수 (512KB)
+
+    private static final long EMPTY = 0L;
+    private static final long EMPTY_SUBSTITUTE = 1L;
+
+    private final long bucketMillis;
+    private final int windowBuckets;
+    private final int capacity;
+    private final int maxEntries;
+    private final int indexShift;
+    private final LongSupplier clock;
+
+    /* 창 안의 구간 windowBuckets개 + 현재 구간 1개 */
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final Counter overflowCounter;
+
+    @Autowired
+    public ViewTracker(MeterRegistry meterRegistry) {
+        this(meterRegistry, EXPIRATION_TIME, WINDOW_BUCKETS, BUCKET_CAPACITY, System::currentTimeMillis);
+    }
+
+    ViewTracker(MeterRegistry meterRegistry, long windowMillis, int windowBuckets, int bucketCapacity, LongSupplier clock) {
+        if (bucketCapacity < 2 || Integer.bitCount(bucketCapacity) != 1) {
+            throw new IllegalArgumentException("bucketCapacity must be a power of two (>= 2): " + bucketCapacity);
+        }
+
+        this.bucketMillis = Math.max(1, windowMillis / windowBuckets);
+        this.windowBuckets = windowBuckets;
+        this.capacity = bucketCapacity;
+        this.maxEntries = bucketCapacity - (bucketCapacity >>> 2); // 적재율 75%
+        this.indexShift = Long.SIZE - Integer.numberOfTrailingZeros(bucketCapacity);
+        this.clock = clock;
+        this.buckets = new AtomicReferenceArray<>(windowBuckets + 1);
+
+        this.overflowCounter = Counter.builder("view.tracker.overflow")
+                .description("구간 용량 초과로 기록하지 않고 첫 조회로 판정한 건수")
+                .register(meterRegistry);
+        Gauge.builder("view.tracker.entries", this, ViewTracker::size)
+                .description("재조회 판정을 위해 기록 중인 (게시물, IP) 항목 수")
+                .register(meterRegistry);
+    }
 
     /* IP를 통한 조회 수 증가 여부 확인 */
     public boolean shouldIncreaseView(Integer postId, String clientIp) {
-        String key = postId + ":" + clientIp;
-        long now = System.currentTimeMillis();
+        long key = packKey(postId, clientIp);
+        long epoch = clock.getAsLong() / bucketMillis;
+
+        /* 지난 구간에 기록된 조회인지 확인 */
+        for (int age = 1; age <= windowBuckets; age++) {
+            Bucket bucket = buckets.get(slotOf(epoch - age));
+            if (bucket != null && bucket.epoch == epoch - age && contains(bucket, key)) {
+                return false;
+            }
+        }
+
+        /* 현재 구간에 선점 시도 */
+        return claim(currentBucket(epoch), key);
+    }
+
+    /**
+     * 창 안의 구간에 기록된 항목 수를 반환합니다.
+     *
+     * @return 기록 중인 항목 수
+     */
+    public int size() {
+        long epoch = clock.getAsLong() / bucketMillis;
+        int total = 0;
+
+        for (int age = 0; age <= windowBuckets; age++) {
+            Bucket bucket = buckets.get(slotOf(epoch - age));
+            if (bucket != null && bucket.epoch == epoch - age) {
+                total += bucket.size.get();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 게시물 ID(상위 32비트)와 IP 해시(하위 32비트)를 long 하나로 묶습니다. 0은 빈 슬롯 표시이므로 1로 바꿉니다.
+     */
+    static long packKey(int postId, String clientIp) {
+        long key = ((long) postId << 32) | (hashIp(clientIp) & 0xFFFFFFFFL);
+        return key == EMPTY ? EMPTY_SUBSTITUTE : key;
+    }
+
+    /* FNV-1a 64비트 해시를 32비트로 접어 IP 문자열을 줄입니다. */
+    private static int hashIp(String clientIp) {
+        String value = clientIp == null ? "" : clientIp;
+        long hash = 0xCBF29CE484222325L;
 
-        /* 해당 IP가 해당 게시물 접근 여부 확인 */
-        if (!viewMap.containsKey(key)) {
-            viewMap.put(key, now);
-            return true;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
         }
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private Bucket currentBucket(long epoch) {
+        int slot = slotOf(epoch);
 
-        long lastViewTime = viewMap.get(key);
+        while (true) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket != null && bucket.epoch >= epoch) {
+                return bucket;
+            }
 
-        /* 조회 수 증가 가능 여부 확인 */
-        if (now - lastViewTime > EXPIRATION_TIME) {
-            viewMap.put(key, now);
-            return true;
+            /* 창 밖으로 밀려난 구간은 통째로 새 배열로 교체 */
+            Bucket fresh = new Bucket(epoch, capacity);
+            if (buckets.compareAndSet(slot, bucket, fresh)) {
+                return fresh;
+            }
         }
+    }
 
+    private boolean contains(Bucket bucket, long key) {
+        int mask = capacity - 1;
+        int index = indexOf(key);
+
+        for (int probe = 0; probe < capacity; probe++) {
+            long current = bucket.keys.get(index);
+            if (current == key) {
+                return true;
+            }
+            if (current == EMPTY) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
         return false;
     }
+
+    private boolean claim(Bucket bucket, long key) {
+        int mask = capacity - 1;
+        int index = indexOf(key);
+
+        for (int probe = 0; probe < capacity; probe++) {
+            long current = bucket.keys.get(index);
+            if (current == key) {
+                return false;
+            }
+            if (current == EMPTY) {
+                if (bucket.size.get() >= maxEntries) {
+                    break;
+                }
+                if (bucket.keys.compareAndSet(index, EMPTY, key)) {
+                    bucket.size.incrementAndGet();
+                    return true;
+                }
+                /* 다른 스레드가 먼저 채운 슬롯: 같은 키면 재조회, 아니면 다음 슬롯 */
+                if (bucket.keys.get(index) == key) {
+                    return false;
+                }
+            }
+            index = (index + 1) & mask;
+        }
+
+        overflowCounter.increment();
+        return true;
+    }
+
+    private int indexOf(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> indexShift);
+    }
+
+    private int slotOf(long epoch) {
+        return (int) Math.floorMod(epoch, (long) windowBuckets + 1);
+    }
+
+    /**
+     * 시간 구간 하나의 키 배열
+     */
+    private static final class Bucket {
+
+        private final long epoch;
+        private final AtomicLongArray keys;
+        private final AtomicInteger size = new AtomicInteger();
+
+        private Bucket(long epoch, int capacity) {
+            this.epoch = epoch;
+            this.keys = new AtomicLongArray(capacity);
+        }
+
+    }
+
 }
@@ -62,6 +62,16 @@ public class ArticleDetailDto {
         }
     }
 
+    /**
+     * 아직 DB에 반영되지 않은 조회수를 더합니다.
+     * 응답의 조회수는 int 이므로, 합계가 int 범위를 넘으면 {@link Integer#MAX_VALUE}로 고정합니다.
+     *
+     * @param pendingCount 반영 대기 중인 조회수
+     */
+    public void addPendingReadCount(long pendingCount) {
+        this.readCount = (int) Math.min(Integer.MAX_VALUE, this.readCount + pendingCount);
+    }
+
     public static ArticleDetailDto fromArticleDetailDto(
             Article article,
             AdjacentArticleDto prevArticle,
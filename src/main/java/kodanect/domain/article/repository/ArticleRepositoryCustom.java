@@ -25,12 +25,4 @@ public interface ArticleRepositoryCustom {
      * @return 검색 결과 게시글 페이지
      */
     Page<Article> searchArticles(List<String> boardCodes, String type, String keyWord, Pageable pageable);
-
-    /**
-     * 지정된 게시글의 조회수를 1 증가시킵니다.
-     *
-     * @param boardCode  게시판 코드
-     * @param articleSeq 게시글 번호
-     */
-    void increaseHitCount(String boardCode, int articleSeq);
 }
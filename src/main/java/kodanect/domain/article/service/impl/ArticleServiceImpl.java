@@ -1,5 +1,7 @@
 package kodanect.domain.article.service.impl;
 
+import kodanect.common.readcount.ReadCountAggregator;
+import kodanect.common.readcount.ReadCountKey;
 import kodanect.common.util.RequestBasedHitLimiter;
 import kodanect.domain.article.exception.ArticleNotFoundException;
 import kodanect.domain.article.dto.ArticleDTO;
@@ -24,6 +26,7 @@ public class ArticleServiceImpl implements ArticleService {
 
     private final ArticleRepository articleRepository;
     private final RequestBasedHitLimiter hitLimiter;
+    private final ReadCountAggregator readCountAggregator;
 
     /**
      * 게시글 목록을 조건에 따라 조회합니다.
@@ -59,7 +62,8 @@ public class ArticleServiceImpl implements ArticleService {
      *
      * <p>요청된 게시글이 존재하지 않으면 예외를 발생시키며,
      * 이전/다음 게시글 정보를 포함한 DTO를 반환합니다.
-     * 조회 시 조회수(hit count)가 1 증가합니다.</p>
+     * 조회 시 조회수(hit count)가 1 증가하며, 증가분은 {@link ReadCountAggregator}가 모아서 주기적으로 반영합니다.
+     * 응답의 조회수는 저장된 조회수에 반영 대기 중인 조회수를 더한 값입니다.</p>
      *
      * @param boardCode  게시판 코드
      * @param articleSeq 게시글 순번 (PK)
@@ -70,13 +74,14 @@ public class ArticleServiceImpl implements ArticleService {
     @Override
     public ArticleDetailDto getArticle(String boardCode, Integer articleSeq, String clientIpAddress) {
 
-        if (hitLimiter.isFirstView(boardCode, articleSeq, clientIpAddress)) {
-            articleRepository.increaseHitCount(boardCode, articleSeq);
-        }
-
         Article article = articleRepository.findByIdBoardCodeAndIdArticleSeq(boardCode, articleSeq)
                 .orElseThrow(() -> new ArticleNotFoundException(articleSeq));
 
+        ReadCountKey readCountKey = ReadCountKey.article(boardCode, articleSeq);
+        if (hitLimiter.isFirstView(boardCode, articleSeq, clientIpAddress)) {
+            readCountAggregator.increment(readCountKey);
+        }
+
         Article prev = articleRepository.findFirstByIdBoardCodeAndIdArticleSeqLessThanAndDelFlagOrderByIdArticleSeqDesc(boardCode, articleSeq, "N").orElse(null);
         Article next = articleRepository.findFirstByIdBoardCodeAndIdArticleSeqGreaterThanAndDelFlagOrderByIdArticleSeqAsc(boardCode, articleSeq, "N").orElse(null);
 
@@ -88,6 +93,9 @@ public class ArticleServiceImpl implements ArticleService {
                 ? ArticleDetailDto.AdjacentArticleDto.from(next)
                 : ArticleDetailDto.AdjacentArticleDto.noNext();
 
-        return ArticleDetailDto.fromArticleDetailDto(article, prevDto, nextDto);
+        ArticleDetailDto detailDto = ArticleDetailDto.fromArticleDetailDto(article, prevDto, nextDto);
+        detailDto.addPendingReadCount(readCountAggregator.getPendingCount(readCountKey));
+
+        return detailDto;
     }
 }
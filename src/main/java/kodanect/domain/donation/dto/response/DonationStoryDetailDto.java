@@ -51,4 +51,9 @@ public class DonationStoryDetailDto {
     public void setImageUrl(String imageUrl) {
         this.imageUrl = imageUrl;
     }
+
+    public void addPendingReadCount(long pendingCount) { // 반영 대기 중인 조회수 합산 (int 범위를 넘으면 최댓값으로 고정)
+        int persisted = (this.readCount == null) ? 0 : this.readCount;
+        this.readCount = (int) Math.min(Integer.MAX_VALUE, persisted + pendingCount);
+    }
 }
@@ -1,6 +1,8 @@
 package kodanect.domain.donation.service.impl;
 
 import kodanect.common.exception.config.SecureLogger;
+import kodanect.common.readcount.ReadCountAggregator;
+import kodanect.common.readcount.ReadCountKey;
 import kodanect.common.response.CursorCommentPaginationResponse;
 import kodanect.common.response.CursorPaginationResponse;
 import kodanect.common.util.CursorFormatter;
@@ -41,6 +43,7 @@ public class DonationServiceImpl implements DonationService {
     private final DonationRepository donationRepository;
     private final DonationCommentRepository commentRepository;
     private final MessageResolver messageResolver;
+    private final ReadCountAggregator readCountAggregator;
 
     /* 스토리 목록 조회 */
     @Override
@@ -152,10 +155,11 @@ public class DonationServiceImpl implements DonationService {
     @Override
     public DonationStoryDetailDto findDonationStoryWithStoryId(Long storySeq) {
         logger.debug(">>> findDonationStoryWithStoryId() 호출");
-        // 1) 스토리 로드 + 조회수 증가
+        // 1) 스토리 로드 + 조회수 증가 (증가분은 모아서 주기적으로 반영)
         DonationStory story = donationRepository.findStoryOnlyById(storySeq)
                 .orElseThrow(() -> new DonationNotFoundException(DONATION_ERROR_NOTFOUND));
-        story.increaseReadCount();
+        ReadCountKey readCountKey = ReadCountKey.donation(storySeq);
+        readCountAggregator.increment(readCountKey);
 
         // 2) 최신 댓글 3개 조회
         var pageable = PageRequest.of(0, DEFAULT_SIZE + 1);  // +1로 hasNext 체크
@@ -169,6 +173,7 @@ public class DonationServiceImpl implements DonationService {
 
         // 4) DTO 조립
         DonationStoryDetailDto dto = DonationStoryDetailDto.fromEntity(story);
+        dto.addPendingReadCount(readCountAggregator.getPendingCount(readCountKey));
 
         dto.setComments(commentsPage);
         dto.setImageUrl(getWholeImageUrl(story.getStoryContents())); // imageUrl
@@ -51,6 +51,12 @@ public class HeavenDto {
     /* 생성 일시 */
     private LocalDateTime writeTime;
 
+    /* 반영 대기 중인 조회 수 합산 (int 범위를 넘으면 최댓값으로 고정) */
+    public void addPendingReadCount(long pendingCount) {
+        int persisted = this.readCount == null ? 0 : this.readCount;
+        this.readCount = (int) Math.min(Integer.MAX_VALUE, persisted + pendingCount);
+    }
+
     /* 생성 일시 형식화 */
     public String getWriteTime() {
         return this.writeTime.toLocalDate().toString();
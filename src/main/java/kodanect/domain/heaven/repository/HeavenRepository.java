@@ -7,10 +7,8 @@ import kodanect.domain.heaven.entity.Heaven;
 import kodanect.domain.remembrance.entity.Memorial;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -292,21 +290,4 @@ public interface HeavenRepository extends JpaRepository<Heaven, Integer> {
         """
     )
     long countByMemorial(@Param("memorial") Memorial memorial);
-
-    /**
-     * 조회수 증가
-     *
-     * @param letterSeq
-     */
-    @Transactional
-    @Modifying
-    @Query(
-            value = """
-            UPDATE Heaven h
-            SET h.readCount = h.readCount + 1
-            WHERE h.letterSeq = :letterSeq
-            AND h.delFlag = 'N'
-        """
-    )
-    void updateReadCount(@Param("letterSeq") Integer letterSeq);
 }
@@ -1,5 +1,7 @@
 package kodanect.domain.heaven.service.impl;
 
+import kodanect.common.readcount.ReadCountAggregator;
+import kodanect.common.readcount.ReadCountKey;
 import kodanect.common.response.CursorCommentCountPaginationResponse;
 import kodanect.common.response.CursorPaginationResponse;
 import kodanect.common.util.CursorFormatter;
@@ -48,6 +50,7 @@ public class HeavenServiceImpl implements HeavenService {
     private final MemorialFinder memorialFinder;
     private final FileService fileService;
     private final ViewTracker viewTracker;
+    private final ReadCountAggregator readCountAggregator;
 
     /* 게시물 전체 조회 (페이징) */
     @Override
@@ -80,11 +83,15 @@ public class HeavenServiceImpl implements HeavenService {
         /* 게시물 상세 조회 */
         HeavenDto heavenDto = heavenFinder.findAnonymizedByIdOrThrow(letterSeq);
 
-        /* 시간 확인 후 조회 수 증가 */
+        /* 시간 확인 후 조회 수 증가 (주기적으로 모아서 반영) */
+        ReadCountKey readCountKey = ReadCountKey.heaven(letterSeq);
         if (viewTracker.shouldIncreaseView(letterSeq, clientIp)) {
-            heavenRepository.updateReadCount(letterSeq);
+            readCountAggregator.increment(readCountKey);
         }
 
+        /* 반영 대기 중인 조회 수 합산 */
+        heavenDto.addPendingReadCount(readCountAggregator.getPendingCount(readCountKey));
+
         /* 댓글 리스트 조회 */
         List<HeavenCommentResponse> heavenCommentList = heavenCommentService.getHeavenCommentList(letterSeq, null, COMMENT_SIZE + 1);
 
@@ -0,0 +1,334 @@
+package kodanect.domain.logging.codec;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.domain.logging.context.ActionLogContext;
+import kodanect.domain.logging.dimension.ActionLogDimensionDictionary;
+import kodanect.domain.logging.dimension.DimensionType;
+import kodanect.domain.logging.dto.BackendLogDto;
+import kodanect.domain.logging.dto.SystemInfoDto;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * {@link ActionLogContext}를 log_text 컬럼에 저장할 문자열로 변환하고, 저장된 문자열을 다시 읽는 코덱입니다.
+ *
+ * - 인코딩: 스레드별로 재사용하는 {@link JsonGenerator}와 바이트 버퍼에 JSON을 스트리밍 기록한 뒤,
+ *   설정된 크기 이상이면 Deflate(zlib)로 압축하여 {@value #COMPRESSED_PREFIX} 접두어와 Base64 문자열로 저장합니다.
+ * - 작은 컨텍스트는 압축 이득이 없으므로 JSON 원문 그대로 저장합니다.
+ * - 사전이 활성화된 경우 백엔드 로그의 컨트롤러와 시스템 정보 값을 {@link ActionLogDimensionDictionary}의
+ *   정수 ID로 기록하고, 맨 앞에 {@code "interned":true} 필드를 붙입니다. 사전에 없는 값은 문자열 그대로 기록합니다.
+ *   엔드포인트는 경로 변수가 포함된 요청 URI라 값 종류가 제한되지 않으므로 치환하지 않습니다. (이전에 기록된 ID는 복원)
+ * - 디코딩: 접두어가 없는 값(압축 도입 이전 데이터 포함)은 JSON 원문으로 간주하고, 접두어가 있으면 압축을 풀어 반환합니다.
+ *   사전 ID로 기록된 값은 원래 문자열로 되돌리며, 사전에서 찾을 수 없는 ID는 숫자 그대로 둡니다.
+ *
+ * JSON 원문은 항상 '{'로 시작하므로 접두어와 구분됩니다.
+ */
+@Component
+public class ActionLogTextCodec {
+
+    /**
+     * 압축된 로그 본문의 형식 표시 접두어 (Deflate + Base64, 버전 1)
+     */
+    public static final String COMPRESSED_PREFIX = "z1:";
+
+    /**
+     * 사전 ID로 기록된 로그 본문임을 나타내는 필드
+     */
+    static final String INTERNED_FIELD = "interned";
+
+    private static final String INTERNED_MARKER = "{\"" + INTERNED_FIELD + "\":true";
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final int MAX_RETAINED_BYTES = 1024 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final ActionLogDimensionDictionary dimensionDictionary;
+    private final boolean compress;
+    private final int compressMinBytes;
+    private final int compressionLevel;
+    private final ThreadLocal<Encoder> encoders;
+
+    public ActionLogTextCodec(ObjectMapper objectMapper,
+                              ActionLogProperties properties,
+                              ActionLogDimensionDictionary dimensionDictionary) {
+        ActionLogProperties.Codec codec = properties.getCodec();
+        this.objectMapper = objectMapper;
+        this.dimensionDictionary = dimensionDictionary;
+        this.compress = codec.isCompress();
+        this.compressMinBytes = codec.getCompressMinBytes();
+        this.compressionLevel = codec.getCompressionLevel();
+        this.encoders = ThreadLocal.withInitial(this::createEncoder);
+    }
+
+    /**
+     * 로그 컨텍스트를 log_text 저장 형식으로 인코딩합니다.
+     *
+     * @param context 로그 컨텍스트
+     * @return JSON 원문 또는 압축 접두어가 붙은 Base64 문자열
+     * @throws IOException JSON 직렬화에 실패한 경우
+     */
+    public String encode(ActionLogContext context) throws IOException {
+        Encoder encoder = encoders.get();
+
+        try {
+            return encoder.encode(context);
+        } catch (IOException | RuntimeException e) {
+            encoders.remove();
+            encoder.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 저장된 log_text를 JSON 원문으로 복원합니다.
+     *
+     * @param logText 저장된 로그 본문
+     * @return JSON 원문 (입력이 null이면 null)
+     * @throws IOException 압축 데이터가 손상된 경우
+     */
+    public String decode(String logText) throws IOException {
+        String json = logText;
+
+        if (isCompressed(logText)) {
+            try (InputStream in = openCompressed(logText)) {
+                json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+
+        if (json == null || !json.startsWith(INTERNED_MARKER)) {
+            return json;
+        }
+        return objectMapper.writeValueAsString(expand(objectMapper.readTree(json)));
+    }
+
+    /**
+     * 저장된 log_text를 중간 문자열 없이 스트리밍으로 읽어 JSON 트리로 반환합니다.
+     *
+     * @param logText 저장된 로그 본문
+     * @return JSON 트리 (입력이 null이면 null)
+     * @throws IOException 압축 데이터가 손상되었거나 JSON 형식이 아닌 경우
+     */
+    public JsonNode readTree(String logText) throws IOException {
+        if (logText == null) {
+            return null;
+        }
+
+        if (!isCompressed(logText)) {
+            return expand(objectMapper.readTree(logText));
+        }
+
+        try (InputStream in = openCompressed(logText)) {
+            return expand(objectMapper.readTree(in));
+        }
+    }
+
+    /**
+     * 로그 본문이 압축 형식인지 확인합니다.
+     *
+     * @param logText 저장된 로그 본문
+     * @return 압축 형식이면 true
+     */
+    public static boolean isCompressed(String logText) {
+        return logText != null && logText.startsWith(COMPRESSED_PREFIX);
+    }
+
+    /**
+     * 사전 ID로 기록된 값을 원래 문자열로 되돌리고 {@value #INTERNED_FIELD} 필드를 제거합니다.
+     */
+    private JsonNode expand(JsonNode tree) {
+        if (!(tree instanceof ObjectNode root) || !root.path(INTERNED_FIELD).asBoolean(false)) {
+            return tree;
+        }
+
+        root.remove(INTERNED_FIELD);
+        for (JsonNode backendLog : root.path("backendLogs")) {
+            expandFields(backendLog);
+        }
+        expandFields(root.path("systemInfo"));
+        return root;
+    }
+
+    private void expandFields(JsonNode node) {
+        if (!(node instanceof ObjectNode object)) {
+            return;
+        }
+
+        for (DimensionType type : DimensionType.values()) {
+            JsonNode value = object.get(type.getFieldName());
+            if (value != null && value.isInt()) {
+                dimensionDictionary.valueOf(value.intValue())
+                        .ifPresent(original -> object.put(type.getFieldName(), original));
+            }
+        }
+    }
+
+    private static InputStream openCompressed(String logText) {
+        byte[] ascii = logText.getBytes(StandardCharsets.US_ASCII);
+        InputStream base64 = new ByteArrayInputStream(ascii, COMPRESSED_PREFIX.length(), ascii.length - COMPRESSED_PREFIX.length());
+        return new InflaterInputStream(Base64.getDecoder().wrap(base64));
+    }
+
+    private Encoder createEncoder() {
+        try {
+            return new Encoder();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 스레드별로 재사용되는 직렬화/압축 상태입니다.
+     *
+     * Deflater는 인코딩마다 reset()으로 재사용하고, 인코딩 실패로 스레드에서 제거될 때 close()로 네이티브 메모리를 해제합니다.
+     * 스레드가 종료되어 남은 Deflater는 JDK의 Cleaner가 해제합니다.
+     */
+    private final class Encoder {
+
+        private final PooledByteBuffer json = new PooledByteBuffer();
+        private final PooledByteBuffer deflated = new PooledByteBuffer();
+        private final byte[] chunk = new byte[CHUNK_SIZE];
+        private final Deflater deflater = new Deflater(compressionLevel);
+        private final JsonGenerator generator;
+
+        private Encoder() throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(json, JsonEncoding.UTF8);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        private String encode(ActionLogContext context) throws IOException {
+            json.reset();
+            if (dimensionDictionary.isEnabled()) {
+                writeInterned(context);
+            } else {
+                objectMapper.writeValue(generator, context);
+            }
+            generator.flush();
+
+            try {
+                if (!compress || json.size() < compressMinBytes) {
+                    return new String(json.array(), 0, json.size(), StandardCharsets.UTF_8);
+                }
+
+                deflate();
+                ByteBuffer encoded = Base64.getEncoder().encode(ByteBuffer.wrap(deflated.array(), 0, deflated.size()));
+                return COMPRESSED_PREFIX + new String(encoded.array(), 0, encoded.limit(), StandardCharsets.US_ASCII);
+            } finally {
+                json.trim();
+                deflated.trim();
+            }
+        }
+
+        /**
+         * 컨텍스트를 기본 직렬화와 같은 필드 순서로 기록하되, 반복 문자열은 사전 ID로 기록합니다.
+         */
+        private void writeInterned(ActionLogContext context) throws IOException {
+            generator.writeStartObject();
+            generator.writeBooleanField(INTERNED_FIELD, true);
+            generator.writeStringField("sessionId", context.getSessionId());
+            generator.writeFieldName("frontendLogs");
+            generator.writeObject(context.getFrontendLogs());
+            writeBackendLogs(context.getBackendLogs());
+            writeSystemInfo(context.getSystemInfo());
+            generator.writeEndObject();
+        }
+
+        private void writeBackendLogs(List<BackendLogDto> backendLogs) throws IOException {
+            if (backendLogs == null) {
+                generator.writeNullField("backendLogs");
+                return;
+            }
+
+            generator.writeArrayFieldStart("backendLogs");
+            for (BackendLogDto backendLog : backendLogs) {
+                generator.writeStartObject();
+                generator.writeStringField("httpMethod", backendLog.getHttpMethod());
+                generator.writeStringField(DimensionType.ENDPOINT.getFieldName(), backendLog.getEndpoint());
+                writeDimension(DimensionType.CONTROLLER, backendLog.getController());
+                generator.writeStringField("method", backendLog.getMethod());
+                generator.writeStringField("parameters", backendLog.getParameters());
+                generator.writeStringField("timestamp", backendLog.getTimestamp());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+
+        private void writeSystemInfo(SystemInfoDto systemInfo) throws IOException {
+            if (systemInfo == null) {
+                generator.writeNullField("systemInfo");
+                return;
+            }
+
+            generator.writeObjectFieldStart("systemInfo");
+            writeDimension(DimensionType.BROWSER_NAME, systemInfo.getBrowserName());
+            writeDimension(DimensionType.BROWSER_VERSION, systemInfo.getBrowserVersion());
+            writeDimension(DimensionType.OPERATING_SYSTEM, systemInfo.getOperatingSystem());
+            writeDimension(DimensionType.DEVICE, systemInfo.getDevice());
+            writeDimension(DimensionType.LOCALE, systemInfo.getLocale());
+            generator.writeEndObject();
+        }
+
+        private void writeDimension(DimensionType type, String value) throws IOException {
+            int id = dimensionDictionary.idOf(type, value);
+
+            if (id == ActionLogDimensionDictionary.NOT_INTERNED) {
+                generator.writeStringField(type.getFieldName(), value);
+            } else {
+                generator.writeNumberField(type.getFieldName(), id);
+            }
+        }
+
+        private void close() {
+            deflater.end();
+        }
+
+        private void deflate() {
+            deflated.reset();
+            deflater.reset();
+            deflater.setInput(json.array(), 0, json.size());
+            deflater.finish();
+
+            while (!deflater.finished()) {
+                int length = deflater.deflate(chunk);
+                deflated.write(chunk, 0, length);
+            }
+        }
+    }
+
+    /**
+     * 내부 배열을 직접 노출하고, 지나치게 커진 배열은 사용 후 버리는 재사용 바이트 버퍼입니다.
+     */
+    private static final class PooledByteBuffer extends ByteArrayOutputStream {
+
+        private PooledByteBuffer() {
+            super(CHUNK_SIZE);
+        }
+
+        private byte[] array() {
+            return buf;
+        }
+
+        private void trim() {
+            if (buf.length > MAX_RETAINED_BYTES) {
+                buf = new byte[CHUNK_SIZE];
+                count = 0;
+            }
+        }
+    }
+
+}
@@ -1,16 +1,18 @@
 package kodanect.domain.logging.controller;
 
 import kodanect.common.response.ApiResponse;
-import kodanect.domain.logging.dto.FrontendLogRequestDto;
 import kodanect.domain.logging.service.ActionLogService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.InputStream;
+
 /**
  * 사용자 액션 로그 수집을 담당하는 REST 컨트롤러입니다.
  *
@@ -20,11 +22,18 @@ import org.springframework.web.bind.annotation.RestController;
  * - 세션 단위로 로그를 분리하여 저장합니다.
  * - 세션 ID는 서버에서 관리하는 쿠키(sessionId)를 통해 식별됩니다.
  * - 세션 ID는 MDC에 저장되어 서비스 내부에서 자동으로 사용됩니다.
+ * - 요청 본문은 DTO로 바인딩하지 않고 스트리밍으로 읽어 버퍼에 적재합니다. (gzip 지원)
+ * - 묶음 번호 헤더({@value #BATCH_SEQ_HEADER})가 있으면 재전송된 묶음은 저장하지 않고 성공으로 응답합니다.
  */
 @RestController
 @RequiredArgsConstructor
 public class ActionLogController {
 
+    /**
+     * 세션별 클라이언트 묶음 번호 요청 헤더
+     */
+    public static final String BATCH_SEQ_HEADER = "X-Log-Batch-Seq";
+
     private final MessageSourceAccessor messageSource;
     private final ActionLogService service;
 
@@ -34,23 +43,33 @@ public class ActionLogController {
      * 클라이언트에서 수집한 사용자 이벤트 로그를 전달받아 저장합니다.
      * 서버는 동일 세션에 대한 백엔드 로그 및 시스템 정보도 함께 저장 처리합니다.
      *
+     * 요청 본문({@code {"frontendLogs":[...]}})은 한 번에 많은 로그를 담을 수 있으며,
+     * {@code Content-Encoding: gzip}으로 압축해 보낼 수 있습니다.
+     * 본문은 읽는 즉시 묶음 단위로 버퍼에 적재되며, 적재가 끝나면 202 Accepted로 응답합니다.
+     * 재전송에 대비해 세션마다 증가하는 묶음 번호를 헤더로 보낼 수 있으며,
+     * 이미 받은 번호의 요청은 본문을 읽지 않고 202 Accepted로 응답합니다.
+     *
      * 세션 식별은 쿠키(sessionId)를 기반으로 하며,
      * 세션 ID는 AOP를 통해 MDC에 자동으로 설정됩니다.
      *
-     * @param requestDto 프론트엔드 로그 요청 DTO
+     * @param body            프론트엔드 로그 요청 본문
+     * @param contentEncoding 요청 본문의 압축 방식 (gzip 또는 생략)
+     * @param batchSeq        세션별 클라이언트 묶음 번호 (생략 가능)
      * @return 처리 결과를 담은 {@link ApiResponse} 응답 객체
      */
     @PostMapping("/action-logs")
     public ResponseEntity<ApiResponse<Void>> collectFrontendLogs(
-            @RequestBody FrontendLogRequestDto requestDto
+            InputStream body,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            @RequestHeader(value = BATCH_SEQ_HEADER, required = false) Long batchSeq
     ) {
-        String message = messageSource.getMessage("log.save.success", new Object[]{});
+        String message = messageSource.getMessage("log.accept.success", new Object[]{});
 
-        service.saveFrontendLog(requestDto.getFrontendLogs());
+        service.saveFrontendLogStream(body, contentEncoding, batchSeq);
         service.saveBackendLog();
         service.saveSystemInfo();
 
-        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK, message));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(HttpStatus.ACCEPTED, message));
     }
 
 }
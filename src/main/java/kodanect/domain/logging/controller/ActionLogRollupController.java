@@ -0,0 +1,80 @@
+package kodanect.domain.logging.controller;
+
+import kodanect.common.constant.CrudCode;
+import kodanect.common.response.ApiResponse;
+import kodanect.domain.logging.dto.HourlyRollupResponse;
+import kodanect.domain.logging.dto.SystemRollupResponse;
+import kodanect.domain.logging.rollup.SystemDimension;
+import kodanect.domain.logging.service.ActionLogRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 액션 로그 집계(rollup) 조회를 담당하는 읽기 전용 REST 컨트롤러입니다.
+ *
+ * 배출 시 누적된 시간대별 집계 테이블만 조회하므로, 원본 로그 본문을 스캔하지 않습니다.
+ * 조회 기간은 [from, to) 이며, 시각은 ISO-8601 형식(예: 2025-06-16T00:00:00)으로 전달합니다.
+ */
+@RestController
+@RequestMapping("/action-logs/rollups")
+@RequiredArgsConstructor
+public class ActionLogRollupController {
+
+    private final MessageSourceAccessor messageSource;
+    private final ActionLogRollupService rollupService;
+
+    /**
+     * 시간대별 이벤트 수 조회 엔드포인트입니다.
+     *
+     * @param from     조회 시작 시각 (포함)
+     * @param to       조회 종료 시각 (제외)
+     * @param urlName  URL 경로 (생략 시 전체)
+     * @param crudCode CRUD 코드 (생략 시 전체)
+     * @return (시간대, URL 경로, CRUD 코드)별 이벤트 수
+     */
+    @GetMapping("/hourly")
+    public ResponseEntity<ApiResponse<List<HourlyRollupResponse>>> getHourlyRollups(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String urlName,
+            @RequestParam(required = false) CrudCode crudCode
+    ) {
+        List<HourlyRollupResponse> rollups = rollupService.getHourlyRollups(from, to, urlName, crudCode);
+
+        String message = messageSource.getMessage("log.rollup.read.success");
+
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK, message, rollups));
+    }
+
+    /**
+     * 브라우저/운영체제/디바이스 값별 세션 수 조회 엔드포인트입니다.
+     *
+     * @param dimension 집계 기준 (BROWSER, OPERATING_SYSTEM, DEVICE)
+     * @param from      조회 시작 시각 (포함)
+     * @param to        조회 종료 시각 (제외)
+     * @return 값별 세션 수 (내림차순)
+     */
+    @GetMapping("/system")
+    public ResponseEntity<ApiResponse<List<SystemRollupResponse>>> getSystemRollups(
+            @RequestParam SystemDimension dimension,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        List<SystemRollupResponse> rollups = rollupService.getSystemRollups(dimension, from, to);
+
+        String message = messageSource.getMessage("log.rollup.read.success");
+
+        return ResponseEntity.ok(ApiResponse.success(HttpStatus.OK, message, rollups));
+    }
+
+}
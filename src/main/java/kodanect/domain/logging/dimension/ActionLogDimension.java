@@ -0,0 +1,28 @@
+package kodanect.domain.logging.dimension;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사전 테이블에 등록된 문자열 한 건
+ */
+@Getter
+@RequiredArgsConstructor
+public class ActionLogDimension {
+
+    /**
+     * 사전 ID
+     */
+    private final int id;
+
+    /**
+     * 문자열 종류
+     */
+    private final DimensionType type;
+
+    /**
+     * 원래 문자열
+     */
+    private final String value;
+
+}
@@ -0,0 +1,217 @@
+package kodanect.domain.logging.dimension;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.common.exception.config.SecureLogger;
+import kodanect.domain.logging.repository.ActionLogDimensionRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그 본문에 반복 기록되는 문자열(컨트롤러, 엔드포인트, 시스템 정보)을 작은 정수 ID로 치환하는 사전입니다.
+ *
+ * - 사전 항목은 tb25_943_action_log_dimension 테이블에 저장하고, 메모리에 값 → ID, ID → 값 양방향으로 캐시합니다.
+ * - 기동 완료 후 최대 항목 수까지 미리 읽어 두므로, 이후 조회는 대부분 DB 접근 없이 처리됩니다.
+ *   사전에 없는 ID도 일정 시간 기억하여, 같은 ID를 복원할 때마다 DB를 조회하지 않습니다.
+ * - 처음 보는 값은 등록 대기 목록에만 넣고 {@link #NOT_INTERNED}를 반환하므로, 배출 경로에서 DB INSERT를 기다리지 않습니다.
+ *   대기 중인 값은 스케줄러가 action-log.dimension.register-interval 주기로 {@link #registerPending()}에서 DB에 등록하며,
+ *   등록된 뒤부터 ID로 치환됩니다.
+ * - 항목 수(등록 대기 포함)가 설정된 최대치에 도달했거나, 값이 너무 길거나, 아직 등록되지 않은 값이면 {@link #NOT_INTERNED}를 반환하며
+ *   호출 측은 문자열을 그대로 기록합니다. 따라서 사전 문제로 로그 저장이 실패하지 않습니다.
+ *
+ * 사전이 비활성화(action-log.dimension.enabled=false)된 경우 항상 {@link #NOT_INTERNED}를 반환합니다.
+ *
+ * 치환 효과: log_text는 256바이트 이상이면 Deflate로 압축되어 한 행 안의 반복 문자열은 이미 줄어들므로,
+ * 이득은 행마다 한두 번 나오는 컨트롤러 전체 클래스 이름과 시스템 정보에서만 생깁니다.
+ * 백엔드 로그 1/3/10/30/100건인 행의 저장 크기(압축 + Base64)는 423→371, 495→423, 659→555, 1031→899, 2155→1975바이트로
+ * 8~16% 줄었습니다. (컨트롤러 4종, Chrome/Windows 시스템 정보로 구성한 행을 zlib 수준 6으로 측정)
+ * 이득이 크지 않으므로 기본값은 비활성화이며, 로그 양이 많아 저장 공간이 문제가 되는 환경에서만 사용합니다.
+ */
+@Component
+public class ActionLogDimensionDictionary {
+
+    /**
+     * 사전 ID로 치환하지 않았음을 나타내는 값
+     */
+    public static final int NOT_INTERNED = 0;
+
+    private static final SecureLogger log = SecureLogger.getLogger(ActionLogDimensionDictionary.class);
+
+    private static final int MISSING_ID_CACHE_SIZE = 1_000;
+    private static final Duration MISSING_ID_TTL = Duration.ofMinutes(10);
+
+    private final ActionLogDimensionRepository repository;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final Map<DimensionType, Map<String, Integer>> ids = new EnumMap<>(DimensionType.class);
+    private final Map<Integer, String> values = new ConcurrentHashMap<>();
+    private final Map<DimensionType, Set<String>> pending = new EnumMap<>(DimensionType.class);
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final Cache<Integer, Boolean> missingIds = Caffeine.newBuilder()
+            .maximumSize(MISSING_ID_CACHE_SIZE)
+            .expireAfterWrite(MISSING_ID_TTL)
+            .build();
+
+    public ActionLogDimensionDictionary(ActionLogDimensionRepository repository, ActionLogProperties properties) {
+        this.repository = repository;
+        this.enabled = properties.getDimension().isEnabled();
+        this.maxEntries = Math.max(0, properties.getDimension().getMaxEntries());
+
+        for (DimensionType type : DimensionType.values()) {
+            ids.put(type, new ConcurrentHashMap<>());
+            pending.put(type, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    /**
+     * 기동이 끝난 뒤 등록된 항목을 메모리에 적재합니다.
+     *
+     * 적재에 실패해도 기동을 중단하지 않으며, 적재 전까지는 문자열을 그대로 기록합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            for (ActionLogDimension dimension : repository.findAll(maxEntries)) {
+                cache(dimension.getType(), dimension.getValue(), dimension.getId());
+            }
+            log.info("[액션 로그 사전] 등록된 항목 {}건 적재", values.size());
+        } catch (DataAccessException e) {
+            log.warn("[액션 로그 사전] 항목 적재 실패, 문자열로 기록: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 사전 사용 여부를 반환합니다.
+     *
+     * @return 로그 본문의 반복 문자열을 ID로 저장하면 true
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 문자열의 사전 ID를 반환하며, 처음 보는 값이면 등록 대기 목록에 넣습니다.
+     *
+     * @param type  문자열 종류
+     * @param value 원래 문자열
+     * @return 사전 ID (치환하지 않거나 아직 등록되지 않은 경우 {@link #NOT_INTERNED})
+     */
+    public int idOf(DimensionType type, String value) {
+        if (!enabled || value == null || value.length() > ActionLogDimensionRepository.MAX_VALUE_LENGTH) {
+            return NOT_INTERNED;
+        }
+
+        Integer id = ids.get(type).get(value);
+        if (id != null) {
+            return id;
+        }
+
+        if (values.size() + pendingCount.get() < maxEntries && pending.get(type).add(value)) {
+            pendingCount.incrementAndGet();
+        }
+        return NOT_INTERNED;
+    }
+
+    /**
+     * 등록 대기 중인 값을 DB에 등록하고 메모리에 적재합니다.
+     *
+     * 등록에 실패한 값은 대기 목록에서 빠지며, 다음에 다시 조회될 때 대기 목록에 들어갑니다.
+     *
+     * @return 등록한 값 수
+     */
+    @Scheduled(fixedDelayString = "${action-log.dimension.register-interval:1000}")
+    public synchronized int registerPending() {
+        if (!enabled || pendingCount.get() == 0) {
+            return 0;
+        }
+
+        int registered = 0;
+        for (DimensionType type : DimensionType.values()) {
+            Iterator<String> iterator = pending.get(type).iterator();
+            while (iterator.hasNext()) {
+                String value = iterator.next();
+                iterator.remove();
+                pendingCount.decrementAndGet();
+                if (register(type, value)) {
+                    registered++;
+                }
+            }
+        }
+        return registered;
+    }
+
+    /**
+     * 사전 ID에 해당하는 원래 문자열을 반환합니다.
+     *
+     * 다른 서버가 등록하여 메모리에 없는 ID는 DB에서 조회하며,
+     * DB에도 없는 ID는 일정 시간 동안 다시 조회하지 않습니다.
+     *
+     * @param id 사전 ID
+     * @return 원래 문자열 (등록되지 않은 ID이면 empty)
+     */
+    public Optional<String> valueOf(int id) {
+        String value = values.get(id);
+        if (value != null) {
+            return Optional.of(value);
+        }
+
+        if (!enabled || id == NOT_INTERNED || missingIds.getIfPresent(id) != null) {
+            return Optional.empty();
+        }
+
+        Optional<String> loaded = repository.findValue(id);
+        if (loaded.isPresent()) {
+            values.put(id, loaded.get());
+        } else {
+            missingIds.put(id, Boolean.TRUE);
+        }
+        return loaded;
+    }
+
+    /**
+     * 메모리에 적재된 사전 항목 수를 반환합니다.
+     *
+     * @return 항목 수
+     */
+    public int size() {
+        return values.size();
+    }
+
+    private boolean register(DimensionType type, String value) {
+        if (ids.get(type).containsKey(value) || values.size() >= maxEntries) {
+            return false;
+        }
+
+        try {
+            Optional<Integer> id = repository.findOrInsert(type, value);
+            id.ifPresent(registered -> cache(type, value, registered));
+            return id.isPresent();
+        } catch (DataAccessException e) {
+            log.warn("[액션 로그 사전] 항목 등록 실패, 문자열로 기록: {} ({})", type, e.getMessage());
+            return false;
+        }
+    }
+
+    private void cache(DimensionType type, String value, int id) {
+        ids.get(type).put(value, id);
+        values.put(id, value);
+    }
+
+}
@@ -0,0 +1,41 @@
+package kodanect.domain.logging.dimension;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로그 본문에서 사전 ID로 치환하는 반복 문자열의 종류
+ *
+ * 각 항목은 로그 본문(JSON)에서 값이 기록되는 필드 이름을 가집니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DimensionType {
+
+    /** 요청을 처리한 컨트롤러 클래스 이름 (BackendLogDto.controller) */
+    CONTROLLER("controller"),
+
+    /** 요청한 API 엔드포인트 (BackendLogDto.endpoint), 요청 URI는 값 종류가 제한되지 않아 새로 치환하지 않고 이전에 기록된 ID만 복원 */
+    ENDPOINT("endpoint"),
+
+    /** 브라우저 이름 (SystemInfoDto.browserName) */
+    BROWSER_NAME("browserName"),
+
+    /** 브라우저 버전 (SystemInfoDto.browserVersion) */
+    BROWSER_VERSION("browserVersion"),
+
+    /** 운영 체제 (SystemInfoDto.operatingSystem) */
+    OPERATING_SYSTEM("operatingSystem"),
+
+    /** 디바이스 종류 (SystemInfoDto.device) */
+    DEVICE("device"),
+
+    /** 로케일 (SystemInfoDto.locale) */
+    LOCALE("locale");
+
+    /**
+     * 로그 본문(JSON)의 필드 이름
+     */
+    private final String fieldName;
+
+}
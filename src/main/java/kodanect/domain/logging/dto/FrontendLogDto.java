@@ -1,11 +1,15 @@
 package kodanect.domain.logging.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
 /**
  * 프론트엔드에서 발생한 단일 사용자 액션 로그 DTO
  * 유형, 페이지 이동 등 이벤트 정보를 포함합니다.
+ *
+ * 요약(SUMMARIZE) 정책이 적용된 이벤트 유형은 세션별로 하나의 로그로 합쳐지며,
+ * 이때 timestamp는 처음 발생 시각, lastTimestamp는 마지막 발생 시각, summaryCount는 합쳐진 건수입니다.
  */
 @Getter
 @Builder
@@ -36,4 +40,16 @@ public class FrontendLogDto {
      */
     private String timestamp;
 
+    /**
+     * 요약된 이벤트 건수 (요약 로그가 아니면 null)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer summaryCount;
+
+    /**
+     * 요약된 이벤트의 마지막 발생 시각 (요약 로그가 아니면 null)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String lastTimestamp;
+
 }
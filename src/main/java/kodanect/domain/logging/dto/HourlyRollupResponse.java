@@ -0,0 +1,36 @@
+package kodanect.domain.logging.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간대별 액션 로그 집계 응답 DTO
+ * (URL 경로, CRUD 코드, 시간대)별 이벤트 수를 담습니다.
+ */
+@Getter
+@Builder
+public class HourlyRollupResponse {
+
+    /**
+     * 집계 시간대 (정시)
+     */
+    private LocalDateTime bucketHour;
+
+    /**
+     * URL 경로
+     */
+    private String urlName;
+
+    /**
+     * CRUD 코드
+     */
+    private String crudCode;
+
+    /**
+     * 이벤트 수
+     */
+    private long eventCount;
+
+}
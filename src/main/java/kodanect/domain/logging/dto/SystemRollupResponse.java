@@ -0,0 +1,30 @@
+package kodanect.domain.logging.dto;
+
+import kodanect.domain.logging.rollup.SystemDimension;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 시스템 정보 집계 응답 DTO
+ * 조회 기간 동안 브라우저/운영체제/디바이스 값별 세션 수를 담습니다.
+ */
+@Getter
+@Builder
+public class SystemRollupResponse {
+
+    /**
+     * 집계 기준
+     */
+    private SystemDimension dimension;
+
+    /**
+     * 집계 기준 값
+     */
+    private String value;
+
+    /**
+     * 세션 수
+     */
+    private long sessionCount;
+
+}
@@ -20,6 +20,21 @@ import java.time.LocalDateTime;
 @ToString
 public class ActionLog {
 
+    /**
+     * url_name 컬럼 최대 길이 (문자 수)
+     */
+    public static final int URL_NAME_MAX_LENGTH = 600;
+
+    /**
+     * ip_addr 컬럼 최대 길이 (문자 수)
+     */
+    public static final int IP_ADDR_MAX_LENGTH = 60;
+
+    /**
+     * log_text 컬럼(MySQL TEXT) 최대 크기 (UTF-8 바이트)
+     */
+    public static final int LOG_TEXT_MAX_BYTES = 65_535;
+
     /**
      * 로그 순번
      */
@@ -31,7 +46,7 @@ public class ActionLog {
     /**
      * URL 명
      */
-    @Column(name = "url_name", nullable = false, length = 600)
+    @Column(name = "url_name", nullable = false, length = URL_NAME_MAX_LENGTH)
     private String urlName;
 
     /**
@@ -43,7 +58,7 @@ public class ActionLog {
     /**
      * IP 주소
      */
-    @Column(name = "ip_addr", length = 60)
+    @Column(name = "ip_addr", length = IP_ADDR_MAX_LENGTH)
     private String ipAddr;
 
     /**
@@ -0,0 +1,44 @@
+package kodanect.domain.logging.exception;
+
+import kodanect.common.exception.custom.AbstractCustomException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import static kodanect.common.exception.config.MessageKeys.ACTION_LOG_BUFFER_SATURATED;
+
+/**
+ * 로그 버퍼가 고수위에 도달하여 신규 로그를 받을 수 없을 때 사용되는 예외입니다.
+ *
+ * 클라이언트에는 429 Too Many Requests 상태와 함께 Retry-After 헤더가 전달됩니다.
+ */
+@Getter
+public class ActionLogBufferSaturatedException extends AbstractCustomException {
+
+    private final int retryAfterSeconds;
+
+    public ActionLogBufferSaturatedException(int retryAfterSeconds) {
+        super(ACTION_LOG_BUFFER_SATURATED);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public String getMessage() {
+        return String.format("[로그 버퍼 포화] 재시도 대기 시간: %d초", retryAfterSeconds);
+    }
+
+    @Override
+    public String getMessageKey() {
+        return ACTION_LOG_BUFFER_SATURATED;
+    }
+
+    @Override
+    public Object[] getArguments() {
+        return new Object[]{ retryAfterSeconds };
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.TOO_MANY_REQUESTS;
+    }
+
+}
@@ -0,0 +1,44 @@
+package kodanect.domain.logging.exception;
+
+import kodanect.common.exception.custom.AbstractCustomException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import static kodanect.common.exception.config.MessageKeys.ACTION_LOG_FLUSH_TIMEOUT;
+
+/**
+ * 병렬 배출 작업이 제한 시간 안에 끝나지 않았을 때 사용되는 예외입니다.
+ */
+@Getter
+public class ActionLogFlushTimeoutException extends AbstractCustomException {
+
+    private final long deadlineMillis;
+    private final int pendingPartitions;
+
+    public ActionLogFlushTimeoutException(long deadlineMillis, int pendingPartitions) {
+        super(ACTION_LOG_FLUSH_TIMEOUT);
+        this.deadlineMillis = deadlineMillis;
+        this.pendingPartitions = pendingPartitions;
+    }
+
+    @Override
+    public String getMessage() {
+        return String.format("[액션 로그 배출] 제한 시간 초과: %dms, 미완료 작업 %d개", deadlineMillis, pendingPartitions);
+    }
+
+    @Override
+    public String getMessageKey() {
+        return ACTION_LOG_FLUSH_TIMEOUT;
+    }
+
+    @Override
+    public Object[] getArguments() {
+        return new Object[]{ deadlineMillis };
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.SERVICE_UNAVAILABLE;
+    }
+
+}
@@ -0,0 +1,50 @@
+package kodanect.domain.logging.exception;
+
+import kodanect.common.exception.custom.AbstractCustomException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+
+import static kodanect.common.exception.config.MessageKeys.ACTION_LOG_ROLLUP_RANGE_INVALID;
+
+/**
+ * 로그 집계 조회 기간이 올바르지 않을 때 발생하는 예외입니다.
+ *
+ * 시작 시각이 종료 시각보다 늦지 않아야 하며, 조회 기간은 설정된 최대 기간(action-log.rollup.max-query-range)을 넘을 수 없습니다.
+ */
+@Getter
+public class ActionLogRollupRangeException extends AbstractCustomException {
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final long maxDays;
+
+    public ActionLogRollupRangeException(LocalDateTime from, LocalDateTime to, long maxDays) {
+        super(ACTION_LOG_ROLLUP_RANGE_INVALID);
+        this.from = from;
+        this.to = to;
+        this.maxDays = maxDays;
+    }
+
+    @Override
+    public String getMessage() {
+        return String.format("[로그 집계 조회 오류] 조회 기간이 올바르지 않습니다. (from: %s, to: %s, 최대 %d일)", from, to, maxDays);
+    }
+
+    @Override
+    public String getMessageKey() {
+        return ACTION_LOG_ROLLUP_RANGE_INVALID;
+    }
+
+    @Override
+    public Object[] getArguments() {
+        return new Object[]{ maxDays };
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.BAD_REQUEST;
+    }
+
+}
@@ -0,0 +1,44 @@
+package kodanect.domain.logging.exception;
+
+import kodanect.common.exception.custom.AbstractCustomException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import static kodanect.common.exception.config.MessageKeys.ACTION_LOG_STREAM_TOO_LARGE;
+
+/**
+ * 프론트엔드 로그 요청 본문이 최대 크기(action-log.collect.max-body-bytes)를 넘을 때 발생하는 예외입니다.
+ *
+ * gzip 요청은 압축을 푼 크기를 기준으로 판단합니다.
+ */
+@Getter
+public class FrontendLogStreamTooLargeException extends AbstractCustomException {
+
+    private final long maxBodyBytes;
+
+    public FrontendLogStreamTooLargeException(long maxBodyBytes) {
+        super(ACTION_LOG_STREAM_TOO_LARGE);
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    public String getMessage() {
+        return String.format("[프론트엔드 로그 오류] 요청 본문이 최대 크기(%d바이트)를 넘었습니다.", maxBodyBytes);
+    }
+
+    @Override
+    public String getMessageKey() {
+        return ACTION_LOG_STREAM_TOO_LARGE;
+    }
+
+    @Override
+    public Object[] getArguments() {
+        return new Object[]{ maxBodyBytes };
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.PAYLOAD_TOO_LARGE;
+    }
+
+}
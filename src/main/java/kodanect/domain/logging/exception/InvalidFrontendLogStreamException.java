@@ -0,0 +1,47 @@
+package kodanect.domain.logging.exception;
+
+import kodanect.common.exception.custom.AbstractCustomException;
+import org.springframework.http.HttpStatus;
+
+import static kodanect.common.exception.config.MessageKeys.ACTION_LOG_STREAM_INVALID;
+
+/**
+ * 프론트엔드 로그 요청 본문을 읽을 수 없을 때 발생하는 예외입니다.
+ *
+ * JSON 형식 오류, 손상된 gzip 본문, 지원하지 않는 Content-Encoding 등에 사용됩니다.
+ */
+public class InvalidFrontendLogStreamException extends AbstractCustomException {
+
+    private final String reason;
+
+    public InvalidFrontendLogStreamException(String reason) {
+        super(ACTION_LOG_STREAM_INVALID);
+        this.reason = reason;
+    }
+
+    public InvalidFrontendLogStreamException(String reason, Throwable cause) {
+        super(ACTION_LOG_STREAM_INVALID, cause);
+        this.reason = reason;
+    }
+
+    @Override
+    public String getMessage() {
+        return "[프론트엔드 로그 오류] 요청 본문을 읽을 수 없습니다: " + reason;
+    }
+
+    @Override
+    public String getMessageKey() {
+        return ACTION_LOG_STREAM_INVALID;
+    }
+
+    @Override
+    public Object[] getArguments() {
+        return new Object[0];
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.BAD_REQUEST;
+    }
+
+}
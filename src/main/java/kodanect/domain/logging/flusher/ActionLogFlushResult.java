@@ -0,0 +1,54 @@
+package kodanect.domain.logging.flusher;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 전체 배출 한 번의 결과를 배출 작업(세션 묶음)별로 누적하는 집계입니다.
+ *
+ * 작업이 끝날 때마다 더해지므로, 배출이 실패하거나 제한 시간을 넘긴 뒤에도 그때까지 끝난 작업의 결과를 읽을 수 있습니다.
+ * 제한 시간을 넘긴 작업은 끝나는 대로 뒤늦게 더해집니다.
+ */
+public class ActionLogFlushResult {
+
+    private final LongAdder drainedEvents = new LongAdder();
+    private final LongAdder persistedEvents = new LongAdder();
+
+    /**
+     * 끝난 작업 하나의 결과를 더합니다.
+     *
+     * @param drained   작업에 배정된 이벤트 수
+     * @param persisted 그중 싱크에 저장된 이벤트 수
+     */
+    public void addPartition(long drained, long persisted) {
+        drainedEvents.add(drained);
+        persistedEvents.add(persisted);
+    }
+
+    /**
+     * 끝난 작업에 배정되었던 이벤트 수를 반환합니다.
+     *
+     * @return 이벤트 수
+     */
+    public long getDrainedEvents() {
+        return drainedEvents.sum();
+    }
+
+    /**
+     * 싱크에 저장된 이벤트 수를 반환합니다.
+     *
+     * @return 이벤트 수
+     */
+    public long getPersistedEvents() {
+        return persistedEvents.sum();
+    }
+
+    /**
+     * 끝난 작업에서 저장하지 못한 이벤트 수를 반환합니다. (재적재, 폐기 또는 저널 보존)
+     *
+     * @return 이벤트 수
+     */
+    public long getUnsavedEvents() {
+        return getDrainedEvents() - getPersistedEvents();
+    }
+
+}
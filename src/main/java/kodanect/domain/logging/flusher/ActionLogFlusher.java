@@ -1,62 +1,221 @@
 package kodanect.domain.logging.flusher;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import kodanect.common.buffer.BackendLogBuffer;
 import kodanect.common.buffer.FrontendLogBuffer;
 import kodanect.common.buffer.SystemInfoBuffer;
+import kodanect.common.buffer.journal.ActionLogJournal;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.common.exception.config.SecureLogger;
 import kodanect.common.constant.CrudCode;
+import kodanect.domain.logging.codec.ActionLogTextCodec;
 import kodanect.domain.logging.context.ActionLogContext;
 import kodanect.common.constant.MdcContext;
 import kodanect.domain.logging.dto.BackendLogDto;
 import kodanect.domain.logging.dto.FrontendLogDto;
 import kodanect.domain.logging.dto.SystemInfoDto;
 import kodanect.domain.logging.entity.ActionLog;
+import kodanect.domain.logging.exception.ActionLogFlushTimeoutException;
 import kodanect.domain.logging.exception.ActionLogJsonSerializationException;
 import kodanect.common.constant.UserActionKey;
-import kodanect.domain.logging.repository.ActionLogRepository;
-import lombok.RequiredArgsConstructor;
+import kodanect.domain.logging.repository.ActionLogRollupRepository;
+import kodanect.domain.logging.rollup.ActionLogRollup;
+import kodanect.domain.logging.sink.ActionLogSink;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 사용자 로그를 버퍼로부터 수집하고 {@link ActionLog} 엔티티로 변환하여 저장하는 컴포넌트입니다.
  *
  * 프론트엔드/백엔드 로그, 시스템 정보는 세션 ID 및 CRUD 코드 단위로 분리되어 저장되며,
- * 특정 조건(CRUD별 임계값 초과 또는 전체 배출 등)에 따라 집계 및 저장이 수행됩니다.
+ * {@link kodanect.domain.logging.scheduler.ActionLogFlushController}의 판단에 따라 전체 또는 CRUD 코드 단위로 집계 및 저장이 수행됩니다.
+ * 로그 본문은 {@link ActionLogTextCodec}으로 인코딩(필요 시 압축)되며,
+ * 저장은 {@link ActionLogSink}로 위임되며, 설정에 따라 JDBC 배치 INSERT, NDJSON 파일, 컬럼 세그먼트 중 하나 이상에 기록됩니다.
+ *
+ * 전체 배출 시에는 {@link ActionLogJournal}을 새 세그먼트로 전환한 뒤, 배출한 로그가 모두 저장, 재적재 또는 폐기되면
+ * 이전 세그먼트를 체크포인트하여, 재시작 시 이미 저장된 로그가 다시 복원되지 않도록 합니다.
+ *
+ * 저장 실패 처리:
+ * - 행은 저장 전에 컬럼 제한에 맞게 정리합니다. (빈 URL은 "unknown", URL/IP는 길이 제한으로 자르고,
+ *   log_text가 TEXT 크기를 넘으면 이벤트를 나누어 여러 행으로 저장)
+ * - 싱크에는 action-log.writer.chunk-size 단위로 나누어 기록하므로, 실패한 묶음 이전의 행은 저장된 상태로 남습니다.
+ * - 일시적인 실패(DB 연결, 잠금 대기, 파일 I/O)는 실패한 묶음부터의 로그를 버퍼에 다시 적재(저널에도 다시 기록)하며,
+ *   같은 키가 action-log.flush.max-retries를 넘겨 실패하면 버립니다.
+ * - 그 밖의 실패(제약 조건 위반 등)는 묶음의 행을 하나씩 다시 기록해, 거부된 행만 버립니다.
+ * - 직렬화에 실패한 키의 로그는 다시 시도해도 같은 결과이므로 버립니다.
+ * - 버린 이벤트 수는 {@code action.log.flush.dropped{reason}} 메트릭으로 기록하며,
+ *   다시 적재하지 못한 로그가 있으면 저널 보존 하한을 고정해 재시작 시 복구합니다.
+ * - 세션 시스템 정보는 그 정보를 담은 행이 저장되거나 버려진 뒤에 버퍼에서 제거합니다.
+ *
+ * 저장에 성공하면 같은 로그로 시간대별 집계({@link ActionLogRollup})를 만들어 {@link ActionLogRollupRepository}에 누적합니다.
+ * 집계 누적에 실패해도 로그 저장은 유지되며, 실패 건수만 {@code action.log.rollup.failures} 메트릭으로 기록합니다.
+ *
+ * 배출 대상 키가 많으면 세션 ID 해시로 키를 나누어 {@code actionLogFlushExecutor}의 작업 스레드에서 병렬로 처리합니다.
+ * - 같은 세션의 키(CRUD 코드별)는 항상 같은 작업에 배정되므로, 세션 시스템 정보는 기존처럼 한 번만 사용됩니다.
+ * - 작업마다 직렬화 후 싱크에 따로 저장하므로, JDBC 싱크에서는 작업별로 트랜잭션이 나뉩니다.
+ * - 모든 작업은 action-log.flush.deadline 안에 끝나야 하며, 초과한 작업이 있으면 전체 배출의 저널 체크포인트를 건너뛰고
+ *   예외를 던집니다. 제한 시간을 넘긴 작업의 집계는 작업이 끝나는 대로 누적합니다.
+ * - 실패한 작업이 있으면 그 로그를 재적재 또는 폐기한 뒤 체크포인트까지 마치고 첫 번째 예외를 던집니다.
+ * - 대상 키가 적거나(action-log.flush.min-keys-per-worker 미만) 작업 스레드 수가 1이면 호출 스레드에서 순차 처리합니다.
+ *
+ * 싱크 저장 소요 시간, 저장 행 수, 직렬화 실패 건수, 버린 이벤트 수는 {@code action.log.flush.write},
+ * {@code action.log.flush.rows}, {@code action.log.serialization.failures{stage=flush}},
+ * {@code action.log.flush.dropped{reason}} 메트릭으로,
+ * 작업별 처리 시간과 제한 시간 초과 횟수는 {@code action.log.flush.partition}, {@code action.log.flush.timeouts} 메트릭으로 노출됩니다.
  */
 @Service
-@RequiredArgsConstructor
 public class ActionLogFlusher {
 
+    private static final SecureLogger log = SecureLogger.getLogger(ActionLogFlusher.class);
+
+    private static final String UNKNOWN_URL = "unknown";
+
+    /**
+     * 이벤트를 버린 사유 (메트릭 태그)
+     */
+    private enum DropReason {
+        /** 싱크가 행을 거부함 (일시적인 실패가 아님) */
+        REJECTED,
+        /** 일시적인 실패가 재시도 한도를 넘음 */
+        RETRIES_EXHAUSTED,
+        /** 이벤트 하나의 log_text가 컬럼 크기를 넘음 */
+        OVERSIZED,
+        /** log_text 직렬화 실패 */
+        SERIALIZATION
+    }
+
     private final FrontendLogBuffer frontendBuffer;
     private final BackendLogBuffer backendBuffer;
     private final SystemInfoBuffer systemInfoBuffer;
-    private final ActionLogRepository actionLogRepository;
-    private final ObjectMapper objectMapper;
+    private final ActionLogSink actionLogSink;
+    private final ActionLogTextCodec actionLogTextCodec;
+    private final ActionLogJournal journal;
+    private final ActionLogRollupRepository rollupRepository;
+    private final Executor flushExecutor;
+    private final int workers;
+    private final int minKeysPerWorker;
+    private final Duration deadline;
+    private final int chunkSize;
+    private final int maxRetries;
+    private final Map<UserActionKey, Integer> retryCounts = new ConcurrentHashMap<>();
+    private final Map<DropReason, Counter> dropCounters = new EnumMap<>(DropReason.class);
+    private final Timer writeTimer;
+    private final Timer partitionTimer;
+    private final Counter rowsCounter;
+    private final Counter serializationFailureCounter;
+    private final Counter rollupFailureCounter;
+    private final Counter timeoutCounter;
+
+    public ActionLogFlusher(FrontendLogBuffer frontendBuffer,
+                            BackendLogBuffer backendBuffer,
+                            SystemInfoBuffer systemInfoBuffer,
+                            ActionLogSink actionLogSink,
+                            ActionLogTextCodec actionLogTextCodec,
+                            ActionLogJournal journal,
+                            ActionLogRollupRepository rollupRepository,
+                            ActionLogProperties properties,
+                            @Qualifier("actionLogFlushExecutor") Executor flushExecutor,
+                            MeterRegistry meterRegistry) {
+        this.frontendBuffer = frontendBuffer;
+        this.backendBuffer = backendBuffer;
+        this.systemInfoBuffer = systemInfoBuffer;
+        this.actionLogSink = actionLogSink;
+        this.actionLogTextCodec = actionLogTextCodec;
+        this.journal = journal;
+        this.rollupRepository = rollupRepository;
+        this.flushExecutor = flushExecutor;
+        this.workers = Math.max(1, properties.getFlush().getWorkers());
+        this.minKeysPerWorker = Math.max(1, properties.getFlush().getMinKeysPerWorker());
+        this.deadline = properties.getFlush().getDeadline();
+        this.chunkSize = Math.max(1, properties.getWriter().getChunkSize());
+        this.maxRetries = Math.max(0, properties.getFlush().getMaxRetries());
+        this.writeTimer = Timer.builder("action.log.flush.write")
+                .description("액션 로그 싱크 저장 소요 시간")
+                .register(meterRegistry);
+        this.rowsCounter = Counter.builder("action.log.flush.rows")
+                .description("싱크에 저장된 액션 로그 행 수")
+                .register(meterRegistry);
+        this.serializationFailureCounter = Counter.builder("action.log.serialization.failures")
+                .description("액션 로그 JSON 직렬화 실패 건수")
+                .tag("stage", "flush")
+                .register(meterRegistry);
+        this.rollupFailureCounter = Counter.builder("action.log.rollup.failures")
+                .description("시간대별 집계 누적 실패 횟수")
+                .register(meterRegistry);
+        this.partitionTimer = Timer.builder("action.log.flush.partition")
+                .description("배출 작업 하나(세션 묶음)의 직렬화 및 저장 소요 시간")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("action.log.flush.timeouts")
+                .description("배출 작업이 제한 시간 안에 끝나지 않은 횟수")
+                .register(meterRegistry);
+        for (DropReason reason : DropReason.values()) {
+            dropCounters.put(reason, Counter.builder("action.log.flush.dropped")
+                    .description("저장하지 못하고 버린 이벤트 수")
+                    .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
 
     /**
-     * 지정된 CRUD 코드에 해당하는 로그가 임계값 이상 쌓인 경우에만 저장합니다.
+     * 지정된 CRUD 코드에 해당하는 로그를 모두 저장합니다.
+     *
+     * 다른 CRUD 코드의 로그가 남아 있을 수 있으므로 저널 체크포인트는 수행하지 않습니다.
      *
      * @param crudCode 대상 CRUD 코드
-     * @param threshold 배출 임계값 (로그 건수)
      */
-    public void flushByCrudCode(CrudCode crudCode, int threshold) {
-        Map<UserActionKey, List<FrontendLogDto>> feMap = frontendBuffer.drainIfThresholdMet(crudCode, threshold);
-        Map<UserActionKey, List<BackendLogDto>> beMap = backendBuffer.drainIfThresholdMet(crudCode, threshold);
+    public void flushAllByCrudCode(CrudCode crudCode) {
+        Map<UserActionKey, List<FrontendLogDto>> feMap = frontendBuffer.drainAll(crudCode);
+        Map<UserActionKey, List<BackendLogDto>> beMap = backendBuffer.drainAll(crudCode);
 
         Set<UserActionKey> targetKeys = new HashSet<>();
         targetKeys.addAll(feMap.keySet());
         targetKeys.addAll(beMap.keySet());
 
-        flushByKeys(targetKeys, feMap, beMap, crudCode);
+        flushByKeys(targetKeys, feMap, beMap, crudCode, deadline, new ActionLogFlushResult());
     }
 
     /**
      * 모든 버퍼에 있는 로그를 비우고 저장합니다.
+     *
+     * 배출한 로그가 모두 저장, 재적재 또는 폐기되면 배출 이전의 저널 세그먼트를 체크포인트합니다.
+     * 저장에 성공하면 배출 시작 전에 퇴출된 세션의 시스템 정보를 정리하고,
+     * 아직 로그와 함께 저장되지 않은 세션의 시스템 정보는 새 세그먼트에 다시 기록됩니다.
      */
     public void flushAll() {
+        flushAll(deadline, new ActionLogFlushResult());
+    }
+
+    /**
+     * 병렬 배출 작업의 제한 시간을 지정하여 모든 버퍼에 있는 로그를 비우고 저장합니다. (종료 시 마지막 배출)
+     *
+     * 작업이 끝날 때마다 그 결과를 result에 더하므로, 예외가 발생해도 끝난 작업의 저장 건수를 알 수 있습니다.
+     *
+     * @param deadline 병렬 배출 작업이 모두 끝나야 하는 제한 시간
+     * @param result   작업별 결과를 누적할 집계
+     */
+    public void flushAll(Duration deadline, ActionLogFlushResult result) {
+        long journalMark = journal.rollover();
+        long retiredMark = systemInfoBuffer.retiredMark();
+
         Map<UserActionKey, List<FrontendLogDto>> feMap = frontendBuffer.drainAll();
         Map<UserActionKey, List<BackendLogDto>> beMap = backendBuffer.drainAll();
 
@@ -64,23 +223,149 @@ public class ActionLogFlusher {
         allKeys.addAll(feMap.keySet());
         allKeys.addAll(beMap.keySet());
 
-        flushByKeys(allKeys, feMap, beMap, null);
+        RuntimeException failure = null;
+        try {
+            flushByKeys(allKeys, feMap, beMap, null, deadline, result);
+        } catch (ActionLogFlushTimeoutException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+
+        if (failure == null) {
+            systemInfoBuffer.purgeRetired(retiredMark);
+        }
+        systemInfoBuffer.rewriteJournal();
+        journal.checkpoint(journalMark);
+
+        if (failure != null) {
+            throw failure;
+        }
     }
 
     /**
      * 주어진 키 집합을 기반으로 로그를 집계하고, 엔티티로 변환 후 저장합니다.
      *
+     * 키가 충분히 많으면 세션 단위로 나누어 작업 스레드에서 병렬 처리하고, 모든 작업의 집계를 합쳐 누적합니다.
+     *
      * @param keys 로그 키 집합 (세션 ID + CRUD 기준)
      * @param feMap 프론트엔드 로그 맵
      * @param beMap 백엔드 로그 맵
      * @param forcedCrudCode 강제로 설정할 CRUD 코드 (null인 경우 key 기준 사용)
+     * @param deadline 병렬 배출 작업이 모두 끝나야 하는 제한 시간
+     * @param result 작업별 결과를 누적할 집계
      */
     private void flushByKeys(Set<UserActionKey> keys,
                              Map<UserActionKey, List<FrontendLogDto>> feMap,
                              Map<UserActionKey, List<BackendLogDto>> beMap,
-                             CrudCode forcedCrudCode) {
+                             CrudCode forcedCrudCode,
+                             Duration deadline,
+                             ActionLogFlushResult result) {
+
+        String ipAddr = MdcContext.getIpAddress();
+        List<List<UserActionKey>> partitions = partition(keys);
 
-        List<ActionLog> logsToSave = new ArrayList<>();
+        if (partitions.size() <= 1) {
+            mergeRollup(flushPartition(keys, feMap, beMap, forcedCrudCode, ipAddr, result));
+            return;
+        }
+
+        List<CompletableFuture<ActionLogRollup>> futures = new ArrayList<>(partitions.size());
+        for (List<UserActionKey> partition : partitions) {
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> flushPartition(partition, feMap, beMap, forcedCrudCode, ipAddr, result), flushExecutor));
+        }
+
+        awaitPartitions(futures, deadline);
+    }
+
+    /**
+     * 병렬 배출 작업을 제한 시간까지 기다리고, 끝난 작업의 집계를 합쳐 누적합니다.
+     *
+     * 실패한 작업이 있으면 첫 번째 예외를, 제한 시간을 넘긴 작업이 있으면 {@link ActionLogFlushTimeoutException}을 던집니다.
+     * 제한 시간을 넘긴 작업은 취소하지 않으며, 끝나는 대로 그 집계를 따로 누적합니다.
+     */
+    private void awaitPartitions(List<CompletableFuture<ActionLogRollup>> futures, Duration deadline) {
+        ActionLogRollup rollup = new ActionLogRollup(LocalDateTime.now());
+        long deadlineAt = System.nanoTime() + deadline.toNanos();
+        RuntimeException failure = null;
+        int pending = 0;
+
+        for (CompletableFuture<ActionLogRollup> future : futures) {
+            try {
+                rollup.merge(future.get(Math.max(0, deadlineAt - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                pending++;
+                future.thenAccept(this::mergeRollup);
+            } catch (ExecutionException e) {
+                failure = failure != null ? failure : asRuntimeException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pending++;
+                future.thenAccept(this::mergeRollup);
+            }
+        }
+
+        mergeRollup(rollup);
+
+        if (failure != null) {
+            throw failure;
+        }
+        if (pending > 0) {
+            timeoutCounter.increment();
+            log.error("[액션 로그 배출] 제한 시간({}ms) 안에 끝나지 않은 작업: {}개", deadline.toMillis(), pending);
+            throw new ActionLogFlushTimeoutException(deadline.toMillis(), pending);
+        }
+    }
+
+    /**
+     * 세션 ID 해시로 키를 작업 단위로 나눕니다.
+     *
+     * 작업 수는 작업 스레드 수와 (키 수 / 작업당 최소 키 수) 중 작은 값이며, 나눌 필요가 없으면 하나만 반환합니다.
+     */
+    private List<List<UserActionKey>> partition(Set<UserActionKey> keys) {
+        int count = Math.min(workers, keys.size() / minKeysPerWorker);
+        if (count <= 1) {
+            return List.of(new ArrayList<>(keys));
+        }
+
+        List<List<UserActionKey>> partitions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (UserActionKey key : keys) {
+            partitions.get(Math.floorMod(Objects.hashCode(key.getSessionId()), count)).add(key);
+        }
+
+        partitions.removeIf(List::isEmpty);
+        return partitions;
+    }
+
+    /**
+     * 작업 하나에 배정된 키의 로그를 엔티티로 변환해 저장하고, 그 집계를 반환합니다.
+     *
+     * 저장 실패나 직렬화 실패가 있으면 해당 로그를 재적재 또는 폐기하고, 저장된 행의 집계를 누적한 뒤 예외를 던집니다.
+     *
+     * @param keys 작업에 배정된 로그 키
+     * @param feMap 프론트엔드 로그 맵
+     * @param beMap 백엔드 로그 맵
+     * @param forcedCrudCode 강제로 설정할 CRUD 코드 (null인 경우 key 기준 사용)
+     * @param ipAddr 배출을 요청한 스레드에서 읽은 IP 주소
+     * @param result 작업의 배정/저장 이벤트 수를 더할 집계
+     * @return 저장된 로그의 시간대별 집계
+     */
+    private ActionLogRollup flushPartition(Collection<UserActionKey> keys,
+                                           Map<UserActionKey, List<FrontendLogDto>> feMap,
+                                           Map<UserActionKey, List<BackendLogDto>> beMap,
+                                           CrudCode forcedCrudCode,
+                                           String ipAddr,
+                                           ActionLogFlushResult result) {
+
+        long startedAt = System.nanoTime();
+        List<PendingRow> rows = new ArrayList<>();
+        Set<String> sessionIds = new HashSet<>();
+        RuntimeException serializationFailure = null;
+        int drained = 0;
 
         for (UserActionKey key : keys) {
             String sessionId = key.getSessionId();
@@ -88,40 +373,307 @@ public class ActionLogFlusher {
 
             List<FrontendLogDto> feList = feMap.getOrDefault(key, List.of());
             List<BackendLogDto> beList = beMap.getOrDefault(key, List.of());
-            SystemInfoDto systemInfo = systemInfoBuffer.get(sessionId).orElse(null);
+            SystemInfoDto systemInfo = sessionIds.add(sessionId) ? systemInfoBuffer.get(sessionId).orElse(null) : null;
+            drained += feList.size() + beList.size();
 
-            ActionLogContext context = ActionLogContext.builder()
-                    .sessionId(sessionId)
-                    .frontendLogs(feList)
-                    .backendLogs(beList)
-                    .systemInfo(systemInfo)
+            try {
+                rows.addAll(toRows(key, crudCode, ipAddr, feList, beList, systemInfo));
+            } catch (IOException | RuntimeException e) {
+                serializationFailureCounter.increment();
+                drop(DropReason.SERIALIZATION, feList.size() + beList.size());
+                serializationFailure = new ActionLogJsonSerializationException("로그 엔티티 직렬화");
+            }
+        }
+
+        List<PendingRow> written = new ArrayList<>();
+        List<PendingRow> failed = new ArrayList<>();
+        RuntimeException failure = write(rows, written, failed);
+
+        written.forEach(row -> retryCounts.remove(row.key));
+        if (!failed.isEmpty()) {
+            requeue(failed);
+        }
+        for (PendingRow row : failed) {
+            if (row.systemInfo != null) {
+                sessionIds.remove(row.key.getSessionId());
+            }
+        }
+        sessionIds.forEach(systemInfoBuffer::remove);
+
+        ActionLogRollup rollup = new ActionLogRollup(LocalDateTime.now());
+        int persisted = 0;
+        for (PendingRow row : written) {
+            persisted += row.eventCount();
+            addToRollup(rollup, row.crudCode, row.frontendLogs, row.backendLogs, row.systemInfo);
+        }
+        result.addPartition(drained, persisted);
+
+        partitionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        failure = failure != null ? failure : serializationFailure;
+        if (failure != null) {
+            mergeRollup(rollup);
+            throw failure;
+        }
+        return rollup;
+    }
+
+    /**
+     * 키 하나의 로그를 저장할 행으로 변환합니다.
+     *
+     * log_text가 컬럼 크기를 넘으면 이벤트를 절반씩 나누어 여러 행으로 만들고 (시스템 정보는 첫 행에만 포함),
+     * 이벤트 하나로도 넘으면 그 이벤트는 버립니다.
+     */
+    private List<PendingRow> toRows(UserActionKey key,
+                                    CrudCode crudCode,
+                                    String ipAddr,
+                                    List<FrontendLogDto> feList,
+                                    List<BackendLogDto> beList,
+                                    SystemInfoDto systemInfo) throws IOException {
+
+        String logText = actionLogTextCodec.encode(ActionLogContext.builder()
+                .sessionId(key.getSessionId())
+                .frontendLogs(feList)
+                .backendLogs(beList)
+                .systemInfo(systemInfo)
+                .build());
+
+        if (fitsLogText(logText)) {
+            ActionLog actionLog = ActionLog.builder()
+                    .urlName(truncate(extractUrlName(feList, beList), ActionLog.URL_NAME_MAX_LENGTH))
+                    .crudCode(crudCode.name())
+                    .ipAddr(truncate(ipAddr, ActionLog.IP_ADDR_MAX_LENGTH))
+                    .logText(logText)
                     .build();
+            return List.of(new PendingRow(key, crudCode, actionLog, feList, beList, systemInfo));
+        }
+
+        if (feList.size() + beList.size() <= 1) {
+            drop(DropReason.OVERSIZED, feList.size() + beList.size());
+            log.error("[액션 로그 배출] log_text가 {}바이트를 넘는 이벤트를 버립니다.", ActionLog.LOG_TEXT_MAX_BYTES);
+            return List.of();
+        }
 
+        int half = (feList.size() + beList.size()) / 2;
+        int feSplit = Math.min(half, feList.size());
+        int beSplit = half - feSplit;
+
+        List<PendingRow> rows = new ArrayList<>(toRows(key, crudCode, ipAddr,
+                feList.subList(0, feSplit), beList.subList(0, beSplit), systemInfo));
+        rows.addAll(toRows(key, crudCode, ipAddr,
+                feList.subList(feSplit, feList.size()), beList.subList(beSplit, beList.size()), null));
+        return rows;
+    }
+
+    /**
+     * 행을 청크 단위로 싱크에 기록합니다.
+     *
+     * 일시적인 실패가 나면 실패한 청크부터 남은 행을 모두 실패 목록에 넣고 그 예외를 반환하며,
+     * 그 밖의 실패는 청크의 행을 하나씩 다시 기록해 거부된 행만 버립니다.
+     *
+     * @return 일시적인 실패의 예외 (없으면 null)
+     */
+    private RuntimeException write(List<PendingRow> rows, List<PendingRow> written, List<PendingRow> failed) {
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, rows.size());
+            List<PendingRow> chunk = rows.subList(from, to);
+
+            try {
+                writeChunk(chunk);
+                written.addAll(chunk);
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    failed.addAll(rows.subList(from, rows.size()));
+                    return e;
+                }
+                log.warn("[액션 로그 배출] 묶음 저장이 거부되어 행 단위로 다시 기록합니다: {}", e.getMessage());
+
+                RuntimeException transientFailure = writeEach(rows, from, to, written, failed);
+                if (transientFailure != null) {
+                    return transientFailure;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 거부된 청크의 행을 하나씩 기록하고, 다시 거부된 행은 버립니다.
+     *
+     * @return 일시적인 실패의 예외 (없으면 null, 그 행부터 남은 행은 실패 목록에 추가)
+     */
+    private RuntimeException writeEach(List<PendingRow> rows, int from, int to,
+                                       List<PendingRow> written, List<PendingRow> failed) {
+        for (int i = from; i < to; i++) {
+            PendingRow row = rows.get(i);
             try {
-                String logText = objectMapper.writeValueAsString(context);
+                writeChunk(List.of(row));
+                written.add(row);
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    failed.addAll(rows.subList(i, rows.size()));
+                    return e;
+                }
+                drop(DropReason.REJECTED, row.eventCount());
+                log.error("[액션 로그 배출] 싱크가 거부한 행을 버립니다. (이벤트 {}건): {}", row.eventCount(), e.getMessage());
+            }
+        }
+        return null;
+    }
 
-                String urlName = extractUrlName(feList, beList);
-                String ipAddr = MdcContext.getIpAddress();
+    private void writeChunk(List<PendingRow> chunk) {
+        List<ActionLog> logs = new ArrayList<>(chunk.size());
+        for (PendingRow row : chunk) {
+            logs.add(row.actionLog);
+        }
 
-                logsToSave.add(ActionLog.builder()
-                        .urlName(urlName)
-                        .crudCode(crudCode.name())
-                        .ipAddr(ipAddr)
-                        .logText(logText)
-                        .build());
+        Integer written = writeTimer.record(() -> actionLogSink.write(logs));
+        rowsCounter.increment(written != null ? written : 0);
+    }
+
+    /**
+     * 저장에 실패한 행의 로그를 버퍼에 다시 적재하여 다음 배출에서 저장되도록 합니다.
+     *
+     * 다시 적재한 로그는 저널의 현재 세그먼트에도 기록되므로, 이후 체크포인트가 원래 세그먼트를 삭제해도 복구할 수 있습니다.
+     * 키별 실패 횟수가 재시도 한도를 넘으면 다시 적재하지 않고 버립니다.
+     * 버퍼 포화로 다시 적재하지 못한 로그가 있으면 저널의 보존 하한을 고정하여 재시작 시 재생되도록 합니다.
+     */
+    private void requeue(List<PendingRow> rows) {
+        Set<UserActionKey> failedKeys = new HashSet<>();
+        rows.forEach(row -> failedKeys.add(row.key));
 
-            } catch (JsonProcessingException e) {
-                throw new ActionLogJsonSerializationException("로그 엔티티 직렬화");
+        Set<UserActionKey> exhausted = new HashSet<>();
+        for (UserActionKey key : failedKeys) {
+            if (retryCounts.merge(key, 1, Integer::sum) > maxRetries) {
+                retryCounts.remove(key);
+                exhausted.add(key);
             }
+        }
+
+        int rejected = 0;
+        int dropped = 0;
+
+        for (PendingRow row : rows) {
+            if (exhausted.contains(row.key)) {
+                dropped += row.eventCount();
+                continue;
+            }
+
+            CrudCode crudCode = row.key.getCrudCode();
+            String sessionId = row.key.getSessionId();
+            int rowRejected = 0;
+            for (FrontendLogDto fe : row.frontendLogs) {
+                rowRejected += frontendBuffer.requeue(crudCode, sessionId, fe) ? 0 : 1;
+            }
+            for (BackendLogDto be : row.backendLogs) {
+                rowRejected += backendBuffer.requeue(crudCode, sessionId, be) ? 0 : 1;
+            }
+
+            if (rowRejected > 0) {
+                retryCounts.remove(row.key);
+                rejected += rowRejected;
+            }
+        }
 
-            systemInfoBuffer.remove(sessionId);
+        if (dropped > 0) {
+            drop(DropReason.RETRIES_EXHAUSTED, dropped);
+            log.error("[액션 로그 배출] 재시도 한도({}회)를 넘어 {}건을 버립니다.", maxRetries, dropped);
+        }
+        if (rejected > 0) {
+            journal.retain();
+            log.error("[액션 로그 배출] 저장 실패 로그 중 {}건을 버퍼에 되돌리지 못해 재시작 시 저널에서 복구합니다.", rejected);
+        }
+    }
+
+    private void drop(DropReason reason, int events) {
+        dropCounters.get(reason).increment(events);
+    }
+
+    /**
+     * 다시 시도하면 성공할 수 있는 실패인지 확인합니다. (DB 연결/트랜잭션 시작 실패, 잠금 대기 등 일시적 오류, 파일 I/O)
+     */
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException
+                || e instanceof UncheckedIOException;
+    }
+
+    private static boolean fitsLogText(String logText) {
+        if (logText == null || logText.length() <= ActionLog.LOG_TEXT_MAX_BYTES / 3) {
+            return true;
+        }
+        return logText.length() <= ActionLog.LOG_TEXT_MAX_BYTES
+                && logText.getBytes(StandardCharsets.UTF_8).length <= ActionLog.LOG_TEXT_MAX_BYTES;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        int end = Character.isHighSurrogate(value.charAt(maxLength - 1)) ? maxLength - 1 : maxLength;
+        return value.substring(0, end);
+    }
+
+    /**
+     * 세션 하나의 로그를 시간대별 집계에 더합니다.
+     *
+     * 프론트엔드 로그는 페이지 URL, 백엔드 로그는 엔드포인트 기준으로 이벤트마다 집계하며 (요약 로그는 요약된 건수만큼),
+     * 시스템 정보는 세션의 첫 이벤트 시각 기준으로 한 번 집계합니다.
+     */
+    private void addToRollup(ActionLogRollup rollup,
+                             CrudCode crudCode,
+                             List<FrontendLogDto> feList,
+                             List<BackendLogDto> beList,
+                             SystemInfoDto systemInfo) {
+        if (!rollupRepository.isEnabled()) {
+            return;
+        }
+
+        for (FrontendLogDto fe : feList) {
+            int count = fe.getSummaryCount() != null ? fe.getSummaryCount() : 1;
+            rollup.addEvents(fe.getPageUrl(), crudCode, fe.getTimestamp(), count);
+        }
+        for (BackendLogDto be : beList) {
+            rollup.addEvent(be.getEndpoint(), crudCode, be.getTimestamp());
         }
 
-        if (!logsToSave.isEmpty()) {
-            actionLogRepository.saveAll(logsToSave);
+        if (systemInfo != null) {
+            String timestamp = !feList.isEmpty() ? feList.get(0).getTimestamp()
+                    : !beList.isEmpty() ? beList.get(0).getTimestamp() : null;
+            rollup.addSession(systemInfo, timestamp);
         }
     }
 
+    /**
+     * 저장이 끝난 로그의 집계를 누적합니다.
+     *
+     * 로그는 이미 저장되었으므로, 집계 실패로 배출 전체를 실패 처리하지 않습니다.
+     */
+    private void mergeRollup(ActionLogRollup rollup) {
+        if (rollup.isEmpty()) {
+            return;
+        }
+
+        try {
+            rollupRepository.merge(rollup);
+        } catch (RuntimeException e) {
+            rollupFailureCounter.increment();
+            log.error("[액션 로그 배출] 시간대별 집계 누적 실패: {}", e.getMessage());
+        }
+    }
+
+    private static RuntimeException asRuntimeException(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
     /**
      * 로그에서 대표 URL을 추출합니다.
      *
@@ -130,16 +682,47 @@ public class ActionLogFlusher {
      *
      * @param frontendLogs 프론트 로그 목록
      * @param backendLogs 백엔드 로그 목록
-     * @return URL 문자열 (없으면 "unknown")
+     * @return URL 문자열 (없거나 비어 있으면 "unknown")
      */
     private String extractUrlName(List<FrontendLogDto> frontendLogs, List<BackendLogDto> backendLogs) {
+        String url = null;
         if (!frontendLogs.isEmpty()) {
-            return frontendLogs.get(0).getPageUrl();
+            url = frontendLogs.get(0).getPageUrl();
+        } else if (!backendLogs.isEmpty()) {
+            url = backendLogs.get(0).getEndpoint();
+        }
+        return url == null || url.isBlank() ? UNKNOWN_URL : url;
+    }
+
+    /**
+     * 저장할 행 하나와 그 행에 담긴 원본 로그 (재적재와 집계에 사용)
+     */
+    private static final class PendingRow {
+
+        private final UserActionKey key;
+        private final CrudCode crudCode;
+        private final ActionLog actionLog;
+        private final List<FrontendLogDto> frontendLogs;
+        private final List<BackendLogDto> backendLogs;
+        private final SystemInfoDto systemInfo;
+
+        private PendingRow(UserActionKey key,
+                           CrudCode crudCode,
+                           ActionLog actionLog,
+                           List<FrontendLogDto> frontendLogs,
+                           List<BackendLogDto> backendLogs,
+                           SystemInfoDto systemInfo) {
+            this.key = key;
+            this.crudCode = crudCode;
+            this.actionLog = actionLog;
+            this.frontendLogs = frontendLogs;
+            this.backendLogs = backendLogs;
+            this.systemInfo = systemInfo;
         }
-        if (!backendLogs.isEmpty()) {
-            return backendLogs.get(0).getEndpoint();
+
+        private int eventCount() {
+            return frontendLogs.size() + backendLogs.size();
         }
-        return "unknown";
     }
 
 }
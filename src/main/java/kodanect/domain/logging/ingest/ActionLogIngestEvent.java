@@ -0,0 +1,55 @@
+package kodanect.domain.logging.ingest;
+
+import kodanect.domain.logging.dto.BackendLogDto;
+import kodanect.domain.logging.dto.SystemInfoDto;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 스레드에서 캡처하여 {@link ActionLogIngestQueue}로 전달하는 불변 적재 이벤트입니다.
+ *
+ * 캡처 시점에 세션 ID와 로그 내용을 모두 확정하므로, 소비 스레드는 MDC 등 요청 스레드의 상태에 의존하지 않습니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ActionLogIngestEvent {
+
+    /**
+     * 이벤트 종류
+     */
+    public enum Type {
+        /** 백엔드 로그 */
+        BACKEND_LOG,
+        /** 시스템 정보 */
+        SYSTEM_INFO
+    }
+
+    private final Type type;
+    private final String sessionId;
+    private final BackendLogDto backendLog;
+    private final SystemInfoDto systemInfo;
+
+    /**
+     * 백엔드 로그 적재 이벤트를 생성합니다.
+     *
+     * @param sessionId  사용자 세션 ID
+     * @param backendLog 백엔드 로그
+     * @return 적재 이벤트
+     */
+    public static ActionLogIngestEvent backendLog(String sessionId, BackendLogDto backendLog) {
+        return new ActionLogIngestEvent(Type.BACKEND_LOG, sessionId, backendLog, null);
+    }
+
+    /**
+     * 시스템 정보 적재 이벤트를 생성합니다.
+     *
+     * @param sessionId  사용자 세션 ID
+     * @param systemInfo 시스템 정보
+     * @return 적재 이벤트
+     */
+    public static ActionLogIngestEvent systemInfo(String sessionId, SystemInfoDto systemInfo) {
+        return new ActionLogIngestEvent(Type.SYSTEM_INFO, sessionId, null, systemInfo);
+    }
+
+}
@@ -0,0 +1,230 @@
+package kodanect.domain.logging.ingest;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import kodanect.common.buffer.BackendLogBuffer;
+import kodanect.common.buffer.SystemInfoBuffer;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.common.config.properties.ActionLogProperties.Ingest.OverflowPolicy;
+import kodanect.common.exception.config.SecureLogger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 요청 스레드에서 캡처한 {@link ActionLogIngestEvent}를 전용 소비 스레드 하나가 버퍼에 적재하는 큐입니다.
+ *
+ * - 생산자(요청 스레드)는 락 없는 큐에 이벤트를 넣기만 하므로, 스레드 풀 작업 생성이나 MDC 복사가 없습니다.
+ * - 소비 스레드는 큐가 비면 잠시 대기(park)하고, 생산자가 대기 중인 소비 스레드를 깨웁니다.
+ * - 큐 크기는 설정된 용량으로 제한되며, 포화 시 동작은 {@link OverflowPolicy}로 정합니다.
+ *   - DROP: 새 이벤트를 버리고 폐기 건수를 누적합니다. (기본값, 요청 지연 없음)
+ *   - CALLER_RUNS: 요청 스레드에서 직접 버퍼에 적재합니다.
+ *
+ * 종료 시에는 큐에 남은 이벤트를 모두 적재한 뒤 소비 스레드를 종료합니다.
+ * 대기 건수와 폐기/직접 적재/실패 건수는 {@code action.log.ingest.*} 메트릭으로 노출됩니다.
+ *
+ * /action-logs 응답 시간의 p99 개선 폭은 아직 측정하지 않았습니다.
+ * ActionLogIngestQueueBenchmarkTest는 요청 스레드의 전달 지연만 비교하므로, 엔드포인트 전후 수치는 부하 환경에서 따로 확인해야 합니다.
+ */
+@Component
+public class ActionLogIngestQueue implements DisposableBean, MeterBinder {
+
+    private static final SecureLogger log = SecureLogger.getLogger(ActionLogIngestQueue.class);
+
+    private static final String CONSUMER_THREAD_NAME = "action-log-ingest";
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000;
+
+    private final BackendLogBuffer backendLogBuffer;
+    private final SystemInfoBuffer systemInfoBuffer;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+
+    private final ConcurrentLinkedQueue<ActionLogIngestEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong callerRunsCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private volatile Thread consumer;
+    private volatile boolean running;
+    private volatile boolean consumerWaiting;
+
+    public ActionLogIngestQueue(BackendLogBuffer backendLogBuffer,
+                                SystemInfoBuffer systemInfoBuffer,
+                                ActionLogProperties properties) {
+        this.backendLogBuffer = backendLogBuffer;
+        this.systemInfoBuffer = systemInfoBuffer;
+        this.capacity = Math.max(1, properties.getIngest().getCapacity());
+        this.overflowPolicy = properties.getIngest().getOverflowPolicy();
+    }
+
+    /**
+     * 소비 스레드를 시작합니다.
+     */
+    @PostConstruct
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+
+        running = true;
+        consumer = new Thread(this::consume, CONSUMER_THREAD_NAME);
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * 이벤트를 큐에 넣습니다.
+     *
+     * 큐가 가득 찬 경우 {@link OverflowPolicy}에 따라 버리거나 호출 스레드에서 직접 적재합니다.
+     *
+     * @param event 적재 이벤트
+     * @return 큐에 넣었거나 직접 적재했으면 true, 버려졌으면 false
+     */
+    public boolean offer(ActionLogIngestEvent event) {
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            return handleOverflow(event);
+        }
+
+        queue.offer(event);
+
+        if (consumerWaiting) {
+            LockSupport.unpark(consumer);
+        }
+        return true;
+    }
+
+    /**
+     * 큐에 대기 중인 이벤트를 모두 버퍼에 적재합니다.
+     *
+     * @return 적재한 이벤트 수
+     */
+    int drainPending() {
+        int drained = 0;
+        ActionLogIngestEvent event;
+
+        while ((event = queue.poll()) != null) {
+            size.decrementAndGet();
+            dispatch(event);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * 큐에 대기 중인 이벤트 수를 반환합니다.
+     *
+     * @return 대기 이벤트 수
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * 큐 포화로 버려진 누적 이벤트 수를 반환합니다.
+     *
+     * @return 폐기 건수
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * 대기 건수 게이지와 폐기/직접 적재/실패 건수 카운터를 등록합니다.
+     *
+     * @param registry 메트릭 레지스트리
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("action.log.ingest.queue.size", this, ActionLogIngestQueue::size)
+                .description("적재 큐에 대기 중인 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("action.log.ingest.dropped", droppedCount, AtomicLong::get)
+                .description("적재 큐 포화로 버려진 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("action.log.ingest.caller.runs", callerRunsCount, AtomicLong::get)
+                .description("적재 큐 포화로 요청 스레드에서 직접 적재한 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("action.log.ingest.failures", failedCount, AtomicLong::get)
+                .description("버퍼 적재 중 예외가 발생한 이벤트 수")
+                .register(registry);
+    }
+
+    /**
+     * 소비 스레드를 멈추고, 큐에 남은 이벤트를 모두 적재합니다.
+     *
+     * 종료 시 마지막 배출 전에 호출되며, 빈 정리 단계에서 다시 호출되어도 안전합니다.
+     *
+     * @return 소비 스레드 종료 후 직접 적재한 이벤트 수
+     * @throws InterruptedException 소비 스레드 종료를 기다리는 중 인터럽트된 경우
+     */
+    public int stop() throws InterruptedException {
+        Thread current = consumer;
+        running = false;
+
+        if (current != null) {
+            LockSupport.unpark(current);
+            current.join(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+
+        return drainPending();
+    }
+
+    /**
+     * 소비 스레드를 멈추고, 큐에 남은 이벤트를 모두 적재합니다.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        stop();
+    }
+
+    private void consume() {
+        while (running) {
+            if (drainPending() > 0) {
+                continue;
+            }
+
+            consumerWaiting = true;
+            if (queue.isEmpty() && running) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            consumerWaiting = false;
+        }
+    }
+
+    private boolean handleOverflow(ActionLogIngestEvent event) {
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            callerRunsCount.incrementAndGet();
+            dispatch(event);
+            return true;
+        }
+
+        if (droppedCount.incrementAndGet() == 1) {
+            log.warn("[액션 로그 적재 큐] 큐 포화로 이벤트 폐기 시작 (용량: {})", capacity);
+        }
+        return false;
+    }
+
+    private void dispatch(ActionLogIngestEvent event) {
+        try {
+            switch (event.getType()) {
+                case BACKEND_LOG -> backendLogBuffer.add(event.getSessionId(), event.getBackendLog());
+                case SYSTEM_INFO -> systemInfoBuffer.add(event.getSessionId(), event.getSystemInfo());
+            }
+        } catch (RuntimeException e) {
+            failedCount.incrementAndGet();
+            log.error("[액션 로그 적재 큐] 이벤트 적재 실패 (유형: {}): {}", event.getType(), e.getMessage());
+        }
+    }
+
+}
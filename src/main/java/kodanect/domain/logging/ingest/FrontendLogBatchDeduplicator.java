@@ -0,0 +1,162 @@
+package kodanect.domain.logging.ingest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kodanect.common.config.properties.ActionLogProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라이언트가 재전송한 프론트엔드 로그 묶음을 버퍼에 넣기 전에 걸러내는 컴포넌트입니다.
+ *
+ * 클라이언트는 세션마다 1씩 증가하는 묶음 번호(0 이상)를 붙여 보내며, 재전송 시 같은 번호를 사용합니다.
+ * 세션별로 지금까지 받은 최고 번호와, 그 아래 windowSize개 번호의 수신 여부를 비트 마스크 하나로 기억합니다.
+ * (슬라이딩 윈도우 방식, 세션당 long 두 개)
+ *
+ * - 최고 번호보다 큰 번호: 새 묶음으로 수락하고 윈도우를 앞으로 이동
+ * - 윈도우 안의 번호: 비트가 비어 있으면 수락(순서가 뒤바뀐 묶음), 채워져 있으면 중복
+ * - 윈도우보다 오래된 번호: 클라이언트의 번호가 초기화된 것(새로고침 등)으로 보고 윈도우를 새로 시작
+ *
+ * 세션 상태는 최대 세션 수와 유휴 만료 시간이 있는 Caffeine 캐시에 보관하며,
+ * 모든 판정은 세션 단위 잠금 안에서 상수 시간에 끝납니다.
+ * 중복으로 걸러진 묶음 수는 {@code action.log.batch.duplicates} 메트릭으로 노출됩니다.
+ */
+@Component
+public class FrontendLogBatchDeduplicator {
+
+    static final int MAX_WINDOW_SIZE = Long.SIZE;
+
+    private static final String UNKNOWN_SESSION_ID = "Unknown";
+
+    private final boolean enabled;
+    private final int windowSize;
+    private final Cache<String, SessionWindow> windows;
+    private final Counter duplicateCounter;
+
+    @Autowired
+    public FrontendLogBatchDeduplicator(ActionLogProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Ticker.systemTicker());
+    }
+
+    FrontendLogBatchDeduplicator(ActionLogProperties properties, MeterRegistry meterRegistry, Ticker ticker) {
+        ActionLogProperties.Dedup dedup = properties.getDedup();
+        this.enabled = dedup.isEnabled();
+        this.windowSize = Math.max(1, Math.min(MAX_WINDOW_SIZE, dedup.getWindowSize()));
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(dedup.getMaximumSessions())
+                .expireAfterAccess(dedup.getIdleTimeout())
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .build();
+
+        this.duplicateCounter = Counter.builder("action.log.batch.duplicates")
+                .description("재전송으로 판정되어 버퍼에 넣지 않은 프론트엔드 로그 묶음 수")
+                .register(meterRegistry);
+        Gauge.builder("action.log.batch.sessions", windows, Cache::estimatedSize)
+                .description("묶음 번호를 기억하고 있는 세션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 묶음을 처음 받은 것이면 수신 처리하고 true를 반환합니다.
+     *
+     * 비활성화되었거나 세션을 식별할 수 없으면 항상 true를 반환합니다.
+     *
+     * @param sessionId 사용자 세션 ID
+     * @param batchSeq  클라이언트 묶음 번호 (0 이상)
+     * @return 새 묶음이면 true, 이미 받은 묶음이면 false
+     */
+    public boolean tryAcquire(String sessionId, long batchSeq) {
+        if (!isApplicable(sessionId)) {
+            return true;
+        }
+
+        SessionWindow window = windows.get(sessionId, key -> new SessionWindow());
+        if (window.tryAcquire(batchSeq, windowSize)) {
+            return true;
+        }
+
+        duplicateCounter.increment();
+        return false;
+    }
+
+    /**
+     * 수신 처리한 묶음을 다시 받을 수 있도록 되돌립니다.
+     *
+     * 묶음 저장이 실패해 클라이언트가 재전송해야 하는 경우 사용합니다.
+     *
+     * @param sessionId 사용자 세션 ID
+     * @param batchSeq  클라이언트 묶음 번호
+     */
+    public void release(String sessionId, long batchSeq) {
+        if (!isApplicable(sessionId)) {
+            return;
+        }
+
+        SessionWindow window = windows.getIfPresent(sessionId);
+        if (window != null) {
+            window.release(batchSeq, windowSize);
+        }
+    }
+
+    /**
+     * 중복으로 걸러진 묶음 수를 반환합니다.
+     *
+     * @return 누적 중복 묶음 수
+     */
+    public long getDuplicateCount() {
+        return (long) duplicateCounter.count();
+    }
+
+    private boolean isApplicable(String sessionId) {
+        return enabled && sessionId != null && !UNKNOWN_SESSION_ID.equals(sessionId);
+    }
+
+    /**
+     * 세션 하나의 최고 묶음 번호와 그 아래 번호들의 수신 여부
+     *
+     * mask의 i번째 비트는 (highest - i)번 묶음의 수신 여부입니다.
+     */
+    static final class SessionWindow {
+
+        private long highest = -1;
+        private long mask;
+
+        synchronized boolean tryAcquire(long seq, int windowSize) {
+            if (highest < 0 || seq > highest) {
+                long shift = highest < 0 ? MAX_WINDOW_SIZE : seq - highest;
+                mask = shift >= MAX_WINDOW_SIZE ? 1L : (mask << shift) | 1L;
+                highest = seq;
+                return true;
+            }
+
+            long distance = highest - seq;
+            if (distance >= windowSize) {
+                highest = seq;
+                mask = 1L;
+                return true;
+            }
+
+            long bit = 1L << distance;
+            if ((mask & bit) != 0) {
+                return false;
+            }
+
+            mask |= bit;
+            return true;
+        }
+
+        synchronized void release(long seq, int windowSize) {
+            long distance = highest - seq;
+            if (distance >= 0 && distance < windowSize) {
+                mask &= ~(1L << distance);
+            }
+        }
+
+    }
+
+}
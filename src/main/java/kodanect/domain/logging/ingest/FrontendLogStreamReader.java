@@ -0,0 +1,175 @@
+package kodanect.domain.logging.ingest;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.domain.logging.dto.FrontendLogDto;
+import kodanect.domain.logging.exception.FrontendLogStreamTooLargeException;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 프론트엔드 로그 요청 본문({@code {"frontendLogs":[...]}})을 스트리밍으로 읽는 리더입니다.
+ *
+ * - 요청 DTO와 전체 로그 목록을 만들지 않고, {@link JsonParser}로 로그를 하나씩 읽어 설정된 개수(chunk-size)마다 전달합니다.
+ * - 알 수 없는 필드는 건너뜁니다.
+ * - 본문이 최대 크기(max-body-bytes)를 넘으면 읽기를 중단하고 {@link FrontendLogStreamTooLargeException}을 발생시킵니다.
+ *   gzip 본문은 압축을 푼 스트림을 전달받으므로 압축 해제 후 크기로 제한됩니다.
+ */
+@Component
+public class FrontendLogStreamReader {
+
+    private static final String FRONTEND_LOGS_FIELD = "frontendLogs";
+
+    private final JsonFactory jsonFactory;
+    private final long maxBodyBytes;
+    private final int chunkSize;
+
+    public FrontendLogStreamReader(ObjectMapper objectMapper, ActionLogProperties properties) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.maxBodyBytes = properties.getCollect().getMaxBodyBytes();
+        this.chunkSize = Math.max(1, properties.getCollect().getChunkSize());
+    }
+
+    /**
+     * 요청 본문을 읽어 프론트엔드 로그를 묶음 단위로 전달합니다.
+     *
+     * 전달된 목록은 이후 재사용되지 않으므로 소비자가 보관해도 됩니다.
+     *
+     * @param body     요청 본문 (gzip 요청은 압축을 푼 스트림)
+     * @param consumer 로그 묶음을 받을 소비자
+     * @return 읽은 로그 수
+     * @throws IOException 본문을 읽지 못했거나 JSON 형식이 올바르지 않은 경우
+     * @throws FrontendLogStreamTooLargeException 본문이 최대 크기를 넘은 경우
+     */
+    public int read(InputStream body, Consumer<List<FrontendLogDto>> consumer) throws IOException {
+        int total = 0;
+
+        try (JsonParser parser = jsonFactory.createParser(new LimitedInputStream(body, maxBodyBytes))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "요청 본문은 JSON 객체여야 합니다.");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+
+                if (FRONTEND_LOGS_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                    total += readLogs(parser, consumer);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return total;
+    }
+
+    private int readLogs(JsonParser parser, Consumer<List<FrontendLogDto>> consumer) throws IOException {
+        List<FrontendLogDto> chunk = new ArrayList<>(chunkSize);
+        int count = 0;
+        JsonToken token;
+
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "frontendLogs 항목은 JSON 객체여야 합니다.");
+            }
+
+            chunk.add(readLog(parser));
+            count++;
+
+            if (chunk.size() == chunkSize) {
+                consumer.accept(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            consumer.accept(chunk);
+        }
+        return count;
+    }
+
+    private FrontendLogDto readLog(JsonParser parser) throws IOException {
+        FrontendLogDto.FrontendLogDtoBuilder builder = FrontendLogDto.builder();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+
+            switch (field) {
+                case "eventType" -> builder.eventType(text(parser));
+                case "elementId" -> builder.elementId(text(parser));
+                case "pageUrl" -> builder.pageUrl(text(parser));
+                case "referrerUrl" -> builder.referrerUrl(text(parser));
+                case "timestamp" -> builder.timestamp(text(parser));
+                default -> parser.skipChildren();
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 현재 값을 문자열로 읽습니다. 객체나 배열이면 건너뛰고 null을 반환합니다.
+     */
+    private static String text(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsString();
+    }
+
+    /**
+     * 읽은 바이트 수가 최대 크기를 넘으면 예외를 발생시키는 입력 스트림
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long consumed;
+
+        private LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        private void count(int read) {
+            consumed += read;
+            if (consumed > limit) {
+                throw new FrontendLogStreamTooLargeException(limit);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,199 @@
+package kodanect.domain.logging.lifecycle;
+
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.common.exception.config.SecureLogger;
+import kodanect.domain.logging.flusher.ActionLogFlushResult;
+import kodanect.domain.logging.ingest.ActionLogIngestQueue;
+import kodanect.domain.logging.scheduler.ActionLogFlushController;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 애플리케이션 종료 시 버퍼에 남은 액션 로그를 마지막으로 배출하는 생명주기 컴포넌트입니다.
+ *
+ * 웹 서버의 정상 종료(server.shutdown=graceful)가 끝나 새 요청이 들어오지 않는 단계에서 실행되며,
+ * 다음 순서로 진행합니다.
+ * - 적재 큐({@link ActionLogIngestQueue})의 소비 스레드를 멈추고 남은 이벤트를 버퍼로 옮깁니다.
+ * - 배출 제어기의 주기 평가를 멈추고, 진행 중인 평가가 끝나면 병렬 전체 배출을 한 번 수행합니다.
+ * - 저장한 이벤트 수와 포기한 이벤트 수를 로그로 남깁니다.
+ *   두 값은 배출 작업별 결과를 합해 구하므로, 실패하거나 시간을 넘겨도 그때까지 끝난 작업의 저장 건수가 반영됩니다.
+ *
+ * 전체 과정은 action-log.shutdown.timeout 안에 끝나며, 시간을 넘기면 배출을 기다리지 않고 종료를 계속합니다.
+ * 이 단계는 정상 종료 단계(spring.lifecycle.timeout-per-shutdown-phase) 뒤에 이어지므로,
+ * 두 시간의 합이 컨테이너의 종료 유예 시간 안에 들어오도록 기본값을 같은 10초로 맞춥니다.
+ * 이때 포기한 이벤트는 저널 체크포인트가 수행되지 않았으므로, 저널을 사용하면 재시작 시 복원됩니다.
+ */
+@Component
+public class ActionLogShutdownDrainer implements SmartLifecycle {
+
+    /**
+     * Spring Boot 2.7의 웹 서버 정상 종료(WebServerGracefulShutdownLifecycle, DEFAULT_PHASE)와
+     * 웹 서버 중지(WebServerStartStopLifecycle, DEFAULT_PHASE - 1) 이후에 멈추도록 더 낮은 단계를 사용합니다.
+     */
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final SecureLogger log = SecureLogger.getLogger(ActionLogShutdownDrainer.class);
+
+    private static final String DRAIN_THREAD_NAME = "action-log-shutdown-drain";
+
+    private final ActionLogIngestQueue ingestQueue;
+    private final ActionLogFlushController flushController;
+    private final boolean enabled;
+    private final Duration timeout;
+
+    private volatile boolean running;
+    private volatile DrainReport lastReport;
+
+    public ActionLogShutdownDrainer(ActionLogIngestQueue ingestQueue,
+                                    ActionLogFlushController flushController,
+                                    ActionLogProperties properties) {
+        this.ingestQueue = ingestQueue;
+        this.flushController = flushController;
+        this.enabled = properties.getShutdown().isEnabled();
+        this.timeout = properties.getShutdown().getTimeout();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    /**
+     * 적재를 멈추고 마지막 배출을 수행합니다.
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+
+        if (enabled) {
+            lastReport = drain();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * 마지막 배출 결과를 반환합니다.
+     *
+     * @return 마지막 배출 결과 (아직 종료되지 않았거나 비활성화된 경우 null)
+     */
+    public DrainReport getLastReport() {
+        return lastReport;
+    }
+
+    private DrainReport drain() {
+        long startedAt = System.nanoTime();
+
+        try {
+            ingestQueue.stop();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        long buffered = flushController.getBufferedEvents();
+        Duration remaining = timeout.minusNanos(System.nanoTime() - startedAt);
+        if (remaining.isNegative() || remaining.isZero()) {
+            return report(startedAt, 0, buffered, false);
+        }
+
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, DRAIN_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        ActionLogFlushResult result = new ActionLogFlushResult();
+        try {
+            Future<?> flush = executor.submit(() -> flushController.flushAllOnShutdown(remaining, result));
+            flush.get(remaining.toNanos(), TimeUnit.NANOSECONDS);
+            return report(startedAt, buffered, result, true);
+        } catch (TimeoutException e) {
+            log.warn("[액션 로그 종료] 마지막 배출이 제한 시간({}ms)을 넘었습니다.", timeout.toMillis());
+            return report(startedAt, buffered, result, false);
+        } catch (ExecutionException e) {
+            log.error("[액션 로그 종료] 마지막 배출 실패: {}", e.getCause().getMessage());
+            return report(startedAt, buffered, result, false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return report(startedAt, buffered, result, false);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 배출 작업별 결과로 마지막 배출 결과를 만듭니다.
+     *
+     * 적재를 멈춘 뒤의 버퍼 이벤트 중 저장되지 않은 것은 모두 포기한 것으로 봅니다.
+     * (재적재되었거나, 버려졌거나, 제한 시간 안에 끝나지 않은 작업에 배정된 이벤트)
+     */
+    private DrainReport report(long startedAt, long buffered, ActionLogFlushResult result, boolean completed) {
+        long persisted = result.getPersistedEvents();
+        return report(startedAt, persisted, Math.max(0, buffered - persisted), completed);
+    }
+
+    private DrainReport report(long startedAt, long persisted, long abandoned, boolean completed) {
+        DrainReport report = new DrainReport(persisted, abandoned, completed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+        if (abandoned > 0) {
+            log.warn("[액션 로그 종료] 마지막 배출 완료: 저장 {}건, 포기 {}건 ({}ms)",
+                    report.getPersistedEvents(), report.getAbandonedEvents(), report.getElapsedMillis());
+        } else {
+            log.info("[액션 로그 종료] 마지막 배출 완료: 저장 {}건 ({}ms)",
+                    report.getPersistedEvents(), report.getElapsedMillis());
+        }
+        return report;
+    }
+
+    /**
+     * 종료 시 마지막 배출 결과
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class DrainReport {
+
+        /**
+         * 마지막 배출로 저장한 이벤트 수
+         */
+        private final long persistedEvents;
+
+        /**
+         * 제한 시간 초과, 저장 실패 또는 배출 중 새로 적재되어 저장하지 못한 이벤트 수
+         */
+        private final long abandonedEvents;
+
+        /**
+         * 제한 시간 안에 배출이 정상적으로 끝났는지 여부
+         */
+        private final boolean completed;
+
+        /**
+         * 적재 중지부터 배출 종료까지 걸린 시간 (밀리초)
+         */
+        private final long elapsedMillis;
+
+    }
+
+}
@@ -0,0 +1,101 @@
+package kodanect.domain.logging.repository;
+
+import kodanect.common.config.datasource.DataSourceConfig;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.domain.logging.entity.ActionLog;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ActionLog}를 JDBC 배치 INSERT로 저장하는 전용 저장소입니다.
+ *
+ * {@link ActionLog}의 키 생성 전략이 IDENTITY이므로 JPA saveAll은 행마다 INSERT를 한 번씩 실행합니다.
+ * 이 클래스는 생성 키를 돌려받지 않는 대신, 설정된 청크 크기만큼 묶어 한 번의 배치로 전송하고
+ * 청크마다 하나의 트랜잭션으로 커밋하여 커넥션 점유 시간을 줄입니다.
+ *
+ * MySQL에서는 JDBC URL에 {@code rewriteBatchedStatements=true}가 있어야 다중 행 INSERT로 변환됩니다.
+ *
+ * 저장 테이블은 {@link ActionLogPartitionManager}가 정하며, 월별 분할 사용 시 생성 일시의 월 테이블에 나누어 저장합니다.
+ * 사용자 요청과 커넥션을 다투지 않도록 백그라운드 풀({@link DataSourceConfig#BACKGROUND_DATA_SOURCE})을 사용합니다.
+ */
+@Repository
+public class ActionLogBatchWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO %s (url_name, crud_code, ip_addr, log_text, write_time) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ActionLogPartitionManager partitionManager;
+    private final int chunkSize;
+
+    public ActionLogBatchWriter(@Qualifier(DataSourceConfig.BACKGROUND_JDBC_TEMPLATE) JdbcTemplate jdbcTemplate,
+                                @Qualifier(DataSourceConfig.BACKGROUND_TRANSACTION_MANAGER) PlatformTransactionManager transactionManager,
+                                ActionLogPartitionManager partitionManager,
+                                ActionLogProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.partitionManager = partitionManager;
+        this.chunkSize = Math.max(1, properties.getWriter().getChunkSize());
+    }
+
+    /**
+     * 로그 목록을 청크 단위 배치 INSERT로 저장합니다.
+     *
+     * 같은 호출에서 저장되는 로그는 동일한 생성 일시를 가지며, 엔티티에 생성 일시가 있으면 그 값을 사용합니다.
+     * 중간 청크에서 예외가 발생하면 해당 청크만 롤백되고, 이미 커밋된 이전 청크는 유지됩니다.
+     *
+     * @param logs 저장할 로그 목록
+     * @return 저장 요청한 행 수
+     */
+    public int insertAll(List<ActionLog> logs) {
+        LocalDateTime writeTime = LocalDateTime.now();
+
+        for (Map.Entry<String, List<ActionLog>> entry : groupByTable(logs, writeTime).entrySet()) {
+            insertChunks(entry.getKey(), entry.getValue(), Timestamp.valueOf(writeTime));
+        }
+
+        return logs.size();
+    }
+
+    private void insertChunks(String table, List<ActionLog> logs, Timestamp writeTime) {
+        String sql = String.format(INSERT_SQL, table);
+
+        for (int from = 0; from < logs.size(); from += chunkSize) {
+            List<ActionLog> chunk = logs.subList(from, Math.min(from + chunkSize, logs.size()));
+
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(sql, chunk, chunk.size(), (ps, log) -> {
+                        ps.setString(1, log.getUrlName());
+                        ps.setString(2, log.getCrudCode());
+                        ps.setString(3, log.getIpAddr());
+                        ps.setString(4, log.getLogText());
+                        ps.setTimestamp(5, log.getWriteTime() != null ? Timestamp.valueOf(log.getWriteTime()) : writeTime);
+                    }));
+        }
+    }
+
+    private Map<String, List<ActionLog>> groupByTable(List<ActionLog> logs, LocalDateTime writeTime) {
+        if (!partitionManager.isEnabled()) {
+            return Map.of(ActionLogPartitionManager.BASE_TABLE, logs);
+        }
+
+        Map<String, List<ActionLog>> byTable = new LinkedHashMap<>();
+        for (ActionLog log : logs) {
+            String table = partitionManager.tableFor(log.getWriteTime() != null ? log.getWriteTime() : writeTime);
+            byTable.computeIfAbsent(table, key -> new ArrayList<>()).add(log);
+        }
+        return byTable;
+    }
+
+}
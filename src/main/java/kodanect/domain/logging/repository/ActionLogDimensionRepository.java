@@ -0,0 +1,124 @@
+package kodanect.domain.logging.repository;
+
+import kodanect.common.config.datasource.DataSourceConfig;
+import kodanect.domain.logging.dimension.ActionLogDimension;
+import kodanect.domain.logging.dimension.DimensionType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 로그 본문 반복 문자열 사전 테이블(tb25_943_action_log_dimension)을 JDBC로 조회/등록하는 저장소입니다.
+ *
+ * 사전 ID는 종류와 관계없이 테이블 전체에서 유일하며, (종류, 값) 조합에 유일 제약이 있습니다.
+ * 여러 서버가 같은 값을 동시에 등록하면 한쪽은 유일 제약 위반으로 실패하므로, 이미 등록된 ID를 다시 조회하여 사용합니다.
+ * 테이블 DDL은 {@link ActionLogSchemaInitializer}가 관리합니다.
+ * 등록은 배출 중에 일어나므로 백그라운드 풀({@link DataSourceConfig#BACKGROUND_DATA_SOURCE})을 사용합니다.
+ */
+@Repository
+public class ActionLogDimensionRepository {
+
+    /**
+     * 사전에 등록할 수 있는 값의 최대 길이 (db/action-log/schema.sql의 dim_value 길이)
+     */
+    public static final int MAX_VALUE_LENGTH = 300;
+
+    private static final String SELECT_ALL_SQL = "SELECT dim_id, dim_type, dim_value "
+            + "FROM tb25_943_action_log_dimension ORDER BY dim_id LIMIT ?";
+
+    private static final String SELECT_BY_ID_SQL = "SELECT dim_value FROM tb25_943_action_log_dimension WHERE dim_id = ?";
+
+    private static final String SELECT_BY_VALUE_SQL = "SELECT dim_id, dim_value FROM tb25_943_action_log_dimension "
+            + "WHERE dim_type = ? AND dim_value = ?";
+
+    private static final String INSERT_SQL = "INSERT INTO tb25_943_action_log_dimension (dim_type, dim_value) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ActionLogDimensionRepository(@Qualifier(DataSourceConfig.BACKGROUND_JDBC_TEMPLATE) JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 등록 순서대로 사전 항목을 조회합니다.
+     *
+     * @param limit 최대 조회 건수
+     * @return 사전 항목 목록
+     */
+    public List<ActionLogDimension> findAll(int limit) {
+        return jdbcTemplate.query(SELECT_ALL_SQL, (rs, rowNum) -> new ActionLogDimension(
+                rs.getInt("dim_id"),
+                DimensionType.valueOf(rs.getString("dim_type")),
+                rs.getString("dim_value")), limit);
+    }
+
+    /**
+     * 사전 ID로 원래 문자열을 조회합니다.
+     *
+     * @param id 사전 ID
+     * @return 원래 문자열 (없으면 empty)
+     */
+    public Optional<String> findValue(int id) {
+        return jdbcTemplate.query(SELECT_BY_ID_SQL, (rs, rowNum) -> rs.getString("dim_value"), id)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * (종류, 값)에 해당하는 사전 ID를 조회하고, 없으면 등록한 뒤 반환합니다.
+     *
+     * DB 정렬 규칙에 따라 대소문자만 다른 값이 같은 항목으로 조회될 수 있으므로,
+     * 조회된 값이 요청한 값과 정확히 같을 때만 ID를 반환합니다.
+     *
+     * @param type  문자열 종류
+     * @param value 원래 문자열
+     * @return 사전 ID (대소문자만 다른 값이 이미 등록된 경우 empty)
+     */
+    public Optional<Integer> findOrInsert(DimensionType type, String value) {
+        Optional<ActionLogDimension> existing = findByValue(type, value);
+        if (existing.isPresent()) {
+            return exactId(existing.get(), value);
+        }
+
+        try {
+            return Optional.of(insert(type, value));
+        } catch (DuplicateKeyException e) {
+            return findByValue(type, value).flatMap(dimension -> exactId(dimension, value));
+        }
+    }
+
+    private Optional<ActionLogDimension> findByValue(DimensionType type, String value) {
+        return jdbcTemplate.query(SELECT_BY_VALUE_SQL, (rs, rowNum) -> new ActionLogDimension(
+                        rs.getInt("dim_id"), type, rs.getString("dim_value")), type.name(), value)
+                .stream()
+                .findFirst();
+    }
+
+    private int insert(DimensionType type, String value) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[]{"dim_id"});
+            ps.setString(1, type.name());
+            ps.setString(2, value);
+            return ps;
+        }, keyHolder);
+
+        Number key = keyHolder.getKey();
+        if (key == null) {
+            throw new IllegalStateException("사전 ID가 생성되지 않았습니다: " + type);
+        }
+        return key.intValue();
+    }
+
+    private static Optional<Integer> exactId(ActionLogDimension dimension, String value) {
+        return value.equals(dimension.getValue()) ? Optional.of(dimension.getId()) : Optional.empty();
+    }
+
+}
@@ -0,0 +1,291 @@
+package kodanect.domain.logging.repository;
+
+import kodanect.common.config.datasource.DataSourceConfig;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.common.config.properties.ActionLogProperties.Partition.ExpiredAction;
+import kodanect.common.exception.config.SecureLogger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 액션 로그를 월별 테이블({@code tb25_940_action_log_yyyyMM})로 분할하고 보존 기간을 관리하는 컴포넌트입니다.
+ *
+ * - 저장 시 {@link #tableFor(LocalDateTime)}로 생성 일시가 속한 월의 테이블을 조회하며, 없으면 그 자리에서 생성합니다.
+ * - 주기 작업({@link #maintain()})은 현재 월과 다음 월 테이블을 미리 만들고,
+ *   보존 기간이 지난 테이블을 설정에 따라 삭제하거나 보관용 이름으로 변경합니다.
+ *   보관용 테이블도 보관 기간(archive-retention-months)이 지나면 삭제합니다.
+ * - 월별 테이블은 기간 조회와 정리를 위해 write_time 인덱스를 가지며, 인덱스가 없는 기존 테이블에는 주기 작업에서 추가합니다.
+ * - MySQL RANGE 파티션 대신 기간별 테이블을 사용하므로 H2에서도 같은 방식으로 동작합니다.
+ *
+ * 테이블 생성/만료 처리(DDL)는 기동 완료 후와 주기 작업에서만 수행하며, 실패해도 기동이나 저장을 중단하지 않습니다.
+ * (DDL 권한이 없는 validate 환경 포함) 월 테이블을 만들 수 없으면 다음 주기 작업 전까지 단일 테이블에 저장합니다.
+ *
+ * 분할이 비활성화(action-log.partition.enabled=false)된 경우 기존 tb25_940_action_log 단일 테이블을 그대로 사용합니다.
+ * 분할 테이블은 JPA 매핑 대상이 아니므로, 분할 사용 시 {@link ActionLogRepository}로 로그를 조회하지 않습니다.
+ * 테이블 생성/만료 처리는 백그라운드 풀({@link DataSourceConfig#BACKGROUND_DATA_SOURCE})에서 수행합니다.
+ */
+@Component
+public class ActionLogPartitionManager {
+
+    /**
+     * 분할 이전부터 사용하는 단일 액션 로그 테이블
+     */
+    public static final String BASE_TABLE = "tb25_940_action_log";
+
+    private static final SecureLogger log = SecureLogger.getLogger(ActionLogPartitionManager.class);
+
+    private static final String ARCHIVE_PREFIX = BASE_TABLE + "_archive_";
+    private static final DateTimeFormatter PERIOD_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("(?i)^" + BASE_TABLE + "_(\\d{6})$");
+    private static final Pattern ARCHIVE_NAME = Pattern.compile("(?i)^" + ARCHIVE_PREFIX + "(\\d{6})$");
+    private static final String WRITE_TIME_COLUMN = "write_time";
+
+    private static final String CREATE_TABLE_SQL = "CREATE TABLE IF NOT EXISTS %1$s ("
+            + "log_seq INT NOT NULL AUTO_INCREMENT PRIMARY KEY, "
+            + "url_name VARCHAR(600) NOT NULL, "
+            + "crud_code VARCHAR(10), "
+            + "ip_addr VARCHAR(60), "
+            + "log_text TEXT, "
+            + "write_time DATETIME NOT NULL, "
+            + "INDEX %1$s_write_time_idx (write_time))";
+
+    private static final String CREATE_INDEX_SQL = "CREATE INDEX %1$s_write_time_idx ON %1$s (write_time)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int retentionMonths;
+    private final int createAheadMonths;
+    private final ExpiredAction expiredAction;
+    private final int archiveRetentionMonths;
+    private final Clock clock;
+    private final Set<YearMonth> knownPartitions = ConcurrentHashMap.newKeySet();
+    /* 생성에 실패해 다음 주기 작업 전까지 단일 테이블에 저장할 월 */
+    private final Set<YearMonth> unavailablePartitions = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public ActionLogPartitionManager(@Qualifier(DataSourceConfig.BACKGROUND_JDBC_TEMPLATE) JdbcTemplate jdbcTemplate,
+                                     ActionLogProperties properties) {
+        this(jdbcTemplate, properties, Clock.systemDefaultZone());
+    }
+
+    ActionLogPartitionManager(JdbcTemplate jdbcTemplate, ActionLogProperties properties, Clock clock) {
+        ActionLogProperties.Partition partition = properties.getPartition();
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = partition.isEnabled();
+        this.retentionMonths = Math.max(1, partition.getRetentionMonths());
+        this.createAheadMonths = Math.max(0, partition.getCreateAheadMonths());
+        this.expiredAction = partition.getExpiredAction();
+        this.archiveRetentionMonths = Math.max(0, partition.getArchiveRetentionMonths());
+        this.clock = clock;
+    }
+
+    /**
+     * 기동이 끝난 뒤 현재 월과 다음 월 테이블을 준비하고 만료된 테이블을 정리합니다.
+     *
+     * 기동 경로에서 DDL을 실행하지 않으며, 실패해도 애플리케이션은 계속 동작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        maintain();
+    }
+
+    /**
+     * 월별 테이블을 미리 생성하고, 보존 기간이 지난 테이블과 보관 기간이 지난 보관용 테이블을 정리합니다.
+     *
+     * DDL 실패는 로그로 남기고 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(cron = "${action-log.partition.maintenance-cron:0 10 0 * * *}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            unavailablePartitions.clear();
+
+            YearMonth current = YearMonth.now(clock);
+            for (int ahead = 0; ahead <= createAheadMonths; ahead++) {
+                ensurePartition(current.plusMonths(ahead));
+            }
+
+            YearMonth oldestRetained = current.minusMonths(retentionMonths - 1L);
+            for (YearMonth period : listPartitions()) {
+                if (period.isBefore(oldestRetained)) {
+                    expire(period);
+                } else {
+                    ensureWriteTimeIndex(tableName(period));
+                }
+            }
+
+            if (archiveRetentionMonths > 0) {
+                YearMonth oldestArchived = oldestRetained.minusMonths(archiveRetentionMonths);
+                for (YearMonth period : listTables(ARCHIVE_NAME)) {
+                    if (period.isBefore(oldestArchived)) {
+                        dropArchive(period);
+                    }
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("[액션 로그 분할] 월별 테이블 관리 실패, 다음 주기에 다시 시도합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 분할 사용 여부를 반환합니다.
+     *
+     * @return 월별 테이블에 저장하면 true
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 생성 일시에 해당하는 로그를 저장할 테이블 이름을 반환합니다.
+     *
+     * 분할 사용 시 해당 월 테이블이 없으면 생성하며, 생성에 실패하면 다음 주기 작업 전까지 단일 테이블을 반환합니다.
+     *
+     * @param writeTime 로그 생성 일시
+     * @return 저장 대상 테이블 이름
+     */
+    public String tableFor(LocalDateTime writeTime) {
+        if (!enabled) {
+            return BASE_TABLE;
+        }
+
+        YearMonth period = YearMonth.from(writeTime);
+        if (unavailablePartitions.contains(period)) {
+            return BASE_TABLE;
+        }
+
+        try {
+            ensurePartition(period);
+            return tableName(period);
+        } catch (DataAccessException e) {
+            unavailablePartitions.add(period);
+            log.warn("[액션 로그 분할] {} 테이블을 만들 수 없어 {}에 저장합니다: {}", tableName(period), BASE_TABLE, e.getMessage());
+            return BASE_TABLE;
+        }
+    }
+
+    /**
+     * 지정한 월의 테이블이 없으면 생성합니다.
+     *
+     * @param period 대상 월
+     */
+    public void ensurePartition(YearMonth period) {
+        if (knownPartitions.contains(period)) {
+            return;
+        }
+
+        jdbcTemplate.execute(String.format(CREATE_TABLE_SQL, tableName(period)));
+        knownPartitions.add(period);
+    }
+
+    /**
+     * 현재 존재하는 월별 테이블의 월 목록을 오래된 순서로 반환합니다. (보관용 테이블 제외)
+     *
+     * @return 월 목록
+     */
+    public List<YearMonth> listPartitions() {
+        return listTables(PARTITION_NAME);
+    }
+
+    /**
+     * 이름이 패턴과 일치하는 테이블의 월 목록을 오래된 순서로 반환합니다.
+     */
+    private List<YearMonth> listTables(Pattern namePattern) {
+        List<YearMonth> periods = jdbcTemplate.execute((ConnectionCallback<List<YearMonth>>) connection -> {
+            List<YearMonth> found = new ArrayList<>();
+            DatabaseMetaData metaData = connection.getMetaData();
+
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(), "%", new String[]{"TABLE"})) {
+                while (tables.next()) {
+                    Matcher matcher = namePattern.matcher(tables.getString("TABLE_NAME"));
+                    if (matcher.matches()) {
+                        found.add(YearMonth.parse(matcher.group(1), PERIOD_FORMAT));
+                    }
+                }
+            }
+            return found;
+        });
+
+        periods.sort(null);
+        return periods;
+    }
+
+    /**
+     * 지정한 월의 테이블 이름을 반환합니다.
+     *
+     * @param period 대상 월
+     * @return 테이블 이름
+     */
+    public static String tableName(YearMonth period) {
+        return BASE_TABLE + "_" + PERIOD_FORMAT.format(period);
+    }
+
+    private void expire(YearMonth period) {
+        String table = tableName(period);
+
+        if (expiredAction == ExpiredAction.ARCHIVE) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " RENAME TO " + ARCHIVE_PREFIX + PERIOD_FORMAT.format(period));
+        } else {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+        }
+
+        knownPartitions.remove(period);
+        log.info("[액션 로그 분할] 보존 기간이 지난 테이블 처리: {} ({})", table, expiredAction);
+    }
+
+    private void dropArchive(YearMonth period) {
+        String table = ARCHIVE_PREFIX + PERIOD_FORMAT.format(period);
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+        log.info("[액션 로그 분할] 보관 기간이 지난 테이블 삭제: {}", table);
+    }
+
+    /**
+     * write_time 인덱스가 없는 월별 테이블(인덱스 추가 이전에 생성된 테이블)에 인덱스를 추가합니다.
+     */
+    private void ensureWriteTimeIndex(String table) {
+        Boolean indexed = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String name = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase() : table;
+
+            try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), name, false, true)) {
+                while (indexes.next()) {
+                    if (WRITE_TIME_COLUMN.equalsIgnoreCase(indexes.getString("COLUMN_NAME"))
+                            && indexes.getShort("ORDINAL_POSITION") == 1) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        });
+
+        if (!Boolean.TRUE.equals(indexed)) {
+            jdbcTemplate.execute(String.format(CREATE_INDEX_SQL, table));
+            log.info("[액션 로그 분할] {} 테이블에 write_time 인덱스를 추가했습니다.", table);
+        }
+    }
+
+}
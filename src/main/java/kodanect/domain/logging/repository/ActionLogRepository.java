@@ -7,6 +7,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * {@link ActionLog} 엔티티의 DB 접근을 담당하는 JPA 리포지토리입니다.
  *
  * 기본 CRUD 기능은 {@link JpaRepository}를 통해 자동 제공됩니다.
+ *
+ * 단일 테이블(tb25_940_action_log)만 매핑하므로, 월별 분할({@link ActionLogPartitionManager})을 사용하는 환경에서는
+ * 월별 테이블의 로그가 조회되지 않습니다. 분할 사용 시 이 리포지토리로 로그를 조회하지 않습니다.
  */
 public interface ActionLogRepository extends JpaRepository<ActionLog, Integer> {
 }
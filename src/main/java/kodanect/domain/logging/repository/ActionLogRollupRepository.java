@@ -0,0 +1,150 @@
+package kodanect.domain.logging.repository;
+
+import kodanect.common.config.datasource.DataSourceConfig;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.domain.logging.dto.HourlyRollupResponse;
+import kodanect.domain.logging.dto.SystemRollupResponse;
+import kodanect.domain.logging.rollup.ActionLogRollup;
+import kodanect.domain.logging.rollup.ActionLogRollup.HourlyKey;
+import kodanect.domain.logging.rollup.ActionLogRollup.SystemKey;
+import kodanect.domain.logging.rollup.SystemDimension;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 액션 로그 집계 테이블을 JDBC로 누적/조회하는 저장소입니다.
+ *
+ * - tb25_941_action_log_rollup_hourly: (시간대, URL 경로, CRUD 코드)별 이벤트 수
+ * - tb25_942_action_log_rollup_system: (시간대, 집계 기준, 값)별 세션 수
+ *
+ * 두 테이블 모두 집계 키가 기본 키이며, 배출마다 {@code INSERT ... ON DUPLICATE KEY UPDATE}로 건수를 더합니다.
+ * 테이블 DDL은 {@link ActionLogSchemaInitializer}가 관리하며, 백그라운드 풀({@link DataSourceConfig#BACKGROUND_DATA_SOURCE})을 사용합니다.
+ */
+@Repository
+public class ActionLogRollupRepository {
+
+    private static final String UPSERT_HOURLY_SQL = "INSERT INTO tb25_941_action_log_rollup_hourly "
+            + "(bucket_hour, url_name, crud_code, event_count) VALUES (?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE event_count = event_count + VALUES(event_count)";
+
+    private static final String UPSERT_SYSTEM_SQL = "INSERT INTO tb25_942_action_log_rollup_system "
+            + "(bucket_hour, dimension, dimension_value, session_count) VALUES (?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE session_count = session_count + VALUES(session_count)";
+
+    private static final String SELECT_HOURLY_SQL = "SELECT bucket_hour, url_name, crud_code, event_count "
+            + "FROM tb25_941_action_log_rollup_hourly WHERE bucket_hour >= ? AND bucket_hour < ?";
+
+    private static final String SELECT_SYSTEM_SQL = "SELECT dimension_value, SUM(session_count) AS session_count "
+            + "FROM tb25_942_action_log_rollup_system "
+            + "WHERE dimension = ? AND bucket_hour >= ? AND bucket_hour < ? "
+            + "GROUP BY dimension_value ORDER BY session_count DESC";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    public ActionLogRollupRepository(@Qualifier(DataSourceConfig.BACKGROUND_JDBC_TEMPLATE) JdbcTemplate jdbcTemplate,
+                                     @Qualifier(DataSourceConfig.BACKGROUND_TRANSACTION_MANAGER) PlatformTransactionManager transactionManager,
+                                     ActionLogProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = properties.getRollup().isEnabled();
+    }
+
+    /**
+     * 집계 사용 여부를 반환합니다.
+     *
+     * @return 배출 시 집계를 누적하면 true
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 배출 한 번의 집계 결과를 하나의 트랜잭션으로 누적합니다.
+     *
+     * @param rollup 집계 결과
+     */
+    public void merge(ActionLogRollup rollup) {
+        List<Object[]> hourlyRows = new ArrayList<>();
+        for (Map.Entry<HourlyKey, Long> entry : rollup.getHourlyCounts().entrySet()) {
+            HourlyKey key = entry.getKey();
+            hourlyRows.add(new Object[]{
+                    Timestamp.valueOf(key.getBucketHour()), key.getUrlName(), key.getCrudCode(), entry.getValue()});
+        }
+
+        List<Object[]> systemRows = new ArrayList<>();
+        for (Map.Entry<SystemKey, Long> entry : rollup.getSystemCounts().entrySet()) {
+            SystemKey key = entry.getKey();
+            systemRows.add(new Object[]{
+                    Timestamp.valueOf(key.getBucketHour()), key.getDimension().name(), key.getValue(), entry.getValue()});
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!hourlyRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_HOURLY_SQL, hourlyRows);
+            }
+            if (!systemRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_SYSTEM_SQL, systemRows);
+            }
+        });
+    }
+
+    /**
+     * 기간 내 시간대별 이벤트 수를 조회합니다.
+     *
+     * @param from     조회 시작 시각 (포함)
+     * @param to       조회 종료 시각 (제외)
+     * @param urlName  URL 경로 (null이면 전체)
+     * @param crudCode CRUD 코드 (null이면 전체)
+     * @return 시간대, URL 경로, CRUD 코드 순으로 정렬된 집계 목록
+     */
+    public List<HourlyRollupResponse> findHourly(LocalDateTime from, LocalDateTime to, String urlName, String crudCode) {
+        StringBuilder sql = new StringBuilder(SELECT_HOURLY_SQL);
+        List<Object> args = new ArrayList<>(List.of(Timestamp.valueOf(from), Timestamp.valueOf(to)));
+
+        if (urlName != null) {
+            sql.append(" AND url_name = ?");
+            args.add(urlName);
+        }
+        if (crudCode != null) {
+            sql.append(" AND crud_code = ?");
+            args.add(crudCode);
+        }
+        sql.append(" ORDER BY bucket_hour, url_name, crud_code");
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> HourlyRollupResponse.builder()
+                .bucketHour(rs.getTimestamp("bucket_hour").toLocalDateTime())
+                .urlName(rs.getString("url_name"))
+                .crudCode(rs.getString("crud_code"))
+                .eventCount(rs.getLong("event_count"))
+                .build(), args.toArray());
+    }
+
+    /**
+     * 기간 내 시스템 정보 값별 세션 수를 합산하여 조회합니다.
+     *
+     * @param dimension 집계 기준
+     * @param from      조회 시작 시각 (포함)
+     * @param to        조회 종료 시각 (제외)
+     * @return 세션 수 내림차순 집계 목록
+     */
+    public List<SystemRollupResponse> findSystem(SystemDimension dimension, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(SELECT_SYSTEM_SQL, (rs, rowNum) -> SystemRollupResponse.builder()
+                        .dimension(dimension)
+                        .value(rs.getString("dimension_value"))
+                        .sessionCount(rs.getLong("session_count"))
+                        .build(),
+                dimension.name(), Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+}
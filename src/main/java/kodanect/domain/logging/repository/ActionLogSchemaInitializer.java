@@ -0,0 +1,76 @@
+package kodanect.domain.logging.repository;
+
+import kodanect.common.config.datasource.DataSourceConfig;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.common.exception.config.SecureLogger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 액션 로그 집계/사전 테이블(tb25_941, tb25_942, tb25_943)의 스키마를 적용하는 컴포넌트입니다.
+ *
+ * - DDL은 {@value #SCHEMA_LOCATION}에 있으며, ddl-auto=validate로 운영하는 DB에는 이 스크립트를 마이그레이션으로 미리 적용합니다.
+ * - action-log.schema.create-tables=true(로컬/테스트 기본값)일 때만 기동 완료 후 같은 스크립트를 실행하며,
+ *   실패해도 기동을 중단하지 않습니다. (집계 누적과 사전 등록은 테이블이 없으면 실패를 로그로 남기고 계속 동작)
+ * - 월별 로그 테이블은 {@link ActionLogPartitionManager}가 관리합니다.
+ */
+@Component
+public class ActionLogSchemaInitializer {
+
+    /**
+     * 집계/사전 테이블 DDL 스크립트 위치 (classpath)
+     */
+    public static final String SCHEMA_LOCATION = "db/action-log/schema.sql";
+
+    private static final SecureLogger log = SecureLogger.getLogger(ActionLogSchemaInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean createTables;
+
+    @Autowired
+    public ActionLogSchemaInitializer(@Qualifier(DataSourceConfig.BACKGROUND_JDBC_TEMPLATE) JdbcTemplate jdbcTemplate,
+                                      ActionLogProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.createTables = properties.getSchema().isCreateTables();
+    }
+
+    /**
+     * 기동이 끝난 뒤, 사전 적재 등 테이블을 사용하는 다른 준비 작업보다 먼저 스키마를 적용합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void init() {
+        if (!createTables) {
+            return;
+        }
+
+        try {
+            createTables();
+        } catch (DataAccessException e) {
+            log.warn("[액션 로그 스키마] {} 적용 실패, 마이그레이션으로 테이블을 준비해야 합니다: {}", SCHEMA_LOCATION, e.getMessage());
+        }
+    }
+
+    /**
+     * 스키마 스크립트를 실행하여 없는 테이블을 생성합니다.
+     */
+    public void createTables() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource(SCHEMA_LOCATION));
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            populator.populate(connection);
+            return null;
+        });
+    }
+
+}
@@ -0,0 +1,230 @@
+package kodanect.domain.logging.rollup;
+
+import kodanect.common.constant.CrudCode;
+import kodanect.domain.logging.dto.SystemInfoDto;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.net.URI;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 번의 배출에서 집계한 시간대별 액션 로그 건수입니다.
+ *
+ * - (URL 경로, CRUD 코드, 시간대)별 이벤트 수
+ * - (시간대, 브라우저/운영체제/디바이스 값)별 세션 수
+ *
+ * 시간대는 이벤트 발생 시각을 시스템 기본 시간대 기준 정시로 내림한 값이며,
+ * 발생 시각을 해석할 수 없으면 배출 시각을 사용합니다.
+ * URL은 스킴, 호스트, 쿼리 문자열을 제외한 경로만 사용합니다.
+ *
+ * 배출 스레드 하나에서만 사용하므로 동기화하지 않습니다.
+ */
+public class ActionLogRollup {
+
+    static final int MAX_URL_LENGTH = 600;
+    static final int MAX_DIMENSION_VALUE_LENGTH = 100;
+
+    private static final String UNKNOWN = "unknown";
+
+    private final LocalDateTime fallbackHour;
+    private final ZoneId zone;
+    private final Map<HourlyKey, Long> hourlyCounts = new HashMap<>();
+    private final Map<SystemKey, Long> systemCounts = new HashMap<>();
+
+    public ActionLogRollup(LocalDateTime flushedAt) {
+        this(flushedAt, ZoneId.systemDefault());
+    }
+
+    ActionLogRollup(LocalDateTime flushedAt, ZoneId zone) {
+        this.fallbackHour = flushedAt.truncatedTo(ChronoUnit.HOURS);
+        this.zone = zone;
+    }
+
+    /**
+     * 이벤트 한 건을 집계합니다.
+     *
+     * @param url       페이지 URL 또는 API 엔드포인트
+     * @param crudCode  CRUD 코드
+     * @param timestamp 이벤트 발생 시각 (ISO-8601)
+     */
+    public void addEvent(String url, CrudCode crudCode, String timestamp) {
+        addEvents(url, crudCode, timestamp, 1);
+    }
+
+    /**
+     * 같은 URL, CRUD 코드, 발생 시각으로 합쳐진 이벤트 여러 건을 집계합니다. (요약 로그)
+     *
+     * @param url       페이지 URL 또는 API 엔드포인트
+     * @param crudCode  CRUD 코드
+     * @param timestamp 이벤트 발생 시각 (ISO-8601)
+     * @param count     이벤트 수
+     */
+    public void addEvents(String url, CrudCode crudCode, String timestamp, long count) {
+        HourlyKey key = new HourlyKey(hourOf(timestamp), normalizeUrl(url), crudCode.name());
+        hourlyCounts.merge(key, count, Long::sum);
+    }
+
+    /**
+     * 세션 한 건의 시스템 정보를 브라우저/운영체제/디바이스별로 집계합니다.
+     *
+     * @param systemInfo 시스템 정보
+     * @param timestamp  세션의 대표 이벤트 발생 시각 (ISO-8601)
+     */
+    public void addSession(SystemInfoDto systemInfo, String timestamp) {
+        LocalDateTime hour = hourOf(timestamp);
+
+        addDimension(hour, SystemDimension.BROWSER, systemInfo.getBrowserName());
+        addDimension(hour, SystemDimension.OPERATING_SYSTEM, systemInfo.getOperatingSystem());
+        addDimension(hour, SystemDimension.DEVICE, systemInfo.getDevice());
+    }
+
+    /**
+     * 다른 집계 결과를 이 집계에 더합니다. (병렬 배출 작업별 집계 합산)
+     *
+     * @param other 더할 집계 결과
+     */
+    public void merge(ActionLogRollup other) {
+        other.hourlyCounts.forEach((key, count) -> hourlyCounts.merge(key, count, Long::sum));
+        other.systemCounts.forEach((key, count) -> systemCounts.merge(key, count, Long::sum));
+    }
+
+    /**
+     * 집계된 항목이 없는지 확인합니다.
+     *
+     * @return 비어 있으면 true
+     */
+    public boolean isEmpty() {
+        return hourlyCounts.isEmpty() && systemCounts.isEmpty();
+    }
+
+    /**
+     * (시간대, URL 경로, CRUD 코드)별 이벤트 수를 반환합니다.
+     *
+     * @return 읽기 전용 집계 맵
+     */
+    public Map<HourlyKey, Long> getHourlyCounts() {
+        return Collections.unmodifiableMap(hourlyCounts);
+    }
+
+    /**
+     * (시간대, 집계 기준, 값)별 세션 수를 반환합니다.
+     *
+     * @return 읽기 전용 집계 맵
+     */
+    public Map<SystemKey, Long> getSystemCounts() {
+        return Collections.unmodifiableMap(systemCounts);
+    }
+
+    private void addDimension(LocalDateTime hour, SystemDimension dimension, String value) {
+        String normalized = (value == null || value.isBlank()) ? UNKNOWN : truncate(value, MAX_DIMENSION_VALUE_LENGTH);
+        systemCounts.merge(new SystemKey(hour, dimension, normalized), 1L, Long::sum);
+    }
+
+    private LocalDateTime hourOf(String timestamp) {
+        if (timestamp == null || timestamp.isBlank()) {
+            return fallbackHour;
+        }
+
+        try {
+            return LocalDateTime.ofInstant(Instant.parse(timestamp), zone).truncatedTo(ChronoUnit.HOURS);
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDateTime.parse(timestamp).truncatedTo(ChronoUnit.HOURS);
+            } catch (DateTimeParseException ignored) {
+                return fallbackHour;
+            }
+        }
+    }
+
+    static String normalizeUrl(String url) {
+        if (url == null || url.isBlank()) {
+            return UNKNOWN;
+        }
+
+        String path;
+        try {
+            path = URI.create(url.trim()).getRawPath();
+        } catch (IllegalArgumentException e) {
+            int end = indexOfAny(url, '?', '#');
+            path = end >= 0 ? url.substring(0, end) : url;
+        }
+
+        if (path == null || path.isEmpty()) {
+            path = "/";
+        }
+        return truncate(path, MAX_URL_LENGTH);
+    }
+
+    private static int indexOfAny(String value, char first, char second) {
+        int a = value.indexOf(first);
+        int b = value.indexOf(second);
+        if (a < 0) {
+            return b;
+        }
+        return b < 0 ? a : Math.min(a, b);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    /**
+     * 시간대별 이벤트 집계 키
+     */
+    @Getter
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    public static class HourlyKey {
+
+        /**
+         * 집계 시간대 (정시)
+         */
+        private final LocalDateTime bucketHour;
+
+        /**
+         * URL 경로
+         */
+        private final String urlName;
+
+        /**
+         * CRUD 코드
+         */
+        private final String crudCode;
+
+    }
+
+    /**
+     * 시간대별 시스템 정보 집계 키
+     */
+    @Getter
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    public static class SystemKey {
+
+        /**
+         * 집계 시간대 (정시)
+         */
+        private final LocalDateTime bucketHour;
+
+        /**
+         * 집계 기준
+         */
+        private final SystemDimension dimension;
+
+        /**
+         * 집계 기준 값 (예: Chrome, Windows 10, Computer)
+         */
+        private final String value;
+
+    }
+
+}
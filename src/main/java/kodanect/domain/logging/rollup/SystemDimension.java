@@ -0,0 +1,17 @@
+package kodanect.domain.logging.rollup;
+
+/**
+ * 시스템 정보 집계 기준
+ */
+public enum SystemDimension {
+
+    /** 브라우저 이름 */
+    BROWSER,
+
+    /** 운영 체제 */
+    OPERATING_SYSTEM,
+
+    /** 디바이스 종류 */
+    DEVICE
+
+}
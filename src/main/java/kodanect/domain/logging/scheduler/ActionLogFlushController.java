@@ -0,0 +1,285 @@
+package kodanect.domain.logging.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kodanect.common.buffer.BackendLogBuffer;
+import kodanect.common.buffer.FrontendLogBuffer;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.common.constant.CrudCode;
+import kodanect.domain.logging.flusher.ActionLogFlushResult;
+import kodanect.domain.logging.flusher.ActionLogFlusher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 버퍼 상태와 DB 쓰기 지연을 바탕으로 액션 로그 배출 시점을 결정하는 적응형 배출 제어기입니다.
+ *
+ * 평가 시마다 다음 순서로 배출 여부를 판단합니다.
+ * - 적재 이벤트 수 또는 추정 바이트가 수위(watermark)를 넘으면 전체 배출
+ * - CRUD 코드별 가장 오래된 이벤트가 최대 대기 시간을 넘으면 해당 CRUD 코드만 배출
+ * - 마지막 전체 배출 후 일정 시간이 지나면 전체 배출 (저널 체크포인트 및 시스템 정보 정리)
+ *
+ * 배출이 필요하더라도 직전 배출 후 최소 간격이 지나지 않았으면 보류합니다.
+ * 최소 간격은 배출 소요 시간의 지수 이동 평균이 목표 지연을 넘는 비율만큼 늘어나며, 최대 간격을 넘지 않습니다.
+ *
+ * 종료 시에는 {@link #flushAllOnShutdown(Duration, ActionLogFlushResult)}이 진행 중인 평가가 끝나기를 기다린 뒤 마지막 전체 배출을 수행하고,
+ * 그 이후의 평가는 배출 없이 IDLE로 끝납니다.
+ *
+ * 현재 판단 근거와 결정 결과는 {@code action.log.flush.*} 메트릭으로 노출됩니다.
+ */
+@Component
+public class ActionLogFlushController {
+
+    /**
+     * 평가 결과
+     */
+    public enum FlushDecision {
+        /** 배출할 로그가 없거나 조건을 만족하지 않음 */
+        IDLE,
+        /** 배출 조건을 만족했지만 최소 간격이 지나지 않아 보류 */
+        THROTTLED,
+        /** 적재 수위 초과로 전체 배출 */
+        WATERMARK,
+        /** 최대 대기 시간 초과로 CRUD 코드별 배출 */
+        AGE,
+        /** 전체 배출 주기 도래 */
+        PERIODIC
+    }
+
+    private static final double LATENCY_SMOOTHING = 0.3;
+
+    private final ActionLogFlusher flusher;
+    private final FrontendLogBuffer frontendBuffer;
+    private final BackendLogBuffer backendBuffer;
+    private final ActionLogProperties.Flush properties;
+    private final LongSupplier clock;
+
+    private final Map<FlushDecision, Counter> decisionCounters = new EnumMap<>(FlushDecision.class);
+    private final Map<FlushDecision, Timer> flushTimers = new EnumMap<>(FlushDecision.class);
+
+    private long lastFlushAt;
+    private long lastFullFlushAt;
+    private volatile double writeLatencyMillis;
+    private volatile long effectiveMinIntervalMillis;
+    private volatile FlushDecision lastDecision = FlushDecision.IDLE;
+    private boolean stopped;
+
+    @Autowired
+    public ActionLogFlushController(ActionLogFlusher flusher,
+                                    FrontendLogBuffer frontendBuffer,
+                                    BackendLogBuffer backendBuffer,
+                                    ActionLogProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this(flusher, frontendBuffer, backendBuffer, properties, meterRegistry, System::currentTimeMillis);
+    }
+
+    ActionLogFlushController(ActionLogFlusher flusher,
+                             FrontendLogBuffer frontendBuffer,
+                             BackendLogBuffer backendBuffer,
+                             ActionLogProperties properties,
+                             MeterRegistry meterRegistry,
+                             LongSupplier clock) {
+        this.flusher = flusher;
+        this.frontendBuffer = frontendBuffer;
+        this.backendBuffer = backendBuffer;
+        this.properties = properties.getFlush();
+        this.clock = clock;
+        this.lastFlushAt = Long.MIN_VALUE / 2;
+        this.lastFullFlushAt = clock.getAsLong();
+        this.effectiveMinIntervalMillis = this.properties.getMinInterval().toMillis();
+
+        registerMetrics(meterRegistry);
+    }
+
+    /**
+     * 현재 버퍼 상태를 평가하고, 필요하면 배출을 수행합니다.
+     *
+     * 단일 스케줄러 스레드에서 호출되는 것을 전제로 하며, 종료 시 마지막 배출과는 겹치지 않도록 잠급니다.
+     *
+     * @return 이번 평가의 결정 결과
+     */
+    public synchronized FlushDecision evaluate() {
+        if (stopped) {
+            return FlushDecision.IDLE;
+        }
+
+        long now = clock.getAsLong();
+        List<CrudCode> expiredCodes = new ArrayList<>();
+        FlushDecision decision = decide(now, expiredCodes);
+
+        if (decision != FlushDecision.IDLE && now - lastFlushAt < effectiveMinIntervalMillis) {
+            decision = FlushDecision.THROTTLED;
+        }
+
+        lastDecision = decision;
+        decisionCounters.get(decision).increment();
+
+        if (decision == FlushDecision.IDLE || decision == FlushDecision.THROTTLED) {
+            return decision;
+        }
+
+        try {
+            if (decision == FlushDecision.AGE) {
+                expiredCodes.forEach(flusher::flushAllByCrudCode);
+            } else {
+                flusher.flushAll();
+                lastFullFlushAt = now;
+            }
+        } finally {
+            long finishedAt = clock.getAsLong();
+            long elapsed = Math.max(0, finishedAt - now);
+            flushTimers.get(decision).record(elapsed, TimeUnit.MILLISECONDS);
+            recordWriteLatency(elapsed);
+            lastFlushAt = finishedAt;
+        }
+
+        return decision;
+    }
+
+    /**
+     * 이후 평가를 멈추고, 버퍼에 남은 로그를 모두 배출합니다. (종료 시 마지막 배출)
+     *
+     * 진행 중인 평가가 있으면 끝날 때까지 기다립니다.
+     *
+     * @param deadline 병렬 배출 작업이 모두 끝나야 하는 제한 시간
+     * @param result   배출 작업별 결과를 누적할 집계 (예외가 발생해도 끝난 작업의 결과가 남음)
+     */
+    public synchronized void flushAllOnShutdown(Duration deadline, ActionLogFlushResult result) {
+        stopped = true;
+        flusher.flushAll(deadline, result);
+    }
+
+    /**
+     * 버퍼에 적재된 이벤트 수를 반환합니다. (프론트엔드 + 백엔드, 모든 CRUD 코드 합계)
+     *
+     * @return 적재 이벤트 수
+     */
+    public long getBufferedEvents() {
+        return totalBufferedEvents();
+    }
+
+    private FlushDecision decide(long now, List<CrudCode> expiredCodes) {
+        if (totalBufferedEvents() >= properties.getMaxBufferedEvents()
+                || totalBufferedBytes() >= properties.getMaxBufferedBytes()) {
+            return FlushDecision.WATERMARK;
+        }
+
+        for (CrudCode code : CrudCode.values()) {
+            if (oldestAgeMillis(code, now) >= maxAge(code).toMillis()) {
+                expiredCodes.add(code);
+            }
+        }
+        if (!expiredCodes.isEmpty()) {
+            return FlushDecision.AGE;
+        }
+
+        if (now - lastFullFlushAt >= properties.getFullFlushInterval().toMillis()) {
+            return FlushDecision.PERIODIC;
+        }
+
+        return FlushDecision.IDLE;
+    }
+
+    /**
+     * 배출 소요 시간을 지수 이동 평균에 반영하고, 목표 지연 대비 비율로 최소 간격을 조정합니다.
+     */
+    private void recordWriteLatency(long elapsedMillis) {
+        double smoothed = writeLatencyMillis == 0
+                ? elapsedMillis
+                : LATENCY_SMOOTHING * elapsedMillis + (1 - LATENCY_SMOOTHING) * writeLatencyMillis;
+        writeLatencyMillis = smoothed;
+
+        long minInterval = properties.getMinInterval().toMillis();
+        long maxInterval = Math.max(minInterval, properties.getMaxInterval().toMillis());
+        double ratio = smoothed / Math.max(1, properties.getTargetWriteLatency().toMillis());
+
+        effectiveMinIntervalMillis = Math.min(maxInterval, (long) (minInterval * Math.max(1.0, ratio)));
+    }
+
+    private Duration maxAge(CrudCode code) {
+        return code == CrudCode.R ? properties.getReadMaxAge() : properties.getOtherMaxAge();
+    }
+
+    private long oldestAgeMillis(CrudCode code, long now) {
+        long oldest = oldestEnqueuedAt(code);
+        return oldest == 0 ? -1 : Math.max(0, now - oldest);
+    }
+
+    private long oldestEnqueuedAt(CrudCode code) {
+        long frontend = frontendBuffer.getOldestEnqueuedAt(code);
+        long backend = backendBuffer.getOldestEnqueuedAt(code);
+
+        if (frontend == 0 || backend == 0) {
+            return Math.max(frontend, backend);
+        }
+        return Math.min(frontend, backend);
+    }
+
+    private long totalBufferedEvents() {
+        long total = 0;
+        for (CrudCode code : CrudCode.values()) {
+            total += frontendBuffer.getBufferedCount(code) + backendBuffer.getBufferedCount(code);
+        }
+        return total;
+    }
+
+    private long totalBufferedBytes() {
+        long total = 0;
+        for (CrudCode code : CrudCode.values()) {
+            total += frontendBuffer.getBufferedBytes(code) + backendBuffer.getBufferedBytes(code);
+        }
+        return total;
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        for (FlushDecision decision : FlushDecision.values()) {
+            decisionCounters.put(decision, Counter.builder("action.log.flush.decisions")
+                    .description("적응형 배출 제어기의 평가 결과 횟수")
+                    .tag("decision", decision.name())
+                    .register(registry));
+            flushTimers.put(decision, Timer.builder("action.log.flush.duration")
+                    .description("배출 사유별 배출 소요 시간")
+                    .tag("trigger", decision.name())
+                    .register(registry));
+        }
+
+        Gauge.builder("action.log.flush.buffered.events", this, ActionLogFlushController::totalBufferedEvents)
+                .description("버퍼에 적재된 이벤트 수")
+                .register(registry);
+        Gauge.builder("action.log.flush.buffered.bytes", this, ActionLogFlushController::totalBufferedBytes)
+                .description("버퍼에 적재된 이벤트의 추정 크기")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("action.log.flush.min.interval", this, controller -> controller.effectiveMinIntervalMillis)
+                .description("DB 쓰기 지연을 반영한 현재 최소 배출 간격")
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("action.log.flush.write.latency", this, controller -> controller.writeLatencyMillis)
+                .description("배출 소요 시간의 지수 이동 평균")
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("action.log.flush.last.decision", this, controller -> controller.lastDecision.ordinal())
+                .description("마지막 평가 결과 (FlushDecision 순서값)")
+                .register(registry);
+
+        for (CrudCode code : CrudCode.values()) {
+            Gauge.builder("action.log.flush.oldest.age", this,
+                            controller -> Math.max(0, controller.oldestAgeMillis(code, controller.clock.getAsLong())) / 1000.0)
+                    .description("CRUD 코드별 가장 오래 대기 중인 이벤트의 경과 시간")
+                    .tag("crud_code", code.name())
+                    .baseUnit("seconds")
+                    .register(registry);
+        }
+    }
+
+}
@@ -1,70 +1,54 @@
 package kodanect.domain.logging.scheduler;
 
-import kodanect.common.constant.CrudCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import kodanect.domain.logging.flusher.ActionLogFlusher;
-import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.*;
-
 /**
- * 사용자 액션 로그를 주기적으로 배출(flush)하는 스케줄러 컴포넌트입니다.
+ * 사용자 액션 로그 배출(flush) 여부를 주기적으로 평가하는 스케줄러 컴포넌트입니다.
  *
- * {@link ActionLogFlusher}를 활용해 프론트엔드, 백엔드, 시스템 로그 버퍼에
- * 쌓인 데이터를 주기적으로 집계 및 저장합니다.
+ * 고정된 주기와 임계값 대신, 짧은 간격으로 {@link ActionLogFlushController}에 평가를 요청하고
+ * 실제 배출 시점은 적재 수위, CRUD 코드별 대기 시간, DB 쓰기 지연에 따라 제어기가 결정합니다.
  *
- * 로그 유형(CrudCode 기준)에 따라 다른 주기와 임계값을 설정하여
- * 로그 저장 빈도를 최적화하며, 일정 간격마다 전체 로그를 강제 배출하는 로직도 포함합니다.
+ * 실제 집계 및 저장은 {@link ActionLogFlusher}가 수행합니다.
+ * 평가 소요 시간과 실패 건수는 {@code action.log.scheduler.evaluate}, {@code action.log.scheduler.failures} 메트릭으로 노출됩니다.
  */
 @Component
-@RequiredArgsConstructor
 public class ActionLogScheduler {
 
-    private static final int TEN_MINUTES = 10 * 60 * 1000;
-    private static final int TWENTY_MINUTES = 20 * 60 * 1000;
-    private static final int THIRTY_MINUTES = 30 * 60 * 1000;
-
+    private static final int ONE_SECOND = 1000;
     private static final int TEN_SECONDS = 10 * 1000;
-    private static final int TWENTY_SECONDS = 20 * 1000;
-    private static final int THIRTY_SECONDS = 30 * 1000;
-
-    private static final int READ_THRESHOLD = 100;
-    private static final int OTHER_THRESHOLD = 10;
 
-    private final ActionLogFlusher flusher;
-
-    /**
-     * 주기적으로 READ 로그(CrudCode.R)를 임계값 기준으로 배출합니다.
-     *
-     * flushByCrudCode() 호출을 통해 100건 이상 쌓인 로그만 저장 대상으로 간주합니다.
-     */
-    @Scheduled(fixedDelay = TEN_MINUTES, initialDelay = TEN_SECONDS)
-    public void flushReadLogs() {
-        flusher.flushByCrudCode(CrudCode.R, READ_THRESHOLD);
+    private final ActionLogFlushController flushController;
+    private final Timer evaluateTimer;
+    private final Counter failureCounter;
+
+    public ActionLogScheduler(ActionLogFlushController flushController, MeterRegistry meterRegistry) {
+        this.flushController = flushController;
+        this.evaluateTimer = Timer.builder("action.log.scheduler.evaluate")
+                .description("배출 평가(배출 포함) 소요 시간")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("action.log.scheduler.failures")
+                .description("배출 평가 중 예외가 발생한 횟수")
+                .register(meterRegistry);
     }
 
     /**
-     * 주기적으로 C/U/D/X 로그를 각각 임계값 기준으로 배출합니다.
+     * 1초마다 배출 제어기를 평가합니다.
      *
-     * 각 CRUD 코드별로 로그 수가 10건 이상일 때만 저장 대상으로 처리합니다.
+     * 배출 빈도의 상한은 제어기의 최소 간격 설정(action-log.flush.min-interval)으로 제한됩니다.
      */
-    @Scheduled(fixedDelay = TWENTY_MINUTES, initialDelay = TWENTY_SECONDS)
-    public void flushOtherLogs() {
-        for (CrudCode code : List.of(CrudCode.C, CrudCode.U, CrudCode.D, CrudCode.X)) {
-            flusher.flushByCrudCode(code, OTHER_THRESHOLD);
+    @Scheduled(fixedDelay = ONE_SECOND, initialDelay = TEN_SECONDS)
+    public void evaluateFlush() {
+        try {
+            evaluateTimer.record(flushController::evaluate);
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            throw e;
         }
     }
 
-    /**
-     * 일정 주기마다 임계값 조건과 무관하게 모든 로그를 강제 배출합니다.
-     *
-     * flushAll()은 모든 세션과 CRUD 유형을 포함한 로그를 저장합니다.
-     * 시스템 재시작 등으로 인해 유실 가능성이 있는 로그를 주기적으로 수집하는 용도입니다.
-     */
-    @Scheduled(fixedDelay = THIRTY_MINUTES, initialDelay = THIRTY_SECONDS)
-    public void flushAllLogsForcefully() {
-        flusher.flushAll();
-    }
-
 }
@@ -0,0 +1,41 @@
+package kodanect.domain.logging.service;
+
+import kodanect.common.constant.CrudCode;
+import kodanect.domain.logging.dto.HourlyRollupResponse;
+import kodanect.domain.logging.dto.SystemRollupResponse;
+import kodanect.domain.logging.rollup.SystemDimension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 배출 시 누적된 액션 로그 집계를 조회하는 서비스 인터페이스입니다.
+ *
+ * 원본 로그(log_text)를 읽지 않고 집계 테이블만 조회합니다.
+ */
+public interface ActionLogRollupService {
+
+    /**
+     * 기간 내 시간대별 이벤트 수를 조회합니다.
+     *
+     * @param from     조회 시작 시각 (포함)
+     * @param to       조회 종료 시각 (제외)
+     * @param urlName  URL 경로 (null이면 전체)
+     * @param crudCode CRUD 코드 (null이면 전체)
+     * @return 시간대별 집계 목록
+     * @throws kodanect.domain.logging.exception.ActionLogRollupRangeException 조회 기간이 올바르지 않은 경우
+     */
+    List<HourlyRollupResponse> getHourlyRollups(LocalDateTime from, LocalDateTime to, String urlName, CrudCode crudCode);
+
+    /**
+     * 기간 내 브라우저/운영체제/디바이스 값별 세션 수를 조회합니다.
+     *
+     * @param dimension 집계 기준
+     * @param from      조회 시작 시각 (포함)
+     * @param to        조회 종료 시각 (제외)
+     * @return 세션 수 내림차순 집계 목록
+     * @throws kodanect.domain.logging.exception.ActionLogRollupRangeException 조회 기간이 올바르지 않은 경우
+     */
+    List<SystemRollupResponse> getSystemRollups(SystemDimension dimension, LocalDateTime from, LocalDateTime to);
+
+}
@@ -2,13 +2,14 @@ package kodanect.domain.logging.service;
 
 import kodanect.domain.logging.dto.FrontendLogDto;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
  * 사용자 액션 로그를 저장하기 위한 서비스 인터페이스입니다.
  *
  * 프론트엔드 로그, 백엔드 로그, 시스템 정보를 각각의 버퍼에 저장하며,
- * 동기 또는 비동기 방식으로 처리됩니다.
+ * 프론트엔드 로그는 요청 스레드에서, 백엔드 로그와 시스템 정보는 적재 큐의 소비 스레드에서 버퍼에 적재됩니다.
  *
  * 세션 ID는 MDC에서 자동으로 추출되며, 클라이언트는 별도로 세션을 전달하지 않아도 됩니다.
  */
@@ -19,17 +20,36 @@ public interface ActionLogService {
      * 세션 ID는 AOP를 통해 MDC에 저장된 값을 사용합니다.
      *
      * @param logs 프론트엔드 로그 목록
+     * @throws kodanect.domain.logging.exception.ActionLogBufferSaturatedException 버퍼 포화로 로그가 거부된 경우
      */
     void saveFrontendLog(List<FrontendLogDto> logs);
 
     /**
-     * 백엔드 로그를 MDC 정보를 기반으로 생성하여 비동기로 저장합니다.
+     * 프론트엔드 로그 요청 본문을 스트리밍으로 읽으면서 묶음 단위로 버퍼에 저장합니다.
+     * 세션 ID는 AOP를 통해 MDC에 저장된 값을 사용합니다.
+     *
+     * 버퍼 포화로 중간에 거부되면 그 이전 묶음은 이미 버퍼에 저장된 상태입니다.
+     * 세션에서 이미 받은 묶음 번호가 다시 오면 재전송으로 보고 본문을 읽지 않습니다.
+     *
+     * @param body            요청 본문
+     * @param contentEncoding 요청의 Content-Encoding 헤더 값 (gzip 또는 없음)
+     * @param batchSeq        세션별 클라이언트 묶음 번호 (없으면 중복 검사 생략)
+     * @return 읽은 로그 수 (중복 묶음이면 0)
+     * @throws kodanect.domain.logging.exception.InvalidFrontendLogStreamException 본문 형식, 인코딩, 묶음 번호가 올바르지 않은 경우
+     * @throws kodanect.domain.logging.exception.FrontendLogStreamTooLargeException 본문이 최대 크기를 넘은 경우
+     * @throws kodanect.domain.logging.exception.EmptyFrontendLogListException 로그가 한 건도 없는 경우
+     * @throws kodanect.domain.logging.exception.ActionLogBufferSaturatedException 버퍼 포화로 로그가 거부된 경우
+     */
+    int saveFrontendLogStream(InputStream body, String contentEncoding, Long batchSeq);
+
+    /**
+     * 백엔드 로그를 MDC 정보를 기반으로 생성하여 적재 큐에 전달합니다.
      * 세션 ID 및 기타 메타데이터는 모두 MDC에서 추출됩니다.
      */
     void saveBackendLog();
 
     /**
-     * 사용자 시스템 정보를 MDC 정보를 기반으로 생성하여 비동기로 저장합니다.
+     * 사용자 시스템 정보를 MDC 정보를 기반으로 생성하여 적재 큐에 전달합니다.
      * 세션 ID 및 환경 정보는 MDC에서 추출됩니다.
      */
     void saveSystemInfo();
@@ -0,0 +1,51 @@
+package kodanect.domain.logging.service.impl;
+
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.common.constant.CrudCode;
+import kodanect.domain.logging.dto.HourlyRollupResponse;
+import kodanect.domain.logging.dto.SystemRollupResponse;
+import kodanect.domain.logging.exception.ActionLogRollupRangeException;
+import kodanect.domain.logging.repository.ActionLogRollupRepository;
+import kodanect.domain.logging.rollup.SystemDimension;
+import kodanect.domain.logging.service.ActionLogRollupService;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * {@link ActionLogRollupService} 구현체
+ *
+ * 조회 기간을 검증한 뒤 {@link ActionLogRollupRepository}로 집계 테이블을 조회합니다.
+ */
+@Service
+public class ActionLogRollupServiceImpl implements ActionLogRollupService {
+
+    private final ActionLogRollupRepository rollupRepository;
+    private final Duration maxQueryRange;
+
+    public ActionLogRollupServiceImpl(ActionLogRollupRepository rollupRepository, ActionLogProperties properties) {
+        this.rollupRepository = rollupRepository;
+        this.maxQueryRange = properties.getRollup().getMaxQueryRange();
+    }
+
+    @Override
+    public List<HourlyRollupResponse> getHourlyRollups(LocalDateTime from, LocalDateTime to, String urlName, CrudCode crudCode) {
+        validateRange(from, to);
+        return rollupRepository.findHourly(from, to, urlName, crudCode != null ? crudCode.name() : null);
+    }
+
+    @Override
+    public List<SystemRollupResponse> getSystemRollups(SystemDimension dimension, LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+        return rollupRepository.findSystem(dimension, from, to);
+    }
+
+    private void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to) || Duration.between(from, to).compareTo(maxQueryRange) > 0) {
+            throw new ActionLogRollupRangeException(from, to, maxQueryRange.toDays());
+        }
+    }
+
+}
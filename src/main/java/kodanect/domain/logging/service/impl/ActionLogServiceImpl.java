@@ -1,26 +1,39 @@
 package kodanect.domain.logging.service.impl;
 
-import kodanect.common.buffer.BackendLogBuffer;
 import kodanect.common.buffer.FrontendLogBuffer;
+import kodanect.common.config.aspect.ActionLogInvocation;
 import kodanect.common.constant.MdcContext;
-import kodanect.common.buffer.SystemInfoBuffer;
+import kodanect.common.config.properties.ActionLogProperties;
 import kodanect.domain.logging.dto.BackendLogDto;
 import kodanect.domain.logging.dto.FrontendLogDto;
 import kodanect.domain.logging.dto.SystemInfoDto;
+import kodanect.domain.logging.exception.ActionLogBufferSaturatedException;
+import kodanect.domain.logging.exception.EmptyFrontendLogListException;
+import kodanect.domain.logging.exception.InvalidFrontendLogStreamException;
+import kodanect.domain.logging.ingest.FrontendLogBatchDeduplicator;
+import kodanect.domain.logging.ingest.FrontendLogStreamReader;
+import kodanect.domain.logging.ingest.ActionLogIngestEvent;
+import kodanect.domain.logging.ingest.ActionLogIngestQueue;
 import kodanect.domain.logging.service.ActionLogService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 /**
  * {@link ActionLogService}의 구현체로,
  * 사용자 액션 로그 데이터를 세션 기준으로 버퍼에 저장합니다.
  *
- * - 프론트엔드 로그: 동기 저장
- * - 백엔드 로그: AOP에서 주입된 MDC 정보를 기반으로 비동기 저장
- * - 시스템 정보: AOP에서 주입된 MDC 정보를 기반으로 비동기 저장
+ * - 프론트엔드 로그: 동기 저장 (버퍼 포화 시 {@link ActionLogBufferSaturatedException} 발생)
+ *   요청 본문은 {@link FrontendLogStreamReader}로 스트리밍하여 끝까지 검증한 뒤에 버퍼에 저장하며, gzip 본문을 지원합니다.
+ *   (JSON 오류나 크기 초과로 거부된 요청의 로그는 일부도 적재되지 않음)
+ *   묶음 번호가 있으면 {@link FrontendLogBatchDeduplicator}로 재전송된 묶음을 본문을 읽기 전에 걸러냅니다.
+ * - 백엔드 로그: AOP가 보관한 요청 정보를 요청 스레드에서 캡처하여 {@link ActionLogIngestQueue}로 전달
+ * - 시스템 정보: AOP가 보관한 요청 정보를 요청 스레드에서 캡처하여 {@link ActionLogIngestQueue}로 전달
  *
  * 모든 로그는 MDC의 sessionId를 기준으로 구분됩니다.
  */
@@ -29,28 +42,76 @@ import java.util.List;
 public class ActionLogServiceImpl implements ActionLogService {
 
     private final FrontendLogBuffer frontendLogBuffer;
-    private final BackendLogBuffer backendLogBuffer;
-    private final SystemInfoBuffer systemInfoBuffer;
+    private final ActionLogIngestQueue ingestQueue;
+    private final ActionLogProperties properties;
+    private final FrontendLogStreamReader streamReader;
+    private final FrontendLogBatchDeduplicator batchDeduplicator;
 
     /**
      * 프론트엔드 로그를 버퍼에 저장합니다.
      * 세션 ID는 MDC에서 자동으로 추출됩니다.
      *
+     * 버퍼가 포화되어 일부라도 거부된 경우 클라이언트가 재시도를 늦추도록 예외를 발생시킵니다.
+     *
      * @param logs 프론트엔드 로그 목록
+     * @throws ActionLogBufferSaturatedException 버퍼 포화로 로그가 거부된 경우
      */
     @Override
     public void saveFrontendLog(List<FrontendLogDto> logs) {
         String sessionId = MdcContext.getSessionId();
 
-        frontendLogBuffer.add(sessionId, logs);
+        if (frontendLogBuffer.add(sessionId, logs) > 0) {
+            throw new ActionLogBufferSaturatedException(properties.getBuffer().getRetryAfterSeconds());
+        }
+    }
+
+    /**
+     * 요청 본문을 스트리밍으로 끝까지 읽어 검증한 뒤, 읽은 묶음을 버퍼에 저장합니다.
+     *
+     * 묶음 번호가 주어지고 같은 세션에서 이미 받은 번호이면 본문을 읽지 않고 0을 반환합니다.
+     * 본문이 거부되었거나 버퍼 포화로 한 건도 적재되지 않았으면, 클라이언트가 같은 번호로 재전송할 수 있도록 수신 처리를 되돌립니다.
+     * 일부라도 적재된 뒤 포화되었다면 재전송이 중복 적재되지 않도록 수신 처리를 유지합니다. (거부된 나머지는 유실)
+     *
+     * @param body            요청 본문
+     * @param contentEncoding 요청의 Content-Encoding 헤더 값 (gzip 또는 없음)
+     * @param batchSeq        세션별 클라이언트 묶음 번호 (없으면 null)
+     * @return 읽은 로그 수 (중복 묶음이면 0)
+     */
+    @Override
+    public int saveFrontendLogStream(InputStream body, String contentEncoding, Long batchSeq) {
+        String sessionId = MdcContext.getSessionId();
+
+        if (batchSeq == null) {
+            return bufferFrontendLogs(sessionId, readFrontendLogStream(body, contentEncoding), null);
+        }
+
+        if (batchSeq < 0) {
+            throw new InvalidFrontendLogStreamException("묶음 번호는 0 이상이어야 합니다: " + batchSeq);
+        }
+
+        if (!batchDeduplicator.tryAcquire(sessionId, batchSeq)) {
+            return 0;
+        }
+
+        List<List<FrontendLogDto>> chunks;
+        try {
+            chunks = readFrontendLogStream(body, contentEncoding);
+        } catch (RuntimeException e) {
+            /* 아무것도 적재하지 않았으므로 같은 번호의 재전송을 허용 */
+            batchDeduplicator.release(sessionId, batchSeq);
+            throw e;
+        }
+
+        return bufferFrontendLogs(sessionId, chunks, batchSeq);
     }
 
     /**
-     * 백엔드 로그를 MDC에서 추출한 정보로 생성하고 버퍼에 저장합니다.
-     * 비동기 방식으로 실행됩니다.
+     * 백엔드 로그를 MDC에서 추출한 정보로 생성하고 적재 큐에 전달합니다.
+     * 버퍼 적재는 적재 큐의 소비 스레드에서 수행됩니다.
      */
-    @Async("logExecutor")
+    @Override
     public void saveBackendLog() {
+        ActionLogInvocation.exportCurrentToMdc();
         String sessionId = MdcContext.getSessionId();
 
         BackendLogDto log = BackendLogDto.builder()
@@ -62,15 +123,16 @@ public class ActionLogServiceImpl implements ActionLogService {
                 .timestamp(MdcContext.getTimestamp())
                 .build();
 
-        backendLogBuffer.add(sessionId, log);
+        ingestQueue.offer(ActionLogIngestEvent.backendLog(sessionId, log));
     }
 
     /**
-     * 시스템 정보를 MDC에서 추출한 값으로 생성하고 버퍼에 저장합니다.
-     * 비동기 방식으로 실행됩니다.
+     * 시스템 정보를 MDC에서 추출한 값으로 생성하고 적재 큐에 전달합니다.
+     * 버퍼 적재는 적재 큐의 소비 스레드에서 수행됩니다.
      */
-    @Async("logExecutor")
+    @Override
     public void saveSystemInfo() {
+        ActionLogInvocation.exportCurrentToMdc();
         String sessionId = MdcContext.getSessionId();
 
         SystemInfoDto systemInfo = SystemInfoDto.builder()
@@ -81,7 +143,65 @@ public class ActionLogServiceImpl implements ActionLogService {
                 .locale(MdcContext.getLocale())
                 .build();
 
-        systemInfoBuffer.add(sessionId, systemInfo);
+        ingestQueue.offer(ActionLogIngestEvent.systemInfo(sessionId, systemInfo));
+    }
+
+    /**
+     * 요청 본문을 끝까지 읽어 로그 묶음 목록을 반환합니다. 버퍼에는 저장하지 않습니다.
+     *
+     * 버퍼에 적재한 묶음은 되돌릴 수 없으므로, 부분 적재를 막기 위해 요청 하나의 로그를 모두 메모리에 보관합니다.
+     * 보관량은 max-body-bytes(기본 1MiB)로 제한됩니다.
+     */
+    private List<List<FrontendLogDto>> readFrontendLogStream(InputStream body, String contentEncoding) {
+        List<List<FrontendLogDto>> chunks = new ArrayList<>();
+
+        try (InputStream decoded = decode(body, contentEncoding)) {
+            if (streamReader.read(decoded, chunks::add) == 0) {
+                throw new EmptyFrontendLogListException();
+            }
+            return chunks;
+        } catch (IOException e) {
+            throw new InvalidFrontendLogStreamException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 검증을 마친 로그 묶음을 버퍼에 저장하고 읽은 로그 수를 반환합니다.
+     *
+     * 버퍼 포화로 일부라도 거부되면 {@link ActionLogBufferSaturatedException}을 발생시키며,
+     * 묶음 번호가 있고 한 건도 적재되지 않았을 때만 수신 처리를 되돌립니다.
+     */
+    private int bufferFrontendLogs(String sessionId, List<List<FrontendLogDto>> chunks, Long batchSeq) {
+        int total = 0;
+        int rejected = 0;
+
+        for (List<FrontendLogDto> chunk : chunks) {
+            total += chunk.size();
+            rejected += frontendLogBuffer.add(sessionId, chunk);
+        }
+
+        if (rejected > 0) {
+            if (batchSeq != null && rejected == total) {
+                batchDeduplicator.release(sessionId, batchSeq);
+            }
+            throw new ActionLogBufferSaturatedException(properties.getBuffer().getRetryAfterSeconds());
+        }
+        return total;
+    }
+
+    /**
+     * Content-Encoding에 맞게 요청 본문의 압축을 풉니다.
+     */
+    private static InputStream decode(InputStream body, String contentEncoding) throws IOException {
+        if (contentEncoding == null || contentEncoding.isBlank() || "identity".equalsIgnoreCase(contentEncoding.trim())) {
+            return body;
+        }
+
+        if ("gzip".equalsIgnoreCase(contentEncoding.trim()) || "x-gzip".equalsIgnoreCase(contentEncoding.trim())) {
+            return new GZIPInputStream(body);
+        }
+
+        throw new InvalidFrontendLogStreamException("지원하지 않는 Content-Encoding: " + contentEncoding);
     }
 
 }
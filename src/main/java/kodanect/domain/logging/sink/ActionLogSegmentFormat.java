@@ -0,0 +1,249 @@
+package kodanect.domain.logging.sink;
+
+import kodanect.domain.logging.entity.ActionLog;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 오프라인 분석용 액션 로그 컬럼 세그먼트 형식의 기록/읽기를 담당합니다.
+ *
+ * 세그먼트 구조:
+ * <pre>
+ * [int 매직 "ALCS"][byte 버전][int 행 수][byte 컬럼 수]
+ * 컬럼마다: [UTF 컬럼명][byte 인코딩][값...]
+ * </pre>
+ *
+ * 컬럼 인코딩:
+ * - DICTIONARY: 서로 다른 값이 행 수의 절반 이하인 문자열 컬럼에 적용합니다.
+ *   {@code [varint 사전 크기][문자열...][varint 값 ID × 행 수]}, ID 0은 null을 뜻합니다.
+ * - PLAIN: 값이 대부분 다른 문자열 컬럼(log_text 등)은 행마다 문자열을 그대로 기록합니다.
+ * - DELTA: write_time은 UTC 기준 epoch 밀리초의 직전 행 대비 차이를 zigzag varint로 기록합니다.
+ *
+ * 문자열은 {@code [varint (바이트 길이 + 1) | 0=null][UTF-8]} 형식이며, 정수는 모두 big-endian입니다.
+ * 컬럼은 이름으로 식별하므로 읽을 때 컬럼 순서에 의존하지 않습니다.
+ */
+public final class ActionLogSegmentFormat {
+
+    static final int MAGIC = 0x414C4353;
+    static final byte VERSION = 1;
+
+    static final byte ENCODING_PLAIN = 1;
+    static final byte ENCODING_DICTIONARY = 2;
+    static final byte ENCODING_DELTA = 3;
+
+    private static final String URL_NAME = "url_name";
+    private static final String CRUD_CODE = "crud_code";
+    private static final String IP_ADDR = "ip_addr";
+    private static final String LOG_TEXT = "log_text";
+    private static final String WRITE_TIME = "write_time";
+    private static final int COLUMN_COUNT = 5;
+
+    private ActionLogSegmentFormat() {
+    }
+
+    /**
+     * 로그 목록을 세그먼트 하나로 기록합니다.
+     *
+     * @param out              기록 대상 스트림 (닫지 않음)
+     * @param logs             기록할 로그 목록
+     * @param defaultWriteTime 생성 일시가 없는 로그에 사용할 기록 시각
+     * @throws IOException 기록에 실패한 경우
+     */
+    public static void write(OutputStream out, List<ActionLog> logs, LocalDateTime defaultWriteTime) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeInt(logs.size());
+        data.writeByte(COLUMN_COUNT);
+
+        writeStringColumn(data, URL_NAME, logs, ActionLog::getUrlName);
+        writeStringColumn(data, CRUD_CODE, logs, ActionLog::getCrudCode);
+        writeStringColumn(data, IP_ADDR, logs, ActionLog::getIpAddr);
+        writeStringColumn(data, LOG_TEXT, logs, ActionLog::getLogText);
+        writeTimeColumn(data, logs, defaultWriteTime);
+
+        data.flush();
+    }
+
+    /**
+     * 세그먼트 하나를 읽어 로그 목록으로 복원합니다.
+     *
+     * @param in 세그먼트 스트림 (닫지 않음)
+     * @return 기록 순서대로 복원한 로그 목록
+     * @throws IOException 형식이 올바르지 않거나 읽기에 실패한 경우
+     */
+    public static List<ActionLog> read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+
+        if (data.readInt() != MAGIC) {
+            throw new IOException("액션 로그 세그먼트 형식이 아닙니다.");
+        }
+        byte version = data.readByte();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 액션 로그 세그먼트 버전입니다: " + version);
+        }
+
+        int rows = data.readInt();
+        int columns = data.readUnsignedByte();
+        Map<String, Object[]> values = new HashMap<>();
+
+        for (int c = 0; c < columns; c++) {
+            String name = data.readUTF();
+            values.put(name, readColumn(data, data.readByte(), rows));
+        }
+
+        List<ActionLog> logs = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            logs.add(ActionLog.builder()
+                    .urlName((String) valueAt(values, URL_NAME, i))
+                    .crudCode((String) valueAt(values, CRUD_CODE, i))
+                    .ipAddr((String) valueAt(values, IP_ADDR, i))
+                    .logText((String) valueAt(values, LOG_TEXT, i))
+                    .writeTime((LocalDateTime) valueAt(values, WRITE_TIME, i))
+                    .build());
+        }
+        return logs;
+    }
+
+    private static void writeStringColumn(DataOutputStream data,
+                                          String name,
+                                          List<ActionLog> logs,
+                                          Function<ActionLog, String> getter) throws IOException {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        int[] ids = new int[logs.size()];
+
+        for (int i = 0; i < ids.length; i++) {
+            String value = getter.apply(logs.get(i));
+            ids[i] = value == null ? 0 : dictionary.computeIfAbsent(value, key -> dictionary.size() + 1);
+        }
+
+        data.writeUTF(name);
+
+        if (dictionary.size() > logs.size() / 2) {
+            data.writeByte(ENCODING_PLAIN);
+            for (ActionLog actionLog : logs) {
+                writeString(data, getter.apply(actionLog));
+            }
+            return;
+        }
+
+        data.writeByte(ENCODING_DICTIONARY);
+        writeVarLong(data, dictionary.size());
+        for (String value : dictionary.keySet()) {
+            writeString(data, value);
+        }
+        for (int id : ids) {
+            writeVarLong(data, id);
+        }
+    }
+
+    private static void writeTimeColumn(DataOutputStream data,
+                                        List<ActionLog> logs,
+                                        LocalDateTime defaultWriteTime) throws IOException {
+        data.writeUTF(WRITE_TIME);
+        data.writeByte(ENCODING_DELTA);
+
+        long previous = 0;
+        for (ActionLog actionLog : logs) {
+            LocalDateTime writeTime = actionLog.getWriteTime() != null ? actionLog.getWriteTime() : defaultWriteTime;
+            long millis = writeTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+            long delta = millis - previous;
+            writeVarLong(data, (delta << 1) ^ (delta >> 63));
+            previous = millis;
+        }
+    }
+
+    private static Object[] readColumn(DataInputStream data, byte encoding, int rows) throws IOException {
+        Object[] column = new Object[rows];
+
+        switch (encoding) {
+            case ENCODING_PLAIN -> {
+                for (int i = 0; i < rows; i++) {
+                    column[i] = readString(data);
+                }
+            }
+            case ENCODING_DICTIONARY -> {
+                String[] dictionary = new String[(int) readVarLong(data) + 1];
+                for (int d = 1; d < dictionary.length; d++) {
+                    dictionary[d] = readString(data);
+                }
+                for (int i = 0; i < rows; i++) {
+                    column[i] = dictionary[(int) readVarLong(data)];
+                }
+            }
+            case ENCODING_DELTA -> {
+                long previous = 0;
+                for (int i = 0; i < rows; i++) {
+                    long zigzag = readVarLong(data);
+                    previous += (zigzag >>> 1) ^ -(zigzag & 1);
+                    column[i] = LocalDateTime.ofInstant(Instant.ofEpochMilli(previous), ZoneOffset.UTC);
+                }
+            }
+            default -> throw new IOException("알 수 없는 컬럼 인코딩입니다: " + encoding);
+        }
+        return column;
+    }
+
+    private static Object valueAt(Map<String, Object[]> values, String column, int row) {
+        Object[] columnValues = values.get(column);
+        return columnValues != null ? columnValues[row] : null;
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        if (value == null) {
+            writeVarLong(data, 0);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(data, bytes.length + 1L);
+        data.write(bytes);
+    }
+
+    private static String readString(DataInputStream data) throws IOException {
+        long length = readVarLong(data);
+        if (length == 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[(int) (length - 1)];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarLong(DataOutputStream data, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            data.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        data.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream data) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("varint 길이가 올바르지 않습니다.");
+    }
+
+}
@@ -0,0 +1,35 @@
+package kodanect.domain.logging.sink;
+
+import kodanect.domain.logging.entity.ActionLog;
+
+import java.util.List;
+
+/**
+ * 배출된 {@link ActionLog}를 최종 저장소에 기록하는 싱크입니다.
+ *
+ * {@link kodanect.domain.logging.flusher.ActionLogFlusher}는 저장 방식과 무관하게 이 인터페이스로만 로그를 넘기며,
+ * 실제 싱크 구성(JDBC 테이블, NDJSON 파일, 컬럼 세그먼트 및 조합)은 action-log.sink.types 설정으로 정합니다.
+ *
+ * 구현체는 기록에 실패하면 예외를 던져야 합니다. 예외가 전파되면 저널 체크포인트가 수행되지 않으므로
+ * 재시작 시 해당 로그가 복원됩니다.
+ */
+public interface ActionLogSink {
+
+    /**
+     * 메트릭 태그와 로그에 사용할 싱크 이름을 반환합니다.
+     *
+     * @return 싱크 이름
+     */
+    String name();
+
+    /**
+     * 로그 목록을 기록합니다.
+     *
+     * 엔티티에 생성 일시가 없으면 같은 호출의 로그는 동일한 기록 시각을 생성 일시로 사용합니다.
+     *
+     * @param logs 기록할 로그 목록
+     * @return 기록한 행 수
+     */
+    int write(List<ActionLog> logs);
+
+}
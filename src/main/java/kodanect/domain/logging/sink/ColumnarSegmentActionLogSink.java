@@ -0,0 +1,100 @@
+package kodanect.domain.logging.sink;
+
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.domain.logging.entity.ActionLog;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 로그를 {@link ActionLogSegmentFormat} 컬럼 세그먼트 파일로 기록하는 싱크입니다.
+ *
+ * - 기록 호출마다 최대 행 수 단위로 나누어 세그먼트 파일을 만듭니다.
+ * - 파일 이름: {@code segment-<yyyyMMdd'T'HHmmssSSS>-<순번>.alcs}
+ * - 임시 파일({@code .part})에 모두 쓴 뒤 이름을 바꾸므로, 완성된 세그먼트만 수집 대상이 됩니다.
+ *
+ * log_text는 코덱 단계에서 이미 압축되어 있으므로 세그먼트 전체에 별도 압축은 적용하지 않습니다.
+ */
+public class ColumnarSegmentActionLogSink implements ActionLogSink {
+
+    static final String FILE_SUFFIX = ".alcs";
+
+    private static final String FILE_PREFIX = "segment-";
+    private static final String PART_SUFFIX = ".part";
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmssSSS");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final int maxRowsPerSegment;
+    private final Clock clock;
+
+    private int sequence;
+
+    public ColumnarSegmentActionLogSink(ActionLogProperties properties) {
+        this(properties, Clock.systemDefaultZone());
+    }
+
+    ColumnarSegmentActionLogSink(ActionLogProperties properties, Clock clock) {
+        ActionLogProperties.Sink.Columnar columnar = properties.getSink().getColumnar();
+        this.directory = Paths.get(columnar.getDirectory());
+        this.maxRowsPerSegment = Math.max(1, columnar.getMaxRowsPerSegment());
+        this.clock = clock;
+    }
+
+    @Override
+    public String name() {
+        return "columnar";
+    }
+
+    /**
+     * 로그를 최대 행 수 단위의 세그먼트 파일로 기록합니다.
+     *
+     * @param logs 기록할 로그 목록
+     * @return 기록한 행 수
+     * @throws UncheckedIOException 세그먼트 기록에 실패한 경우
+     */
+    @Override
+    public synchronized int write(List<ActionLog> logs) {
+        LocalDateTime writeTime = LocalDateTime.now(clock);
+
+        try {
+            Files.createDirectories(directory);
+
+            for (int from = 0; from < logs.size(); from += maxRowsPerSegment) {
+                List<ActionLog> chunk = logs.subList(from, Math.min(from + maxRowsPerSegment, logs.size()));
+                writeSegment(chunk, writeTime);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("[액션 로그 컬럼 세그먼트 싱크] 세그먼트 기록 실패", e);
+        }
+
+        return logs.size();
+    }
+
+    private void writeSegment(List<ActionLog> chunk, LocalDateTime writeTime) throws IOException {
+        String baseName = FILE_PREFIX + FILE_TIME_FORMAT.format(writeTime)
+                + "-" + String.format("%06d", ++sequence) + FILE_SUFFIX;
+        Path target = directory.resolve(baseName);
+        Path part = directory.resolve(baseName + PART_SUFFIX);
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(part), BUFFER_SIZE)) {
+            ActionLogSegmentFormat.write(out, chunk, writeTime);
+        } catch (IOException e) {
+            Files.deleteIfExists(part);
+            throw e;
+        }
+
+        Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+}
@@ -0,0 +1,110 @@
+package kodanect.domain.logging.sink;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kodanect.common.exception.config.SecureLogger;
+import kodanect.domain.logging.entity.ActionLog;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 설정된 싱크 모두에 같은 로그를 기록하는 fan-out 싱크입니다.
+ *
+ * - 첫 번째 싱크를 주 싱크로 보고 먼저 기록합니다. 주 싱크가 실패하면 예외를 그대로 던지며, 보조 싱크에는 기록하지 않습니다.
+ * - 보조 싱크는 주 싱크가 성공한 뒤 설정 순서대로 기록하며, 실패해도 예외를 던지지 않고 실패 건수만 기록합니다.
+ *   따라서 배출기가 실패한 로그를 다시 기록하더라도 이미 성공한 싱크에 같은 로그가 중복 기록되지 않습니다.
+ *   대신 보조 싱크에서 실패한 로그는 다시 기록되지 않으므로, 보조 싱크는 유실을 허용하는 사본 용도로만 사용합니다.
+ *
+ * 싱크별 기록 소요 시간과 실패 건수는 {@code action.log.sink.write{sink}}, {@code action.log.sink.failures{sink}} 메트릭으로 노출됩니다.
+ */
+public class CompositeActionLogSink implements ActionLogSink, DisposableBean {
+
+    private static final SecureLogger log = SecureLogger.getLogger(CompositeActionLogSink.class);
+
+    private final List<ActionLogSink> sinks;
+    private final List<Timer> writeTimers = new ArrayList<>();
+    private final List<Counter> failureCounters = new ArrayList<>();
+
+    public CompositeActionLogSink(List<ActionLogSink> sinks, MeterRegistry meterRegistry) {
+        if (sinks.isEmpty()) {
+            throw new IllegalArgumentException("액션 로그 싱크가 하나 이상 필요합니다. (action-log.sink.types)");
+        }
+
+        this.sinks = List.copyOf(sinks);
+        for (ActionLogSink sink : this.sinks) {
+            writeTimers.add(Timer.builder("action.log.sink.write")
+                    .description("싱크별 액션 로그 기록 소요 시간")
+                    .tag("sink", sink.name())
+                    .register(meterRegistry));
+            failureCounters.add(Counter.builder("action.log.sink.failures")
+                    .description("싱크별 액션 로그 기록 실패 건수")
+                    .tag("sink", sink.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public String name() {
+        return "composite";
+    }
+
+    /**
+     * 주 싱크에 로그를 기록한 뒤 보조 싱크에 기록합니다.
+     *
+     * @param logs 기록할 로그 목록
+     * @return 기록한 행 수
+     * @throws RuntimeException 주 싱크 기록에 실패한 경우
+     */
+    @Override
+    public int write(List<ActionLog> logs) {
+        try {
+            writeTimers.get(0).record(() -> sinks.get(0).write(logs));
+        } catch (RuntimeException e) {
+            failureCounters.get(0).increment();
+            throw e;
+        }
+
+        for (int i = 1; i < sinks.size(); i++) {
+            ActionLogSink sink = sinks.get(i);
+            try {
+                writeTimers.get(i).record(() -> sink.write(logs));
+            } catch (RuntimeException e) {
+                failureCounters.get(i).increment();
+                log.error("[액션 로그 싱크] 보조 싱크 {} 기록 실패, {}건을 기록하지 않습니다: {}", sink.name(), logs.size(), e.getMessage());
+            }
+        }
+
+        return logs.size();
+    }
+
+    /**
+     * 구성된 싱크 목록을 반환합니다.
+     *
+     * @return 싱크 목록
+     */
+    public List<ActionLogSink> getSinks() {
+        return sinks;
+    }
+
+    /**
+     * 파일 등 자원을 가진 싱크를 닫습니다.
+     */
+    @Override
+    public void destroy() {
+        for (ActionLogSink sink : sinks) {
+            if (sink instanceof Closeable closeable) {
+                try {
+                    closeable.close();
+                } catch (IOException e) {
+                    log.warn("[액션 로그 싱크] {} 종료 실패: {}", sink.name(), e.getMessage());
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package kodanect.domain.logging.sink;
+
+import kodanect.domain.logging.entity.ActionLog;
+import kodanect.domain.logging.repository.ActionLogBatchWriter;
+
+import java.util.List;
+
+/**
+ * 기존 tb25_940_action_log 테이블에 {@link ActionLogBatchWriter}로 배치 INSERT 하는 싱크입니다.
+ */
+public class JdbcActionLogSink implements ActionLogSink {
+
+    private final ActionLogBatchWriter batchWriter;
+
+    public JdbcActionLogSink(ActionLogBatchWriter batchWriter) {
+        this.batchWriter = batchWriter;
+    }
+
+    @Override
+    public String name() {
+        return "jdbc";
+    }
+
+    @Override
+    public int write(List<ActionLog> logs) {
+        return batchWriter.insertAll(logs);
+    }
+
+}
@@ -0,0 +1,206 @@
+package kodanect.domain.logging.sink;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.common.exception.config.SecureLogger;
+import kodanect.domain.logging.entity.ActionLog;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 로그를 한 줄에 하나의 JSON 객체로 기록하는 gzip 압축 NDJSON 파일 싱크입니다.
+ *
+ * - 파일 이름: {@code action-log-<yyyyMMdd'T'HHmmssSSS>-<순번>.ndjson.gz}
+ * - 기록 중인 파일은 {@code .part} 접미어를 붙여 두고, 교체 또는 종료 시 접미어를 떼어 완성된 파일만 수집 대상이 되도록 합니다.
+ * - 압축 전 크기가 설정값 이상이 되거나, 파일을 연 뒤 설정된 시간이 지나면 새 파일로 교체합니다.
+ * - 배치마다 gzip 동기 플러시를 수행하므로, 비정상 종료 시에도 직전 배치까지는 압축 해제할 수 있습니다.
+ *
+ * 행 형식: {@code {"urlName":..,"crudCode":..,"ipAddr":..,"logText":..,"writeTime":"ISO-8601"}}
+ */
+public class NdjsonFileActionLogSink implements ActionLogSink, Closeable {
+
+    static final String FILE_SUFFIX = ".ndjson.gz";
+
+    private static final SecureLogger log = SecureLogger.getLogger(NdjsonFileActionLogSink.class);
+
+    private static final String FILE_PREFIX = "action-log-";
+    private static final String PART_SUFFIX = ".part";
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmssSSS");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JsonFactory jsonFactory = new JsonFactory().setRootValueSeparator(null);
+    private final Path directory;
+    private final long maxFileBytes;
+    private final Duration rollInterval;
+    private final Clock clock;
+
+    private Path partPath;
+    private Path completedPath;
+    private CountingOutputStream counter;
+    private GZIPOutputStream gzip;
+    private JsonGenerator generator;
+    private Instant openedAt;
+    private int sequence;
+
+    public NdjsonFileActionLogSink(ActionLogProperties properties) {
+        this(properties, Clock.systemDefaultZone());
+    }
+
+    NdjsonFileActionLogSink(ActionLogProperties properties, Clock clock) {
+        ActionLogProperties.Sink.Ndjson ndjson = properties.getSink().getNdjson();
+        this.directory = Paths.get(ndjson.getDirectory());
+        this.maxFileBytes = Math.max(1, ndjson.getMaxFileBytes());
+        this.rollInterval = ndjson.getRollInterval();
+        this.clock = clock;
+    }
+
+    @Override
+    public String name() {
+        return "ndjson";
+    }
+
+    /**
+     * 로그를 현재 파일에 이어서 기록하고, 교체 조건을 만족하면 파일을 닫습니다.
+     *
+     * @param logs 기록할 로그 목록
+     * @return 기록한 행 수
+     * @throws UncheckedIOException 파일 기록에 실패한 경우 (기록 중이던 파일은 닫고 다음 호출에서 새 파일을 엽니다)
+     */
+    @Override
+    public synchronized int write(List<ActionLog> logs) {
+        if (logs.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime writeTime = LocalDateTime.now(clock);
+
+        try {
+            if (generator != null && rollIntervalElapsed()) {
+                closeFile();
+            }
+            if (generator == null) {
+                openFile();
+            }
+
+            for (ActionLog actionLog : logs) {
+                writeRow(actionLog, writeTime);
+            }
+            generator.flush();
+            gzip.flush();
+
+            if (counter.count >= maxFileBytes) {
+                closeFile();
+            }
+        } catch (IOException e) {
+            abandonFile();
+            throw new UncheckedIOException("[액션 로그 NDJSON 싱크] 파일 기록 실패", e);
+        }
+
+        return logs.size();
+    }
+
+    /**
+     * 기록 중인 파일을 닫고 완성된 파일로 전환합니다.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        closeFile();
+    }
+
+    private boolean rollIntervalElapsed() {
+        return !Instant.now(clock).isBefore(openedAt.plus(rollInterval));
+    }
+
+    private void openFile() throws IOException {
+        Files.createDirectories(directory);
+
+        openedAt = Instant.now(clock);
+        String baseName = FILE_PREFIX + FILE_TIME_FORMAT.format(LocalDateTime.now(clock))
+                + "-" + String.format("%04d", ++sequence) + FILE_SUFFIX;
+        completedPath = directory.resolve(baseName);
+        partPath = directory.resolve(baseName + PART_SUFFIX);
+
+        OutputStream file = new BufferedOutputStream(Files.newOutputStream(partPath), BUFFER_SIZE);
+        gzip = new GZIPOutputStream(file, BUFFER_SIZE, true);
+        counter = new CountingOutputStream(gzip);
+        generator = jsonFactory.createGenerator(counter);
+    }
+
+    private void writeRow(ActionLog actionLog, LocalDateTime defaultWriteTime) throws IOException {
+        LocalDateTime writeTime = actionLog.getWriteTime() != null ? actionLog.getWriteTime() : defaultWriteTime;
+
+        generator.writeStartObject();
+        generator.writeStringField("urlName", actionLog.getUrlName());
+        generator.writeStringField("crudCode", actionLog.getCrudCode());
+        generator.writeStringField("ipAddr", actionLog.getIpAddr());
+        generator.writeStringField("logText", actionLog.getLogText());
+        generator.writeStringField("writeTime", writeTime.toString());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private void closeFile() throws IOException {
+        if (generator == null) {
+            return;
+        }
+
+        try {
+            generator.close();
+            Files.move(partPath, completedPath, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            generator = null;
+            gzip = null;
+            counter = null;
+        }
+    }
+
+    private void abandonFile() {
+        try {
+            closeFile();
+        } catch (IOException e) {
+            log.warn("[액션 로그 NDJSON 싱크] 기록 실패한 파일 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 압축 전 기록 바이트 수를 세는 스트림
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+}
@@ -2,6 +2,8 @@ package kodanect.domain.recipient.service.impl;
 
 import kodanect.common.config.properties.GlobalsProperties;
 import kodanect.common.exception.config.SecureLogger;
+import kodanect.common.readcount.ReadCountAggregator;
+import kodanect.common.readcount.ReadCountKey;
 import kodanect.common.response.CursorCommentCountPaginationResponse;
 import kodanect.common.response.CursorPaginationResponse;
 import kodanect.common.util.CursorFormatter;
@@ -57,16 +59,19 @@ public class RecipientServiceImpl implements RecipientService {
     private final RecipientRepository recipientRepository;
     private final RecipientCommentRepository recipientCommentRepository;
     private final GlobalsProperties globalsProperties; // GlobalsProperties 주입
+    private final ReadCountAggregator readCountAggregator; // 조회수 증가분 모아서 반영
 
     public RecipientServiceImpl(
             RecipientRepository recipientRepository,
             RecipientCommentRepository recipientCommentRepository,
             GlobalsProperties globalsProperties,
+            ReadCountAggregator readCountAggregator,
             @Value("${recipient.organ-code-direct-input:ORGAN000}") String organCodeDirectInput,
             @Value("${recipient.anonymous-writer-value:익명}") String anonymousWriterValue) {
         this.recipientRepository = recipientRepository;
         this.recipientCommentRepository = recipientCommentRepository;
         this.globalsProperties = globalsProperties;
+        this.readCountAggregator = readCountAggregator;
         this.organCodeDirectInput = organCodeDirectInput;
         this.anonymousWriterValue = anonymousWriterValue;
     }
@@ -192,12 +197,14 @@ public class RecipientServiceImpl implements RecipientService {
                 .filter(entity -> "N".equalsIgnoreCase(entity.getDelFlag()))
                 .orElseThrow(() -> new RecipientNotFoundException(RECIPIENT_NOT_FOUND, letterSeq));
 
-        // 2. 조회수 증가
-        recipientEntity.incrementReadCount();
-        recipientRepository.save(recipientEntity); // 조회수 업데이트
+        // 2. 조회수 증가 (게시물 행을 바로 갱신하지 않고, 증가분을 모아서 주기적으로 반영)
+        ReadCountKey readCountKey = ReadCountKey.recipient(letterSeq);
+        readCountAggregator.increment(readCountKey);
 
-        // 3. Entity를 RecipientDetailResponseDto 변환 (댓글 포함)
+        // 3. Entity를 RecipientDetailResponseDto 변환 (댓글 포함), 조회수는 반영 대기 중인 증가분 포함
         RecipientDetailResponseDto responseDto = RecipientDetailResponseDto.fromEntity(recipientEntity, globalsProperties.getFileBaseUrl());
+        responseDto.setReadCount((int) Math.min(Integer.MAX_VALUE,
+                responseDto.getReadCount() + readCountAggregator.getPendingCount(readCountKey)));
 
         // 4. 상위 INITIAL_COMMENT_LOAD_LIMIT 개 댓글 조회
         // lastCommentId는 첫 조회이므로 0 (또는 null), size는 INITIAL_COMMENT_LOAD_LIMIT + 1 (다음 커서 확인용)
@@ -2,6 +2,7 @@ package kodanect.domain.remembrance.dto;
 
 import kodanect.common.response.CursorCommentPaginationResponse;
 import kodanect.common.response.CursorPaginationResponse;
+import kodanect.common.util.EmotionType;
 import kodanect.common.util.FormatUtils;
 import kodanect.common.util.MemorialHtmlNormalizer;
 import kodanect.domain.heaven.dto.response.MemorialHeavenResponse;
@@ -126,6 +127,23 @@ public class MemorialDetailResponse {
         return writeTime.toLocalDate().toString();
     }
 
+    /** 반영 대기 중인 이모지 카운트 합산 (int 범위를 넘으면 최대값으로 고정) */
+    public void addPendingEmotionCount(EmotionType emotionType, long pendingCount) {
+        switch (emotionType) {
+            case FLOWER -> this.flowerCount = saturatedAdd(this.flowerCount, pendingCount);
+            case LOVE -> this.loveCount = saturatedAdd(this.loveCount, pendingCount);
+            case SEE -> this.seeCount = saturatedAdd(this.seeCount, pendingCount);
+            case MISS -> this.missCount = saturatedAdd(this.missCount, pendingCount);
+            case PROUD -> this.proudCount = saturatedAdd(this.proudCount, pendingCount);
+            case HARD -> this.hardCount = saturatedAdd(this.hardCount, pendingCount);
+            case SAD -> this.sadCount = saturatedAdd(this.sadCount, pendingCount);
+        }
+    }
+
+    private static int saturatedAdd(int persisted, long pendingCount) {
+        return (int) Math.min(Integer.MAX_VALUE, persisted + pendingCount);
+    }
+
     public static String maskIfNeeded(String donorName, String anonymityFlag) {
         if("Y".equals(anonymityFlag) && donorName != null && donorName.length() >= 2) {
             return donorName.charAt(0) + "*".repeat(donorName.length() - 1);
@@ -23,8 +23,11 @@ public interface MemorialCommentRepository extends JpaRepository<MemorialComment
      *
      * 기증자 추모관 댓글 수정 메서드
      *
+     * <p>삭제되지 않은 댓글만 수정하는 조건부 UPDATE 이므로, 동시에 삭제된 댓글은 수정되지 않습니다.</p>
+     *
      * @param commentSeq 댓글 번호
      * @param contents 댓글 내용
+     * @return 수정된 행 수 (이미 삭제된 댓글이면 0)
      *
      **/
     @Modifying(clearAutomatically = true)
@@ -37,7 +40,28 @@ public interface MemorialCommentRepository extends JpaRepository<MemorialComment
                     AND r.delFlag = 'N'
         """
     )
-    void updateCommentContents(@Param("commentSeq") Integer commentSeq, @Param("contents") String contents, @Param("writer") String writer);
+    int updateCommentContents(@Param("commentSeq") Integer commentSeq, @Param("contents") String contents, @Param("writer") String writer);
+
+    /**
+     *
+     * 기증자 추모관 댓글 소프트 삭제 메서드
+     *
+     * <p>del_flag = 'N' 인 댓글만 'Y'로 바꾸는 조건부 UPDATE 이므로, 동시 삭제 요청 중 하나만 성공합니다.</p>
+     *
+     * @param commentSeq 댓글 번호
+     * @return 삭제된 행 수 (이미 삭제된 댓글이면 0)
+     *
+     **/
+    @Modifying(clearAutomatically = true)
+    @Query(
+            value = """
+            UPDATE MemorialComment r
+            SET r.delFlag = 'Y'
+            WHERE r.commentSeq = :commentSeq
+                    AND r.delFlag = 'N'
+        """
+    )
+    int softDeleteComment(@Param("commentSeq") Integer commentSeq);
 
     /**
      *
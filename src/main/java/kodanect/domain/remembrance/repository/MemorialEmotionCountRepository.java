@@ -0,0 +1,100 @@
+package kodanect.domain.remembrance.repository;
+
+import kodanect.common.config.datasource.DataSourceConfig;
+import kodanect.common.util.EmotionType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *
+ * 기증자 추모관 이모지 카운트 증가분을 JDBC로 반영하는 저장소
+ *
+ * <p>여러 게시글의 7개 이모지 카운트를 하나의 UPDATE 문으로 더합니다.</p>
+ * <pre>
+ * UPDATE tb25_400_memorial SET
+ *     flower_count = flower_count + CASE donate_seq WHEN ? THEN ? ... ELSE 0 END,
+ *     ... (7개 컬럼)
+ * WHERE donate_seq IN (?, ...)
+ * </pre>
+ * <p>게시글이 많으면 {@link #MAX_ROWS_PER_STATEMENT}개씩 나누어 하나의 트랜잭션으로 실행하며,
+ * 백그라운드 풀({@link DataSourceConfig#BACKGROUND_DATA_SOURCE})을 사용합니다.</p>
+ *
+ * */
+@Repository
+public class MemorialEmotionCountRepository {
+
+    /** UPDATE 문 하나에 담는 최대 게시글 수 */
+    static final int MAX_ROWS_PER_STATEMENT = 200;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public MemorialEmotionCountRepository(@Qualifier(DataSourceConfig.BACKGROUND_JDBC_TEMPLATE) JdbcTemplate jdbcTemplate,
+                                          @Qualifier(DataSourceConfig.BACKGROUND_TRANSACTION_MANAGER) PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     *
+     * 게시글별 이모지 카운트 증가분 반영 메서드
+     *
+     * @param deltas 게시글 번호별 증가분 (EmotionType.ordinal() 순서의 길이 7 배열)
+     *
+     * */
+    public void addEmotionCounts(Map<Integer, long[]> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Integer, long[]>> rows = new ArrayList<>(deltas.entrySet());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+                List<Map.Entry<Integer, long[]>> chunk = rows.subList(from, Math.min(rows.size(), from + MAX_ROWS_PER_STATEMENT));
+                jdbcTemplate.update(buildUpdateSql(chunk.size()), buildArgs(chunk));
+            }
+        });
+    }
+
+    static String buildUpdateSql(int rowCount) {
+        StringBuilder sql = new StringBuilder("UPDATE tb25_400_memorial SET ");
+        EmotionType[] emotionTypes = EmotionType.values();
+
+        for (int i = 0; i < emotionTypes.length; i++) {
+            String column = emotionTypes[i].getColumnName();
+            sql.append(i == 0 ? "" : ", ").append(column).append(" = ").append(column).append(" + CASE donate_seq");
+            sql.append(" WHEN ? THEN ?".repeat(rowCount));
+            sql.append(" ELSE 0 END");
+        }
+
+        sql.append(" WHERE donate_seq IN (");
+        sql.append(String.join(", ", Collections.nCopies(rowCount, "?")));
+        return sql.append(")").toString();
+    }
+
+    private static Object[] buildArgs(List<Map.Entry<Integer, long[]>> chunk) {
+        int emotionCount = EmotionType.values().length;
+        List<Object> args = new ArrayList<>(chunk.size() * (emotionCount * 2 + 1));
+
+        for (int emotion = 0; emotion < emotionCount; emotion++) {
+            for (Map.Entry<Integer, long[]> row : chunk) {
+                args.add(row.getKey());
+                args.add(row.getValue()[emotion]);
+            }
+        }
+        for (Map.Entry<Integer, long[]> row : chunk) {
+            args.add(row.getKey());
+        }
+        return args.toArray();
+    }
+
+}
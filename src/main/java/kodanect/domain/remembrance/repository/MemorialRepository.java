@@ -6,7 +6,6 @@ import kodanect.domain.remembrance.dto.MemorialResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -16,7 +15,7 @@ import java.util.List;
  *
  * 기증자 추모관 게시글에 대한 데이터 베이스 접근 인터페이스
  * <br>
- * 게시글의 조회, 검색, 이모지 카운팅 등에 대한 JPA 기능 제공
+ * 게시글의 조회, 검색 등에 대한 JPA 기능 제공 (이모지 카운팅은 MemorialEmotionCountRepository)
  *
  * */
 public interface MemorialRepository extends JpaRepository<Memorial, Integer> {
@@ -156,35 +155,4 @@ public interface MemorialRepository extends JpaRepository<Memorial, Integer> {
             @Param("startDate") String startDate,
             @Param("endDate") String endDate,
             @Param("keyWord") String keyWord);
-
-
-
-    /** 기증자 추모관 이모지 카운팅(Flower) */
-    @Modifying
-    @Query(value = "UPDATE tb25_400_memorial m SET m.flower_count = m.flower_count + 1 WHERE m.donate_seq = :donateSeq", nativeQuery = true)
-    void incrementFlower(@Param("donateSeq") Integer donateSeq);
-    /** 기증자 추모관 이모지 카운팅(Love) */
-    @Modifying
-    @Query(value = "UPDATE tb25_400_memorial m SET m.love_count = m.love_count + 1 WHERE m.donate_seq = :donateSeq", nativeQuery = true)
-    void incrementLove(@Param("donateSeq") Integer donateSeq);
-    /** 기증자 추모관 이모지 카운팅(See) */
-    @Modifying
-    @Query(value = "UPDATE tb25_400_memorial m SET m.see_count = m.see_count + 1 WHERE m.donate_seq = :donateSeq", nativeQuery = true)
-    void incrementSee(@Param("donateSeq") Integer donateSeq);
-    /** 기증자 추모관 이모지 카운팅(Miss) */
-    @Modifying
-    @Query(value = "UPDATE tb25_400_memorial m SET m.miss_count = m.miss_count + 1 WHERE m.donate_seq = :donateSeq", nativeQuery = true)
-    void incrementMiss(@Param("donateSeq") Integer donateSeq);
-    /** 기증자 추모관 이모지 카운팅(Proud) */
-    @Modifying
-    @Query(value = "UPDATE tb25_400_memorial m SET m.proud_count = m.proud_count + 1 WHERE m.donate_seq = :donateSeq", nativeQuery = true)
-    void incrementProud(@Param("donateSeq") Integer donateSeq);
-    /** 기증자 추모관 이모지 카운팅(Hard) */
-    @Modifying
-    @Query(value = "UPDATE tb25_400_memorial m SET m.hard_count = m.hard_count + 1 WHERE m.donate_seq = :donateSeq", nativeQuery = true)
-    void incrementHard(@Param("donateSeq") Integer donateSeq);
-    /** 기증자 추모관 이모지 카운팅(Sad) */
-    @Modifying
-    @Query(value = "UPDATE tb25_400_memorial m SET m.sad_count = m.sad_count + 1 WHERE m.donate_seq = :donateSeq", nativeQuery = true)
-    void incrementSad(@Param("donateSeq") Integer donateSeq);
 }
@@ -0,0 +1,159 @@
+package kodanect.domain.remembrance.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kodanect.common.exception.config.SecureLogger;
+import kodanect.common.util.EmotionType;
+import kodanect.domain.remembrance.repository.MemorialEmotionCountRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *
+ * 기증자 추모관 이모지 카운트를 메모리에 모았다가 주기적으로 한꺼번에 반영하는 컴포넌트 (write-behind)
+ *
+ * <p>요청 스레드는 게시글별 이모지 {@link LongAdder}만 증가시키므로 게시글 단위 락이 필요 없습니다.</p>
+ * <p>스케줄러가 변경된 게시글의 7개 이모지 증가분을 꺼내 한 번의 다중 행 UPDATE로 반영합니다.</p>
+ * <p>반영에 실패한 증가분은 다시 더해 두었다가 다음 주기에 재시도하며, 종료 시 남은 증가분을 한 번 더 반영합니다.</p>
+ * <p>상세 응답은 저장된 카운트에 {@link #getPendingCount(Integer, EmotionType)}를 더해 보여줍니다.</p>
+ * <p>반영 대기 중인 카운트와 반영 실패 횟수는 {@code memorial.emotion.pending}, {@code memorial.emotion.flush.failures} 메트릭으로 노출됩니다.</p>
+ *
+ * */
+@Component
+public class MemorialEmotionAggregator implements DisposableBean {
+
+    private static final SecureLogger log = SecureLogger.getLogger(MemorialEmotionAggregator.class);
+
+    private static final EmotionType[] EMOTION_TYPES = EmotionType.values();
+
+    private final MemorialEmotionCountRepository memorialEmotionCountRepository;
+    /* 게시글 번호별 이모지 카운터 (EmotionType.ordinal() 순서), 게시글 수만큼만 생기므로 제거하지 않음 */
+    private final Map<Integer, LongAdder[]> counts = new ConcurrentHashMap<>();
+    private final Counter failureCounter;
+
+    public MemorialEmotionAggregator(MemorialEmotionCountRepository memorialEmotionCountRepository, MeterRegistry meterRegistry) {
+        this.memorialEmotionCountRepository = memorialEmotionCountRepository;
+        this.failureCounter = Counter.builder("memorial.emotion.flush.failures")
+                .description("이모지 카운트 반영에 실패한 일괄 UPDATE 횟수")
+                .register(meterRegistry);
+        Gauge.builder("memorial.emotion.pending", this, MemorialEmotionAggregator::getTotalPendingCount)
+                .description("DB에 반영되지 않은 이모지 카운트 합계")
+                .register(meterRegistry);
+    }
+
+    /**
+     *
+     * 게시글의 이모지 카운트 1 증가 메서드 (실제 반영은 다음 배출 때 이루어짐)
+     *
+     * @param donateSeq 상세 게시글 번호
+     * @param emotionType 이모지
+     *
+     * */
+    public void increment(Integer donateSeq, EmotionType emotionType) {
+        counts.computeIfAbsent(donateSeq, k -> newAdders())[emotionType.ordinal()].increment();
+    }
+
+    /**
+     *
+     * 게시글의 아직 반영되지 않은 이모지 카운트 반환 메서드
+     *
+     * @param donateSeq 상세 게시글 번호
+     * @param emotionType 이모지
+     * @return 반영 대기 중인 카운트
+     *
+     * */
+    public long getPendingCount(Integer donateSeq, EmotionType emotionType) {
+        LongAdder[] adders = counts.get(donateSeq);
+        return adders == null ? 0 : adders[emotionType.ordinal()].sum();
+    }
+
+    /**
+     *
+     * 전체 게시글의 아직 반영되지 않은 이모지 카운트 합계 반환 메서드
+     *
+     * @return 반영 대기 중인 카운트 합계
+     *
+     * */
+    public long getTotalPendingCount() {
+        long total = 0;
+        for (LongAdder[] adders : counts.values()) {
+            for (LongAdder adder : adders) {
+                total += adder.sum();
+            }
+        }
+        return total;
+    }
+
+    /**
+     *
+     * 모아 둔 이모지 카운트를 다중 행 UPDATE로 반영하는 메서드
+     *
+     * @return 반영한 게시글 수
+     *
+     * */
+    @Scheduled(fixedDelayString = "${memorial.emotion.flush-interval:5000}", initialDelayString = "${memorial.emotion.flush-interval:5000}")
+    public synchronized int flush() {
+        Map<Integer, long[]> deltas = drain();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            memorialEmotionCountRepository.addEmotionCounts(deltas);
+            return deltas.size();
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            deltas.forEach(this::restore);
+            log.warn("[이모지 카운트 반영] 반영 실패, 다음 주기에 재시도 (게시글 수: {}): {}", deltas.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 종료 시 남은 이모지 카운트를 반영합니다.
+     */
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private Map<Integer, long[]> drain() {
+        Map<Integer, long[]> deltas = new HashMap<>();
+
+        counts.forEach((donateSeq, adders) -> {
+            long[] row = new long[EMOTION_TYPES.length];
+            boolean dirty = false;
+            for (int i = 0; i < row.length; i++) {
+                row[i] = adders[i].sumThenReset();
+                dirty |= row[i] != 0;
+            }
+            if (dirty) {
+                deltas.put(donateSeq, row);
+            }
+        });
+        return deltas;
+    }
+
+    private void restore(Integer donateSeq, long[] row) {
+        LongAdder[] adders = counts.computeIfAbsent(donateSeq, k -> newAdders());
+        for (int i = 0; i < row.length; i++) {
+            adders[i].add(row[i]);
+        }
+    }
+
+    private static LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[EMOTION_TYPES.length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+}
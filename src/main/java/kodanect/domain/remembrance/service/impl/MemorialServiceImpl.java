@@ -1,7 +1,5 @@
 package kodanect.domain.remembrance.service.impl;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import kodanect.common.response.CursorPaginationResponse;
 import kodanect.common.response.CursorCommentPaginationResponse;
 import kodanect.common.util.CursorFormatter;
@@ -20,11 +18,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import static kodanect.common.util.FormatUtils.formatDate;
 import static kodanect.common.util.FormatUtils.formatSearchWord;
@@ -35,15 +30,13 @@ import static kodanect.common.util.FormatUtils.formatSearchWord;
  * 기증자 추모관 게시글 서비스 구현체
  * <br>
  * 게시글 조회, 검색, 이모지 카운팅 등의 기능을 제공
+ * <br>
+ * 상세 조회는 락 없이 읽으며, 쓰기 동시성은 댓글의 조건부 UPDATE 와 이모지 카운트 집계기로 보장합니다.
  *
  **/
 @Service
 public class MemorialServiceImpl implements MemorialService {
 
-    /** 스레드 생존 기간 */
-    private static final int CACHE_EXPIRE_MINUTES = 10;
-    /** 멀티 스레딩 갯수 */
-    private static final int CACHE_MAX_SIZE = 100_000;
     /** Cursor 기반 기본 Size */
     private static final int DEFAULT_SIZE = 3;
 
@@ -51,67 +44,37 @@ public class MemorialServiceImpl implements MemorialService {
     private final MemorialCommentService memorialCommentService;
     private final MemorialFinder memorialFinder;
     private final HeavenService heavenService;
+    private final MemorialEmotionAggregator memorialEmotionAggregator;
 
-    /**
-     *
-     * 멀티 스레딩 설정
-     *
-     * <p>CACHE_MAX_SIZE : 멀티 스레딩 갯수</p>
-     * <p>CACHE_EXPIRE_MINUTES : 스레드 생존 기간</p>
-     *
-     * */
-    private final Cache<Integer, ReentrantReadWriteLock> lockCache =
-            Caffeine.newBuilder().expireAfterAccess(CACHE_EXPIRE_MINUTES, TimeUnit.MINUTES).maximumSize(CACHE_MAX_SIZE).build();
-
-    public MemorialServiceImpl(MemorialRepository memorialRepository, MemorialCommentService memorialCommentService, MemorialFinder memorialFinder, HeavenService heavenService){
+    public MemorialServiceImpl(MemorialRepository memorialRepository, MemorialCommentService memorialCommentService, MemorialFinder memorialFinder, HeavenService heavenService, MemorialEmotionAggregator memorialEmotionAggregator){
         this.memorialRepository = memorialRepository;
         this.memorialCommentService = memorialCommentService;
         this.memorialFinder = memorialFinder;
         this.heavenService = heavenService;
-    }
-
-    /**
-     *
-     * 게시글 번호 기반 락 생성 및 반환 메서드
-     * 락은 Caffeine 캐시에 저장되며, 최대 10분간 유지됩니다.
-     *
-     * @param donateSeq 상세 게시글 번호
-     * @return 게시글 별로 ReentrantReadWriteLock을 lockCache 설정에 맞게 반환
-     *
-     * */
-    private ReentrantReadWriteLock getLock(Integer donateSeq) {
-        return lockCache.get(donateSeq, k -> new ReentrantReadWriteLock());
+        this.memorialEmotionAggregator = memorialEmotionAggregator;
     }
 
     /**
      *
      * 기증자 추모관 이모지 카운팅 메서드
      *
+     * <p>카운트는 {@link MemorialEmotionAggregator}에 모았다가 주기적으로 한꺼번에 반영하므로 게시글 단위 락이 필요 없습니다.</p>
+     *
      * @param donateSeq 상세 게시글 번호
      * @param emotion  추가 카운트 될 이모지
      *
      * */
     @Override
-    @Transactional
     public void emotionCountUpdate(Integer donateSeq, String emotion)
             throws  InvalidEmotionTypeException,
             MemorialNotFoundException
     {
-        /* 게시글 마다 락을 개별 쓰기 락 객체로 관리 */
-        ReentrantReadWriteLock lock = getLock(donateSeq);
-        lock.writeLock().lock();
-
-        try{
-            /* 게시글 조회 */
-            memorialFinder.findByIdOrThrow(donateSeq);
+        /* 게시글 존재 확인 */
+        memorialFinder.existsOrThrow(donateSeq);
 
-            /* 이모지 검증 */
-            EmotionType emotionType = EmotionType.from(emotion);
-            emotionType.apply(memorialRepository, donateSeq);
-        }
-        finally {
-            lock.writeLock().unlock();
-        }
+        /* 이모지 검증 */
+        EmotionType emotionType = EmotionType.from(emotion);
+        memorialEmotionAggregator.increment(donateSeq, emotionType);
     }
 
     /**
@@ -212,37 +175,36 @@ public class MemorialServiceImpl implements MemorialService {
                     InvalidContentsException
     {
         /* 게시글 조회 */
-        ReentrantReadWriteLock lock = getLock(donateSeq);
-        lock.readLock().lock();
-
-        try{
-            Memorial memorial = memorialFinder.findByIdOrThrow(donateSeq);
-
-            /* 댓글 리스트 모두 조회 */
-            List<MemorialCommentResponse> memorialCommentResponses =
-                    memorialCommentService.getMemorialCommentList(donateSeq, null, DEFAULT_SIZE + 1);
-
-            /* 댓글 총 갯수 조회 */
-            long totalCount = memorialCommentService.getTotalCommentCount(donateSeq);
-
-            /* 댓글 리스트 페이징 포매팅 */
-            CursorCommentPaginationResponse<MemorialCommentResponse, Integer> cursoredReplies =
-                    CursorFormatter.cursorCommentCountFormat(memorialCommentResponses, DEFAULT_SIZE, totalCount);
-
-            /* 하늘나라 편지 리스트 조회 */
-            CursorPaginationResponse<MemorialHeavenResponse, Integer> cursoredLetters =
-                    heavenService.getMemorialHeavenList(donateSeq, null, DEFAULT_SIZE);
-
-            /* 기증자 상세 조회 */
-            return MemorialDetailResponse.of(
-                    memorial,
-                    cursoredReplies,
-                    cursoredLetters
-            );
-        }
-        finally {
-            lock.readLock().unlock();
+        Memorial memorial = memorialFinder.findByIdOrThrow(donateSeq);
+
+        /* 댓글 리스트 모두 조회 */
+        List<MemorialCommentResponse> memorialCommentResponses =
+                memorialCommentService.getMemorialCommentList(donateSeq, null, DEFAULT_SIZE + 1);
+
+        /* 댓글 총 갯수 조회 */
+        long totalCount = memorialCommentService.getTotalCommentCount(donateSeq);
+
+        /* 댓글 리스트 페이징 포매팅 */
+        CursorCommentPaginationResponse<MemorialCommentResponse, Integer> cursoredReplies =
+                CursorFormatter.cursorCommentCountFormat(memorialCommentResponses, DEFAULT_SIZE, totalCount);
+
+        /* 하늘나라 편지 리스트 조회 */
+        CursorPaginationResponse<MemorialHeavenResponse, Integer> cursoredLetters =
+                heavenService.getMemorialHeavenList(donateSeq, null, DEFAULT_SIZE);
+
+        /* 기증자 상세 조회 */
+        MemorialDetailResponse memorialDetailResponse = MemorialDetailResponse.of(
+                memorial,
+                cursoredReplies,
+                cursoredLetters
+        );
+
+        /* 반영 대기 중인 이모지 카운트 합산 */
+        for (EmotionType emotionType : EmotionType.values()) {
+            memorialDetailResponse.addPendingEmotionCount(
+                    emotionType, memorialEmotionAggregator.getPendingCount(donateSeq, emotionType));
         }
+        return memorialDetailResponse;
     }
 }
 
@@ -0,0 +1,26 @@
+-- Action log rollup and dimension tables (MySQL 8, also valid for H2 MODE=MYSQL)
+-- Apply as a migration on databases running with spring.jpa.hibernate.ddl-auto=validate.
+-- Monthly tb25_940_action_log_yyyyMM tables are managed at runtime by ActionLogPartitionManager.
+
+CREATE TABLE IF NOT EXISTS tb25_941_action_log_rollup_hourly (
+    bucket_hour DATETIME NOT NULL,
+    url_name VARCHAR(600) NOT NULL,
+    crud_code VARCHAR(10) NOT NULL,
+    event_count BIGINT NOT NULL,
+    PRIMARY KEY (bucket_hour, url_name, crud_code)
+);
+
+CREATE TABLE IF NOT EXISTS tb25_942_action_log_rollup_system (
+    bucket_hour DATETIME NOT NULL,
+    dimension VARCHAR(20) NOT NULL,
+    dimension_value VARCHAR(100) NOT NULL,
+    session_count BIGINT NOT NULL,
+    PRIMARY KEY (bucket_hour, dimension, dimension_value)
+);
+
+CREATE TABLE IF NOT EXISTS tb25_943_action_log_dimension (
+    dim_id INT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    dim_type VARCHAR(30) NOT NULL,
+    dim_value VARCHAR(300) NOT NULL,
+    CONSTRAINT uk_tb25_943_type_value UNIQUE (dim_type, dim_value)
+);
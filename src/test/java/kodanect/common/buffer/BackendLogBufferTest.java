@@ -1,5 +1,9 @@
 package kodanect.common.buffer;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.buffer.journal.ActionLogJournal;
+import kodanect.common.config.properties.ActionLogProperties;
 import kodanect.common.constant.CrudCode;
 import kodanect.domain.logging.dto.BackendLogDto;
 import kodanect.common.constant.UserActionKey;
@@ -17,6 +21,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 public class BackendLogBufferTest {
 
+    private final ActionLogJournal journal = new ActionLogJournal(new ActionLogProperties());
     private BackendLogBuffer buffer;
 
     /**
@@ -24,29 +29,7 @@ public class BackendLogBufferTest {
      */
     @Before
     public void setUp() {
-        buffer = new BackendLogBuffer();
-    }
-
-    /**
-     * Given: 하나의 세션 ID와 동일한 HTTP 메서드의 로그 3개가 주어졌을 때
-     * When: 버퍼에 add()로 추가하고 drainIfThresholdMet()를 호출하면
-     * Then: 해당 CRUD에 대해 로그 3개가 올바르게 배출되어야 한다.
-     */
-    @Test
-    public void drainIfThresholdMet_shouldDrainLogsByCrudAndThreshold() {
-        String sessionId = "session-1";
-
-        buffer.add(sessionId, createLog("GET"));
-        buffer.add(sessionId, createLog("GET"));
-        buffer.add(sessionId, createLog("GET"));
-
-        Map<UserActionKey, List<BackendLogDto>> result = buffer.drainIfThresholdMet(CrudCode.R, 3);
-
-        assertThat(result).hasSize(1);
-        Map.Entry<UserActionKey, List<BackendLogDto>> entry = result.entrySet().iterator().next();
-        assertThat(entry.getKey().getSessionId()).isEqualTo(sessionId);
-        assertThat(entry.getKey().getCrudCode()).isEqualTo(CrudCode.R);
-        assertThat(entry.getValue()).hasSize(3);
+        buffer = new BackendLogBuffer(new ActionLogProperties(), journal);
     }
 
     /**
@@ -81,6 +64,77 @@ public class BackendLogBufferTest {
         assertThat(result).isEmpty();
     }
 
+    /**
+     * Given: 고수위(high-water mark)가 2로 설정된 버퍼에
+     * When: 동일한 CRUD 코드의 로그 3개를 추가하면
+     * Then: 세 번째 로그는 거부되고 거부 건수가 집계되며, 배출 후에는 다시 적재할 수 있어야 한다.
+     */
+    @Test
+    public void add_shouldRejectLogsWhenHighWaterMarkReached() {
+        ActionLogProperties properties = new ActionLogProperties();
+        properties.getBuffer().setHighWaterMark(2);
+        buffer = new BackendLogBuffer(properties, journal);
+
+        assertThat(buffer.add("session-1", createLog("GET"))).isTrue();
+        assertThat(buffer.add("session-1", createLog("GET"))).isTrue();
+        assertThat(buffer.add("session-1", createLog("GET"))).isFalse();
+
+        assertThat(buffer.isSaturated(CrudCode.R)).isTrue();
+        assertThat(buffer.isSaturated(CrudCode.C)).isFalse();
+        assertThat(buffer.getDroppedCount()).isEqualTo(1);
+
+        buffer.drainAll();
+
+        assertThat(buffer.getBufferedCount(CrudCode.R)).isZero();
+        assertThat(buffer.add("session-1", createLog("GET"))).isTrue();
+    }
+
+    /**
+     * Given: 서로 다른 CRUD 코드의 로그가 추가되었을 때
+     * When: drainAll(CrudCode.R)을 호출하면
+     * Then: READ 로그만 배출되고, 적재 건수/용량/가장 오래된 적재 시각이 READ에 대해서만 초기화되어야 한다.
+     */
+    @Test
+    public void drainAllByCrudCode_shouldDrainOnlyGivenCodeAndResetStats() {
+        long before = System.currentTimeMillis();
+        buffer.add("session-1", createLog("GET"));
+        buffer.add("session-1", createLog("GET"));
+        buffer.add("session-2", createLog("POST"));
+
+        assertThat(buffer.getBufferedBytes(CrudCode.R)).isPositive();
+        assertThat(buffer.getOldestEnqueuedAt(CrudCode.R)).isGreaterThanOrEqualTo(before);
+
+        Map<UserActionKey, List<BackendLogDto>> result = buffer.drainAll(CrudCode.R);
+
+        assertThat(result).containsOnlyKeys(new UserActionKey("session-1", CrudCode.R));
+        assertThat(buffer.getBufferedCount(CrudCode.R)).isZero();
+        assertThat(buffer.getBufferedBytes(CrudCode.R)).isZero();
+        assertThat(buffer.getOldestEnqueuedAt(CrudCode.R)).isZero();
+        assertThat(buffer.getBufferedCount(CrudCode.C)).isEqualTo(1);
+        assertThat(buffer.getOldestEnqueuedAt(CrudCode.C)).isPositive();
+    }
+
+    /**
+     * Given: 버퍼에 메트릭을 등록하고 READ 로그 2건을 추가했을 때
+     * When: 버퍼 메트릭을 조회하면
+     * Then: CRUD 코드별 적재 건수와 용량, 거부 건수가 buffer=backend 태그로 노출되어야 한다.
+     */
+    @Test
+    public void bindTo_shouldExposeBufferMetricsPerCrudCode() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        buffer.bindTo(registry);
+
+        buffer.add("session-1", createLog("GET"));
+        buffer.add("session-1", createLog("GET"));
+
+        assertThat(registry.get("action.log.buffer.events").tags("buffer", "backend", "crud_code", "R")
+                .gauge().value()).isEqualTo(2);
+        assertThat(registry.get("action.log.buffer.bytes").tags("buffer", "backend", "crud_code", "R")
+                .gauge().value()).isEqualTo(buffer.getBufferedBytes(CrudCode.R));
+        assertThat(registry.get("action.log.buffer.dropped").tag("buffer", "backend")
+                .functionCounter().count()).isZero();
+    }
+
     private BackendLogDto createLog(String httpMethod) {
         return BackendLogDto.builder()
                 .httpMethod(httpMethod)
@@ -1,5 +1,8 @@
 package kodanect.common.buffer;
 
+import kodanect.common.buffer.journal.ActionLogJournal;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.common.config.properties.ActionLogProperties.Sampling.Mode;
 import kodanect.common.constant.CrudCode;
 import kodanect.domain.logging.dto.FrontendLogDto;
 import kodanect.common.constant.UserActionKey;
@@ -13,10 +16,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 /**
  * {@link FrontendLogBuffer} 클래스의 동작을 검증하는 단위 테스트입니다.
  *
- * 로그 추가, 임계값 조건에 따른 배출, 전체 배출, 유효하지 않은 입력 처리 등을 테스트합니다.
+ * 로그 추가, 임계값 조건에 따른 배출, 전체 배출, 유효하지 않은 입력 처리, 이벤트 유형별 표본 추출/요약 정책 등을 테스트합니다.
  */
 public class FrontendLogBufferTest {
 
+    private final ActionLogJournal journal = new ActionLogJournal(new ActionLogProperties());
     private FrontendLogBuffer buffer;
 
     /**
@@ -24,33 +28,7 @@ public class FrontendLogBufferTest {
      */
     @Before
     public void setUp() {
-        buffer = new FrontendLogBuffer();
-    }
-
-    /**
-     * Given: 하나의 세션 ID와 동일한 eventType의 로그 3개가 주어졌을 때
-     * When: 버퍼에 add()로 추가하고 drainIfThresholdMet()를 호출하면
-     * Then: 해당 CRUD에 대해 로그 3개가 올바르게 배출되어야 한다.
-     */
-    @Test
-    public void drainIfThresholdMet_shouldDrainLogsByCrudAndThreshold() {
-        String sessionId = "session-1";
-
-        List<FrontendLogDto> logs = Arrays.asList(
-                createLog("clickButton"),
-                createLog("clickButton"),
-                createLog("clickButton")
-        );
-
-        buffer.add(sessionId, logs);
-
-        Map<UserActionKey, List<FrontendLogDto>> result = buffer.drainIfThresholdMet(CrudCode.R, 3);
-
-        assertThat(result).hasSize(1);
-        Map.Entry<UserActionKey, List<FrontendLogDto>> entry = result.entrySet().iterator().next();
-        assertThat(entry.getKey().getSessionId()).isEqualTo(sessionId);
-        assertThat(entry.getKey().getCrudCode()).isEqualTo(CrudCode.R);
-        assertThat(entry.getValue()).hasSize(3);
+        buffer = new FrontendLogBuffer(new ActionLogProperties(), journal);
     }
 
     /**
@@ -86,6 +64,134 @@ public class FrontendLogBufferTest {
         assertThat(result).isEmpty();
     }
 
+    /**
+     * Given: 고수위(high-water mark)가 2로 설정된 버퍼에
+     * When: 동일한 CRUD 코드의 로그 3개를 한 번에 추가하면
+     * Then: 초과한 1개는 거부되어 반환값과 거부 건수에 반영되어야 한다.
+     */
+    @Test
+    public void add_shouldReturnRejectedCountWhenHighWaterMarkReached() {
+        ActionLogProperties properties = new ActionLogProperties();
+        properties.getBuffer().setHighWaterMark(2);
+        buffer = new FrontendLogBuffer(properties, journal);
+
+        int rejected = buffer.add("session-1", Arrays.asList(
+                createLog("clickButton"),
+                createLog("clickMenu"),
+                createLog("clickTab")
+        ));
+
+        assertThat(rejected).isEqualTo(1);
+        assertThat(buffer.getDroppedCount()).isEqualTo(1);
+        assertThat(buffer.isSaturated(CrudCode.R)).isTrue();
+        assertThat(buffer.add("session-1", Collections.singletonList(createLog("createPost")))).isZero();
+    }
+
+    /**
+     * Given: clickCard 이벤트에 10건 중 1건 표본 추출 정책이 설정되어 있을 때
+     * When: 같은 세션에서 clickCard 25건과 clickButton 1건을 추가하면
+     * Then: clickCard는 3건만 적재되고 나머지는 거부 없이 버려져야 하며, clickButton은 그대로 적재되어야 한다.
+     */
+    @Test
+    public void add_shouldSampleConfiguredEventType() {
+        ActionLogProperties properties = new ActionLogProperties();
+        properties.getSampling().getEventTypes().put("clickCard", policy(Mode.SAMPLE, 10));
+        buffer = new FrontendLogBuffer(properties, journal);
+
+        List<FrontendLogDto> logs = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            logs.add(createLog("clickCard"));
+        }
+        logs.add(createLog("clickButton"));
+
+        int rejected = buffer.add("session-1", logs);
+
+        assertThat(rejected).isZero();
+        assertThat(buffer.getBufferedCount(CrudCode.R)).isEqualTo(4);
+        assertThat(buffer.getSampledOutCount()).isEqualTo(22);
+    }
+
+    /**
+     * Given: clickMenu 이벤트에 요약 정책이 설정되어 있을 때
+     * When: 같은 세션에서 clickMenu 3건을 추가한 뒤 drainAll()을 호출하면
+     * Then: 버퍼에는 1건만 적재되고, 배출 시 건수 3과 처음/마지막 발생 시각을 담은 요약 로그로 반환되어야 한다.
+     */
+    @Test
+    public void drainAll_shouldCollapseSummarizedEvents() {
+        ActionLogProperties properties = new ActionLogProperties();
+        properties.getSampling().getEventTypes().put("clickMenu", policy(Mode.SUMMARIZE, 1));
+        buffer = new FrontendLogBuffer(properties, journal);
+
+        buffer.add("session-1", Arrays.asList(
+                createLog("clickMenu", "2024-01-01T00:00:00Z"),
+                createLog("clickMenu", "2024-01-01T00:00:05Z"),
+                createLog("clickMenu", "2024-01-01T00:00:09Z")
+        ));
+
+        assertThat(buffer.getBufferedCount(CrudCode.R)).isEqualTo(1);
+
+        List<FrontendLogDto> drained = buffer.drainAll().get(new UserActionKey("session-1", CrudCode.R));
+
+        assertThat(drained).hasSize(1);
+        assertThat(drained.get(0).getSummaryCount()).isEqualTo(3);
+        assertThat(drained.get(0).getTimestamp()).isEqualTo("2024-01-01T00:00:00Z");
+        assertThat(drained.get(0).getLastTimestamp()).isEqualTo("2024-01-01T00:00:09Z");
+        assertThat(buffer.getSummarizedCount()).isEqualTo(2);
+    }
+
+    /**
+     * Given: 요약 정책이 적용된 이벤트가 한 번 배출되었을 때
+     * When: 같은 세션에서 같은 유형의 이벤트를 다시 추가하면
+     * Then: 이전 요약에 합쳐지지 않고 새 요약으로 적재되어야 한다.
+     */
+    @Test
+    public void add_shouldStartNewSummaryAfterDrain() {
+        ActionLogProperties properties = new ActionLogProperties();
+        properties.getSampling().getEventTypes().put("clickMenu", policy(Mode.SUMMARIZE, 1));
+        buffer = new FrontendLogBuffer(properties, journal);
+
+        buffer.add("session-1", Arrays.asList(createLog("clickMenu"), createLog("clickMenu")));
+        buffer.drainAll();
+        buffer.add("session-1", Collections.singletonList(createLog("clickMenu")));
+
+        List<FrontendLogDto> drained = buffer.drainAll().get(new UserActionKey("session-1", CrudCode.R));
+
+        assertThat(drained).hasSize(1);
+        assertThat(drained.get(0).getSummaryCount()).isEqualTo(1);
+    }
+
+    /**
+     * Given: 조회(R)가 아닌 createPost 이벤트에 표본 추출 정책이 설정되어 있을 때
+     * When: createPost 이벤트 3건을 추가하면
+     * Then: 정책이 무시되고 모두 적재되어야 한다.
+     */
+    @Test
+    public void add_shouldIgnorePolicyForNonReadEventType() {
+        ActionLogProperties properties = new ActionLogProperties();
+        properties.getSampling().getEventTypes().put("createPost", policy(Mode.SAMPLE, 10));
+        buffer = new FrontendLogBuffer(properties, journal);
+
+        buffer.add("session-1", Arrays.asList(createLog("createPost"), createLog("createPost"), createLog("createPost")));
+
+        assertThat(buffer.getBufferedCount(CrudCode.C)).isEqualTo(3);
+    }
+
+    private ActionLogProperties.Sampling.Policy policy(Mode mode, int rate) {
+        ActionLogProperties.Sampling.Policy policy = new ActionLogProperties.Sampling.Policy();
+        policy.setMode(mode);
+        policy.setRate(rate);
+        return policy;
+    }
+
+    private FrontendLogDto createLog(String eventType, String timestamp) {
+        return FrontendLogDto.builder()
+                .eventType(eventType)
+                .elementId("btn-1")
+                .pageUrl("/test")
+                .timestamp(timestamp)
+                .build();
+    }
+
     private FrontendLogDto createLog(String eventType) {
         return FrontendLogDto.builder()
                 .eventType(eventType)
@@ -1,28 +1,42 @@
 package kodanect.common.buffer;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.buffer.journal.ActionLogJournal;
+import kodanect.common.config.properties.ActionLogProperties;
 import kodanect.domain.logging.dto.SystemInfoDto;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * {@link SystemInfoBuffer} 클래스의 동작을 검증하는 단위 테스트입니다.
  *
- * 유효한 시스템 정보 추가, 중복 저장 방지, 조회, 삭제, 잘못된 입력 처리 등을 테스트합니다.
+ * 유효한 시스템 정보 추가, 중복 저장 방지, 조회, 삭제, 잘못된 입력 처리,
+ * 최대 세션 수 및 유휴 만료에 따른 퇴출과 퇴출 목록 정리 등을 테스트합니다.
  */
 public class SystemInfoBufferTest {
 
+    private final AtomicLong nanos = new AtomicLong();
+    private ActionLogProperties properties;
+    private MeterRegistry meterRegistry;
     private SystemInfoBuffer buffer;
 
     /**
-     * 테스트 실행 전 SystemInfoBuffer 인스턴스를 초기화합니다.
+     * 테스트 실행 전 조작 가능한 시계로 SystemInfoBuffer 인스턴스를 초기화합니다.
      */
     @Before
     public void setUp() {
-        buffer = new SystemInfoBuffer();
+        properties = new ActionLogProperties();
+        properties.getSystemInfo().setIdleTimeout(Duration.ofMinutes(30));
+        meterRegistry = new SimpleMeterRegistry();
+        buffer = createBuffer();
     }
 
     /**
@@ -92,6 +106,89 @@ public class SystemInfoBufferTest {
         assertThat(buffer.get("session-4")).isEmpty();
     }
 
+    /**
+     * GIVEN: 세션의 마지막 접근 후 유휴 만료 시간이 지났을 때
+     * WHEN: 캐시 정리가 수행되면
+     * THEN: 세션은 퇴출 목록으로 옮겨지고, 여전히 조회 가능해야 한다.
+     */
+    @Test
+    public void idleSession_shouldBeRetiredButStillReadable() {
+        buffer.add("session-5", createSystemInfo());
+
+        nanos.addAndGet(Duration.ofMinutes(31).toNanos());
+        buffer.cleanUp();
+
+        assertThat(buffer.size()).isZero();
+        assertThat(buffer.getRetiredCount()).isEqualTo(1);
+        assertThat(buffer.get("session-5")).isPresent();
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "action-log-system-info")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    /**
+     * GIVEN: 최대 세션 수가 2일 때
+     * WHEN: 세 개의 세션을 추가하면
+     * THEN: 한 세션이 퇴출되지만, 세 세션 모두 조회 가능해야 한다.
+     */
+    @Test
+    public void overflowingSessions_shouldBeRetiredInsteadOfDropped() {
+        properties.getSystemInfo().setMaximumSessions(2);
+        meterRegistry = new SimpleMeterRegistry();
+        buffer = createBuffer();
+
+        Stream.of("a", "b", "c").forEach(sessionId -> buffer.add(sessionId, createSystemInfo()));
+        buffer.cleanUp();
+
+        assertThat(buffer.size()).isEqualTo(2);
+        assertThat(buffer.getRetiredCount()).isEqualTo(1);
+        assertThat(Stream.of("a", "b", "c").map(buffer::get)).allMatch(Optional::isPresent);
+    }
+
+    /**
+     * GIVEN: 전체 배출 전후로 각각 퇴출된 세션이 있을 때
+     * WHEN: 배출 전 기준 번호로 purgeRetired()를 호출하면
+     * THEN: 배출 전에 퇴출된 세션만 정리되어야 한다.
+     */
+    @Test
+    public void purgeRetired_shouldRemoveOnlyEntriesRetiredBeforeMark() {
+        buffer.add("before", createSystemInfo());
+        nanos.addAndGet(Duration.ofMinutes(31).toNanos());
+        buffer.cleanUp();
+
+        long mark = buffer.retiredMark();
+
+        buffer.add("after", createSystemInfo());
+        nanos.addAndGet(Duration.ofMinutes(31).toNanos());
+        buffer.cleanUp();
+
+        buffer.purgeRetired(mark);
+
+        assertThat(buffer.get("before")).isEmpty();
+        assertThat(buffer.get("after")).isPresent();
+    }
+
+    /**
+     * GIVEN: 퇴출 목록에 있는 세션이
+     * WHEN: 다른 시스템 정보로 다시 add()되면
+     * THEN: 기존 정보가 버퍼로 복귀해야 한다.
+     */
+    @Test
+    public void add_shouldReviveRetiredSession() {
+        buffer.add("session-6", createSystemInfo());
+        nanos.addAndGet(Duration.ofMinutes(31).toNanos());
+        buffer.cleanUp();
+
+        buffer.add("session-6", SystemInfoDto.builder().browserName("Firefox").build());
+
+        assertThat(buffer.getRetiredCount()).isZero();
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThat(buffer.get("session-6")).get().extracting(SystemInfoDto::getBrowserName).isEqualTo("Chrome");
+    }
+
+    private SystemInfoBuffer createBuffer() {
+        return new SystemInfoBuffer(new ActionLogJournal(properties), properties, meterRegistry, nanos::get);
+    }
+
     private SystemInfoDto createSystemInfo() {
         return SystemInfoDto.builder()
                 .browserName("Chrome")
@@ -0,0 +1,368 @@
+package kodanect.common.buffer.journal;
+
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.domain.logging.dto.BackendLogDto;
+import kodanect.domain.logging.dto.FrontendLogDto;
+import kodanect.domain.logging.dto.SystemInfoDto;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ActionLogJournal} 클래스의 동작을 검증하는 단위 테스트입니다.
+ *
+ * 레코드 기록 후 재시작 시 재생, 체크포인트에 의한 세그먼트 삭제, 비활성 상태 동작 등을 테스트합니다.
+ */
+public class ActionLogJournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ActionLogProperties properties;
+    private ActionLogJournal journal;
+
+    /**
+     * 테스트 실행 전 임시 디렉터리를 사용하는 저널 설정을 준비합니다.
+     */
+    @Before
+    public void setUp() throws IOException {
+        properties = new ActionLogProperties();
+        properties.getJournal().setEnabled(true);
+        properties.getJournal().setDirectory(folder.getRoot().getAbsolutePath());
+        properties.getJournal().setSegmentSize(4096);
+
+        journal = open();
+    }
+
+    /**
+     * 테스트 종료 후 저널을 닫습니다.
+     */
+    @After
+    public void tearDown() throws IOException {
+        journal.destroy();
+    }
+
+    /**
+     * GIVEN: 세 종류의 레코드가 저널에 기록된 뒤 종료되었을 때
+     * WHEN: 새 저널로 재시작하여 replay()를 호출하면
+     * THEN: 기록 순서대로 동일한 내용의 레코드가 재생되어야 한다.
+     */
+    @Test
+    public void replay_shouldRestoreRecordsWrittenBeforeRestart() throws IOException {
+        journal.appendSystemInfo("session-1", SystemInfoDto.builder()
+                .browserName("Chrome").browserVersion("123").operatingSystem("Windows")
+                .device("Computer").locale("ko-KR").build());
+        journal.appendFrontendLog("session-1", FrontendLogDto.builder()
+                .eventType("click").elementId("btn").pageUrl("/기증안내")
+                .referrerUrl(null).timestamp("2025-01-01T00:00:00").build());
+        journal.appendBackendLog("session-1", BackendLogDto.builder()
+                .httpMethod("GET").endpoint("/donationLetters").controller("DonationController")
+                .method("list").parameters("{}").timestamp("2025-01-01T00:00:01").build());
+        journal.destroy();
+
+        journal = open();
+        RecordingHandler handler = new RecordingHandler();
+        int replayed = journal.replay(handler);
+
+        assertThat(replayed).isEqualTo(3);
+        assertThat(handler.records).containsExactly(
+                "S:session-1:Chrome:ko-KR",
+                "F:session-1:click:/기증안내:null",
+                "B:session-1:GET:/donationLetters:list");
+    }
+
+    /**
+     * GIVEN: 이전 실행의 세그먼트를 재생할 때 핸들러가 두 번째 레코드를 받아들이지 못하면
+     * WHEN: 재생 이후 체크포인트를 수행하고 다시 재시작하면
+     * THEN: 받아들인 레코드 수만 반환되고, 그 세그먼트는 삭제되지 않아 두 레코드가 다시 재생되어야 한다.
+     */
+    @Test
+    public void replay_whenRecordRejected_shouldKeepSegmentUntilRestart() throws IOException {
+        journal.appendFrontendLog("session-1", FrontendLogDto.builder().pageUrl("/a").build());
+        journal.appendFrontendLog("session-1", FrontendLogDto.builder().pageUrl("/b").build());
+        journal.destroy();
+
+        journal = open();
+        assertThat(journal.replay(new RecordingHandler(1))).isEqualTo(1);
+        journal.checkpoint(journal.rollover());
+        journal.destroy();
+
+        journal = open();
+        RecordingHandler handler = new RecordingHandler();
+
+        assertThat(journal.replay(handler)).isEqualTo(2);
+        assertThat(handler.records).containsExactly("F:session-1:null:/a:null", "F:session-1:null:/b:null");
+    }
+
+    /**
+     * GIVEN: 레코드가 기록된 세그먼트가 있을 때
+     * WHEN: rollover() 후 반환된 번호로 checkpoint()를 호출하면
+     * THEN: 이전 세그먼트가 삭제되어 재시작 시 재생되는 레코드가 없어야 한다.
+     */
+    @Test
+    public void checkpoint_shouldDeleteSegmentsBeforeMark() throws IOException {
+        journal.appendFrontendLog("session-1", FrontendLogDto.builder().pageUrl("/p").build());
+
+        long mark = journal.rollover();
+        journal.checkpoint(mark);
+        journal.destroy();
+
+        journal = open();
+
+        assertThat(journal.replay(new RecordingHandler())).isZero();
+    }
+
+    /**
+     * GIVEN: 이전 실행의 세그먼트가 남아 있는 상태로 재시작했을 때
+     * WHEN: 재생 전에 체크포인트가 수행되면
+     * THEN: 복구 대상 세그먼트는 삭제되지 않고, 재생 이후의 체크포인트에서만 삭제되어야 한다.
+     */
+    @Test
+    public void checkpoint_shouldKeepRecoveredSegmentsUntilReplayed() throws IOException {
+        journal.appendFrontendLog("session-1", FrontendLogDto.builder().pageUrl("/p").build());
+        journal.destroy();
+
+        journal = open();
+        journal.checkpoint(journal.rollover());
+        assertThat(segmentCount()).isEqualTo(2);
+
+        assertThat(journal.replay(new RecordingHandler())).isEqualTo(1);
+        journal.checkpoint(journal.rollover());
+
+        assertThat(segmentCount()).isEqualTo(1);
+    }
+
+    /**
+     * GIVEN: 레코드가 기록된 세그먼트가 있는 상태에서 retain()으로 보존 하한을 고정했을 때
+     * WHEN: 이후 rollover() 후 checkpoint()를 호출하고 재시작하면
+     * THEN: 보존된 세그먼트가 삭제되지 않아 레코드가 재생되어야 한다.
+     */
+    @Test
+    public void checkpoint_shouldKeepRetainedSegmentsUntilRestart() throws IOException {
+        journal.appendFrontendLog("session-1", FrontendLogDto.builder().pageUrl("/p").build());
+
+        journal.retain();
+        journal.checkpoint(journal.rollover());
+        journal.destroy();
+
+        journal = open();
+
+        assertThat(journal.replay(new RecordingHandler())).isEqualTo(1);
+    }
+
+    /**
+     * GIVEN: 여러 스레드가 세그먼트 크기를 넘길 만큼 동시에 레코드를 기록할 때
+     * WHEN: 재시작 후 replay()를 호출하면
+     * THEN: 기록 위치가 겹치지 않아 모든 레코드가 한 번씩 재생되어야 한다.
+     */
+    @Test
+    public void append_concurrently_shouldNotOverlapRecords() throws Exception {
+        int threads = 8;
+        int perThread = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String sessionId = "session-" + t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        journal.appendFrontendLog(sessionId, FrontendLogDto.builder().pageUrl("/p" + i).build());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        journal.destroy();
+
+        journal = open();
+        RecordingHandler handler = new RecordingHandler();
+
+        assertThat(journal.replay(handler)).isEqualTo(threads * perThread);
+        assertThat(handler.records).doesNotHaveDuplicates();
+        assertThat(segmentCount()).isGreaterThan(2);
+    }
+
+    /**
+     * GIVEN: 여러 스레드가 적재 잠금 없이 레코드를 기록하는 동안
+     * WHEN: 다른 스레드가 rollover()로 세그먼트를 계속 전환하고 재시작 후 replay()를 호출하면
+     * THEN: 전환된 세그먼트가 기록 중인 레코드보다 먼저 닫히지 않아 모든 레코드가 재생되어야 한다.
+     */
+    @Test
+    public void append_concurrentlyWithRollover_shouldKeepInFlightRecords() throws Exception {
+        int threads = 4;
+        int perThread = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String sessionId = "session-" + t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        journal.appendFrontendLog(sessionId, FrontendLogDto.builder().pageUrl("/p" + i).build());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            while (futures.stream().anyMatch(future -> !future.isDone())) {
+                journal.rollover();
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        journal.destroy();
+
+        journal = open();
+        RecordingHandler handler = new RecordingHandler();
+
+        assertThat(journal.replay(handler)).isEqualTo(threads * perThread);
+        assertThat(handler.records).doesNotHaveDuplicates();
+    }
+
+    /**
+     * GIVEN: 길이만 기록되고 타입이 기록되지 않은(중간에 종료된) 레코드 뒤에 정상 레코드가 있을 때
+     * WHEN: 재시작 후 replay()를 호출하면
+     * THEN: 중간에 종료된 레코드만 건너뛰고 뒤의 레코드는 재생되어야 한다.
+     */
+    @Test
+    public void replay_shouldSkipIncompleteRecord() throws IOException {
+        journal.appendFrontendLog("session-1", FrontendLogDto.builder().pageUrl("/incomplete").build());
+        journal.appendFrontendLog("session-1", FrontendLogDto.builder().pageUrl("/complete").build());
+        journal.destroy();
+
+        try (FileChannel channel = FileChannel.open(
+                Paths.get(properties.getJournal().getDirectory(), "segment-1.wal"), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0}), Integer.BYTES);
+        }
+
+        journal = open();
+        RecordingHandler handler = new RecordingHandler();
+
+        assertThat(journal.replay(handler)).isEqualTo(1);
+        assertThat(handler.records).containsExactly("F:session-1:null:/complete:null");
+    }
+
+    /**
+     * GIVEN: 세그먼트 크기를 넘길 만큼 레코드를 기록할 때
+     * WHEN: 재시작 후 replay()를 호출하면
+     * THEN: 여러 세그먼트에 나뉘어 기록된 레코드가 모두 재생되어야 한다.
+     */
+    @Test
+    public void append_shouldRollToNextSegmentWhenFull() throws IOException {
+        int count = 200;
+        for (int i = 0; i < count; i++) {
+            journal.appendFrontendLog("session-" + i, FrontendLogDto.builder().pageUrl("/page/" + i).build());
+        }
+        journal.destroy();
+
+        assertThat(segmentCount()).isGreaterThan(1);
+
+        journal = open();
+
+        assertThat(journal.replay(new RecordingHandler())).isEqualTo(count);
+    }
+
+    /**
+     * GIVEN: 저널이 비활성화되어 있을 때
+     * WHEN: 레코드를 기록하면
+     * THEN: 파일이 생성되지 않고 rollover()는 -1을 반환해야 한다.
+     */
+    @Test
+    public void disabledJournal_shouldIgnoreWrites() throws IOException {
+        journal.destroy();
+        properties.getJournal().setEnabled(false);
+        properties.getJournal().setDirectory(folder.newFolder("disabled").getAbsolutePath());
+
+        journal = open();
+        journal.appendFrontendLog("session-1", FrontendLogDto.builder().pageUrl("/p").build());
+
+        assertThat(journal.isOpen()).isFalse();
+        assertThat(journal.rollover()).isEqualTo(-1);
+        assertThat(segmentCount()).isZero();
+    }
+
+    private ActionLogJournal open() throws IOException {
+        ActionLogJournal opened = new ActionLogJournal(properties);
+        opened.open();
+        return opened;
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> paths = Files.list(Paths.get(properties.getJournal().getDirectory()))) {
+            return paths.filter(path -> path.getFileName().toString().endsWith(".wal")).count();
+        }
+    }
+
+    private static class RecordingHandler implements JournalRecordHandler {
+
+        private final List<String> records = new ArrayList<>();
+        private final int capacity;
+
+        private RecordingHandler() {
+            this(Integer.MAX_VALUE);
+        }
+
+        /**
+         * @param capacity 받아들일 최대 레코드 수, 이후 레코드는 거부
+         */
+        private RecordingHandler(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private boolean record(String value) {
+            return records.size() < capacity && records.add(value);
+        }
+
+        @Override
+        public boolean onFrontendLog(String sessionId, FrontendLogDto frontendLog) {
+            return record("F:" + sessionId + ":" + frontendLog.getEventType() + ":"
+                    + frontendLog.getPageUrl() + ":" + frontendLog.getReferrerUrl());
+        }
+
+        @Override
+        public boolean onBackendLog(String sessionId, BackendLogDto backendLog) {
+            return record("B:" + sessionId + ":" + backendLog.getHttpMethod() + ":"
+                    + backendLog.getEndpoint() + ":" + backendLog.getMethod());
+        }
+
+        @Override
+        public boolean onSystemInfo(String sessionId, SystemInfoDto systemInfo) {
+            return record("S:" + sessionId + ":" + systemInfo.getBrowserName() + ":" + systemInfo.getLocale());
+        }
+    }
+
+}
@@ -0,0 +1,201 @@
+package kodanect.common.config.aspect;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.common.constant.MdcKey;
+import kodanect.common.decorator.MdcTaskDecorator;
+import kodanect.common.util.UserAgentResolver;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.Cookie;
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link ActionLogInvocation}에 지연 보관된 컨트롤러 호출 정보가
+ * 비동기 작업 전달 시점에 MDC로 설정되는지 검증하는 단위 테스트입니다.
+ */
+public class ActionLogInvocationTest {
+
+    private static final long INVOKED_AT = 1_700_000_000_000L;
+
+    private ActionLogMdcAspect aspect;
+    private ControllerMethodDescriptor descriptor;
+    private MockHttpServletRequest request;
+
+    /**
+     * 테스트용 컨트롤러
+     */
+    static class SampleController {
+
+        public void read(Integer letterSeq) {
+            // 테스트용 시그니처
+        }
+    }
+
+    /**
+     * 테스트 실행 전 Aspect와 요청 정보를 초기화합니다.
+     */
+    @Before
+    public void setUp() throws NoSuchMethodException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        aspect = new ActionLogMdcAspect(new ObjectMapper(),
+                new UserAgentResolver(new ActionLogProperties(), meterRegistry), meterRegistry);
+
+        Method method = SampleController.class.getMethod("read", Integer.class);
+        descriptor = ControllerMethodDescriptor.of(method);
+
+        request = new MockHttpServletRequest("GET", "/letters/7");
+        request.addHeader("X-Forwarded-For", "203.0.113.1, 10.0.0.1");
+        request.addHeader("User-Agent",
+                "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36");
+    }
+
+    /**
+     * 테스트 종료 후 호출 레코드와 MDC를 초기화합니다.
+     */
+    @After
+    public void tearDown() {
+        ActionLogInvocation.current().clear();
+        MDC.clear();
+    }
+
+    /**
+     * GIVEN: 컨트롤러 호출이 시작되었을 때
+     * WHEN: 아직 비동기 작업이 전달되지 않았다면
+     * THEN: MDC에는 호출 메타데이터가 설정되지 않아야 한다.
+     */
+    @Test
+    public void begin_shouldNotPopulateMdcEagerly() {
+        ActionLogInvocation.current().begin(aspect, descriptor, new Object[]{7}, request, "session-1", INVOKED_AT);
+
+        assertThat(MDC.get(MdcKey.PARAMETERS)).isNull();
+        assertThat(MDC.get(MdcKey.CONTROLLER)).isNull();
+    }
+
+    /**
+     * GIVEN: 컨트롤러 호출이 진행 중일 때
+     * WHEN: 데코레이터로 비동기 작업을 감싸 실행하면
+     * THEN: 작업 스레드에서 호출 메타데이터가 MDC로 조회되어야 한다.
+     */
+    @Test
+    public void decorate_shouldExportInvocationToMdc() {
+        ActionLogInvocation.current().begin(aspect, descriptor, new Object[]{7}, request, "session-1", INVOKED_AT);
+        Map<String, String> captured = new HashMap<>();
+
+        new MdcTaskDecorator().decorate(() -> captured.putAll(MDC.getCopyOfContextMap())).run();
+
+        assertThat(captured)
+                .containsEntry(MdcKey.SESSION_ID, "session-1")
+                .containsEntry(MdcKey.IP_ADDRESS, "203.0.113.1")
+                .containsEntry(MdcKey.HTTP_METHOD, "GET")
+                .containsEntry(MdcKey.ENDPOINT, "/letters/7")
+                .containsEntry(MdcKey.CONTROLLER, SampleController.class.getName())
+                .containsEntry(MdcKey.METHOD, "read")
+                .containsEntry(MdcKey.TIMESTAMP, Instant.ofEpochMilli(INVOKED_AT).toString())
+                .containsEntry(MdcKey.DEVICE, "Computer");
+        assertThat(captured.get(MdcKey.PARAMETERS)).contains("\"7\"");
+    }
+
+    /**
+     * GIVEN: 호출 메타데이터가 한 번 MDC로 설정된 후
+     * WHEN: MDC가 초기화되고 다시 설정을 요청하면
+     * THEN: 보관된 파라미터 JSON으로 동일한 값이 다시 설정되어야 한다.
+     */
+    @Test
+    public void exportCurrentToMdc_shouldReuseRenderedParameters() {
+        ActionLogInvocation invocation = ActionLogInvocation.current();
+        invocation.begin(aspect, descriptor, new Object[]{7}, request, "session-1", INVOKED_AT);
+
+        ActionLogInvocation.exportCurrentToMdc();
+        String first = MDC.get(MdcKey.PARAMETERS);
+        MDC.clear();
+        ActionLogInvocation.exportCurrentToMdc();
+
+        assertThat(MDC.get(MdcKey.PARAMETERS)).isEqualTo(first);
+        assertThat(invocation.getParametersJson()).isSameAs(first);
+    }
+
+    /**
+     * GIVEN: 호출 메타데이터가 한 번 MDC로 설정된 후
+     * WHEN: 같은 호출에서 다시 설정을 요청하면
+     * THEN: MDC 값은 처음 한 번만 만들어지고, 보관된 값이 다시 설정되어야 한다.
+     */
+    @Test
+    public void exportCurrentToMdc_shouldRenderOncePerInvocation() {
+        ActionLogMdcAspect exporter = spy(aspect);
+        ActionLogInvocation.current().begin(exporter, descriptor, new Object[]{7}, request, "session-1", INVOKED_AT);
+
+        ActionLogInvocation.exportCurrentToMdc();
+        MDC.clear();
+        ActionLogInvocation.exportCurrentToMdc();
+
+        verify(exporter, times(1)).renderMdc(any(ActionLogInvocation.class));
+        assertThat(MDC.get(MdcKey.CLASS)).isEqualTo("SampleController");
+        assertThat(MDC.get(MdcKey.BROWSER_NAME)).isNotNull();
+    }
+
+    /**
+     * GIVEN: 세션 쿠키가 있는 요청으로 컨트롤러가 호출될 때
+     * WHEN: 컨트롤러 메서드가 실행되는 동안
+     * THEN: 세션 ID와 함께 컨트롤러 클래스, 메서드 이름이 MDC에 있어야 하고, 파라미터는 아직 설정되지 않아야 한다.
+     */
+    @Test
+    public void injectMdcMetadata_shouldExposeClassAndMethodDuringExecution() throws Throwable {
+        request.setCookies(new Cookie("sessionId", "session-1"));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        Method method = SampleController.class.getMethod("read", Integer.class);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(method);
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{7});
+        Map<String, String> captured = new HashMap<>();
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            captured.putAll(MDC.getCopyOfContextMap());
+            return null;
+        });
+
+        try {
+            aspect.injectMdcMetadata(joinPoint);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        assertThat(captured)
+                .containsEntry(MdcKey.SESSION_ID, "session-1")
+                .containsEntry(MdcKey.CONTROLLER, SampleController.class.getName())
+                .containsEntry(MdcKey.CLASS, "SampleController")
+                .containsEntry(MdcKey.METHOD, "read")
+                .doesNotContainKey(MdcKey.PARAMETERS);
+        assertThat(MDC.getCopyOfContextMap()).isNullOrEmpty();
+    }
+
+    /**
+     * GIVEN: 진행 중인 컨트롤러 호출이 없을 때
+     * WHEN: MDC 설정을 요청하면
+     * THEN: MDC는 변경되지 않아야 한다.
+     */
+    @Test
+    public void exportCurrentToMdc_shouldIgnoreWhenNoInvocation() {
+        ActionLogInvocation.exportCurrentToMdc();
+
+        assertThat(MDC.getCopyOfContextMap()).isNullOrEmpty();
+    }
+
+}
@@ -0,0 +1,114 @@
+package kodanect.common.config.aspect;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kodanect.common.config.aspect.ControllerMethodDescriptor.ArgumentRenderer;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.servlet.http.HttpServletRequest;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * {@link ControllerMethodDescriptor}의 메타데이터 계산과 파라미터 렌더링을 검증하는 단위 테스트입니다.
+ */
+public class ControllerMethodDescriptorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ControllerMethodDescriptor descriptor;
+
+    /**
+     * 테스트용 컨트롤러
+     */
+    static class SampleController {
+
+        public void upload(String title,
+                           HttpServletRequest request,
+                           MultipartFile file,
+                           List<MultipartFile> attachments,
+                           BindingResult bindingResult,
+                           Object payload) {
+            // 테스트용 시그니처
+        }
+    }
+
+    /**
+     * 테스트 실행 전 테스트용 컨트롤러 메서드의 메타데이터를 생성합니다.
+     */
+    @Before
+    public void setUp() throws NoSuchMethodException {
+        Method method = SampleController.class.getMethod("upload",
+                String.class, HttpServletRequest.class, MultipartFile.class, List.class, BindingResult.class, Object.class);
+        descriptor = ControllerMethodDescriptor.of(method);
+    }
+
+    /**
+     * GIVEN: 컨트롤러 메서드가 주어졌을 때
+     * WHEN: 메타데이터를 생성하면
+     * THEN: 클래스명, 메서드명, 파라미터 타입별 기록 방식이 미리 계산되어야 한다.
+     */
+    @Test
+    public void of_shouldPrecomputeMethodMetadata() {
+        assertThat(descriptor.getControllerClassName()).isEqualTo(SampleController.class.getName());
+        assertThat(descriptor.getControllerSimpleName()).isEqualTo("SampleController");
+        assertThat(descriptor.getMethodName()).isEqualTo("upload");
+        assertThat(descriptor.rendererAt(0)).isEqualTo(ArgumentRenderer.TO_STRING);
+        assertThat(descriptor.rendererAt(1)).isEqualTo(ArgumentRenderer.SKIP);
+        assertThat(descriptor.rendererAt(2)).isEqualTo(ArgumentRenderer.MULTIPART);
+        assertThat(descriptor.rendererAt(3)).isEqualTo(ArgumentRenderer.MULTIPART_COLLECTION);
+        assertThat(descriptor.rendererAt(4)).isEqualTo(ArgumentRenderer.SKIP);
+        assertThat(descriptor.rendererAt(5)).isEqualTo(ArgumentRenderer.TO_STRING);
+    }
+
+    /**
+     * GIVEN: 서블릿 요청, 업로드 파일, 바인딩 결과가 포함된 인자가 주어졌을 때
+     * WHEN: 파라미터를 렌더링하면
+     * THEN: 기록 대상이 아닌 인자는 제외되고, 업로드 파일은 파일명과 크기만 기록되어야 한다.
+     */
+    @Test
+    public void renderParameters_shouldSkipInfrastructureArgumentsAndSummarizeFiles() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "photo.png", "image/png", new byte[10]);
+        MockMultipartFile attachment = new MockMultipartFile("attachments", "doc.pdf", "application/pdf", new byte[3]);
+        Object[] args = {"추모글", new MockHttpServletRequest(), file, List.of(attachment), mock(BindingResult.class), null};
+
+        JsonNode json = objectMapper.readTree(descriptor.renderParameters(args, objectMapper));
+
+        assertThat(json.size()).isEqualTo(4);
+        assertThat(json.get(descriptor.getParameterNames()[0]).asText()).isEqualTo("추모글");
+        assertThat(json.get(descriptor.getParameterNames()[2]).asText())
+                .isEqualTo("MultipartFile(name=photo.png, size=10)");
+        assertThat(json.get(descriptor.getParameterNames()[3]).asText())
+                .isEqualTo("[MultipartFile(name=doc.pdf, size=3)]");
+        assertThat(json.get(descriptor.getParameterNames()[5]).asText()).isEqualTo("null");
+    }
+
+    /**
+     * GIVEN: toString() 호출 시 예외가 발생하는 인자가 주어졌을 때
+     * WHEN: 파라미터를 렌더링하면
+     * THEN: 해당 인자는 "NON_STRINGIFIABLE"로 기록되어야 한다.
+     */
+    @Test
+    public void renderParameters_shouldFallbackWhenToStringFails() throws Exception {
+        Object broken = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("toString 실패");
+            }
+        };
+        Object[] args = {"title", null, null, null, null, broken};
+
+        JsonNode json = objectMapper.readTree(descriptor.renderParameters(args, objectMapper));
+
+        assertThat(json.get(descriptor.getParameterNames()[5]).asText()).isEqualTo("NON_STRINGIFIABLE");
+    }
+
+}
@@ -0,0 +1,239 @@
+package kodanect.common.readcount;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link ReadCountAggregator} 클래스의 동작을 검증하는 단위 테스트입니다.
+ *
+ * 게시판별 일괄 반영, 반영 대기 조회 수, 반영 실패 시 재시도, 동시 증가 집계를 테스트합니다.
+ */
+public class ReadCountAggregatorTest {
+
+    private ReadCountRepository readCountRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private ReadCountAggregator aggregator;
+
+    @Before
+    public void setUp() {
+        readCountRepository = mock(ReadCountRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        aggregator = new ReadCountAggregator(readCountRepository, meterRegistry);
+    }
+
+    /**
+     * Given: 서로 다른 게시판의 게시물 조회 수가 여러 번 증가했을 때
+     * When: flush()를 호출하면
+     * Then: 게시판마다 한 번씩 게시물별 증가분 합계가 반영되고, 반영 대기 조회 수는 0이 되어야 한다.
+     */
+    @Test
+    public void flush_shouldBatchDeltasPerBoardAndResetPending() {
+        ReadCountKey heaven = ReadCountKey.heaven(1);
+        ReadCountKey article = ReadCountKey.article("7", 1);
+        ReadCountKey otherArticle = ReadCountKey.article("27", 1);
+
+        aggregator.increment(heaven);
+        aggregator.increment(heaven);
+        aggregator.increment(article);
+        aggregator.increment(otherArticle);
+        aggregator.increment(otherArticle);
+        aggregator.increment(otherArticle);
+
+        assertThat(aggregator.getPendingCount(heaven)).isEqualTo(2);
+        assertThat(aggregator.getTotalPendingCount()).isEqualTo(6);
+
+        int flushed = aggregator.flush();
+
+        assertThat(flushed).isEqualTo(3);
+        verify(readCountRepository).addReadCounts(ReadCountBoard.HEAVEN, Map.of(heaven, 2L));
+        verify(readCountRepository).addReadCounts(ReadCountBoard.ARTICLE, Map.of(article, 1L, otherArticle, 3L));
+        verifyNoMoreInteractions(readCountRepository);
+        assertThat(aggregator.getPendingCount(heaven)).isZero();
+        assertThat(aggregator.getTotalPendingCount()).isZero();
+    }
+
+    /**
+     * Given: 반영 대기 중인 조회 수가 없을 때
+     * When: flush()를 호출하면
+     * Then: 저장소를 호출하지 않아야 한다.
+     */
+    @Test
+    public void flush_withoutPending_shouldNotTouchRepository() {
+        aggregator.increment(ReadCountKey.recipient(1));
+        aggregator.flush();
+        reset(readCountRepository);
+
+        int flushed = aggregator.flush();
+
+        assertThat(flushed).isZero();
+        verifyNoInteractions(readCountRepository);
+    }
+
+    /**
+     * Given: 한 게시판의 반영이 DB 오류로 실패할 때
+     * When: flush()를 호출하면
+     * Then: 다른 게시판은 반영되고, 실패한 증가분은 다시 대기 상태가 되어 다음 flush()에서 재시도되어야 한다.
+     */
+    @Test
+    public void flush_whenBoardFails_shouldRestoreDeltasAndRetry() {
+        ReadCountKey donation = ReadCountKey.donation(5L);
+        ReadCountKey recipient = ReadCountKey.recipient(3);
+
+        aggregator.increment(donation);
+        aggregator.increment(recipient);
+        doThrow(new DataAccessResourceFailureException("down"))
+                .when(readCountRepository).addReadCounts(eq(ReadCountBoard.DONATION), any());
+
+        int flushed = aggregator.flush();
+
+        assertThat(flushed).isEqualTo(1);
+        assertThat(aggregator.getPendingCount(donation)).isEqualTo(1);
+        assertThat(aggregator.getPendingCount(recipient)).isZero();
+        assertThat(meterRegistry.get("read.count.flush.failures").counter().count()).isEqualTo(1.0);
+
+        aggregator.increment(donation);
+        doNothing().when(readCountRepository).addReadCounts(eq(ReadCountBoard.DONATION), any());
+
+        aggregator.flush();
+
+        verify(readCountRepository).addReadCounts(ReadCountBoard.DONATION, Map.of(donation, 2L));
+        assertThat(aggregator.getPendingCount(donation)).isZero();
+    }
+
+    /**
+     * Given: 여러 스레드가 같은 게시물의 조회 수를 동시에 증가시킬 때
+     * When: 모든 증가가 끝난 뒤 대기 조회 수를 확인하면
+     * Then: 증가 횟수가 빠짐없이 집계되어야 한다.
+     */
+    @Test
+    public void increment_concurrently_shouldCountEveryView() throws Exception {
+        ReadCountKey heaven = ReadCountKey.heaven(10);
+        int threads = 8;
+        int viewsPerThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < viewsPerThread; j++) {
+                        aggregator.increment(heaven);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(aggregator.getPendingCount(heaven)).isEqualTo((long) threads * viewsPerThread);
+    }
+
+    /**
+     * Given: 반영 후 더 이상 조회되지 않는 게시물이 있을 때
+     * When: 증가분 없이 flush()가 한 번 더 실행되면
+     * Then: 해당 키가 제거되고, 다시 조회되면 새로 집계되어야 한다.
+     */
+    @Test
+    public void flush_shouldRemoveIdleKeys() {
+        ReadCountKey donation = ReadCountKey.donation(1L);
+
+        aggregator.increment(donation);
+        aggregator.flush();
+        assertThat(aggregator.size()).isEqualTo(1);
+
+        aggregator.flush();
+        assertThat(aggregator.size()).isZero();
+
+        aggregator.increment(donation);
+        assertThat(aggregator.getPendingCount(donation)).isEqualTo(1);
+    }
+
+    /**
+     * Given: 여러 스레드가 조회 수를 증가시키는 동안 배출과 유휴 키 제거가 반복될 때
+     * When: 모든 증가가 끝난 뒤 마지막으로 배출하면
+     * Then: 반영된 증가분 합계가 증가 횟수와 정확히 같아야 한다.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void increment_whileFlushing_shouldNeitherLoseNorDuplicateViews() throws Exception {
+        AtomicLong persisted = new AtomicLong();
+        doAnswer(invocation -> {
+            ((Map<ReadCountKey, Long>) invocation.getArgument(1)).values().forEach(persisted::addAndGet);
+            return null;
+        }).when(readCountRepository).addReadCounts(any(), any());
+
+        int threads = 8;
+        int viewsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                int seq = i % 2;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < viewsPerThread; j++) {
+                        aggregator.increment(ReadCountKey.heaven(seq));
+                    }
+                    return null;
+                }));
+            }
+            Thread flusher = new Thread(() -> {
+                while (running.get()) {
+                    aggregator.flush();
+                }
+            });
+            flusher.start();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            running.set(false);
+            flusher.join();
+        } finally {
+            executor.shutdownNow();
+        }
+        aggregator.flush();
+
+        assertThat(persisted.get()).isEqualTo((long) threads * viewsPerThread);
+        assertThat(aggregator.getTotalPendingCount()).isZero();
+    }
+
+    /**
+     * Given: 게시판 게시글과 다른 게시판의 집계 키가 주어졌을 때
+     * When: 조회 수 증가 SQL 인자를 만들면
+     * Then: 게시판 게시글은 (증가분, 게시판 코드, 순번), 나머지는 (증가분, 순번) 순서여야 한다.
+     */
+    @Test
+    public void toUpdateArgs_shouldMatchBoardSql() {
+        assertThat(ReadCountKey.article("7", 1).toUpdateArgs(3)).containsExactly(3L, "7", 1L);
+        assertThat(ReadCountKey.heaven(2).toUpdateArgs(4)).containsExactly(4L, 2L);
+    }
+
+}
@@ -0,0 +1,78 @@
+package kodanect.common.readcount;
+
+import config.TestConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ReadCountRepository}의 조회 수 일괄 반영을 H2에서 검증하는 테스트입니다.
+ *
+ * 저장소가 자체 트랜잭션으로 커밋하므로 테스트 트랜잭션을 사용하지 않고 테스트마다 직접 정리합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReadCountRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ReadCountRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ReadCountRepository(jdbcTemplate, new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+    }
+
+    /**
+     * 테스트에서 등록한 스토리를 삭제합니다.
+     */
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.execute("DELETE FROM tb25_420_donation_story");
+    }
+
+    /**
+     * Given: 조회 수가 NULL 인 스토리와 조회 수가 있는 스토리가 있을 때
+     * When: addReadCounts()로 증가분을 반영하면
+     * Then: NULL 은 0으로 보고 더해지고, 기존 조회 수에는 증가분이 더해져야 한다
+     */
+    @Test
+    void addReadCounts_shouldCountNullReadCountAsZero() {
+        long nullStory = insertStory(null);
+        long countedStory = insertStory(5);
+
+        repository.addReadCounts(ReadCountBoard.DONATION, Map.of(
+                ReadCountKey.donation(nullStory), 3L,
+                ReadCountKey.donation(countedStory), 2L));
+
+        assertThat(readCount(nullStory)).isEqualTo(3);
+        assertThat(readCount(countedStory)).isEqualTo(7);
+    }
+
+    private long insertStory(Integer readCount) {
+        jdbcTemplate.update("INSERT INTO tb25_420_donation_story (story_title, read_count, write_time, del_flag) "
+                + "VALUES ('스토리', ?, CURRENT_TIMESTAMP, 'N')", readCount);
+        return jdbcTemplate.queryForObject("SELECT MAX(story_seq) FROM tb25_420_donation_story", Long.class);
+    }
+
+    private Integer readCount(long storySeq) {
+        return jdbcTemplate.queryForObject(
+                "SELECT read_count FROM tb25_420_donation_story WHERE story_seq = ?", Integer.class, storySeq);
+    }
+
+}
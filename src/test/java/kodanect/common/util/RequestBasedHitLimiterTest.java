@@ -0,0 +1,136 @@
+package kodanect.common.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * {@link RequestBasedHitLimiter} 클래스의 동작을 검증하는 단위 테스트입니다.
+ *
+ * 중복 조회 판정, 창 단위 필터 교체, 필터 크기 산정, 오탐률, 채움 메트릭을 테스트합니다.
+ */
+public class RequestBasedHitLimiterTest {
+
+    private static final long WINDOW_MILLIS = 10 * 60 * 1000L;
+
+    private final AtomicLong now = new AtomicLong(WINDOW_MILLIS * 1_000);
+    private SimpleMeterRegistry meterRegistry;
+    private RequestBasedHitLimiter limiter;
+
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new RequestBasedHitLimiter(10, 0.001, meterRegistry, WINDOW_MILLIS, now::get);
+    }
+
+    /**
+     * Given: 같은 IP가 같은 게시글을 다시 조회할 때
+     * When: isFirstView()를 호출하면
+     * Then: 첫 조회만 true이고, 다른 IP, 다른 게시글, 다른 게시판은 true여야 한다.
+     */
+    @Test
+    public void isFirstView_shouldRejectRepeatedViewOfSameArticleAndIp() {
+        assertThat(limiter.isFirstView("7", 1, "10.0.0.1")).isTrue();
+        assertThat(limiter.isFirstView("7", 1, "10.0.0.1")).isFalse();
+
+        assertThat(limiter.isFirstView("7", 1, "10.0.0.2")).isTrue();
+        assertThat(limiter.isFirstView("7", 2, "10.0.0.1")).isTrue();
+        assertThat(limiter.isFirstView("27", 1, "10.0.0.1")).isTrue();
+    }
+
+    /**
+     * Given: 첫 조회 후 창 하나, 그리고 창 두 개가 지났을 때
+     * When: 같은 IP가 같은 게시글을 다시 조회하면
+     * Then: 창 하나가 지난 시점에는 직전 필터로 중복 판정되고, 창 두 개가 지나면 다시 첫 조회여야 한다.
+     */
+    @Test
+    public void isFirstView_shouldRotateFiltersEveryWindow() {
+        assertThat(limiter.isFirstView("7", 1, "10.0.0.1")).isTrue();
+
+        now.addAndGet(WINDOW_MILLIS);
+        assertThat(limiter.isFirstView("7", 1, "10.0.0.1")).isFalse();
+
+        now.addAndGet(WINDOW_MILLIS);
+        assertThat(limiter.isFirstView("7", 1, "10.0.0.1")).isTrue();
+    }
+
+    /**
+     * Given: 한동안 조회가 없다가 창 두 개 이상이 지났을 때
+     * When: 이전에 조회한 게시글을 다시 조회하면
+     * Then: 두 필터가 모두 비워져 첫 조회여야 한다.
+     */
+    @Test
+    public void isFirstView_afterIdleWindows_shouldClearBothFilters() {
+        assertThat(limiter.isFirstView("7", 1, "10.0.0.1")).isTrue();
+
+        now.addAndGet(WINDOW_MILLIS * 5);
+
+        assertThat(limiter.isFirstView("7", 1, "10.0.0.1")).isTrue();
+    }
+
+    /**
+     * Given: 예상 초당 조회 수 10, 목표 오탐률 0.1%로 생성했을 때
+     * When: 예상 항목 수(10 x 600초)만큼 서로 다른 조회를 기록한 뒤 기록하지 않은 조회를 판정하면
+     * Then: 필터 크기는 이론값과 맞고, 실제 오탐률은 목표의 두 배를 넘지 않아야 한다.
+     */
+    @Test
+    public void isFirstView_atExpectedLoad_shouldStayNearTargetFalsePositiveRate() {
+        int expectedEntries = 10 * 600;
+        assertThat(limiter.getBitCount()).isEqualTo(RequestBasedHitLimiter.optimalBitCount(expectedEntries, 0.001));
+        assertThat(limiter.getBitCount() % Long.SIZE).isZero();
+        assertThat(limiter.getHashCount()).isEqualTo(10);
+
+        for (int i = 0; i < expectedEntries; i++) {
+            limiter.isFirstView("7", i, "10.0.0.1");
+        }
+
+        int probes = 100_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (limiter.mightContain("27", i, "172.16.0.1")) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(0.002);
+        assertThat(meterRegistry.get("article.hit.limiter.fill").gauge().value()).isBetween(0.0, 1.0);
+    }
+
+    /**
+     * Given: 필터에 항목이 기록될 때
+     * When: 채움 메트릭과 추정 항목 수를 조회하면
+     * Then: 기록 전에는 0이고, 기록 후에는 기록한 항목 수와 비슷해야 한다.
+     */
+    @Test
+    public void estimatedEntries_shouldTrackInsertedViews() {
+        assertThat(limiter.getFillRatio()).isZero();
+
+        for (int i = 0; i < 1_000; i++) {
+            limiter.isFirstView("7", i, "10.0.0.1");
+        }
+
+        assertThat(limiter.getFillRatio()).isPositive();
+        assertThat(meterRegistry.get("article.hit.limiter.estimated.entries").gauge().value())
+                .isCloseTo(1_000, within(50.0));
+    }
+
+    /**
+     * Given: 잘못된 예상 초당 조회 수나 오탐률이 주어졌을 때
+     * When: 생성자를 호출하면
+     * Then: IllegalArgumentException이 발생해야 한다.
+     */
+    @Test
+    public void constructor_shouldRejectInvalidSizing() {
+        assertThatThrownBy(() -> new RequestBasedHitLimiter(0, 0.001, meterRegistry, WINDOW_MILLIS, now::get))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RequestBasedHitLimiter(10, 1.0, meterRegistry, WINDOW_MILLIS, now::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,82 @@
+package kodanect.common.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.config.properties.ActionLogProperties;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * User-Agent 직접 파싱과 {@link UserAgentResolver} 캐시 조회의 처리량을 비교하는 마이크로 벤치마크입니다.
+ *
+ * 실제 트래픽처럼 소수의 User-Agent가 반복되는 요청 흐름을 재현하며, 워밍업 후 여러 회 측정하여 최고 처리량을 출력합니다.
+ * 실행 시간이 길어 기본 테스트에서는 제외되며, 다음과 같이 명시적으로 실행합니다.
+ * {@code mvn test -Dtest=UserAgentResolverBenchmarkTest -Dbenchmark=true}
+ */
+public class UserAgentResolverBenchmarkTest {
+
+    private static final String[] USER_AGENTS = {
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36",
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.1 Safari/605.1.15",
+            "Mozilla/5.0 (iPhone; CPU iPhone OS 17_1 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.1 Mobile/15E148 Safari/604.1",
+            "Mozilla/5.0 (Linux; Android 14; SM-S918N) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Mobile Safari/537.36",
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64; rv:121.0) Gecko/20100101 Firefox/121.0",
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36 Edg/120.0.0.0"
+    };
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 5;
+    private static final int OPERATIONS = 200_000;
+
+    /**
+     * GIVEN: 6종의 User-Agent가 반복되는 요청 흐름이 주어졌을 때
+     * WHEN: 직접 파싱과 캐시 조회를 각각 워밍업 후 측정하면
+     * THEN: 두 방식의 초당 처리량을 출력하고, 캐시 조회가 직접 파싱보다 빨라야 한다.
+     */
+    @Test
+    public void compareParseWithCachedResolve() {
+        Assume.assumeTrue(Boolean.getBoolean("benchmark"));
+
+        UserAgentResolver resolver = new UserAgentResolver(new ActionLogProperties(), new SimpleMeterRegistry());
+
+        double parseOpsPerSecond = measure(ParsedUserAgent::parse);
+        double cachedOpsPerSecond = measure(resolver::resolve);
+
+        System.out.printf("[User-Agent 파싱 벤치마크] parse=%.0f ops/sec, cached=%.0f ops/sec (x%.1f)%n",
+                parseOpsPerSecond, cachedOpsPerSecond, cachedOpsPerSecond / parseOpsPerSecond);
+
+        assertThat(cachedOpsPerSecond).isGreaterThan(parseOpsPerSecond);
+    }
+
+    private double measure(Function<String, ParsedUserAgent> resolver) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            run(resolver);
+        }
+
+        double best = 0;
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            long start = System.nanoTime();
+            int sink = run(resolver);
+            long elapsed = System.nanoTime() - start;
+
+            assertThat(sink).isNotZero();
+            best = Math.max(best, OPERATIONS / (elapsed / 1_000_000_000.0));
+        }
+        return best;
+    }
+
+    /**
+     * 결과를 누적하여 JIT가 호출을 제거하지 못하도록 합니다.
+     */
+    private int run(Function<String, ParsedUserAgent> resolver) {
+        int sink = 0;
+        for (int i = 0; i < OPERATIONS; i++) {
+            sink += resolver.apply(USER_AGENTS[i % USER_AGENTS.length]).getBrowserName().length();
+        }
+        return sink;
+    }
+
+}
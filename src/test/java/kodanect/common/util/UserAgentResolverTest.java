@@ -0,0 +1,88 @@
+package kodanect.common.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.config.properties.ActionLogProperties;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link UserAgentResolver}의 캐시 동작을 검증하는 단위 테스트입니다.
+ *
+ * 파싱 결과의 정규화, 동일 User-Agent에 대한 캐시 적중, 적중률 메트릭 노출, 캐시 제외 대상 처리를 테스트합니다.
+ */
+public class UserAgentResolverTest {
+
+    private static final String CHROME_ON_WINDOWS =
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+    private ActionLogProperties properties;
+    private MeterRegistry meterRegistry;
+    private UserAgentResolver resolver;
+
+    /**
+     * 테스트 실행 전 기본 설정으로 UserAgentResolver 인스턴스를 초기화합니다.
+     */
+    @Before
+    public void setUp() {
+        properties = new ActionLogProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        resolver = new UserAgentResolver(properties, meterRegistry);
+    }
+
+    /**
+     * GIVEN: 일반적인 데스크톱 Chrome User-Agent가 주어졌을 때
+     * WHEN: resolve()를 호출하면
+     * THEN: 직접 파싱한 결과와 같은 브라우저/OS/디바이스 정보가 반환되어야 한다.
+     */
+    @Test
+    public void resolve_shouldReturnParsedValues() {
+        ParsedUserAgent expected = ParsedUserAgent.parse(CHROME_ON_WINDOWS);
+
+        ParsedUserAgent result = resolver.resolve(CHROME_ON_WINDOWS);
+
+        assertThat(result.getBrowserName()).isEqualTo(expected.getBrowserName()).startsWith("Chrome");
+        assertThat(result.getBrowserVersion()).isEqualTo(expected.getBrowserVersion());
+        assertThat(result.getOperatingSystem()).isEqualTo(expected.getOperatingSystem()).startsWith("Windows");
+        assertThat(result.getDevice()).isEqualTo("Computer");
+    }
+
+    /**
+     * GIVEN: 동일한 User-Agent로 여러 번 요청될 때
+     * WHEN: resolve()를 반복 호출하면
+     * THEN: 같은 인스턴스가 반환되고, 적중/실패 횟수가 캐시 메트릭으로 노출되어야 한다.
+     */
+    @Test
+    public void resolve_shouldReuseCachedResultAndRecordHitRate() {
+        ParsedUserAgent first = resolver.resolve(CHROME_ON_WINDOWS);
+        ParsedUserAgent second = resolver.resolve(CHROME_ON_WINDOWS);
+        resolver.resolve(CHROME_ON_WINDOWS);
+
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "user-agent").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "user-agent").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    /**
+     * GIVEN: User-Agent가 없거나 최대 길이를 넘을 때
+     * WHEN: resolve()를 호출하면
+     * THEN: 캐시하지 않고 "Unknown" 등으로 정규화된 결과를 반환해야 한다.
+     */
+    @Test
+    public void resolve_shouldBypassCacheForMissingOrOversizedUserAgent() {
+        String oversized = CHROME_ON_WINDOWS + " ".repeat(properties.getUserAgentCache().getMaxKeyLength());
+
+        ParsedUserAgent missing = resolver.resolve(null);
+        ParsedUserAgent first = resolver.resolve(oversized);
+        ParsedUserAgent second = resolver.resolve(oversized);
+
+        assertThat(missing.getBrowserVersion()).isEqualTo("Unknown");
+        assertThat(second).isNotSameAs(first);
+        assertThat(meterRegistry.get("cache.size").tag("cache", "user-agent").gauge().value()).isZero();
+    }
+
+}
@@ -0,0 +1,120 @@
+package kodanect.common.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 문자열 키 맵 방식과 {@link ViewTracker}의 재조회 판정 처리량을 비교하는 마이크로 벤치마크입니다.
+ *
+ * 인기 게시물 몇 개에 방문 IP가 몰리는 요청 흐름(재조회 비율 약 50%)을 재현하며, 워밍업 후 여러 회 측정하여 최고 처리량을 출력합니다.
+ * 기존 방식은 요청마다 {@code postId + ":" + clientIp} 문자열을 만들고 만료 없이 {@link ConcurrentHashMap}에 보관합니다.
+ * 실행 시간이 길어 기본 테스트에서는 제외되며, 다음과 같이 명시적으로 실행합니다.
+ * {@code mvn test -Dtest=ViewTrackerBenchmarkTest -Dbenchmark=true}
+ */
+public class ViewTrackerBenchmarkTest {
+
+    private static final int POSTS = 64;
+    private static final int IPS = 4_096;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 5;
+    private static final int OPERATIONS = 200_000;
+
+    private static final String[] CLIENT_IPS = new String[IPS];
+
+    static {
+        for (int i = 0; i < IPS; i++) {
+            CLIENT_IPS[i] = "10.0." + (i >> 8) + "." + (i & 0xFF);
+        }
+    }
+
+    /**
+     * GIVEN: 64개 게시물과 4,096개 IP가 섞인 요청 흐름이 주어졌을 때
+     * WHEN: 문자열 키 맵과 ViewTracker를 각각 워밍업 후 측정하면
+     * THEN: 두 방식의 초당 처리량을 출력하고, ViewTracker가 문자열 키 맵보다 빨라야 한다.
+     */
+    @Test
+    public void compareStringMapWithPackedBuckets() {
+        Assume.assumeTrue(Boolean.getBoolean("benchmark"));
+
+        double legacyOpsPerSecond = measure(LegacyViewTracker::new);
+        double packedOpsPerSecond = measure(() -> new ViewTracker(new SimpleMeterRegistry())::shouldIncreaseView);
+
+        System.out.printf("[조회 중복 판정 벤치마크] string-map=%.0f ops/sec, packed-buckets=%.0f ops/sec (x%.1f)%n",
+                legacyOpsPerSecond, packedOpsPerSecond, packedOpsPerSecond / legacyOpsPerSecond);
+
+        assertThat(packedOpsPerSecond).isGreaterThan(legacyOpsPerSecond);
+    }
+
+    private double measure(TrackerFactory factory) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            run(factory.create());
+        }
+
+        double best = 0;
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            BiPredicate<Integer, String> tracker = factory.create();
+            long start = System.nanoTime();
+            int sink = run(tracker);
+            long elapsed = System.nanoTime() - start;
+
+            assertThat(sink).isNotZero();
+            best = Math.max(best, OPERATIONS / (elapsed / 1_000_000_000.0));
+        }
+        return best;
+    }
+
+    /**
+     * 첫 조회 건수를 누적하여 JIT가 호출을 제거하지 못하도록 합니다.
+     */
+    private int run(BiPredicate<Integer, String> tracker) {
+        int sink = 0;
+        for (int i = 0; i < OPERATIONS; i++) {
+            int postId = (i * 31) % POSTS;
+            String clientIp = CLIENT_IPS[(i >>> 1) % IPS];
+            if (tracker.test(postId, clientIp)) {
+                sink++;
+            }
+        }
+        return sink;
+    }
+
+    @FunctionalInterface
+    private interface TrackerFactory {
+        BiPredicate<Integer, String> create();
+    }
+
+    /**
+     * 교체 전 ViewTracker 구현 (비교용)
+     */
+    private static final class LegacyViewTracker implements BiPredicate<Integer, String> {
+
+        private static final long EXPIRATION_TIME = 1000 * 60 * 30L;
+        private final ConcurrentHashMap<String, Long> viewMap = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean test(Integer postId, String clientIp) {
+            String key = postId + ":" + clientIp;
+            long now = System.currentTimeMillis();
+
+            if (!viewMap.containsKey(key)) {
+                viewMap.put(key, now);
+                return true;
+            }
+
+            long lastViewTime = viewMap.get(key);
+            if (now - lastViewTime > EXPIRATION_TIME) {
+                viewMap.put(key, now);
+                return true;
+            }
+            return false;
+        }
+
+    }
+
+}
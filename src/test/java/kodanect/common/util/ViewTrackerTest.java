@@ -0,0 +1,141 @@
+package kodanect.common.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link ViewTracker} 클래스의 동작을 검증하는 단위 테스트입니다.
+ *
+ * 재조회 판정, 구간 단위 만료, 메모리 상한, 동시 선점을 테스트합니다.
+ */
+public class ViewTrackerTest {
+
+    private static final long WINDOW_MILLIS = 30 * 60 * 1000L;
+    private static final long BUCKET_MILLIS = WINDOW_MILLIS / 6;
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+    private ViewTracker tracker;
+
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tracker = new ViewTracker(meterRegistry, WINDOW_MILLIS, 6, 1 << 10, now::get);
+    }
+
+    /**
+     * Given: 같은 IP가 같은 게시물을 창 안에서 다시 조회할 때
+     * When: shouldIncreaseView()를 호출하면
+     * Then: 첫 조회만 true이고, 다른 IP나 다른 게시물은 true여야 한다.
+     */
+    @Test
+    public void shouldIncreaseView_shouldCountOnlyFirstViewPerPostAndIp() {
+        assertThat(tracker.shouldIncreaseView(1, "10.0.0.1")).isTrue();
+        assertThat(tracker.shouldIncreaseView(1, "10.0.0.1")).isFalse();
+
+        now.addAndGet(BUCKET_MILLIS * 3);
+
+        assertThat(tracker.shouldIncreaseView(1, "10.0.0.1")).isFalse();
+        assertThat(tracker.shouldIncreaseView(1, "10.0.0.2")).isTrue();
+        assertThat(tracker.shouldIncreaseView(2, "10.0.0.1")).isTrue();
+        assertThat(tracker.size()).isEqualTo(3);
+    }
+
+    /**
+     * Given: 첫 조회 후 창 길이와 구간 하나가 지났을 때
+     * When: 같은 IP가 같은 게시물을 다시 조회하면
+     * Then: 기록이 구간째 만료되어 다시 조회 수에 반영되어야 한다.
+     */
+    @Test
+    public void shouldIncreaseView_afterWindow_shouldExpireWholeBucket() {
+        assertThat(tracker.shouldIncreaseView(1, "10.0.0.1")).isTrue();
+
+        now.addAndGet(WINDOW_MILLIS);
+        assertThat(tracker.shouldIncreaseView(1, "10.0.0.1")).isFalse();
+
+        now.addAndGet(BUCKET_MILLIS);
+        assertThat(tracker.shouldIncreaseView(1, "10.0.0.1")).isTrue();
+        assertThat(tracker.size()).isEqualTo(1);
+    }
+
+    /**
+     * Given: 한 구간의 기록 수가 상한(용량의 75%)에 도달했을 때
+     * When: 새로운 (게시물, IP)가 조회되면
+     * Then: 기록하지 않고 첫 조회로 판정하며, 초과 건수가 메트릭에 누적되어야 한다.
+     */
+    @Test
+    public void shouldIncreaseView_whenBucketFull_shouldFailOpenWithoutGrowing() {
+        ViewTracker small = new ViewTracker(meterRegistry, WINDOW_MILLIS, 6, 8, now::get);
+
+        for (int postId = 1; postId <= 6; postId++) {
+            assertThat(small.shouldIncreaseView(postId, "10.0.0.1")).isTrue();
+        }
+
+        assertThat(small.shouldIncreaseView(7, "10.0.0.1")).isTrue();
+        assertThat(small.shouldIncreaseView(7, "10.0.0.1")).isTrue();
+        assertThat(small.size()).isEqualTo(6);
+        assertThat(meterRegistry.get("view.tracker.overflow").counter().count()).isEqualTo(2.0);
+    }
+
+    /**
+     * Given: 여러 스레드가 같은 IP, 같은 게시물로 동시에 조회할 때
+     * When: 모두 shouldIncreaseView()를 호출하면
+     * Then: 정확히 한 스레드만 true를 받아야 한다.
+     */
+    @Test
+    public void shouldIncreaseView_concurrently_shouldClaimOnce() throws Exception {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger firstViews = new AtomicInteger();
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    if (tracker.shouldIncreaseView(42, "192.168.0.1")) {
+                        firstViews.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(firstViews.get()).isEqualTo(1);
+    }
+
+    /**
+     * Given: 빈 슬롯 표시(0)와 같은 값으로 묶이는 키와 잘못된 용량이 주어졌을 때
+     * When: 키를 묶거나 생성자를 호출하면
+     * Then: 키는 0이 아니어야 하고, 2의 거듭제곱이 아닌 용량은 거부되어야 한다.
+     */
+    @Test
+    public void packKey_andCapacity_shouldBeValidated() {
+        assertThat(ViewTracker.packKey(0, "10.0.0.1")).isNotZero();
+        assertThat(ViewTracker.packKey(1, "10.0.0.1")).isNotEqualTo(ViewTracker.packKey(2, "10.0.0.1"));
+
+        assertThatThrownBy(() -> new ViewTracker(meterRegistry, WINDOW_MILLIS, 6, 100, now::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
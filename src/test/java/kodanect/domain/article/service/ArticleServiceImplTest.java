@@ -1,5 +1,7 @@
 package kodanect.domain.article.service;
 
+import kodanect.common.readcount.ReadCountAggregator;
+import kodanect.common.readcount.ReadCountKey;
 import kodanect.common.util.RequestBasedHitLimiter;
 import kodanect.domain.article.exception.ArticleNotFoundException;
 import kodanect.domain.article.dto.ArticleDTO;
@@ -27,13 +29,16 @@ import static org.mockito.Mockito.*;
 public class ArticleServiceImplTest {
 
     private ArticleRepository articleRepository;
+    private RequestBasedHitLimiter hitLimiter;
+    private ReadCountAggregator readCountAggregator;
     private ArticleServiceImpl articleService;
 
     @Before
     public void setUp() {
         articleRepository = mock(ArticleRepository.class);
-        RequestBasedHitLimiter hitLimiter = mock(RequestBasedHitLimiter.class);
-        articleService = new ArticleServiceImpl(articleRepository, hitLimiter);
+        hitLimiter = mock(RequestBasedHitLimiter.class);
+        readCountAggregator = mock(ReadCountAggregator.class);
+        articleService = new ArticleServiceImpl(articleRepository, hitLimiter, readCountAggregator);
     }
 
     @Test
@@ -152,6 +157,34 @@ public class ArticleServiceImplTest {
         assertEquals("관리자", dto.getWriterId());
     }
 
+    @Test
+    public void getArticle_firstView_shouldAggregateReadCountAndAddPending() {
+        // given
+        Article article = Article.builder()
+                .id(ArticleId.builder().boardCode("7").articleSeq(1).build())
+                .title("공지")
+                .contents("내용.")
+                .readCount(10)
+                .fixFlag("N")
+                .delFlag("N")
+                .writeTime(LocalDateTime.now())
+                .writerId("관리자")
+                .build();
+        ReadCountKey readCountKey = ReadCountKey.article("7", 1);
+
+        when(hitLimiter.isFirstView("7", 1, "127.0.0.1")).thenReturn(true);
+        when(readCountAggregator.getPendingCount(readCountKey)).thenReturn(3L);
+        when(articleRepository.findByIdBoardCodeAndIdArticleSeq("7", 1))
+                .thenReturn(Optional.of(article));
+
+        // when
+        ArticleDetailDto dto = articleService.getArticle("7", 1, "127.0.0.1");
+
+        // then
+        verify(readCountAggregator).increment(readCountKey);
+        assertEquals(13, dto.getReadCount());
+    }
+
     @Test(expected = ArticleNotFoundException.class)
     public void getArticle_notExistArticle_throwException() {
         // given
@@ -162,6 +195,23 @@ public class ArticleServiceImplTest {
         articleService.getArticle("7", 999, "127.0.0.1");
     }
 
+    @Test
+    public void getArticle_notExistArticle_shouldNotTrackReadCount() {
+        // given
+        when(articleRepository.findByIdBoardCodeAndIdArticleSeq("7", 999))
+                .thenReturn(Optional.empty());
+
+        // when
+        try {
+            articleService.getArticle("7", 999, "127.0.0.1");
+        } catch (ArticleNotFoundException expected) {
+            // then
+            verifyNoInteractions(hitLimiter, readCountAggregator);
+            return;
+        }
+        fail("ArticleNotFoundException expected");
+    }
+
     @Test
     public void getArticle_shouldReturnFiles() {
         // given
@@ -1,5 +1,7 @@
 package kodanect.domain.donation.service;
 
+import kodanect.common.readcount.ReadCountAggregator;
+import kodanect.common.readcount.ReadCountKey;
 import kodanect.common.response.CursorPaginationResponse;
 import kodanect.common.util.MessageResolver;
 import kodanect.domain.donation.dto.request.DonationStoryCreateRequestDto;
@@ -48,6 +50,9 @@ public class DonationServiceImplTest {
     @Mock
     private MessageResolver messageResolver;
 
+    @Mock
+    private ReadCountAggregator readCountAggregator;
+
     @InjectMocks
     private DonationServiceImpl donationService;
 
@@ -166,10 +171,13 @@ public class DonationServiceImplTest {
                 .storyContents("C").areaCode(kodanect.domain.donation.dto.response.AreaCode.AREA100)
                 .writeTime(LocalDateTime.now()).build();
         given(donationRepository.findStoryOnlyById(5L)).willReturn(Optional.of(s));
+        given(readCountAggregator.getPendingCount(ReadCountKey.donation(5L))).willReturn(1L);
 
         var dto = donationService.findDonationStoryWithStoryId(5L);
         assertThat(dto.getStorySeq()).isEqualTo(5L);
-        assertThat(s.getReadCount()).isEqualTo(1);
+        then(readCountAggregator).should().increment(ReadCountKey.donation(5L));
+        assertThat(dto.getReadCount()).isEqualTo(1);
+        assertThat(s.getReadCount()).isZero();
     }
 
     @Test
@@ -1,6 +1,8 @@
 package kodanect.domain.heaven.service.impl;
 
 import kodanect.common.imageupload.service.FileService;
+import kodanect.common.readcount.ReadCountAggregator;
+import kodanect.common.readcount.ReadCountKey;
 import kodanect.common.response.CursorPaginationResponse;
 import kodanect.common.util.HeavenFinder;
 import kodanect.common.util.MemorialFinder;
@@ -54,6 +56,8 @@ public class HeavenServiceImplTest {
     @Mock
     private ViewTracker viewTracker;
     @Mock
+    private ReadCountAggregator readCountAggregator;
+    @Mock
     private MemorialFinder memorialFinder;
     @Mock
     private MemorialRepository memorialRepository;
@@ -178,6 +182,7 @@ public class HeavenServiceImplTest {
 
         when(heavenFinder.findAnonymizedByIdOrThrow(letterSeq)).thenReturn(heavenDto);
         when(viewTracker.shouldIncreaseView(letterSeq, clientIp)).thenReturn(true);
+        when(readCountAggregator.getPendingCount(ReadCountKey.heaven(letterSeq))).thenReturn(1L);
         when(heavenCommentRepository.countByLetterSeq(letterSeq)).thenReturn((long) totalCommentCount);
 
         /* when */
@@ -190,7 +195,8 @@ public class HeavenServiceImplTest {
         assertEquals(letterSeq, resultHeavenDto.getLetterSeq());
         assertEquals(letterTitle, resultHeavenDto.getLetterTitle());
         assertEquals(letterWriter, resultHeavenDto.getLetterWriter());
-        verify(heavenRepository, times(1)).updateReadCount(letterSeq);
+        verify(readCountAggregator, times(1)).increment(ReadCountKey.heaven(letterSeq));
+        assertEquals(Integer.valueOf(readCount + 1), resultHeavenDto.getReadCount());
         assertEquals(letterContents, resultHeavenDto.getLetterContents());
         assertEquals(writeTime.toLocalDate().toString(), resultHeavenDto.getWriteTime());
     }
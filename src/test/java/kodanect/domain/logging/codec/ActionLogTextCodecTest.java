@@ -0,0 +1,295 @@
+package kodanect.domain.logging.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.domain.logging.context.ActionLogContext;
+import kodanect.domain.logging.dimension.ActionLogDimensionDictionary;
+import kodanect.domain.logging.dimension.DimensionType;
+import kodanect.domain.logging.dto.BackendLogDto;
+import kodanect.domain.logging.dto.FrontendLogDto;
+import kodanect.domain.logging.dto.SystemInfoDto;
+import kodanect.domain.logging.repository.ActionLogDimensionRepository;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link ActionLogTextCodec}의 인코딩/디코딩 동작을 검증하는 단위 테스트입니다.
+ *
+ * 작은 컨텍스트의 원문 저장, 큰 컨텍스트의 압축 저장 및 복원, 인코더 재사용, 기존 원문 데이터 호환성,
+ * 사전 ID 치환 및 복원을 테스트합니다.
+ */
+public class ActionLogTextCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ActionLogProperties properties;
+    private ActionLogDimensionRepository dimensionRepository;
+    private ActionLogDimensionDictionary dimensionDictionary;
+    private ActionLogTextCodec codec;
+
+    /**
+     * 테스트 실행 전 기본 설정으로 코덱을 초기화합니다.
+     */
+    @Before
+    public void setUp() {
+        properties = new ActionLogProperties();
+        dimensionRepository = mock(ActionLogDimensionRepository.class);
+        codec = createCodec();
+    }
+
+    /**
+     * GIVEN: 압축 최소 크기보다 작은 컨텍스트가 주어졌을 때
+     * WHEN: encode()를 호출하면
+     * THEN: ObjectMapper 직렬화 결과와 동일한 JSON 원문이 반환되어야 한다.
+     */
+    @Test
+    public void encode_shouldKeepSmallContextAsPlainJson() throws Exception {
+        ActionLogContext context = createContext("session-1", 1);
+
+        String encoded = codec.encode(context);
+
+        assertThat(ActionLogTextCodec.isCompressed(encoded)).isFalse();
+        assertThat(encoded).isEqualTo(objectMapper.writeValueAsString(context));
+    }
+
+    /**
+     * GIVEN: 이벤트가 많은 컨텍스트가 주어졌을 때
+     * WHEN: encode() 후 decode()를 호출하면
+     * THEN: 압축 형식으로 저장되어 원문보다 작고, 복원 결과는 원문 JSON과 같아야 한다.
+     */
+    @Test
+    public void encode_shouldCompressLargeContextAndDecodeBack() throws Exception {
+        ActionLogContext context = createContext("session-1", 100);
+        String json = objectMapper.writeValueAsString(context);
+
+        String encoded = codec.encode(context);
+
+        assertThat(encoded).startsWith(ActionLogTextCodec.COMPRESSED_PREFIX);
+        assertThat(encoded.length()).isLessThan(json.length() / 3);
+        assertThat(codec.decode(encoded)).isEqualTo(json);
+    }
+
+    /**
+     * GIVEN: 같은 스레드에서 여러 컨텍스트를 연속으로 인코딩할 때
+     * WHEN: 각 결과를 readTree()로 읽으면
+     * THEN: 이전 인코딩 결과가 섞이지 않고 각각의 세션 ID가 복원되어야 한다.
+     */
+    @Test
+    public void encode_shouldReuseEncoderWithoutLeakingPreviousOutput() throws Exception {
+        String first = codec.encode(createContext("session-1", 100));
+        String second = codec.encode(createContext("session-2", 1));
+        String third = codec.encode(createContext("session-3", 100));
+
+        assertThat(codec.readTree(first).get("sessionId").asText()).isEqualTo("session-1");
+        assertThat(second).startsWith("{\"sessionId\":\"session-2\"");
+        assertThat(codec.readTree(third).get("sessionId").asText()).isEqualTo("session-3");
+        assertThat(codec.readTree(third).get("frontendLogs")).hasSize(100);
+    }
+
+    /**
+     * GIVEN: 압축 도입 이전에 저장된 JSON 원문이 주어졌을 때
+     * WHEN: decode() 및 readTree()를 호출하면
+     * THEN: 원문이 그대로 반환되고 JSON 트리로 읽혀야 한다.
+     */
+    @Test
+    public void decode_shouldPassThroughLegacyPlainJson() throws Exception {
+        String legacy = "{\"sessionId\":\"legacy\",\"frontendLogs\":[]}";
+
+        JsonNode tree = codec.readTree(legacy);
+
+        assertThat(codec.decode(legacy)).isEqualTo(legacy);
+        assertThat(tree.get("sessionId").asText()).isEqualTo("legacy");
+        assertThat(codec.decode(null)).isNull();
+    }
+
+    /**
+     * GIVEN: 압축이 비활성화되어 있을 때
+     * WHEN: 큰 컨텍스트를 encode()하면
+     * THEN: JSON 원문으로 저장되어야 한다.
+     */
+    @Test
+    public void encode_shouldNotCompressWhenDisabled() throws Exception {
+        properties.getCodec().setCompress(false);
+        codec = createCodec();
+
+        String encoded = codec.encode(createContext("session-1", 100));
+
+        assertThat(ActionLogTextCodec.isCompressed(encoded)).isFalse();
+        assertThat(objectMapper.readTree(encoded).get("frontendLogs")).hasSize(100);
+    }
+
+    /**
+     * GIVEN: 사전이 활성화되어 있고 백엔드 로그와 시스템 정보가 있는 컨텍스트가 주어졌을 때
+     * WHEN: 처음 보는 값이 백그라운드에서 등록된 뒤 encode() 후 decode()를 호출하면
+     * THEN: 컨트롤러 이름 대신 사전 ID가 저장되고(엔드포인트는 문자열 유지), 복원 결과는 사전 미사용 시의 JSON 원문과 같아야 한다.
+     */
+    @Test
+    public void encode_shouldWriteDimensionIdsAndDecodeBack() throws Exception {
+        AtomicInteger sequence = new AtomicInteger();
+        when(dimensionRepository.findOrInsert(any(DimensionType.class), anyString()))
+                .thenAnswer(invocation -> Optional.of(sequence.incrementAndGet()));
+        properties.getDimension().setEnabled(true);
+        codec = createCodec();
+        ActionLogContext context = createBackendContext();
+
+        codec.encode(context);
+        dimensionDictionary.registerPending();
+        String encoded = codec.encode(context);
+
+        assertThat(encoded).startsWith("{\"interned\":true");
+        assertThat(encoded).doesNotContain("kodanect.domain.donation.controller.DonationController");
+        assertThat(encoded).contains("\"endpoint\":\"/donationLetters\"");
+        assertThat(codec.decode(encoded)).isEqualTo(objectMapper.writeValueAsString(context));
+        assertThat(codec.readTree(encoded).get("systemInfo").get("browserName").asText()).isEqualTo("Chrome");
+    }
+
+    /**
+     * GIVEN: 사전이 활성화되어 있고 사전에 없는 값만 있는 컨텍스트가 주어졌을 때
+     * WHEN: encode()를 호출하면
+     * THEN: 배출 경로에서 사전 등록(DB INSERT)을 하지 않고 문자열을 그대로 기록해야 한다.
+     */
+    @Test
+    public void encode_shouldNotRegisterNewValuesOnEncodePath() throws Exception {
+        properties.getDimension().setEnabled(true);
+        codec = createCodec();
+        ActionLogContext context = createBackendContext();
+
+        String encoded = codec.encode(context);
+
+        verify(dimensionRepository, never()).findOrInsert(any(DimensionType.class), anyString());
+        assertThat(encoded).contains("\"controller\":\"kodanect.domain.donation.controller.DonationController\"");
+        assertThat(codec.decode(encoded)).isEqualTo(objectMapper.writeValueAsString(context));
+    }
+
+    /**
+     * GIVEN: 사전 최대 항목 수가 0이어서 새 값을 등록할 수 없을 때
+     * WHEN: encode()를 호출하면
+     * THEN: 반복 문자열이 그대로 기록되고, 복원 결과는 JSON 원문과 같아야 한다.
+     */
+    @Test
+    public void encode_shouldKeepStringsWhenDictionaryIsFull() throws Exception {
+        properties.getDimension().setEnabled(true);
+        properties.getDimension().setMaxEntries(0);
+        codec = createCodec();
+        ActionLogContext context = createBackendContext();
+
+        String encoded = codec.encode(context);
+
+        assertThat(encoded).contains("\"controller\":\"kodanect.domain.donation.controller.DonationController\"");
+        assertThat(codec.decode(encoded)).isEqualTo(objectMapper.writeValueAsString(context));
+    }
+
+    /**
+     * GIVEN: 백엔드 로그가 여러 건인 컨텍스트가 압축 저장될 때
+     * WHEN: 사전을 사용하지 않을 때와 사용할 때의 저장 결과를 비교하면
+     * THEN: 압축 후에도 사전을 사용한 결과가 더 작아야 한다.
+     */
+    @Test
+    public void encode_withDictionary_shouldShrinkCompressedText() throws Exception {
+        AtomicInteger sequence = new AtomicInteger();
+        when(dimensionRepository.findOrInsert(any(DimensionType.class), anyString()))
+                .thenAnswer(invocation -> Optional.of(sequence.incrementAndGet()));
+        ActionLogContext context = createBackendContext(10);
+        String plain = codec.encode(context);
+
+        properties.getDimension().setEnabled(true);
+        codec = createCodec();
+        codec.encode(context);
+        dimensionDictionary.registerPending();
+        String interned = codec.encode(context);
+
+        assertThat(plain).startsWith(ActionLogTextCodec.COMPRESSED_PREFIX);
+        assertThat(interned).startsWith(ActionLogTextCodec.COMPRESSED_PREFIX);
+        assertThat(interned.length()).isLessThan(plain.length());
+    }
+
+    /**
+     * GIVEN: 사전에 없는 ID로 기록된 로그 본문이 있을 때
+     * WHEN: 같은 본문을 여러 번 복원하면
+     * THEN: ID는 숫자 그대로 남고, 사전 DB 조회는 한 번만 일어나야 한다.
+     */
+    @Test
+    public void decode_shouldNotQueryUnknownDimensionIdRepeatedly() throws Exception {
+        when(dimensionRepository.findValue(999)).thenReturn(Optional.empty());
+        properties.getDimension().setEnabled(true);
+        codec = createCodec();
+        String stored = "{\"interned\":true,\"sessionId\":\"session-1\",\"systemInfo\":{\"browserName\":999}}";
+
+        codec.decode(stored);
+        String decoded = codec.decode(stored);
+
+        assertThat(decoded).contains("\"browserName\":999");
+        verify(dimensionRepository, times(1)).findValue(999);
+    }
+
+    private ActionLogTextCodec createCodec() {
+        dimensionDictionary = new ActionLogDimensionDictionary(dimensionRepository, properties);
+        return new ActionLogTextCodec(objectMapper, properties, dimensionDictionary);
+    }
+
+    private ActionLogContext createBackendContext() {
+        return createBackendContext(1);
+    }
+
+    private ActionLogContext createBackendContext(int backendLogCount) {
+        List<BackendLogDto> backendLogs = new ArrayList<>();
+        for (int i = 0; i < backendLogCount; i++) {
+            backendLogs.add(BackendLogDto.builder()
+                    .httpMethod("GET")
+                    .endpoint(i == 0 ? "/donationLetters" : "/donationLetters/" + i)
+                    .controller("kodanect.domain.donation.controller.DonationController")
+                    .method("getStoryList")
+                    .parameters("{}")
+                    .timestamp("2025-06-16T23:00:00")
+                    .build());
+        }
+
+        return ActionLogContext.builder()
+                .sessionId("session-1")
+                .frontendLogs(List.of())
+                .backendLogs(backendLogs)
+                .systemInfo(SystemInfoDto.builder()
+                        .browserName("Chrome")
+                        .browserVersion("125.0")
+                        .operatingSystem("Windows 10")
+                        .device("Computer")
+                        .locale("ko-KR")
+                        .build())
+                .build();
+    }
+
+    private ActionLogContext createContext(String sessionId, int eventCount) {
+        List<FrontendLogDto> frontendLogs = new ArrayList<>();
+        for (int i = 0; i < eventCount; i++) {
+            frontendLogs.add(FrontendLogDto.builder()
+                    .eventType("clickButton")
+                    .elementId("btn-" + (i % 5))
+                    .pageUrl("/page/" + (i % 10))
+                    .referrerUrl("/referrer")
+                    .timestamp("2025-06-16T23:00:00")
+                    .build());
+        }
+
+        return ActionLogContext.builder()
+                .sessionId(sessionId)
+                .frontendLogs(frontendLogs)
+                .backendLogs(List.of())
+                .systemInfo(SystemInfoDto.builder().browserName("Chrome").locale("ko-KR").build())
+                .build();
+    }
+
+}
@@ -1,6 +1,7 @@
 package kodanect.domain.logging.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kodanect.domain.logging.codec.ActionLogTextCodec;
 import kodanect.domain.logging.dto.FrontendLogDto;
 import kodanect.domain.logging.dto.FrontendLogRequestDto;
 import kodanect.domain.logging.entity.ActionLog;
@@ -10,14 +11,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.servlet.http.Cookie;
+import java.io.ByteArrayOutputStream;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -48,11 +51,14 @@ class ActionLogControllerIntegrationTest {
     @Autowired
     ActionLogFlusher flusher;
 
+    @Autowired
+    ActionLogTextCodec actionLogTextCodec;
+
     /**
      * GIVEN: 세션 ID와 프론트엔드 로그 3건이 준비되어 있고
      * WHEN: 클라이언트가 /action-logs 엔드포인트에 POST 요청을 보내고,
      *       로그 수집 후 flushAll()이 호출되면
-     * THEN: ActionLog가 DB에 저장되며, logText에 "click" 문자열이 포함되어야 한다.
+     * THEN: ActionLog가 DB에 저장되며, 디코딩한 logText에 "click" 문자열이 포함되어야 한다.
      */
     @Test
     void fullFlow_shouldFlushAllLogsToDatabase() throws Exception {
@@ -66,21 +72,57 @@ class ActionLogControllerIntegrationTest {
                         .cookie(new Cookie("sessionId", "test-session-123"))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isOk());
+                .andExpect(status().isAccepted());
 
         flusher.flushAll();
 
         List<ActionLog> savedLogs = actionLogRepository.findAll();
-        String mergedLogText = savedLogs.stream()
-                .map(ActionLog::getLogText)
-                .collect(Collectors.joining());
+        StringBuilder mergedLogText = new StringBuilder();
+        for (ActionLog savedLog : savedLogs) {
+            mergedLogText.append(actionLogTextCodec.decode(savedLog.getLogText()));
+        }
 
-        assertThat(mergedLogText)
+        assertThat(mergedLogText.toString())
                 .contains("clickButton")
                 .contains("clickMenu")
                 .contains("clickTab");
     }
 
+    /**
+     * GIVEN: 프론트엔드 로그 2건을 gzip으로 압축한 요청 본문이 준비되어 있고
+     * WHEN: Content-Encoding: gzip 헤더와 함께 /action-logs 엔드포인트에 POST 요청을 보낸 뒤 flushAll()이 호출되면
+     * THEN: 202 Accepted 응답 후 압축을 푼 로그가 DB에 저장되어야 한다.
+     */
+    @Test
+    void fullFlow_shouldAcceptGzipBody() throws Exception {
+        FrontendLogDto log1 = buildFrontendLogDto("clickCard", "card-1", "/page-1", "/referrer-1", "2025-06-16T23:00:00");
+        FrontendLogDto log2 = buildFrontendLogDto("executeSearch", "search-1", "/page-1", "/referrer-1", "2025-06-16T23:00:10");
+        byte[] json = objectMapper.writeValueAsBytes(new FrontendLogRequestDto(List.of(log1, log2)));
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(json);
+        }
+
+        mockMvc.perform(post("/action-logs")
+                        .cookie(new Cookie("sessionId", "test-session-gzip"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .content(compressed.toByteArray()))
+                .andExpect(status().isAccepted());
+
+        flusher.flushAll();
+
+        StringBuilder mergedLogText = new StringBuilder();
+        for (ActionLog savedLog : actionLogRepository.findAll()) {
+            mergedLogText.append(actionLogTextCodec.decode(savedLog.getLogText()));
+        }
+
+        assertThat(mergedLogText.toString())
+                .contains("clickCard")
+                .contains("executeSearch");
+    }
+
     /**
      * 테스트용 프론트엔드 로그 DTO를 생성합니다.
      *
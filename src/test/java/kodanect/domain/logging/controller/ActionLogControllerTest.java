@@ -17,6 +17,7 @@ import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
 
 import javax.servlet.http.Cookie;
+import java.io.InputStream;
 import java.util.List;
 
 import static org.mockito.Mockito.*;
@@ -54,33 +55,64 @@ public class ActionLogControllerTest {
     public void setUp() {
         MockitoAnnotations.openMocks(this);
 
-        when(messageSource.getMessage(eq("log.save.success"), any(Object[].class)))
-                .thenReturn("로그를 성공적으로 저장했습니다.");
+        when(messageSource.getMessage(eq("log.accept.success"), any(Object[].class)))
+                .thenReturn("로그 수집 요청을 접수했습니다.");
     }
 
     /**
      * GIVEN: 세션 ID와 프론트엔드 로그 데이터가 주어졌을 때
      * WHEN: /action-logs 엔드포인트에 POST 요청을 보내면
-     * THEN: 서비스가 호출되고 200 OK 응답이 반환되어야 한다.
+     * THEN: 요청 본문이 서비스로 스트리밍 전달되고 202 Accepted 응답이 반환되어야 한다.
      */
     @Test
-    public void collectFrontendLogs_shouldReturnOkAndCallServices() throws Exception {
+    public void collectFrontendLogs_shouldReturnAcceptedAndCallServices() throws Exception {
         FrontendLogDto log = FrontendLogDto.builder().eventType("click").pageUrl("/home").build();
         FrontendLogRequestDto requestDto = new FrontendLogRequestDto(List.of(log));
 
-        when(messageSource.getMessage(eq("log.save.success"), any(Object[].class)))
-                .thenReturn("로그를 성공적으로 저장했습니다.");
-
         mockMvc.perform(post("/action-logs")
                         .cookie(new Cookie("sessionId", "session-abc"))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(requestDto)))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.message").value("로그를 성공적으로 저장했습니다."));
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.message").value("로그 수집 요청을 접수했습니다."));
 
-        verify(service).saveFrontendLog(anyList());
+        verify(service).saveFrontendLogStream(any(InputStream.class), isNull(), isNull());
         verify(service).saveBackendLog();
         verify(service).saveSystemInfo();
     }
 
+    /**
+     * GIVEN: gzip으로 압축된 요청 본문이 주어졌을 때
+     * WHEN: Content-Encoding: gzip 헤더와 함께 /action-logs 엔드포인트에 POST 요청을 보내면
+     * THEN: 압축 방식이 서비스에 전달되고 202 Accepted 응답이 반환되어야 한다.
+     */
+    @Test
+    public void collectFrontendLogs_shouldPassContentEncodingToService() throws Exception {
+        mockMvc.perform(post("/action-logs")
+                        .cookie(new Cookie("sessionId", "session-abc"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Content-Encoding", "gzip")
+                        .content(new byte[]{0x1f, (byte) 0x8b}))
+                .andExpect(status().isAccepted());
+
+        verify(service).saveFrontendLogStream(any(InputStream.class), eq("gzip"), isNull());
+    }
+
+    /**
+     * GIVEN: 묶음 번호 헤더가 포함된 요청이 주어졌을 때
+     * WHEN: /action-logs 엔드포인트에 POST 요청을 보내면
+     * THEN: 묶음 번호가 서비스에 전달되고 202 Accepted 응답이 반환되어야 한다.
+     */
+    @Test
+    public void collectFrontendLogs_shouldPassBatchSeqToService() throws Exception {
+        mockMvc.perform(post("/action-logs")
+                        .cookie(new Cookie("sessionId", "session-abc"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(ActionLogController.BATCH_SEQ_HEADER, "7")
+                        .content("{\"frontendLogs\":[]}"))
+                .andExpect(status().isAccepted());
+
+        verify(service).saveFrontendLogStream(any(InputStream.class), isNull(), eq(7L));
+    }
+
 }
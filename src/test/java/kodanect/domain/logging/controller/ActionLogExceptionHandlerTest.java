@@ -2,8 +2,10 @@ package kodanect.domain.logging.controller;
 
 import kodanect.common.exception.config.ActionLogExceptionHandler;
 import kodanect.common.exception.config.GlobalExcepHndlr;
+import kodanect.domain.logging.exception.ActionLogBufferSaturatedException;
 import kodanect.domain.logging.exception.ActionLogJsonSerializationException;
 import kodanect.domain.logging.exception.EmptyFrontendLogListException;
+import kodanect.domain.logging.exception.FrontendLogStreamTooLargeException;
 import kodanect.domain.logging.service.ActionLogService;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -14,8 +16,6 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.util.List;
-
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -48,7 +48,7 @@ class ActionLogExceptionHandlerTest {
     @Test
     void shouldReturn400WhenFrontendLogListIsEmpty() throws Exception {
         doThrow(new EmptyFrontendLogListException())
-                .when(actionLogService).saveFrontendLog(List.of());
+                .when(actionLogService).saveFrontendLogStream(any(), any(), any());
 
         when(messageSource.getMessage(anyString(), any(Object[].class), anyString()))
                 .thenReturn("프론트엔드 로그 리스트는 비어 있을 수 없습니다.");
@@ -71,7 +71,7 @@ class ActionLogExceptionHandlerTest {
     @Test
     void shouldReturn500WhenJsonSerializationFails() throws Exception {
         doThrow(new ActionLogJsonSerializationException("프론트엔드 로그 직렬화 중 오류 발생"))
-                .when(actionLogService).saveFrontendLog(any());
+                .when(actionLogService).saveFrontendLogStream(any(), any(), any());
 
         when(messageSource.getMessage(anyString(), any(Object[].class), anyString()))
                 .thenReturn("JSON 직렬화에 실패했습니다.");
@@ -85,4 +85,48 @@ class ActionLogExceptionHandlerTest {
                 .andExpect(jsonPath("$.message").value("JSON 직렬화에 실패했습니다."));
     }
 
+    /**
+     * GIVEN: 로그 버퍼가 고수위에 도달한 경우
+     * WHEN: 서비스에서 {@link ActionLogBufferSaturatedException}이 발생하면
+     * THEN: 429 Too Many Requests 상태 코드와 Retry-After 헤더가 반환되어야 한다.
+     */
+    @Test
+    void shouldReturn429WithRetryAfterWhenBufferIsSaturated() throws Exception {
+        doThrow(new ActionLogBufferSaturatedException(30))
+                .when(actionLogService).saveFrontendLogStream(any(), any(), any());
+
+        when(messageSource.getMessage(anyString(), any(Object[].class), anyString()))
+                .thenReturn("로그 수집 요청이 많아 잠시 후 다시 시도해 주세요.");
+
+        mockMvc.perform(post("/action-logs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"frontendLogs\": [{\"eventType\": \"clickButton\"}]}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "30"))
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.code").value(429));
+    }
+
+    /**
+     * GIVEN: 압축을 푼 요청 본문이 최대 크기를 넘은 경우
+     * WHEN: 서비스에서 {@link FrontendLogStreamTooLargeException}이 발생하면
+     * THEN: 413 Payload Too Large 상태 코드가 반환되어야 한다.
+     */
+    @Test
+    void shouldReturn413WhenRequestBodyIsTooLarge() throws Exception {
+        doThrow(new FrontendLogStreamTooLargeException(1024))
+                .when(actionLogService).saveFrontendLogStream(any(), any(), any());
+
+        when(messageSource.getMessage(anyString(), any(Object[].class), anyString()))
+                .thenReturn("로그 요청 본문이 너무 큽니다. (최대 1024바이트)");
+
+        mockMvc.perform(post("/action-logs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Content-Encoding", "gzip")
+                        .content(new byte[]{0x1f, (byte) 0x8b}))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.code").value(413));
+    }
+
 }
@@ -0,0 +1,111 @@
+package kodanect.domain.logging.controller;
+
+import kodanect.common.constant.CrudCode;
+import kodanect.domain.logging.dto.HourlyRollupResponse;
+import kodanect.domain.logging.dto.SystemRollupResponse;
+import kodanect.domain.logging.exception.ActionLogRollupRangeException;
+import kodanect.domain.logging.rollup.SystemDimension;
+import kodanect.domain.logging.service.ActionLogRollupService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * {@link ActionLogRollupController}의 집계 조회 API 동작을 검증하는 단위 테스트입니다.
+ */
+@RunWith(SpringRunner.class)
+@WebMvcTest(ActionLogRollupController.class)
+public class ActionLogRollupControllerTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 6, 16, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 6, 17, 0, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ActionLogRollupService rollupService;
+
+    @MockBean
+    private MessageSourceAccessor messageSource;
+
+    /**
+     * 조회 성공 메시지를 사전 설정합니다.
+     */
+    @Before
+    public void setUp() {
+        when(messageSource.getMessage("log.rollup.read.success")).thenReturn("로그 집계를 성공적으로 조회했습니다.");
+    }
+
+    /**
+     * GIVEN: 시간대별 집계가 존재할 때
+     * WHEN: 경로와 CRUD 코드를 지정하여 /action-logs/rollups/hourly 로 GET 요청을 보내면
+     * THEN: 200 OK와 함께 집계 목록이 반환되어야 한다.
+     */
+    @Test
+    public void getHourlyRollups_shouldReturnAggregates() throws Exception {
+        when(rollupService.getHourlyRollups(FROM, TO, "/heavenLetters", CrudCode.R)).thenReturn(List.of(
+                HourlyRollupResponse.builder()
+                        .bucketHour(FROM.plusHours(10)).urlName("/heavenLetters").crudCode("R").eventCount(42).build()));
+
+        mockMvc.perform(get("/action-logs/rollups/hourly")
+                        .param("from", "2025-06-16T00:00:00")
+                        .param("to", "2025-06-17T00:00:00")
+                        .param("urlName", "/heavenLetters")
+                        .param("crudCode", "R"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("로그 집계를 성공적으로 조회했습니다."))
+                .andExpect(jsonPath("$.data[0].urlName").value("/heavenLetters"))
+                .andExpect(jsonPath("$.data[0].eventCount").value(42));
+    }
+
+    /**
+     * GIVEN: 브라우저별 세션 집계가 존재할 때
+     * WHEN: /action-logs/rollups/system 으로 GET 요청을 보내면
+     * THEN: 200 OK와 함께 값별 세션 수가 반환되어야 한다.
+     */
+    @Test
+    public void getSystemRollups_shouldReturnAggregates() throws Exception {
+        when(rollupService.getSystemRollups(SystemDimension.BROWSER, FROM, TO)).thenReturn(List.of(
+                SystemRollupResponse.builder().dimension(SystemDimension.BROWSER).value("Chrome").sessionCount(7).build()));
+
+        mockMvc.perform(get("/action-logs/rollups/system")
+                        .param("dimension", "BROWSER")
+                        .param("from", "2025-06-16T00:00:00")
+                        .param("to", "2025-06-17T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].value").value("Chrome"))
+                .andExpect(jsonPath("$.data[0].sessionCount").value(7));
+    }
+
+    /**
+     * GIVEN: 조회 기간이 올바르지 않을 때
+     * WHEN: /action-logs/rollups/hourly 로 GET 요청을 보내면
+     * THEN: 400 Bad Request가 반환되어야 한다.
+     */
+    @Test
+    public void getHourlyRollups_shouldReturnBadRequestForInvalidRange() throws Exception {
+        when(rollupService.getHourlyRollups(any(), any(), any(), any()))
+                .thenThrow(new ActionLogRollupRangeException(TO, FROM, 31));
+
+        mockMvc.perform(get("/action-logs/rollups/hourly")
+                        .param("from", "2025-06-17T00:00:00")
+                        .param("to", "2025-06-16T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+}
@@ -1,33 +1,60 @@
 package kodanect.domain.logging.flusher;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import kodanect.common.buffer.BackendLogBuffer;
 import kodanect.common.buffer.FrontendLogBuffer;
 import kodanect.common.buffer.SystemInfoBuffer;
+import kodanect.common.buffer.journal.ActionLogJournal;
+import kodanect.common.buffer.journal.JournalRecordHandler;
+import kodanect.common.config.properties.ActionLogProperties;
 import kodanect.common.constant.CrudCode;
+import kodanect.domain.logging.codec.ActionLogTextCodec;
+import kodanect.domain.logging.context.ActionLogContext;
 import kodanect.common.constant.MdcContext;
 import kodanect.domain.logging.dto.BackendLogDto;
 import kodanect.domain.logging.dto.FrontendLogDto;
 import kodanect.domain.logging.dto.SystemInfoDto;
+import kodanect.domain.logging.entity.ActionLog;
+import kodanect.domain.logging.exception.ActionLogFlushTimeoutException;
 import kodanect.domain.logging.exception.ActionLogJsonSerializationException;
+import kodanect.domain.logging.repository.ActionLogRollupRepository;
+import kodanect.domain.logging.rollup.ActionLogRollup;
 import kodanect.common.constant.UserActionKey;
-import kodanect.domain.logging.repository.ActionLogRepository;
+import kodanect.domain.logging.sink.ActionLogSink;
+import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.MockedStatic;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.Mockito.*;
 
 /**
  * {@link ActionLogFlusher}의 로그 배출 로직을 검증하는 단위 테스트 클래스입니다.
  *
- * CRUD 임계값 조건, 전체 로그 배출, 직렬화 실패 시 예외 발생 등
+ * 전체 로그 배출, 저장 실패 시 재적재/폐기, 컬럼 제한에 맞춘 행 정리, 직렬화 실패 시 예외 발생 등
  * 로그 저장 로직이 올바르게 동작하는지 확인합니다.
  *
  * 또한 테스트 중 {@link MdcContext}를 정적으로 mocking 하여
@@ -35,13 +62,20 @@ import static org.mockito.Mockito.*;
  */
 public class ActionLogFlusherTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     private ActionLogFlusher flusher;
 
     private FrontendLogBuffer frontendBuffer;
     private BackendLogBuffer backendBuffer;
     private SystemInfoBuffer systemInfoBuffer;
-    private ActionLogRepository actionLogRepository;
-    private ObjectMapper objectMapper;
+    private ActionLogSink actionLogSink;
+    private ActionLogTextCodec actionLogTextCodec;
+    private ActionLogJournal journal;
+    private ActionLogRollupRepository rollupRepository;
+    private MeterRegistry meterRegistry;
+    private ExecutorService flushExecutor;
 
     private final String sessionId = "test-session";
     private final UserActionKey key = new UserActionKey(sessionId, CrudCode.R);
@@ -55,86 +89,701 @@ public class ActionLogFlusherTest {
         frontendBuffer = mock(FrontendLogBuffer.class);
         backendBuffer = mock(BackendLogBuffer.class);
         systemInfoBuffer = mock(SystemInfoBuffer.class);
-        actionLogRepository = mock(ActionLogRepository.class);
-        objectMapper = mock(ObjectMapper.class);
+        actionLogSink = mock(ActionLogSink.class);
+        actionLogTextCodec = mock(ActionLogTextCodec.class);
+        journal = mock(ActionLogJournal.class);
+        rollupRepository = mock(ActionLogRollupRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
 
         flusher = new ActionLogFlusher(
                 frontendBuffer,
                 backendBuffer,
                 systemInfoBuffer,
-                actionLogRepository,
-                objectMapper
+                actionLogSink,
+                actionLogTextCodec,
+                journal,
+                rollupRepository,
+                new ActionLogProperties(),
+                Runnable::run,
+                meterRegistry
         );
     }
 
     /**
-     * GIVEN: Frontend 및 Backend 버퍼에 CRUD 코드 기준으로 로그가 1개씩 있을 때
-     * WHEN: flushByCrudCode() 호출하면
-     * THEN: ActionLogRepository에 저장 요청이 1건 들어가야 한다.
+     * 병렬 배출 테스트에서 만든 작업 스레드를 종료합니다.
+     */
+    @After
+    public void tearDown() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * GIVEN: 버퍼에 Frontend 로그 1개, Backend 로그 1개 존재할 때
+     * WHEN: flushAll() 호출하면
+     * THEN: 저장 요청이 발생해야 한다.
      */
     @Test
-    public void flushByCrudCode_shouldFlushLogsAndSave() throws Exception {
-        List<FrontendLogDto> feLogs = List.of(FrontendLogDto.builder().pageUrl("/page").build());
-        List<BackendLogDto> beLogs = List.of(BackendLogDto.builder().endpoint("/endpoint").build());
-        SystemInfoDto systemInfo = SystemInfoDto.builder().build();
+    public void flushAll_shouldFlushAllLogsAndSave() throws Exception {
+        List<FrontendLogDto> feLogs = List.of(FrontendLogDto.builder().pageUrl("/p").build());
+        List<BackendLogDto> beLogs = List.of(BackendLogDto.builder().endpoint("/e").build());
 
-        when(frontendBuffer.drainIfThresholdMet(CrudCode.R, 1)).thenReturn(Map.of(key, feLogs));
-        when(backendBuffer.drainIfThresholdMet(CrudCode.R, 1)).thenReturn(Map.of(key, beLogs));
-        when(systemInfoBuffer.get(sessionId)).thenReturn(Optional.of(systemInfo));
-        when(objectMapper.writeValueAsString(any())).thenReturn("{json}");
+        when(frontendBuffer.drainAll()).thenReturn(Map.of(key, feLogs));
+        when(backendBuffer.drainAll()).thenReturn(Map.of(key, beLogs));
+        when(systemInfoBuffer.get(sessionId)).thenReturn(Optional.empty());
+        when(actionLogTextCodec.encode(any())).thenReturn("{}json{}value");
 
         try (MockedStatic<MdcContext> mockedMdc = mockStatic(MdcContext.class)) {
             mockedMdc.when(MdcContext::getIpAddress).thenReturn("127.0.0.1");
 
-            flusher.flushByCrudCode(CrudCode.R, 1);
+            flusher.flushAll();
 
-            verify(actionLogRepository, times(1)).saveAll(argThat(logs ->
-                    logs instanceof Collection<?> && ((Collection<?>) logs).size() == 1
-            ));
+            verify(actionLogSink).write(anyList());
         }
     }
 
     /**
-     * GIVEN: 버퍼에 Frontend 로그 1개, Backend 로그 1개 존재할 때
+     * GIVEN: 저널이 새 세그먼트로 전환되고 버퍼의 로그 저장이 성공할 때
      * WHEN: flushAll() 호출하면
-     * THEN: 저장 요청이 발생해야 한다.
+     * THEN: 저장 이후 전환 시점의 세그먼트 번호로 저널 체크포인트가 수행되어야 한다.
      */
     @Test
-    public void flushAll_shouldFlushAllLogsAndSave() throws Exception {
+    public void flushAll_shouldCheckpointJournalAfterSave() throws Exception {
+        List<FrontendLogDto> feLogs = List.of(FrontendLogDto.builder().pageUrl("/p").build());
+
+        when(journal.rollover()).thenReturn(7L);
+        when(frontendBuffer.drainAll()).thenReturn(Map.of(key, feLogs));
+        when(backendBuffer.drainAll()).thenReturn(Map.of());
+        when(systemInfoBuffer.get(sessionId)).thenReturn(Optional.empty());
+        when(actionLogTextCodec.encode(any())).thenReturn("{}");
+
+        try (MockedStatic<MdcContext> mockedMdc = mockStatic(MdcContext.class)) {
+            mockedMdc.when(MdcContext::getIpAddress).thenReturn("127.0.0.1");
+
+            flusher.flushAll();
+
+            InOrder inOrder = inOrder(journal, actionLogSink, systemInfoBuffer);
+            inOrder.verify(journal).rollover();
+            inOrder.verify(actionLogSink).write(anyList());
+            inOrder.verify(systemInfoBuffer).rewriteJournal();
+            inOrder.verify(journal).checkpoint(7L);
+        }
+    }
+
+    /**
+     * GIVEN: 배출 시작 전에 퇴출된 시스템 정보가 있을 때
+     * WHEN: flushAll() 호출하면
+     * THEN: 배출 전에 조회한 퇴출 기준 번호로, 로그 저장 이후 퇴출 목록이 정리되어야 한다.
+     */
+    @Test
+    public void flushAll_shouldPurgeRetiredSystemInfoAfterSave() throws Exception {
         List<FrontendLogDto> feLogs = List.of(FrontendLogDto.builder().pageUrl("/p").build());
+
+        when(systemInfoBuffer.retiredMark()).thenReturn(3L);
+        when(frontendBuffer.drainAll()).thenReturn(Map.of(key, feLogs));
+        when(backendBuffer.drainAll()).thenReturn(Map.of());
+        when(systemInfoBuffer.get(sessionId)).thenReturn(Optional.empty());
+        when(actionLogTextCodec.encode(any())).thenReturn("{}");
+
+        try (MockedStatic<MdcContext> mockedMdc = mockStatic(MdcContext.class)) {
+            mockedMdc.when(MdcContext::getIpAddress).thenReturn("127.0.0.1");
+
+            flusher.flushAll();
+
+            InOrder inOrder = inOrder(systemInfoBuffer, frontendBuffer, actionLogSink);
+            inOrder.verify(systemInfoBuffer).retiredMark();
+            inOrder.verify(frontendBuffer).drainAll();
+            inOrder.verify(actionLogSink).write(anyList());
+            inOrder.verify(systemInfoBuffer).purgeRetired(3L);
+        }
+    }
+
+    /**
+     * GIVEN: 로그 저장 중 일시적인 DB 오류가 발생할 때
+     * WHEN: flushAll() 호출하면
+     * THEN: 로그가 버퍼에 다시 적재된 뒤 저널 체크포인트가 수행되고, 예외가 전파되며 퇴출 목록은 정리되지 않아야 한다.
+     */
+    @Test
+    public void flushAll_whenSaveFailsTransiently_shouldRequeueLogsAndStillCheckpoint() throws Exception {
+        List<FrontendLogDto> feLogs = List.of(FrontendLogDto.builder().pageUrl("/p").build());
+
+        when(journal.rollover()).thenReturn(7L);
+        when(frontendBuffer.drainAll()).thenReturn(Map.of(key, feLogs));
+        when(backendBuffer.drainAll()).thenReturn(Map.of());
+        when(frontendBuffer.requeue(any(), any(), any())).thenReturn(true);
+        when(systemInfoBuffer.get(sessionId)).thenReturn(Optional.empty());
+        when(actionLogTextCodec.encode(any())).thenReturn("{}");
+        when(actionLogSink.write(anyList())).thenThrow(new TransientDataAccessResourceException("db down"));
+
+        try (MockedStatic<MdcContext> mockedMdc = mockStatic(MdcContext.class)) {
+            mockedMdc.when(MdcContext::getIpAddress).thenReturn("127.0.0.1");
+
+            assertThatThrownBy(() -> flusher.flushAll()).isInstanceOf(TransientDataAccessResourceException.class);
+        }
+
+        InOrder inOrder = inOrder(frontendBuffer, journal);
+        inOrder.verify(frontendBuffer).requeue(CrudCode.R, sessionId, feLogs.get(0));
+        inOrder.verify(journal).checkpoint(7L);
+        verify(journal, never()).retain();
+        verify(systemInfoBuffer, never()).purgeRetired(anyLong());
+    }
+
+    /**
+     * GIVEN: 로그 저장 중 일시적인 DB 오류가 발생할 때
+     * WHEN: 결과 집계를 넘겨 flushAll(deadline, result) 호출하면
+     * THEN: 예외가 전파된 뒤에도 배정된 1건과 저장된 0건이 집계에 남아 있어야 한다.
+     */
+    @Test
+    public void flushAll_whenSaveFails_shouldStillRecordPartitionResult() throws Exception {
+        List<FrontendLogDto> feLogs = List.of(FrontendLogDto.builder().pageUrl("/p").build());
+        ActionLogFlushResult result = new ActionLogFlushResult();
+
+        when(frontendBuffer.drainAll()).thenReturn(Map.of(key, feLogs));
+        when(backendBuffer.drainAll()).thenReturn(Map.of());
+        when(frontendBuffer.requeue(any(), any(), any())).thenReturn(true);
+        when(systemInfoBuffer.get(sessionId)).thenReturn(Optional.empty());
+        when(actionLogTextCodec.encode(any())).thenReturn("{}");
+        when(actionLogSink.write(anyList())).thenThrow(new TransientDataAccessResourceException("db down"));
+
+        try (MockedStatic<MdcContext> mockedMdc = mockStatic(MdcContext.class)) {
+            mockedMdc.when(MdcContext::getIpAddress).thenReturn("127.0.0.1");
+
+            assertThatThrownBy(() -> flusher.flushAll(Duration.ofSeconds(5), result))
+                    .isInstanceOf(TransientDataAccessResourceException.class);
+        }
+
+        assertThat(result.getDrainedEvents()).isEqualTo(1);
+        assertThat(result.getPersistedEvents()).isZero();
+        assertThat(result.getUnsavedEvents()).isEqualTo(1);
+    }
+
+    /**
+     * GIVEN: 재시도 한도가 1이고 로그 저장이 계속 일시적인 오류로 실패할 때
+     * WHEN: flushAll()을 두 번 호출하면
+     * THEN: 첫 배출에서만 버퍼에 다시 적재되고, 두 번째 배출에서는 버려져 폐기 건수가 기록되어야 한다.
+     */
+    @Test
+    public void flushAll_whenTransientFailuresExceedMaxRetries_shouldDropLogs() throws Exception {
+        ActionLogProperties properties = new ActionLogProperties();
+        properties.getFlush().setMaxRetries(1);
+        flusher = flusherWith(properties);
+        List<FrontendLogDto> feLogs = List.of(FrontendLogDto.builder().pageUrl("/p").build());
+
+        when(frontendBuffer.drainAll()).thenReturn(Map.of(key, feLogs));
+        when(backendBuffer.drainAll()).thenReturn(Map.of());
+        when(frontendBuffer.requeue(any(), any(), any())).thenReturn(true);
+        when(systemInfoBuffer.get(sessionId)).thenReturn(Optional.empty());
+        when(actionLogTextCodec.encode(any())).thenReturn("{}");
+        when(actionLogSink.write(anyList())).thenThrow(new TransientDataAccessResourceException("db down"));
+
+        try (MockedStatic<MdcContext> mockedMdc = mockStatic(MdcContext.class)) {
+            mockedMdc.when(MdcContext::getIpAddress).thenReturn("127.0.0.1");
+
+            assertThatThrownBy(() -> flusher.flushAll()).isInstanceOf(TransientDataAccessResourceException.class);
+            assertThatThrownBy(() -> flusher.flushAll()).isInstanceOf(TransientDataAccessResourceException.class);
+        }
+
+        verify(frontendBuffer, times(1)).requeue(any(), any(), any());
+        assertThat(meterRegistry.get("action.log.flush.dropped").tag("reason", "retries_exhausted")
+                .counter().count()).isEqualTo(1);
+        verify(journal, times(2)).checkpoint(anyLong());
+    }
+
+    /**
+     * GIVEN: 여러 세션의 로그 중 한 행을 싱크가 제약 조건 위반으로 거부할 때
+     * WHEN: flushAll() 호출하면
+     * THEN: 거부된 행만 버려지고 나머지 행은 저장되며, 예외 없이 저널 체크포인트가 수행되어야 한다.
+     */
+    @Test
+    public void flushAll_whenRowIsRejected_shouldDropOnlyThatRowAndCheckpoint() throws Exception {
+        Map<UserActionKey, List<FrontendLogDto>> feMap = new HashMap<>();
+        feMap.put(new UserActionKey("good", CrudCode.R), List.of(FrontendLogDto.builder().pageUrl("/good").build()));
+        feMap.put(new UserActionKey("bad", CrudCode.R), List.of(FrontendLogDto.builder().pageUrl("/bad").build()));
+        List<String> saved = new ArrayList<>();
+
+        when(frontendBuffer.drainAll()).thenReturn(feMap);
+        when(backendBuffer.drainAll()).thenReturn(Map.of());
+        when(systemInfoBuffer.get(any())).thenReturn(Optional.empty());
+        when(actionLogTextCodec.encode(any())).thenReturn("{}");
+        when(actionLogSink.write(anyList())).thenAnswer(invocation -> {
+            List<ActionLog> logs = invocation.getArgument(0);
+            if (logs.stream().anyMatch(actionLog -> "/bad".equals(actionLog.getUrlName()))) {
+                throw new DataIntegrityViolationException("rejected");
+            }
+            logs.forEach(actionLog -> saved.add(actionLog.getUrlName()));
+            return logs.size();
+        });
+
+        try (MockedStatic<MdcContext> mockedMdc = mockStatic(MdcContext.class)) {
+            mockedMdc.when(MdcContext::getIpAddress).thenReturn("127.0.0.1");
+
+            flusher.flushAll();
+        }
+
+        assertThat(saved).containsExactly("/good");
+        assertThat(meterRegistry.get("action.log.flush.dropped").tag("reason", "rejected")
+                .counter().count()).isEqualTo(1);
+        verify(frontendBuffer, never()).requeue(any(), any(), any());
+        verify(journal).checkpoint(anyLong());
+    }
+
+    /**
+     * GIVEN: 페이지 URL이 없는 로그, 컬럼 길이를 넘는 URL과 IP 주소가 있을 때
+     * WHEN: flushAll() 호출하면
+     * THEN: URL은 "unknown" 또는 600자로, IP 주소는 60자로 정리되어 저장되어야 한다.
+     */
+    @Test
+    public void flushAll_shouldNormalizeRowsToColumnLimits() throws Exception {
+        Map<UserActionKey, List<FrontendLogDto>> feMap = new HashMap<>();
+        feMap.put(new UserActionKey("s1", CrudCode.R), List.of(FrontendLogDto.builder().pageUrl(null).build()));
+        String longUrl = "/" + "a".repeat(700);
+        feMap.put(new UserActionKey("s2", CrudCode.R), List.of(FrontendLogDto.builder().pageUrl(longUrl).build()));
+
+        when(frontendBuffer.drainAll()).thenReturn(feMap);
+        when(backendBuffer.drainAll()).thenReturn(Map.of());
+        when(systemInfoBuffer.get(any())).thenReturn(Optional.empty());
+        when(actionLogTextCodec.encode(any())).thenReturn("{}");
+
+        try (MockedStatic<MdcContext> mockedMdc = mockStatic(MdcContext.class)) {
+            mockedMdc.when(MdcContext::getIpAddress).thenReturn("1".repeat(100));
+
+            flusher.flushAll();
+        }
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ActionLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(actionLogSink).write(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(ActionLog::getUrlName)
+                .containsExactlyInAnyOrder("unknown", longUrl.substring(0, ActionLog.URL_NAME_MAX_LENGTH));
+        assertThat(captor.getValue()).allMatch(actionLog -> actionLog.getIpAddr().length() == ActionLog.IP_ADDR_MAX_LENGTH);
+    }
+
+    /**
+     * GIVEN: 한 세션의 로그를 하나로 묶으면 log_text가 컬럼 크기를 넘을 때
+     * WHEN: flushAll() 호출하면
+     * THEN: 이벤트를 나누어 컬럼 크기 안의 여러 행으로 저장하고, 시스템 정보는 첫 행에만 포함되어야 한다.
+     */
+    @Test
+    public void flushAll_whenLogTextTooLarge_shouldSplitEventsAcrossRows() throws Exception {
+        List<FrontendLogDto> feLogs = List.of(
+                FrontendLogDto.builder().pageUrl("/1").build(),
+                FrontendLogDto.builder().pageUrl("/2").build(),
+                FrontendLogDto.builder().pageUrl("/3").build());
         List<BackendLogDto> beLogs = List.of(BackendLogDto.builder().endpoint("/e").build());
+        SystemInfoDto systemInfo = SystemInfoDto.builder().browserName("Chrome").build();
+        List<ActionLogContext> encoded = new ArrayList<>();
 
         when(frontendBuffer.drainAll()).thenReturn(Map.of(key, feLogs));
         when(backendBuffer.drainAll()).thenReturn(Map.of(key, beLogs));
-        when(systemInfoBuffer.get(sessionId)).thenReturn(Optional.empty());
-        when(objectMapper.writeValueAsString(any())).thenReturn("{}json{}value");
+        when(systemInfoBuffer.get(sessionId)).thenReturn(Optional.of(systemInfo));
+        when(actionLogTextCodec.encode(any())).thenAnswer(invocation -> {
+            ActionLogContext context = invocation.getArgument(0);
+            if (context.getFrontendLogs().size() + context.getBackendLogs().size() > 1) {
+                return "x".repeat(ActionLog.LOG_TEXT_MAX_BYTES + 1);
+            }
+            encoded.add(context);
+            return "{}";
+        });
 
         try (MockedStatic<MdcContext> mockedMdc = mockStatic(MdcContext.class)) {
             mockedMdc.when(MdcContext::getIpAddress).thenReturn("127.0.0.1");
 
             flusher.flushAll();
+        }
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ActionLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(actionLogSink).write(captor.capture());
+        assertThat(captor.getValue()).extracting(ActionLog::getUrlName).containsExactly("/1", "/2", "/3", "/e");
+        assertThat(encoded).extracting(context -> context.getSystemInfo() != null).containsExactly(true, false, false, false);
+    }
 
-            verify(actionLogRepository).saveAll(anyList());
+    /**
+     * GIVEN: 두 세션 중 한 세션의 로그 직렬화가 실패할 때
+     * WHEN: flushAll() 호출하면
+     * THEN: 다른 세션의 로그는 저장되고, 실패한 세션의 로그는 버려져 폐기 건수가 기록된 뒤 직렬화 예외가 발생해야 한다.
+     */
+    @Test
+    public void flushAll_whenSerializationFails_shouldSaveOtherKeysAndDropFailedOne() throws Exception {
+        Map<UserActionKey, List<FrontendLogDto>> feMap = new HashMap<>();
+        feMap.put(new UserActionKey("good", CrudCode.R), List.of(FrontendLogDto.builder().pageUrl("/good").build()));
+        feMap.put(new UserActionKey("bad", CrudCode.R), List.of(FrontendLogDto.builder().pageUrl("/bad").build()));
+
+        when(frontendBuffer.drainAll()).thenReturn(feMap);
+        when(backendBuffer.drainAll()).thenReturn(Map.of());
+        when(systemInfoBuffer.get(any())).thenReturn(Optional.empty());
+        when(actionLogTextCodec.encode(any())).thenAnswer(invocation -> {
+            ActionLogContext context = invocation.getArgument(0);
+            if ("bad".equals(context.getSessionId())) {
+                throw new JsonProcessingException("fail") {};
+            }
+            return "{}";
+        });
+
+        try (MockedStatic<MdcContext> mockedMdc = mockStatic(MdcContext.class)) {
+            mockedMdc.when(MdcContext::getIpAddress).thenReturn("127.0.0.1");
+
+            assertThatThrownBy(() -> flusher.flushAll()).isInstanceOf(ActionLogJsonSerializationException.class);
         }
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ActionLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(actionLogSink).write(captor.capture());
+        assertThat(captor.getValue()).extracting(ActionLog::getUrlName).containsExactly("/good");
+        assertThat(meterRegistry.get("action.log.flush.dropped").tag("reason", "serialization")
+                .counter().count()).isEqualTo(1);
+        verify(frontendBuffer, never()).requeue(any(), any(), any());
+        verify(journal).checkpoint(anyLong());
     }
 
     /**
-     * GIVEN: ObjectMapper가 JSON 변환 중 예외를 발생시키면
-     * WHEN: flushByCrudCode() 호출 시
+     * GIVEN: ActionLogTextCodec이 JSON 변환 중 예외를 발생시키면
+     * WHEN: flushAllByCrudCode() 호출 시
      * THEN: ActionLogConversionException 예외가 발생해야 한다.
      */
     @Test(expected = ActionLogJsonSerializationException.class)
     public void flush_shouldThrowException_whenJsonFails() throws Exception {
-        when(frontendBuffer.drainIfThresholdMet(CrudCode.R, 1)).thenReturn(Map.of(key, List.of()));
-        when(backendBuffer.drainIfThresholdMet(CrudCode.R, 1)).thenReturn(Map.of(key, List.of()));
+        when(frontendBuffer.drainAll(CrudCode.R)).thenReturn(Map.of(key, List.of()));
+        when(backendBuffer.drainAll(CrudCode.R)).thenReturn(Map.of(key, List.of()));
+        when(systemInfoBuffer.get(sessionId)).thenReturn(Optional.empty());
+        when(actionLogTextCodec.encode(any())).thenThrow(new JsonProcessingException("fail") {});
+
+        try (MockedStatic<MdcContext> mockedMdc = mockStatic(MdcContext.class)) {
+            mockedMdc.when(MdcContext::getIpAddress).thenReturn("127.0.0.1");
+
+            flusher.flushAllByCrudCode(CrudCode.R);
+        }
+    }
+
+    /**
+     * GIVEN: 로그 저장이 성공하거나 JSON 변환이 실패할 때
+     * WHEN: flushAllByCrudCode() 호출하면
+     * THEN: 저장 소요 시간, 저장 행 수, 직렬화 실패 건수가 메트릭으로 기록되어야 한다.
+     */
+    @Test
+    public void flush_shouldRecordWriteAndSerializationMetrics() throws Exception {
+        when(frontendBuffer.drainAll(CrudCode.R)).thenReturn(Map.of(key, List.of()));
+        when(backendBuffer.drainAll(CrudCode.R)).thenReturn(Map.of(key, List.of()));
         when(systemInfoBuffer.get(sessionId)).thenReturn(Optional.empty());
-        when(objectMapper.writeValueAsString(any())).thenThrow(new JsonProcessingException("fail") {});
+        when(actionLogTextCodec.encode(any()))
+                .thenReturn("{}")
+                .thenThrow(new JsonProcessingException("fail") {});
+        when(actionLogSink.write(anyList())).thenReturn(1);
+
+        try (MockedStatic<MdcContext> mockedMdc = mockStatic(MdcContext.class)) {
+            mockedMdc.when(MdcContext::getIpAddress).thenReturn("127.0.0.1");
+
+            flusher.flushAllByCrudCode(CrudCode.R);
+            assertThatThrownBy(() -> flusher.flushAllByCrudCode(CrudCode.R))
+                    .isInstanceOf(ActionLogJsonSerializationException.class);
+        }
+
+        assertThat(meterRegistry.get("action.log.flush.write").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("action.log.flush.rows").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("action.log.serialization.failures").tag("stage", "flush")
+                .counter().count()).isEqualTo(1);
+    }
+
+    /**
+     * GIVEN: 집계가 활성화되어 있고 Frontend 로그 2개, Backend 로그 1개가 있을 때
+     * WHEN: flushAll() 호출하면
+     * THEN: 저장 이후 URL 경로별 이벤트 수와 세션의 시스템 정보가 집계 저장소에 누적되어야 한다.
+     */
+    @Test
+    public void flushAll_shouldMergeRollupAfterSave() throws Exception {
+        List<FrontendLogDto> feLogs = List.of(
+                FrontendLogDto.builder().pageUrl("/p?page=1").build(),
+                FrontendLogDto.builder().pageUrl("/p?page=2").build());
+        List<BackendLogDto> beLogs = List.of(BackendLogDto.builder().endpoint("/e").build());
+        SystemInfoDto systemInfo = SystemInfoDto.builder().browserName("Chrome").build();
+
+        when(frontendBuffer.drainAll()).thenReturn(Map.of(key, feLogs));
+        when(backendBuffer.drainAll()).thenReturn(Map.of(key, beLogs));
+        when(systemInfoBuffer.get(sessionId)).thenReturn(Optional.of(systemInfo));
+        when(actionLogTextCodec.encode(any())).thenReturn("{}");
+        when(rollupRepository.isEnabled()).thenReturn(true);
+
+        try (MockedStatic<MdcContext> mockedMdc = mockStatic(MdcContext.class)) {
+            mockedMdc.when(MdcContext::getIpAddress).thenReturn("127.0.0.1");
+
+            flusher.flushAll();
+        }
+
+        ArgumentCaptor<ActionLogRollup> captor = ArgumentCaptor.forClass(ActionLogRollup.class);
+        InOrder inOrder = inOrder(actionLogSink, rollupRepository);
+        inOrder.verify(actionLogSink).write(anyList());
+        inOrder.verify(rollupRepository).merge(captor.capture());
+
+        Map<ActionLogRollup.HourlyKey, Long> counts = captor.getValue().getHourlyCounts();
+        assertThat(counts.entrySet())
+                .extracting(entry -> entry.getKey().getUrlName(), Map.Entry::getValue)
+                .containsExactlyInAnyOrder(tuple("/p", 2L), tuple("/e", 1L));
+        assertThat(captor.getValue().getSystemCounts()).hasSize(3);
+    }
+
+    /**
+     * GIVEN: 로그 저장은 성공했지만 집계 누적이 실패할 때
+     * WHEN: flushAll() 호출하면
+     * THEN: 예외가 전파되지 않고 저널 체크포인트가 수행되며, 집계 실패 건수가 기록되어야 한다.
+     */
+    @Test
+    public void flushAll_shouldNotFailWhenRollupMergeFails() throws Exception {
+        List<FrontendLogDto> feLogs = List.of(FrontendLogDto.builder().pageUrl("/p").build());
+
+        when(frontendBuffer.drainAll()).thenReturn(Map.of(key, feLogs));
+        when(backendBuffer.drainAll()).thenReturn(Map.of(key, List.of()));
+        when(systemInfoBuffer.get(sessionId)).thenReturn(Optional.empty());
+        when(actionLogTextCodec.encode(any())).thenReturn("{}");
+        when(rollupRepository.isEnabled()).thenReturn(true);
+        doThrow(new IllegalStateException("rollup")).when(rollupRepository).merge(any());
+
+        try (MockedStatic<MdcContext> mockedMdc = mockStatic(MdcContext.class)) {
+            mockedMdc.when(MdcContext::getIpAddress).thenReturn("127.0.0.1");
+
+            flusher.flushAll();
+        }
+
+        verify(actionLogSink).write(anyList());
+        verify(journal).checkpoint(anyLong());
+        assertThat(meterRegistry.get("action.log.rollup.failures").counter().count()).isEqualTo(1);
+    }
+
+    /**
+     * GIVEN: 작업 스레드 4개, 작업당 최소 키 2개로 설정되어 있고 8개 세션의 로그가 있을 때
+     * WHEN: flushAll() 호출하면
+     * THEN: 세션이 여러 작업으로 나뉘어 저장되고, 모든 로그가 호출 스레드의 IP 주소로 한 번씩 저장되어야 한다.
+     */
+    @Test
+    public void flushAll_shouldPartitionSessionsAcrossWorkers() throws Exception {
+        flusher = parallelFlusher(Duration.ofSeconds(10));
+        Map<UserActionKey, List<FrontendLogDto>> feMap = new HashMap<>();
+        for (int i = 0; i < 8; i++) {
+            feMap.put(new UserActionKey("session-" + i, CrudCode.R),
+                    List.of(FrontendLogDto.builder().pageUrl("/page-" + i).build()));
+        }
+
+        when(frontendBuffer.drainAll()).thenReturn(feMap);
+        when(backendBuffer.drainAll()).thenReturn(Map.of());
+        when(actionLogTextCodec.encode(any())).thenReturn("{}");
+        when(actionLogSink.write(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        try (MockedStatic<MdcContext> mockedMdc = mockStatic(MdcContext.class)) {
+            mockedMdc.when(MdcContext::getIpAddress).thenReturn("127.0.0.1");
+
+            flusher.flushAll();
+        }
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ActionLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(actionLogSink, atLeast(2)).write(captor.capture());
+        assertThat(captor.getAllValues().stream().flatMap(List::stream))
+                .hasSize(8)
+                .allMatch(actionLog -> "127.0.0.1".equals(actionLog.getIpAddr()))
+                .extracting(ActionLog::getUrlName)
+                .doesNotHaveDuplicates();
+        assertThat(meterRegistry.get("action.log.flush.rows").counter().count()).isEqualTo(8);
+        verify(journal).checkpoint(anyLong());
+    }
+
+    /**
+     * GIVEN: 병렬 배출 작업 중 하나의 저장이 제한 시간보다 오래 걸릴 때
+     * WHEN: flushAll() 호출하면
+     * THEN: ActionLogFlushTimeoutException이 발생하고, 저널 체크포인트가 수행되지 않으며, 초과 횟수가 기록되어야 한다.
+     */
+    @Test
+    public void flushAll_shouldFailAndSkipCheckpointWhenDeadlineExceeded() throws Exception {
+        flusher = parallelFlusher(Duration.ofMillis(50));
+        Map<UserActionKey, List<FrontendLogDto>> feMap = new HashMap<>();
+        for (int i = 0; i < 8; i++) {
+            feMap.put(new UserActionKey("session-" + i, CrudCode.R),
+                    List.of(FrontendLogDto.builder().pageUrl("/page").build()));
+        }
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(frontendBuffer.drainAll()).thenReturn(feMap);
+        when(backendBuffer.drainAll()).thenReturn(Map.of());
+        when(actionLogTextCodec.encode(any())).thenReturn("{}");
+        when(actionLogSink.write(anyList())).thenAnswer(invocation -> {
+            release.await();
+            return 1;
+        });
 
         try (MockedStatic<MdcContext> mockedMdc = mockStatic(MdcContext.class)) {
             mockedMdc.when(MdcContext::getIpAddress).thenReturn("127.0.0.1");
 
-            flusher.flushByCrudCode(CrudCode.R, 1);
+            assertThatThrownBy(() -> flusher.flushAll())
+                    .isInstanceOf(ActionLogFlushTimeoutException.class);
+        } finally {
+            release.countDown();
+        }
+
+        verify(journal, never()).checkpoint(anyLong());
+        assertThat(meterRegistry.get("action.log.flush.timeouts").counter().count()).isEqualTo(1);
+    }
+
+    /**
+     * GIVEN: 저널에 기록된 로그의 첫 저장이 실패하고 다음 저장은 성공할 때
+     * WHEN: flushAll()을 두 번 호출한 뒤 저널을 다시 열어 재생하면
+     * THEN: 실패한 로그가 버퍼에 다시 적재되어 두 번째 배출에서 저장되고, 체크포인트 이후 재생되는 레코드는 없어야 한다.
+     */
+    @Test
+    public void flushAll_afterFailedSave_shouldSaveRequeuedLogsOnNextFlush() throws Exception {
+        ActionLogProperties properties = journaledProperties(100);
+        useJournaledBuffers(properties);
+        frontendBuffer.add(sessionId, List.of(FrontendLogDto.builder().eventType("click").pageUrl("/a").build()));
+
+        when(actionLogTextCodec.encode(any())).thenReturn("{}");
+        when(actionLogSink.write(anyList()))
+                .thenThrow(new TransientDataAccessResourceException("db down"))
+                .thenReturn(1);
+
+        try (MockedStatic<MdcContext> mockedMdc = mockStatic(MdcContext.class)) {
+            mockedMdc.when(MdcContext::getIpAddress).thenReturn("127.0.0.1");
+
+            assertThatThrownBy(() -> flusher.flushAll()).isInstanceOf(TransientDataAccessResourceException.class);
+            flusher.flushAll();
+        }
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ActionLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(actionLogSink, times(2)).write(captor.capture());
+        assertThat(captor.getAllValues().get(1)).extracting(ActionLog::getUrlName).containsExactly("/a");
+        assertThat(replayAfterRestart(properties)).isEmpty();
+    }
+
+    /**
+     * GIVEN: 첫 저장이 실패하는 동안 새 로그가 들어와 버퍼가 고수위에 도달할 때
+     * WHEN: 다음 flushAll()이 성공한 뒤 저널을 다시 열어 재생하면
+     * THEN: 버퍼에 되돌리지 못한 로그의 세그먼트가 체크포인트 이후에도 남아 재생으로 복구되어야 한다.
+     */
+    @Test
+    public void flushAll_whenFailedLogsCannotBeRequeued_shouldRecoverThemAfterRestart() throws Exception {
+        ActionLogProperties properties = journaledProperties(1);
+        useJournaledBuffers(properties);
+        frontendBuffer.add(sessionId, List.of(FrontendLogDto.builder().eventType("click").pageUrl("/lost").build()));
+
+        when(actionLogTextCodec.encode(any())).thenReturn("{}");
+        when(actionLogSink.write(anyList()))
+                .thenAnswer(invocation -> {
+                    frontendBuffer.add("session-2", List.of(FrontendLogDto.builder().eventType("click").pageUrl("/new").build()));
+                    throw new TransientDataAccessResourceException("db down");
+                })
+                .thenReturn(1);
+
+        try (MockedStatic<MdcContext> mockedMdc = mockStatic(MdcContext.class)) {
+            mockedMdc.when(MdcContext::getIpAddress).thenReturn("127.0.0.1");
+
+            assertThatThrownBy(() -> flusher.flushAll()).isInstanceOf(TransientDataAccessResourceException.class);
+            flusher.flushAll();
         }
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ActionLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(actionLogSink, times(2)).write(captor.capture());
+        assertThat(captor.getAllValues().get(1)).extracting(ActionLog::getUrlName).containsExactly("/new");
+        assertThat(replayAfterRestart(properties)).contains(sessionId + ":/lost");
+    }
+
+    private ActionLogProperties journaledProperties(int highWaterMark) throws IOException {
+        ActionLogProperties properties = new ActionLogProperties();
+        properties.getJournal().setEnabled(true);
+        properties.getJournal().setDirectory(folder.newFolder().getAbsolutePath());
+        properties.getJournal().setSegmentSize(4096);
+        properties.getBuffer().setHighWaterMark(highWaterMark);
+        return properties;
+    }
+
+    /**
+     * 임시 디렉터리의 실제 저널과 버퍼를 사용하는 배출기를 준비합니다. (시스템 정보 버퍼와 싱크는 Mock)
+     */
+    private void useJournaledBuffers(ActionLogProperties properties) throws IOException {
+        journal = new ActionLogJournal(properties);
+        journal.open();
+        frontendBuffer = new FrontendLogBuffer(properties, journal);
+        backendBuffer = new BackendLogBuffer(properties, journal);
+
+        flusher = new ActionLogFlusher(
+                frontendBuffer,
+                backendBuffer,
+                systemInfoBuffer,
+                actionLogSink,
+                actionLogTextCodec,
+                journal,
+                rollupRepository,
+                properties,
+                Runnable::run,
+                meterRegistry
+        );
+    }
+
+    /**
+     * 저널을 닫고 다시 열어 재생된 프론트엔드 로그를 "세션 ID:페이지 URL" 형식으로 반환합니다.
+     */
+    private List<String> replayAfterRestart(ActionLogProperties properties) throws IOException {
+        journal.destroy();
+        ActionLogJournal restarted = new ActionLogJournal(properties);
+        restarted.open();
+
+        List<String> replayed = new ArrayList<>();
+        try {
+            restarted.replay(new JournalRecordHandler() {
+                @Override
+                public boolean onFrontendLog(String sessionId, FrontendLogDto frontendLog) {
+                    return replayed.add(sessionId + ":" + frontendLog.getPageUrl());
+                }
+
+                @Override
+                public boolean onBackendLog(String sessionId, BackendLogDto backendLog) {
+                    return true;
+                }
+
+                @Override
+                public boolean onSystemInfo(String sessionId, SystemInfoDto systemInfo) {
+                    return true;
+                }
+            });
+        } finally {
+            restarted.destroy();
+        }
+        return replayed;
+    }
+
+    private ActionLogFlusher flusherWith(ActionLogProperties properties) {
+        return new ActionLogFlusher(
+                frontendBuffer,
+                backendBuffer,
+                systemInfoBuffer,
+                actionLogSink,
+                actionLogTextCodec,
+                journal,
+                rollupRepository,
+                properties,
+                Runnable::run,
+                meterRegistry
+        );
+    }
+
+    private ActionLogFlusher parallelFlusher(Duration deadline) {
+        ActionLogProperties properties = new ActionLogProperties();
+        properties.getFlush().setWorkers(4);
+        properties.getFlush().setMinKeysPerWorker(2);
+        properties.getFlush().setDeadline(deadline);
+        flushExecutor = Executors.newFixedThreadPool(4);
+
+        return new ActionLogFlusher(
+                frontendBuffer,
+                backendBuffer,
+                systemInfoBuffer,
+                actionLogSink,
+                actionLogTextCodec,
+                journal,
+                rollupRepository,
+                properties,
+                flushExecutor,
+                meterRegistry
+        );
     }
 
 }
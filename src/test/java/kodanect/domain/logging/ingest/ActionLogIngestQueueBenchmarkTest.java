@@ -0,0 +1,181 @@
+package kodanect.domain.logging.ingest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.buffer.BackendLogBuffer;
+import kodanect.common.buffer.SystemInfoBuffer;
+import kodanect.common.buffer.journal.ActionLogJournal;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.common.constant.MdcContext;
+import kodanect.common.constant.MdcKey;
+import kodanect.common.decorator.MdcTaskDecorator;
+import kodanect.domain.logging.dto.BackendLogDto;
+import kodanect.domain.logging.dto.SystemInfoDto;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.MDC;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 백엔드 로그/시스템 정보 전달 시 요청 스레드가 지연되는 시간(p50, p99)을
+ * 기존 logExecutor(@Async) 방식과 {@link ActionLogIngestQueue} 방식으로 비교하는 벤치마크입니다.
+ *
+ * 기존 방식은 코어/최대 2 스레드, 큐 100, CallerRunsPolicy, {@link MdcTaskDecorator}로 구성된 Executor에
+ * 요청당 2개의 작업을 제출하며, 새 방식은 요청 스레드에서 이벤트를 캡처해 큐에 넣습니다.
+ * 전달 구간만 측정하므로 /action-logs 엔드포인트 전체의 p99는 이 벤치마크로 알 수 없습니다.
+ *
+ * 실행 시간이 길어 기본 테스트에서는 제외되며, 다음과 같이 명시적으로 실행합니다.
+ * {@code mvn test -Dtest=ActionLogIngestQueueBenchmarkTest -Dbenchmark=true}
+ */
+public class ActionLogIngestQueueBenchmarkTest {
+
+    private static final int PRODUCERS = 8;
+    private static final int REQUESTS_PER_PRODUCER = 20_000;
+
+    private ActionLogProperties properties;
+
+    /**
+     * 벤치마크 실행 여부를 확인하고, 설정을 초기화합니다.
+     */
+    @Before
+    public void setUp() {
+        Assume.assumeTrue(Boolean.getBoolean("benchmark"));
+        properties = new ActionLogProperties();
+        properties.getIngest().setCapacity(PRODUCERS * REQUESTS_PER_PRODUCER * 2);
+    }
+
+    /**
+     * Given: {@value #PRODUCERS}개의 요청 스레드가 각각 {@value #REQUESTS_PER_PRODUCER}건의 요청을 처리할 때
+     * When: 기존 logExecutor 방식과 적재 큐 방식으로 백엔드 로그와 시스템 정보를 전달하면
+     * Then: 두 방식의 요청 스레드 지연 p50/p99를 출력한다
+     */
+    @Test
+    public void compareExecutorWithIngestQueue() throws Exception {
+        long[] executorLatencies = measureExecutor();
+        long[] queueLatencies = measureQueue();
+
+        System.out.printf("[액션 로그 전달 벤치마크] requests=%d, logExecutor p50=%.1fus p99=%.1fus, ingest queue p50=%.1fus p99=%.1fus%n",
+                executorLatencies.length,
+                percentile(executorLatencies, 0.50), percentile(executorLatencies, 0.99),
+                percentile(queueLatencies, 0.50), percentile(queueLatencies, 0.99));
+
+        assertThat(queueLatencies).hasSize(PRODUCERS * REQUESTS_PER_PRODUCER);
+    }
+
+    private long[] measureExecutor() throws InterruptedException {
+        ActionLogJournal journal = new ActionLogJournal(properties);
+        BackendLogBuffer backendLogBuffer = new BackendLogBuffer(properties, journal);
+        SystemInfoBuffer systemInfoBuffer = new SystemInfoBuffer(journal, properties, new SimpleMeterRegistry());
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+
+        try {
+            return run(() -> {
+                executor.execute(() -> backendLogBuffer.add(MdcContext.getSessionId(), captureBackendLog()));
+                executor.execute(() -> systemInfoBuffer.add(MdcContext.getSessionId(), captureSystemInfo()));
+            });
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private long[] measureQueue() throws InterruptedException {
+        ActionLogJournal journal = new ActionLogJournal(properties);
+        ActionLogIngestQueue queue = new ActionLogIngestQueue(
+                new BackendLogBuffer(properties, journal), new SystemInfoBuffer(journal, properties, new SimpleMeterRegistry()), properties);
+        queue.start();
+
+        try {
+            return run(() -> {
+                String sessionId = MdcContext.getSessionId();
+                queue.offer(ActionLogIngestEvent.backendLog(sessionId, captureBackendLog()));
+                queue.offer(ActionLogIngestEvent.systemInfo(sessionId, captureSystemInfo()));
+            });
+        } finally {
+            queue.destroy();
+        }
+    }
+
+    private long[] run(Runnable handOff) throws InterruptedException {
+        long[] latencies = new long[PRODUCERS * REQUESTS_PER_PRODUCER];
+        CountDownLatch done = new CountDownLatch(PRODUCERS);
+
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            new Thread(() -> {
+                try {
+                    for (int i = 0; i < REQUESTS_PER_PRODUCER; i++) {
+                        populateMdc("session-" + (producer * REQUESTS_PER_PRODUCER + i));
+                        long start = System.nanoTime();
+                        handOff.run();
+                        latencies[producer * REQUESTS_PER_PRODUCER + i] = System.nanoTime() - start;
+                        MDC.clear();
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+
+        done.await();
+        return latencies;
+    }
+
+    private void populateMdc(String sessionId) {
+        MDC.put(MdcKey.SESSION_ID, sessionId);
+        MDC.put(MdcKey.IP_ADDRESS, "203.0.113.1");
+        MDC.put(MdcKey.HTTP_METHOD, "POST");
+        MDC.put(MdcKey.ENDPOINT, "/action-logs");
+        MDC.put(MdcKey.CONTROLLER, "kodanect.domain.logging.controller.ActionLogController");
+        MDC.put(MdcKey.METHOD, "collectFrontendLogs");
+        MDC.put(MdcKey.PARAMETERS, "{\"requestDto\":\"FrontendLogRequestDto\"}");
+        MDC.put(MdcKey.TIMESTAMP, "2025-06-16T00:00:00Z");
+        MDC.put(MdcKey.BROWSER_NAME, "Chrome 12");
+        MDC.put(MdcKey.BROWSER_VERSION, "120.0.0.0");
+        MDC.put(MdcKey.OPERATING_SYSTEM, "Windows 10");
+        MDC.put(MdcKey.DEVICE, "Computer");
+        MDC.put(MdcKey.LOCALE, "ko-KR");
+    }
+
+    private BackendLogDto captureBackendLog() {
+        return BackendLogDto.builder()
+                .httpMethod(MdcContext.getHttpMethod())
+                .endpoint(MdcContext.getEndpoint())
+                .controller(MdcContext.getController())
+                .method(MdcContext.getMethod())
+                .parameters(MdcContext.getParameters())
+                .timestamp(MdcContext.getTimestamp())
+                .build();
+    }
+
+    private SystemInfoDto captureSystemInfo() {
+        return SystemInfoDto.builder()
+                .browserName(MdcContext.getBrowserName())
+                .browserVersion(MdcContext.getBrowserVersion())
+                .operatingSystem(MdcContext.getOperatingSystem())
+                .device(MdcContext.getDevice())
+                .locale(MdcContext.getLocale())
+                .build();
+    }
+
+    private double percentile(long[] latencies, double percentile) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[index] / 1_000.0;
+    }
+
+}
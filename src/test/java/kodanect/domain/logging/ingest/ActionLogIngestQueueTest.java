@@ -0,0 +1,166 @@
+package kodanect.domain.logging.ingest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.buffer.BackendLogBuffer;
+import kodanect.common.buffer.SystemInfoBuffer;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.common.config.properties.ActionLogProperties.Ingest.OverflowPolicy;
+import kodanect.domain.logging.dto.BackendLogDto;
+import kodanect.domain.logging.dto.SystemInfoDto;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link ActionLogIngestQueue}의 적재, 포화 정책, 소비 스레드 동작을 검증하는 단위 테스트입니다.
+ */
+public class ActionLogIngestQueueTest {
+
+    private BackendLogBuffer backendLogBuffer;
+    private SystemInfoBuffer systemInfoBuffer;
+    private ActionLogProperties properties;
+
+    private ActionLogIngestQueue queue;
+
+    /**
+     * 테스트 실행 전 버퍼를 Mock으로 생성하고, 큐 용량을 2로 설정합니다.
+     */
+    @Before
+    public void setUp() {
+        backendLogBuffer = mock(BackendLogBuffer.class);
+        systemInfoBuffer = mock(SystemInfoBuffer.class);
+        properties = new ActionLogProperties();
+        properties.getIngest().setCapacity(2);
+    }
+
+    /**
+     * 테스트 종료 후 소비 스레드를 정리합니다.
+     */
+    @After
+    public void tearDown() throws InterruptedException {
+        if (queue != null) {
+            queue.destroy();
+        }
+    }
+
+    /**
+     * GIVEN: 백엔드 로그와 시스템 정보 이벤트가 큐에 들어 있을 때
+     * WHEN: 대기 중인 이벤트를 적재하면
+     * THEN: 이벤트 종류에 맞는 버퍼에 세션 ID와 함께 적재되어야 한다.
+     */
+    @Test
+    public void drainPending_shouldDispatchEventsToBuffers() {
+        queue = new ActionLogIngestQueue(backendLogBuffer, systemInfoBuffer, properties);
+        BackendLogDto backendLog = BackendLogDto.builder().httpMethod("POST").build();
+        SystemInfoDto systemInfo = SystemInfoDto.builder().browserName("Chrome").build();
+
+        queue.offer(ActionLogIngestEvent.backendLog("session-1", backendLog));
+        queue.offer(ActionLogIngestEvent.systemInfo("session-1", systemInfo));
+
+        assertThat(queue.drainPending()).isEqualTo(2);
+        assertThat(queue.size()).isZero();
+        verify(backendLogBuffer).add("session-1", backendLog);
+        verify(systemInfoBuffer).add("session-1", systemInfo);
+    }
+
+    /**
+     * GIVEN: 포화 정책이 DROP이고 큐가 가득 찼을 때
+     * WHEN: 이벤트를 추가로 넣으면
+     * THEN: 이벤트가 버려지고 폐기 건수가 증가해야 한다.
+     */
+    @Test
+    public void offer_shouldDropWhenFullAndPolicyIsDrop() {
+        queue = new ActionLogIngestQueue(backendLogBuffer, systemInfoBuffer, properties);
+
+        queue.offer(backendLogEvent());
+        queue.offer(backendLogEvent());
+        boolean accepted = queue.offer(backendLogEvent());
+
+        assertThat(accepted).isFalse();
+        assertThat(queue.size()).isEqualTo(2);
+        assertThat(queue.getDroppedCount()).isEqualTo(1);
+        verifyNoInteractions(backendLogBuffer);
+    }
+
+    /**
+     * GIVEN: 포화 정책이 CALLER_RUNS이고 큐가 가득 찼을 때
+     * WHEN: 이벤트를 추가로 넣으면
+     * THEN: 호출 스레드에서 바로 버퍼에 적재되어야 한다.
+     */
+    @Test
+    public void offer_shouldRunOnCallerWhenFullAndPolicyIsCallerRuns() {
+        properties.getIngest().setOverflowPolicy(OverflowPolicy.CALLER_RUNS);
+        queue = new ActionLogIngestQueue(backendLogBuffer, systemInfoBuffer, properties);
+
+        queue.offer(backendLogEvent());
+        queue.offer(backendLogEvent());
+        boolean accepted = queue.offer(backendLogEvent());
+
+        assertThat(accepted).isTrue();
+        assertThat(queue.getDroppedCount()).isZero();
+        verify(backendLogBuffer, times(1)).add(anyString(), any(BackendLogDto.class));
+    }
+
+    /**
+     * GIVEN: 소비 스레드가 시작된 상태에서
+     * WHEN: 이벤트를 넣으면
+     * THEN: 소비 스레드가 이벤트를 버퍼에 적재해야 한다.
+     */
+    @Test
+    public void start_shouldConsumeEventsOnDedicatedThread() {
+        queue = new ActionLogIngestQueue(backendLogBuffer, systemInfoBuffer, properties);
+        queue.start();
+
+        queue.offer(backendLogEvent());
+
+        verify(backendLogBuffer, timeout(1000)).add(eq("session-1"), any(BackendLogDto.class));
+    }
+
+    /**
+     * GIVEN: 큐에 이벤트가 남아 있을 때
+     * WHEN: 큐를 종료하면
+     * THEN: 남은 이벤트가 모두 적재되어야 한다.
+     */
+    @Test
+    public void destroy_shouldDrainRemainingEvents() throws InterruptedException {
+        queue = new ActionLogIngestQueue(backendLogBuffer, systemInfoBuffer, properties);
+        queue.offer(backendLogEvent());
+        queue.offer(backendLogEvent());
+
+        queue.destroy();
+
+        assertThat(queue.size()).isZero();
+        verify(backendLogBuffer, times(2)).add(anyString(), any(BackendLogDto.class));
+    }
+
+    /**
+     * GIVEN: 메트릭이 등록된 큐가 가득 찼을 때
+     * WHEN: 이벤트를 추가로 넣으면
+     * THEN: 대기 건수와 폐기 건수가 메트릭으로 노출되어야 한다.
+     */
+    @Test
+    public void bindTo_shouldExposeQueueMetrics() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        queue = new ActionLogIngestQueue(backendLogBuffer, systemInfoBuffer, properties);
+        queue.bindTo(registry);
+
+        queue.offer(backendLogEvent());
+        queue.offer(backendLogEvent());
+        queue.offer(backendLogEvent());
+
+        assertThat(registry.get("action.log.ingest.queue.size").gauge().value()).isEqualTo(2);
+        assertThat(registry.get("action.log.ingest.dropped").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("action.log.ingest.caller.runs").functionCounter().count()).isZero();
+    }
+
+    private ActionLogIngestEvent backendLogEvent() {
+        return ActionLogIngestEvent.backendLog("session-1", BackendLogDto.builder().httpMethod("GET").build());
+    }
+
+}
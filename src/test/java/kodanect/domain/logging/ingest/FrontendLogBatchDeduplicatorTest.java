@@ -0,0 +1,114 @@
+package kodanect.domain.logging.ingest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.config.properties.ActionLogProperties;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link FrontendLogBatchDeduplicator}의 세션별 묶음 번호 중복 판정을 검증하는 단위 테스트입니다.
+ */
+public class FrontendLogBatchDeduplicatorTest {
+
+    private ActionLogProperties properties;
+    private FrontendLogBatchDeduplicator deduplicator;
+
+    /**
+     * 테스트 실행 전 윈도우 크기를 4로 설정한 중복 제거기를 생성합니다.
+     */
+    @Before
+    public void setUp() {
+        properties = new ActionLogProperties();
+        properties.getDedup().setWindowSize(4);
+        deduplicator = new FrontendLogBatchDeduplicator(properties, new SimpleMeterRegistry());
+    }
+
+    /**
+     * GIVEN: 세션에서 1번 묶음을 이미 받았을 때
+     * WHEN: 같은 세션에서 1번 묶음이 다시 오면
+     * THEN: 중복으로 판정되고 중복 건수가 증가해야 한다.
+     */
+    @Test
+    public void tryAcquire_shouldRejectRepeatedBatch() {
+        assertThat(deduplicator.tryAcquire("session-1", 1)).isTrue();
+
+        assertThat(deduplicator.tryAcquire("session-1", 1)).isFalse();
+        assertThat(deduplicator.getDuplicateCount()).isEqualTo(1);
+    }
+
+    /**
+     * GIVEN: 세션에서 1번, 3번 묶음을 받았을 때
+     * WHEN: 순서가 뒤바뀐 2번 묶음이 오고, 이어서 2번 묶음이 다시 오면
+     * THEN: 처음 온 2번은 수락되고 다시 온 2번은 중복으로 판정되어야 한다.
+     */
+    @Test
+    public void tryAcquire_shouldAcceptOutOfOrderBatchOnce() {
+        deduplicator.tryAcquire("session-1", 1);
+        deduplicator.tryAcquire("session-1", 3);
+
+        assertThat(deduplicator.tryAcquire("session-1", 2)).isTrue();
+        assertThat(deduplicator.tryAcquire("session-1", 2)).isFalse();
+        assertThat(deduplicator.tryAcquire("session-1", 1)).isFalse();
+    }
+
+    /**
+     * GIVEN: 세션 A에서 1번 묶음을 받았을 때
+     * WHEN: 세션 B에서 1번 묶음이 오면
+     * THEN: 세션별로 따로 판정하므로 수락되어야 한다.
+     */
+    @Test
+    public void tryAcquire_shouldTrackSessionsIndependently() {
+        deduplicator.tryAcquire("session-a", 1);
+
+        assertThat(deduplicator.tryAcquire("session-b", 1)).isTrue();
+    }
+
+    /**
+     * GIVEN: 세션에서 100번 묶음까지 받았을 때
+     * WHEN: 윈도우(4)보다 오래된 0번 묶음이 오면
+     * THEN: 클라이언트 번호가 초기화된 것으로 보고 수락한 뒤, 이후 번호부터 다시 판정해야 한다.
+     */
+    @Test
+    public void tryAcquire_shouldRestartWindowWhenSequenceResets() {
+        deduplicator.tryAcquire("session-1", 100);
+
+        assertThat(deduplicator.tryAcquire("session-1", 0)).isTrue();
+        assertThat(deduplicator.tryAcquire("session-1", 1)).isTrue();
+        assertThat(deduplicator.tryAcquire("session-1", 0)).isFalse();
+    }
+
+    /**
+     * GIVEN: 수락한 묶음의 저장이 실패했을 때
+     * WHEN: release() 후 같은 번호의 묶음이 다시 오면
+     * THEN: 다시 수락되어야 한다.
+     */
+    @Test
+    public void release_shouldAllowRetryOfSameBatch() {
+        deduplicator.tryAcquire("session-1", 1);
+        deduplicator.tryAcquire("session-1", 2);
+
+        deduplicator.release("session-1", 1);
+
+        assertThat(deduplicator.tryAcquire("session-1", 1)).isTrue();
+        assertThat(deduplicator.tryAcquire("session-1", 2)).isFalse();
+    }
+
+    /**
+     * GIVEN: 세션 ID를 알 수 없거나 중복 제거가 비활성화되어 있을 때
+     * WHEN: 같은 묶음 번호가 반복해서 오면
+     * THEN: 항상 수락되어야 한다.
+     */
+    @Test
+    public void tryAcquire_shouldAlwaysAcceptWhenNotApplicable() {
+        deduplicator.tryAcquire("Unknown", 1);
+        assertThat(deduplicator.tryAcquire("Unknown", 1)).isTrue();
+
+        properties.getDedup().setEnabled(false);
+        FrontendLogBatchDeduplicator disabled = new FrontendLogBatchDeduplicator(properties, new SimpleMeterRegistry());
+        disabled.tryAcquire("session-1", 1);
+        assertThat(disabled.tryAcquire("session-1", 1)).isTrue();
+    }
+
+}
@@ -0,0 +1,114 @@
+package kodanect.domain.logging.ingest;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.domain.logging.dto.FrontendLogDto;
+import kodanect.domain.logging.exception.FrontendLogStreamTooLargeException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link FrontendLogStreamReader}의 스트리밍 파싱, 묶음 전달, 본문 크기 제한을 검증하는 단위 테스트입니다.
+ */
+public class FrontendLogStreamReaderTest {
+
+    private ActionLogProperties properties;
+    private List<List<FrontendLogDto>> chunks;
+
+    /**
+     * 테스트 실행 전 묶음 크기를 2로 설정합니다.
+     */
+    @Before
+    public void setUp() {
+        properties = new ActionLogProperties();
+        properties.getCollect().setChunkSize(2);
+        chunks = new ArrayList<>();
+    }
+
+    /**
+     * GIVEN: 로그 5건이 담긴 요청 본문이 주어졌을 때
+     * WHEN: 묶음 크기 2로 read()를 호출하면
+     * THEN: 2건, 2건, 1건 순서로 전달되고 필드 값이 그대로 읽혀야 한다.
+     */
+    @Test
+    public void read_shouldDeliverLogsInChunks() throws Exception {
+        StringBuilder json = new StringBuilder("{\"frontendLogs\":[");
+        for (int i = 0; i < 5; i++) {
+            json.append(i > 0 ? "," : "")
+                    .append("{\"eventType\":\"clickButton\",\"elementId\":\"btn-").append(i)
+                    .append("\",\"pageUrl\":\"/page\",\"referrerUrl\":\"/prev\",\"timestamp\":\"2025-06-16T23:00:0").append(i).append("\"}");
+        }
+        json.append("]}");
+
+        int count = reader().read(body(json.toString()), chunks::add);
+
+        assertThat(count).isEqualTo(5);
+        assertThat(chunks).extracting(List::size).containsExactly(2, 2, 1);
+        FrontendLogDto last = chunks.get(2).get(0);
+        assertThat(last.getEventType()).isEqualTo("clickButton");
+        assertThat(last.getElementId()).isEqualTo("btn-4");
+        assertThat(last.getReferrerUrl()).isEqualTo("/prev");
+        assertThat(last.getTimestamp()).isEqualTo("2025-06-16T23:00:04");
+    }
+
+    /**
+     * GIVEN: 알 수 없는 최상위 필드와 로그 필드, null 항목이 섞인 요청 본문이 주어졌을 때
+     * WHEN: read()를 호출하면
+     * THEN: 알 수 없는 값과 null 항목은 건너뛰고 로그만 읽혀야 한다.
+     */
+    @Test
+    public void read_shouldSkipUnknownFields() throws Exception {
+        String json = "{\"version\":{\"major\":2},\"frontendLogs\":[null,"
+                + "{\"eventType\":\"clickMenu\",\"extra\":[1,2,{\"a\":1}],\"pageUrl\":{\"path\":\"/x\"}}],\"sentAt\":1}";
+
+        int count = reader().read(body(json), chunks::add);
+
+        assertThat(count).isEqualTo(1);
+        assertThat(chunks.get(0).get(0).getEventType()).isEqualTo("clickMenu");
+        assertThat(chunks.get(0).get(0).getPageUrl()).isNull();
+    }
+
+    /**
+     * GIVEN: 최상위 값이 JSON 객체가 아닌 요청 본문이 주어졌을 때
+     * WHEN: read()를 호출하면
+     * THEN: JsonParseException이 발생해야 한다.
+     */
+    @Test
+    public void read_shouldRejectNonObjectBody() {
+        assertThatThrownBy(() -> reader().read(body("[{\"eventType\":\"clickMenu\"}]"), chunks::add))
+                .isInstanceOf(JsonParseException.class);
+    }
+
+    /**
+     * GIVEN: 최대 본문 크기가 64바이트로 설정되어 있을 때
+     * WHEN: 그보다 큰 요청 본문으로 read()를 호출하면
+     * THEN: FrontendLogStreamTooLargeException이 발생해야 한다.
+     */
+    @Test
+    public void read_shouldRejectBodyLargerThanLimit() {
+        properties.getCollect().setMaxBodyBytes(64);
+        String json = "{\"frontendLogs\":[{\"eventType\":\"clickMenu\",\"pageUrl\":\"/" + "a".repeat(100) + "\"}]}";
+
+        assertThatThrownBy(() -> reader().read(body(json), chunks::add))
+                .isInstanceOf(FrontendLogStreamTooLargeException.class);
+    }
+
+    private FrontendLogStreamReader reader() {
+        return new FrontendLogStreamReader(new ObjectMapper(), properties);
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
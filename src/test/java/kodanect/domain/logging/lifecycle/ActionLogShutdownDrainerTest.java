@@ -0,0 +1,156 @@
+package kodanect.domain.logging.lifecycle;
+
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.domain.logging.flusher.ActionLogFlushResult;
+import kodanect.domain.logging.ingest.ActionLogIngestQueue;
+import kodanect.domain.logging.lifecycle.ActionLogShutdownDrainer.DrainReport;
+import kodanect.domain.logging.scheduler.ActionLogFlushController;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link ActionLogShutdownDrainer}의 종료 시 적재 중지, 마지막 배출, 결과 집계를 검증하는 단위 테스트입니다.
+ */
+public class ActionLogShutdownDrainerTest {
+
+    private ActionLogIngestQueue ingestQueue;
+    private ActionLogFlushController flushController;
+    private ActionLogProperties properties;
+
+    /**
+     * 테스트 실행 전 적재 큐와 배출 제어기를 Mock으로 생성합니다.
+     */
+    @Before
+    public void setUp() {
+        ingestQueue = mock(ActionLogIngestQueue.class);
+        flushController = mock(ActionLogFlushController.class);
+        properties = new ActionLogProperties();
+    }
+
+    /**
+     * GIVEN: 버퍼에 이벤트 10건이 남아 있을 때
+     * WHEN: 생명주기 종료(stop)가 호출되면
+     * THEN: 적재 큐를 먼저 멈춘 뒤 마지막 전체 배출을 수행하고, 10건을 저장한 것으로 보고해야 한다.
+     */
+    @Test
+    public void stop_shouldStopIngestionThenFlushAll() throws Exception {
+        when(flushController.getBufferedEvents()).thenReturn(10L);
+        doAnswer(invocation -> {
+            invocation.getArgument(1, ActionLogFlushResult.class).addPartition(10, 10);
+            return null;
+        }).when(flushController).flushAllOnShutdown(any(Duration.class), any(ActionLogFlushResult.class));
+        ActionLogShutdownDrainer drainer = new ActionLogShutdownDrainer(ingestQueue, flushController, properties);
+        drainer.start();
+
+        drainer.stop();
+
+        InOrder inOrder = inOrder(ingestQueue, flushController);
+        inOrder.verify(ingestQueue).stop();
+        inOrder.verify(flushController).flushAllOnShutdown(any(Duration.class), any(ActionLogFlushResult.class));
+
+        DrainReport report = drainer.getLastReport();
+        assertThat(report.isCompleted()).isTrue();
+        assertThat(report.getPersistedEvents()).isEqualTo(10);
+        assertThat(report.getAbandonedEvents()).isZero();
+        assertThat(drainer.isRunning()).isFalse();
+    }
+
+    /**
+     * GIVEN: 마지막 배출이 제한 시간(100ms)보다 오래 걸릴 때
+     * WHEN: 생명주기 종료(stop)가 호출되면
+     * THEN: 배출을 기다리지 않고 돌아오며, 남은 이벤트를 포기한 것으로 보고해야 한다.
+     */
+    @Test
+    public void stop_shouldGiveUpWhenFlushExceedsTimeout() {
+        properties.getShutdown().setTimeout(Duration.ofMillis(100));
+        CountDownLatch release = new CountDownLatch(1);
+        when(flushController.getBufferedEvents()).thenReturn(10L);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(flushController).flushAllOnShutdown(any(Duration.class), any(ActionLogFlushResult.class));
+        ActionLogShutdownDrainer drainer = new ActionLogShutdownDrainer(ingestQueue, flushController, properties);
+        drainer.start();
+
+        try {
+            drainer.stop();
+        } finally {
+            release.countDown();
+        }
+
+        DrainReport report = drainer.getLastReport();
+        assertThat(report.isCompleted()).isFalse();
+        assertThat(report.getPersistedEvents()).isZero();
+        assertThat(report.getAbandonedEvents()).isEqualTo(10);
+        assertThat(report.getElapsedMillis()).isLessThan(5_000);
+    }
+
+    /**
+     * GIVEN: 마지막 배출 중 저장이 실패할 때
+     * WHEN: 생명주기 종료(stop)가 호출되면
+     * THEN: 예외를 전파하지 않고 남은 이벤트를 포기한 것으로 보고해야 한다.
+     */
+    @Test
+    public void stop_shouldReportAbandonedWhenFlushFails() {
+        when(flushController.getBufferedEvents()).thenReturn(7L);
+        doThrow(new IllegalStateException("db down"))
+                .when(flushController).flushAllOnShutdown(any(Duration.class), any(ActionLogFlushResult.class));
+        ActionLogShutdownDrainer drainer = new ActionLogShutdownDrainer(ingestQueue, flushController, properties);
+        drainer.start();
+
+        drainer.stop();
+
+        assertThat(drainer.getLastReport().isCompleted()).isFalse();
+        assertThat(drainer.getLastReport().getAbandonedEvents()).isEqualTo(7);
+    }
+
+    /**
+     * GIVEN: 배출 작업 하나는 4건을 저장하고, 다른 작업은 저장에 실패할 때
+     * WHEN: 생명주기 종료(stop)가 호출되면
+     * THEN: 끝난 작업의 저장 건수 4건과 나머지 6건을 포기한 것으로 보고해야 한다.
+     */
+    @Test
+    public void stop_shouldReportPartiallyPersistedEventsWhenFlushFails() {
+        when(flushController.getBufferedEvents()).thenReturn(10L);
+        doAnswer(invocation -> {
+            ActionLogFlushResult result = invocation.getArgument(1, ActionLogFlushResult.class);
+            result.addPartition(4, 4);
+            result.addPartition(6, 0);
+            throw new IllegalStateException("db down");
+        }).when(flushController).flushAllOnShutdown(any(Duration.class), any(ActionLogFlushResult.class));
+        ActionLogShutdownDrainer drainer = new ActionLogShutdownDrainer(ingestQueue, flushController, properties);
+        drainer.start();
+
+        drainer.stop();
+
+        DrainReport report = drainer.getLastReport();
+        assertThat(report.isCompleted()).isFalse();
+        assertThat(report.getPersistedEvents()).isEqualTo(4);
+        assertThat(report.getAbandonedEvents()).isEqualTo(6);
+    }
+
+    /**
+     * GIVEN: 종료 시 마지막 배출이 비활성화되어 있을 때
+     * WHEN: 생명주기 종료(stop)가 호출되면
+     * THEN: 적재 큐와 배출 제어기를 호출하지 않아야 한다.
+     */
+    @Test
+    public void stop_shouldDoNothingWhenDisabled() {
+        properties.getShutdown().setEnabled(false);
+        ActionLogShutdownDrainer drainer = new ActionLogShutdownDrainer(ingestQueue, flushController, properties);
+        drainer.start();
+
+        drainer.stop();
+
+        verifyNoInteractions(ingestQueue, flushController);
+        assertThat(drainer.getLastReport()).isNull();
+    }
+
+}
@@ -0,0 +1,107 @@
+package kodanect.domain.logging.repository;
+
+import config.TestConfig;
+import kodanect.domain.logging.entity.ActionLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JPA saveAll과 {@link ActionLogBatchWriter}의 저장 처리량(rows/sec)을 H2 테스트 프로필에서 비교하는 벤치마크입니다.
+ *
+ * 실행 시간이 길어 기본 테스트에서는 제외되며, 다음과 같이 명시적으로 실행합니다.
+ * {@code mvn test -Dtest=ActionLogBatchWriterBenchmarkTest -Dbenchmark=true}
+ *
+ * 운영과 같이 실제 커밋이 일어나도록 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TestConfig.class, ActionLogBatchWriter.class, ActionLogPartitionManager.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ActionLogBatchWriterBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private ActionLogBatchWriter writer;
+
+    @Autowired
+    private ActionLogRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * 측정 후 저장된 로그를 모두 삭제합니다.
+     */
+    @AfterEach
+    void cleanUp() {
+        repository.deleteAllInBatch();
+    }
+
+    /**
+     * Given: 동일한 로그 {@value #ROWS}건이 주어졌을 때
+     * When: JPA saveAll(단일 트랜잭션)과 JDBC 배치 저장을 각각 {@value #ROUNDS}회 수행하면
+     * Then: 두 방식 모두 전체 행을 저장하며, 각 방식의 최고 처리량을 출력한다
+     */
+    @Test
+    void compareSaveAllWithBatchWriter() {
+        List<ActionLog> logs = createLogs();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        double jpaRowsPerSecond = measure(() -> transactionTemplate.executeWithoutResult(
+                status -> repository.saveAll(createLogs())));
+        double jdbcRowsPerSecond = measure(() -> writer.insertAll(logs));
+
+        System.out.printf("[ActionLog 저장 벤치마크] rows=%d, JPA saveAll=%.0f rows/sec, JDBC batch=%.0f rows/sec (x%.1f)%n",
+                ROWS, jpaRowsPerSecond, jdbcRowsPerSecond, jdbcRowsPerSecond / jpaRowsPerSecond);
+
+        assertThat(jdbcRowsPerSecond).isPositive();
+    }
+
+    private double measure(Runnable task) {
+        double best = 0;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            task.run();
+            long elapsed = System.nanoTime() - start;
+
+            assertThat(repository.count()).isEqualTo(ROWS);
+            repository.deleteAllInBatch();
+
+            best = Math.max(best, ROWS / (elapsed / 1_000_000_000.0));
+        }
+
+        return best;
+    }
+
+    private static List<ActionLog> createLogs() {
+        List<ActionLog> logs = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            logs.add(ActionLog.builder()
+                    .urlName("/page/" + (i % 50))
+                    .crudCode("R")
+                    .ipAddr("127.0.0.1")
+                    .logText("{\"sessionId\":\"session-" + i + "\",\"frontendLogs\":[],\"backendLogs\":[]}")
+                    .build());
+        }
+        return logs;
+    }
+
+}
@@ -0,0 +1,73 @@
+package kodanect.domain.logging.repository;
+
+import config.TestConfig;
+import kodanect.domain.logging.entity.ActionLog;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ActionLogBatchWriter}의 JDBC 배치 저장 기능을 검증하는 테스트입니다.
+ *
+ * 청크 크기를 넘는 로그 목록이 모두 저장되고, 생성 일시가 채워지는지 확인합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TestConfig.class, ActionLogBatchWriter.class, ActionLogPartitionManager.class})
+class ActionLogBatchWriterTest {
+
+    @Autowired
+    private ActionLogBatchWriter writer;
+
+    @Autowired
+    private ActionLogRepository repository;
+
+    /**
+     * Given: 기본 청크 크기(500)를 넘는 1201건의 로그가 주어졌을 때
+     * When: insertAll()을 호출하면
+     * Then: 모든 로그가 저장되고 필드 값과 생성 일시가 채워져야 한다
+     */
+    @Test
+    void insertAll_shouldPersistAllRowsAcrossChunks() {
+        List<ActionLog> logs = new ArrayList<>();
+        for (int i = 0; i < 1201; i++) {
+            logs.add(ActionLog.builder()
+                    .urlName("/page/" + i)
+                    .crudCode("R")
+                    .ipAddr("127.0.0.1")
+                    .logText("{\"index\":" + i + "}")
+                    .build());
+        }
+
+        int inserted = writer.insertAll(logs);
+
+        List<ActionLog> result = repository.findAll();
+        assertThat(inserted).isEqualTo(1201);
+        assertThat(result).hasSize(1201);
+        assertThat(result).allSatisfy(log -> {
+            assertThat(log.getCrudCode()).isEqualTo("R");
+            assertThat(log.getIpAddr()).isEqualTo("127.0.0.1");
+            assertThat(log.getWriteTime()).isNotNull();
+        });
+        assertThat(result).extracting(ActionLog::getUrlName).contains("/page/0", "/page/1200");
+    }
+
+    /**
+     * Given: 빈 로그 목록이 주어졌을 때
+     * When: insertAll()을 호출하면
+     * Then: 아무 행도 저장되지 않아야 한다
+     */
+    @Test
+    void insertAll_shouldDoNothingForEmptyList() {
+        assertThat(writer.insertAll(List.of())).isZero();
+        assertThat(repository.count()).isZero();
+    }
+
+}
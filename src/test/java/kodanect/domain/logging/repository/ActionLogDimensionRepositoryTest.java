@@ -0,0 +1,90 @@
+package kodanect.domain.logging.repository;
+
+import config.TestConfig;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.domain.logging.dimension.ActionLogDimension;
+import kodanect.domain.logging.dimension.DimensionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ActionLogDimensionRepository}의 사전 항목 등록과 조회를 H2에서 검증하는 테스트입니다.
+ *
+ * 사전 테이블은 DDL로 생성되므로 테스트 트랜잭션을 사용하지 않고 테스트마다 직접 정리합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ActionLogDimensionRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ActionLogDimensionRepository repository;
+
+    /**
+     * 사전 테이블을 생성합니다.
+     */
+    @BeforeEach
+    void setUp() {
+        repository = new ActionLogDimensionRepository(jdbcTemplate);
+        new ActionLogSchemaInitializer(jdbcTemplate, new ActionLogProperties()).createTables();
+    }
+
+    /**
+     * 테스트에서 등록한 사전 항목을 삭제합니다.
+     */
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.execute("DELETE FROM tb25_943_action_log_dimension");
+    }
+
+    /**
+     * Given: 같은 (종류, 값)을 두 번 등록하고, 같은 값을 다른 종류로 한 번 등록할 때
+     * When: findOrInsert()를 호출하면
+     * Then: 같은 (종류, 값)은 같은 ID를, 종류가 다르면 다른 ID를 반환해야 한다
+     */
+    @Test
+    void findOrInsert_shouldReuseIdForSameTypeAndValue() {
+        Optional<Integer> first = repository.findOrInsert(DimensionType.ENDPOINT, "/donationLetters");
+        Optional<Integer> second = repository.findOrInsert(DimensionType.ENDPOINT, "/donationLetters");
+        Optional<Integer> other = repository.findOrInsert(DimensionType.CONTROLLER, "/donationLetters");
+
+        assertThat(first).isPresent().isEqualTo(second);
+        assertThat(other).isPresent().isNotEqualTo(first);
+    }
+
+    /**
+     * Given: 사전 항목이 등록되어 있을 때
+     * When: findAll() 및 findValue()를 호출하면
+     * Then: 등록 순서대로 항목이 조회되고, ID로 원래 문자열을 찾을 수 있어야 한다
+     */
+    @Test
+    void findAll_shouldReturnRegisteredDimensionsInOrder() {
+        int chrome = repository.findOrInsert(DimensionType.BROWSER_NAME, "Chrome").orElseThrow();
+        int windows = repository.findOrInsert(DimensionType.OPERATING_SYSTEM, "Windows 10").orElseThrow();
+
+        List<ActionLogDimension> dimensions = repository.findAll(10);
+
+        assertThat(dimensions).extracting(ActionLogDimension::getId).containsExactly(chrome, windows);
+        assertThat(dimensions).extracting(ActionLogDimension::getType)
+                .containsExactly(DimensionType.BROWSER_NAME, DimensionType.OPERATING_SYSTEM);
+        assertThat(repository.findValue(windows)).contains("Windows 10");
+        assertThat(repository.findValue(-1)).isEmpty();
+    }
+
+}
@@ -0,0 +1,232 @@
+package kodanect.domain.logging.repository;
+
+import config.TestConfig;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.common.config.properties.ActionLogProperties.Partition.ExpiredAction;
+import kodanect.domain.logging.entity.ActionLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link ActionLogPartitionManager}의 월별 테이블 생성, 보존 기간 만료 처리와
+ * 분할 사용 시 {@link ActionLogBatchWriter}의 월별 저장을 H2에서 검증하는 테스트입니다.
+ *
+ * 테이블 생성/삭제(DDL)는 트랜잭션과 무관하게 반영되므로, 테스트 트랜잭션을 사용하지 않고 테스트마다 직접 정리합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ActionLogPartitionManagerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-06-16T03:00:00Z"), ZoneOffset.UTC);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ActionLogProperties properties;
+
+    /**
+     * 분할을 사용하고 3개월을 보존하는 설정을 준비합니다.
+     */
+    @BeforeEach
+    void setUp() {
+        properties = new ActionLogProperties();
+        properties.getPartition().setEnabled(true);
+        properties.getPartition().setRetentionMonths(3);
+        properties.getPartition().setCreateAheadMonths(1);
+    }
+
+    /**
+     * 테스트에서 만든 월별/보관용 테이블을 모두 삭제합니다.
+     */
+    @AfterEach
+    void cleanUp() {
+        List<String> tables = jdbcTemplate.queryForList(
+                "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE UPPER(TABLE_NAME) LIKE 'TB25_940_ACTION_LOG\\_%'",
+                String.class);
+        tables.forEach(table -> jdbcTemplate.execute("DROP TABLE IF EXISTS " + table));
+    }
+
+    /**
+     * Given: 현재 월이 2025년 6월이고 다음 1개월을 미리 생성하도록 설정되어 있을 때
+     * When: maintain()을 호출하면
+     * Then: 6월과 7월 테이블이 생성되어야 한다
+     */
+    @Test
+    void maintain_shouldCreateCurrentAndAheadPartitions() {
+        ActionLogPartitionManager manager = new ActionLogPartitionManager(jdbcTemplate, properties, CLOCK);
+
+        manager.maintain();
+
+        assertThat(manager.listPartitions()).containsExactly(YearMonth.of(2025, 6), YearMonth.of(2025, 7));
+    }
+
+    /**
+     * Given: 보존 기간(3개월)보다 오래된 2월, 3월 테이블과 보존 대상인 4월 테이블이 있을 때
+     * When: 만료 처리 방식이 DROP인 상태로 maintain()을 호출하면
+     * Then: 2월, 3월 테이블만 삭제되어야 한다
+     */
+    @Test
+    void maintain_shouldDropExpiredPartitions() {
+        ActionLogPartitionManager manager = new ActionLogPartitionManager(jdbcTemplate, properties, CLOCK);
+        manager.ensurePartition(YearMonth.of(2025, 2));
+        manager.ensurePartition(YearMonth.of(2025, 3));
+        manager.ensurePartition(YearMonth.of(2025, 4));
+
+        manager.maintain();
+
+        assertThat(manager.listPartitions())
+                .containsExactly(YearMonth.of(2025, 4), YearMonth.of(2025, 6), YearMonth.of(2025, 7));
+    }
+
+    /**
+     * Given: 보존 기간이 지난 테이블에 로그가 있을 때
+     * When: 만료 처리 방식이 ARCHIVE인 상태로 maintain()을 호출하면
+     * Then: 분할 대상에서 제외되고, 보관용 테이블에 로그가 그대로 남아 있어야 한다
+     */
+    @Test
+    void maintain_shouldArchiveExpiredPartitions() {
+        properties.getPartition().setExpiredAction(ExpiredAction.ARCHIVE);
+        ActionLogPartitionManager manager = new ActionLogPartitionManager(jdbcTemplate, properties, CLOCK);
+        ActionLogBatchWriter writer = new ActionLogBatchWriter(jdbcTemplate, transactionManager, manager, properties);
+        writer.insertAll(List.of(log("/old", LocalDateTime.of(2025, 1, 31, 23, 59))));
+
+        manager.maintain();
+
+        assertThat(manager.listPartitions()).doesNotContain(YearMonth.of(2025, 1));
+        assertThat(count("tb25_940_action_log_archive_202501")).isEqualTo(1);
+    }
+
+    /**
+     * Given: 보관 기간(1개월)이 지난 보관용 테이블과 보관 기간 내의 보관용 테이블이 있을 때
+     * When: 만료 처리 방식이 ARCHIVE인 상태로 maintain()을 호출하면
+     * Then: 보관 기간이 지난 보관용 테이블만 삭제되어 저장 공간이 회수되어야 한다
+     */
+    @Test
+    void maintain_shouldDropArchivesPastArchiveRetention() {
+        properties.getPartition().setExpiredAction(ExpiredAction.ARCHIVE);
+        properties.getPartition().setArchiveRetentionMonths(1);
+        ActionLogPartitionManager manager = new ActionLogPartitionManager(jdbcTemplate, properties, CLOCK);
+        manager.ensurePartition(YearMonth.of(2025, 2));
+        manager.ensurePartition(YearMonth.of(2025, 3));
+
+        manager.maintain();
+
+        assertThat(tableExists("tb25_940_action_log_archive_202502")).isFalse();
+        assertThat(tableExists("tb25_940_action_log_archive_202503")).isTrue();
+    }
+
+    /**
+     * Given: write_time 인덱스 없이 만들어진 기존 월별 테이블이 있을 때
+     * When: maintain()을 호출하면
+     * Then: 새로 만든 테이블과 기존 테이블 모두 write_time 인덱스를 가져야 한다
+     */
+    @Test
+    void maintain_shouldIndexWriteTime() {
+        jdbcTemplate.execute("CREATE TABLE tb25_940_action_log_202505 (log_seq INT NOT NULL AUTO_INCREMENT PRIMARY KEY, "
+                + "url_name VARCHAR(600) NOT NULL, crud_code VARCHAR(10), ip_addr VARCHAR(60), log_text TEXT, "
+                + "write_time DATETIME NOT NULL)");
+        ActionLogPartitionManager manager = new ActionLogPartitionManager(jdbcTemplate, properties, CLOCK);
+
+        manager.maintain();
+
+        assertThat(writeTimeIndexCount("tb25_940_action_log_202505")).isPositive();
+        assertThat(writeTimeIndexCount("tb25_940_action_log_202506")).isPositive();
+    }
+
+    /**
+     * Given: DDL을 실행할 수 없는 DB일 때
+     * When: maintain()과 tableFor()를 호출하면
+     * Then: 예외 없이 단일 테이블 이름을 반환하고, 다음 주기 작업 전까지 같은 월의 생성을 다시 시도하지 않아야 한다
+     */
+    @Test
+    void tableFor_whenPartitionCannotBeCreated_shouldFallBackToBaseTable() {
+        JdbcTemplate failing = mock(JdbcTemplate.class);
+        doThrow(new BadSqlGrammarException("create", "CREATE TABLE", new SQLException("denied")))
+                .when(failing).execute(anyString());
+        ActionLogPartitionManager manager = new ActionLogPartitionManager(failing, properties, CLOCK);
+
+        manager.maintain();
+
+        assertThat(manager.tableFor(LocalDateTime.of(2025, 6, 16, 12, 0))).isEqualTo(ActionLogPartitionManager.BASE_TABLE);
+        assertThat(manager.tableFor(LocalDateTime.of(2025, 6, 16, 13, 0))).isEqualTo(ActionLogPartitionManager.BASE_TABLE);
+        verify(failing, times(2)).execute(startsWith("CREATE TABLE IF NOT EXISTS tb25_940_action_log_202506 "));
+    }
+
+    /**
+     * Given: 생성 일시가 서로 다른 월에 속한 로그가 주어졌을 때
+     * When: 분할을 사용하는 ActionLogBatchWriter로 저장하면
+     * Then: 각 로그가 생성 일시가 속한 월 테이블에 저장되어야 한다
+     */
+    @Test
+    void insertAll_shouldRouteLogsToMonthlyPartitions() {
+        ActionLogPartitionManager manager = new ActionLogPartitionManager(jdbcTemplate, properties, CLOCK);
+        ActionLogBatchWriter writer = new ActionLogBatchWriter(jdbcTemplate, transactionManager, manager, properties);
+
+        int inserted = writer.insertAll(List.of(
+                log("/may", LocalDateTime.of(2025, 5, 31, 23, 59)),
+                log("/june-1", LocalDateTime.of(2025, 6, 1, 0, 0)),
+                log("/june-2", LocalDateTime.of(2025, 6, 15, 12, 0))
+        ));
+
+        assertThat(inserted).isEqualTo(3);
+        assertThat(count("tb25_940_action_log_202505")).isEqualTo(1);
+        assertThat(count("tb25_940_action_log_202506")).isEqualTo(2);
+    }
+
+    private ActionLog log(String urlName, LocalDateTime writeTime) {
+        return ActionLog.builder()
+                .urlName(urlName)
+                .crudCode("R")
+                .ipAddr("127.0.0.1")
+                .logText("{}")
+                .writeTime(writeTime)
+                .build();
+    }
+
+    private boolean tableExists(String table) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE UPPER(TABLE_NAME) = UPPER(?)", Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    private int writeTimeIndexCount(String table) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEX_COLUMNS "
+                        + "WHERE UPPER(TABLE_NAME) = UPPER(?) AND UPPER(COLUMN_NAME) = 'WRITE_TIME'", Integer.class, table);
+        return count != null ? count : 0;
+    }
+
+    private int count(String table) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+        return count != null ? count : 0;
+    }
+
+}
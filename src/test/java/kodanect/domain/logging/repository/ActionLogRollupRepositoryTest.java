@@ -0,0 +1,113 @@
+package kodanect.domain.logging.repository;
+
+import config.TestConfig;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.common.constant.CrudCode;
+import kodanect.domain.logging.dto.HourlyRollupResponse;
+import kodanect.domain.logging.dto.SystemRollupResponse;
+import kodanect.domain.logging.dto.SystemInfoDto;
+import kodanect.domain.logging.rollup.ActionLogRollup;
+import kodanect.domain.logging.rollup.SystemDimension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ActionLogRollupRepository}의 집계 누적(upsert)과 조회를 H2에서 검증하는 테스트입니다.
+ *
+ * 집계 테이블은 DDL로 생성되므로 테스트 트랜잭션을 사용하지 않고 테스트마다 직접 정리합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ActionLogRollupRepositoryTest {
+
+    private static final LocalDateTime HOUR = LocalDateTime.of(2025, 6, 16, 10, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ActionLogRollupRepository repository;
+
+    /**
+     * 집계 테이블을 생성합니다.
+     */
+    @BeforeEach
+    void setUp() {
+        repository = new ActionLogRollupRepository(jdbcTemplate, transactionManager, new ActionLogProperties());
+        new ActionLogSchemaInitializer(jdbcTemplate, new ActionLogProperties()).createTables();
+    }
+
+    /**
+     * 테스트에서 누적한 집계를 삭제합니다.
+     */
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.execute("DELETE FROM tb25_941_action_log_rollup_hourly");
+        jdbcTemplate.execute("DELETE FROM tb25_942_action_log_rollup_system");
+    }
+
+    /**
+     * Given: 같은 (시간대, 경로, CRUD 코드)의 집계가 두 번의 배출에 나뉘어 있을 때
+     * When: 각각 merge()한 뒤 조회하면
+     * Then: 건수가 하나의 행으로 합산되어 있어야 한다
+     */
+    @Test
+    void merge_shouldAccumulateCountsAcrossFlushes() {
+        repository.merge(rollupOf(3));
+        repository.merge(rollupOf(2));
+
+        List<HourlyRollupResponse> result = repository.findHourly(HOUR, HOUR.plusHours(1), "/heavenLetters", "R");
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getBucketHour()).isEqualTo(HOUR);
+        assertThat(result.get(0).getEventCount()).isEqualTo(5);
+    }
+
+    /**
+     * Given: 서로 다른 시간대에 같은 브라우저 세션이 집계되어 있을 때
+     * When: 두 시간대를 포함하는 기간으로 조회하면
+     * Then: 값별 세션 수가 기간 전체로 합산되어 내림차순으로 반환되어야 한다
+     */
+    @Test
+    void findSystem_shouldSumSessionsOverRange() {
+        ActionLogRollup first = new ActionLogRollup(HOUR);
+        first.addSession(SystemInfoDto.builder().browserName("Chrome").build(), HOUR.toString());
+        first.addSession(SystemInfoDto.builder().browserName("Safari").build(), HOUR.toString());
+        ActionLogRollup second = new ActionLogRollup(HOUR.plusHours(1));
+        second.addSession(SystemInfoDto.builder().browserName("Chrome").build(), HOUR.plusHours(1).toString());
+        repository.merge(first);
+        repository.merge(second);
+
+        List<SystemRollupResponse> result = repository.findSystem(SystemDimension.BROWSER, HOUR, HOUR.plusHours(2));
+
+        assertThat(result).extracting(SystemRollupResponse::getValue).containsExactly("Chrome", "Safari");
+        assertThat(result).extracting(SystemRollupResponse::getSessionCount).containsExactly(2L, 1L);
+    }
+
+    private ActionLogRollup rollupOf(int events) {
+        ActionLogRollup rollup = new ActionLogRollup(HOUR);
+        for (int i = 0; i < events; i++) {
+            rollup.addEvent("/heavenLetters", CrudCode.R, HOUR.plusMinutes(i).toString());
+        }
+        return rollup;
+    }
+
+}
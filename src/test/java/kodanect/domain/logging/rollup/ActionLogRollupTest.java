@@ -0,0 +1,74 @@
+package kodanect.domain.logging.rollup;
+
+import kodanect.common.constant.CrudCode;
+import kodanect.domain.logging.dto.SystemInfoDto;
+import kodanect.domain.logging.rollup.ActionLogRollup.HourlyKey;
+import kodanect.domain.logging.rollup.ActionLogRollup.SystemKey;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ActionLogRollup}의 시간대/URL 정규화와 건수 집계를 검증하는 단위 테스트입니다.
+ */
+public class ActionLogRollupTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime FLUSHED_AT = LocalDateTime.of(2025, 6, 16, 15, 42);
+
+    /**
+     * GIVEN: 같은 경로와 시간대에 속한 이벤트가 쿼리 문자열과 호스트만 다르게 들어올 때
+     * WHEN: 이벤트를 집계하면
+     * THEN: 하나의 (시간대, 경로, CRUD 코드) 키로 합산되어야 한다.
+     */
+    @Test
+    public void addEvent_shouldGroupByHourPathAndCrudCode() {
+        ActionLogRollup rollup = new ActionLogRollup(FLUSHED_AT, SEOUL);
+
+        rollup.addEvent("https://kodanect.or.kr/heavenLetters?page=2", CrudCode.R, "2025-06-16T01:05:00Z");
+        rollup.addEvent("/heavenLetters", CrudCode.R, "2025-06-16T01:59:59Z");
+        rollup.addEvent("/heavenLetters", CrudCode.C, "2025-06-16T01:10:00Z");
+
+        HourlyKey readKey = new HourlyKey(LocalDateTime.of(2025, 6, 16, 10, 0), "/heavenLetters", "R");
+        assertThat(rollup.getHourlyCounts()).containsEntry(readKey, 2L).hasSize(2);
+    }
+
+    /**
+     * GIVEN: 발생 시각이 없거나 해석할 수 없는 이벤트가 있을 때
+     * WHEN: 이벤트를 집계하면
+     * THEN: 배출 시각의 시간대로 집계되어야 한다.
+     */
+    @Test
+    public void addEvent_shouldFallBackToFlushHour() {
+        ActionLogRollup rollup = new ActionLogRollup(FLUSHED_AT, SEOUL);
+
+        rollup.addEvent("/memorial", CrudCode.R, null);
+        rollup.addEvent("/memorial", CrudCode.R, "not-a-time");
+
+        HourlyKey key = new HourlyKey(LocalDateTime.of(2025, 6, 16, 15, 0), "/memorial", "R");
+        assertThat(rollup.getHourlyCounts()).containsEntry(key, 2L);
+    }
+
+    /**
+     * GIVEN: 브라우저 값이 비어 있는 시스템 정보가 있을 때
+     * WHEN: 세션을 집계하면
+     * THEN: 브라우저/운영체제/디바이스별로 1건씩 집계되고, 빈 값은 unknown으로 집계되어야 한다.
+     */
+    @Test
+    public void addSession_shouldCountEachDimension() {
+        ActionLogRollup rollup = new ActionLogRollup(FLUSHED_AT, SEOUL);
+        SystemInfoDto systemInfo = SystemInfoDto.builder().operatingSystem("Windows 10").device("Computer").build();
+
+        rollup.addSession(systemInfo, "2025-06-16T15:00:00");
+
+        LocalDateTime hour = LocalDateTime.of(2025, 6, 16, 15, 0);
+        assertThat(rollup.getSystemCounts())
+                .containsEntry(new SystemKey(hour, SystemDimension.BROWSER, "unknown"), 1L)
+                .containsEntry(new SystemKey(hour, SystemDimension.OPERATING_SYSTEM, "Windows 10"), 1L)
+                .containsEntry(new SystemKey(hour, SystemDimension.DEVICE, "Computer"), 1L);
+    }
+
+}
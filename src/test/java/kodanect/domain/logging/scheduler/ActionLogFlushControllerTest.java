@@ -0,0 +1,204 @@
+package kodanect.domain.logging.scheduler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.buffer.BackendLogBuffer;
+import kodanect.common.buffer.FrontendLogBuffer;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.common.constant.CrudCode;
+import kodanect.domain.logging.flusher.ActionLogFlushResult;
+import kodanect.domain.logging.flusher.ActionLogFlusher;
+import kodanect.domain.logging.scheduler.ActionLogFlushController.FlushDecision;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link ActionLogFlushController}의 배출 결정 로직을 검증하는 단위 테스트입니다.
+ *
+ * 적재 수위, CRUD 코드별 대기 시간, 전체 배출 주기, 최소 간격 제한 및 DB 쓰기 지연에 따른 간격 조정,
+ * 그리고 결정 결과 메트릭 노출을 확인합니다.
+ */
+public class ActionLogFlushControllerTest {
+
+    private static final long START = 1_000_000L;
+
+    private ActionLogFlusher flusher;
+    private FrontendLogBuffer frontendBuffer;
+    private BackendLogBuffer backendBuffer;
+    private ActionLogProperties properties;
+    private MeterRegistry meterRegistry;
+    private final AtomicLong now = new AtomicLong(START);
+
+    private ActionLogFlushController controller;
+
+    /**
+     * 테스트 실행 전 버퍼와 flusher를 Mock으로 생성하고, 조작 가능한 시계로 제어기를 초기화합니다.
+     */
+    @Before
+    public void setUp() {
+        flusher = mock(ActionLogFlusher.class);
+        frontendBuffer = mock(FrontendLogBuffer.class);
+        backendBuffer = mock(BackendLogBuffer.class);
+        properties = new ActionLogProperties();
+        meterRegistry = new SimpleMeterRegistry();
+
+        controller = new ActionLogFlushController(
+                flusher, frontendBuffer, backendBuffer, properties, meterRegistry, now::get);
+    }
+
+    /**
+     * GIVEN: 버퍼가 비어 있을 때
+     * WHEN: evaluate()를 호출하면
+     * THEN: IDLE을 반환하고 배출하지 않아야 한다.
+     */
+    @Test
+    public void evaluate_shouldStayIdleWhenBuffersAreEmpty() {
+        assertThat(controller.evaluate()).isEqualTo(FlushDecision.IDLE);
+
+        verifyNoInteractions(flusher);
+    }
+
+    /**
+     * GIVEN: 적재 이벤트 수가 수위를 넘었을 때
+     * WHEN: evaluate()를 호출하면
+     * THEN: 전체 배출이 수행되어야 한다.
+     */
+    @Test
+    public void evaluate_shouldFlushAllWhenEventWatermarkExceeded() {
+        when(frontendBuffer.getBufferedCount(CrudCode.R)).thenReturn(1500);
+        when(backendBuffer.getBufferedCount(CrudCode.R)).thenReturn(500);
+
+        assertThat(controller.evaluate()).isEqualTo(FlushDecision.WATERMARK);
+
+        verify(flusher).flushAll();
+    }
+
+    /**
+     * GIVEN: 적재 용량(추정 바이트)이 수위를 넘었을 때
+     * WHEN: evaluate()를 호출하면
+     * THEN: 전체 배출이 수행되어야 한다.
+     */
+    @Test
+    public void evaluate_shouldFlushAllWhenByteWatermarkExceeded() {
+        when(backendBuffer.getBufferedBytes(CrudCode.C)).thenReturn(properties.getFlush().getMaxBufferedBytes());
+
+        assertThat(controller.evaluate()).isEqualTo(FlushDecision.WATERMARK);
+
+        verify(flusher).flushAll();
+    }
+
+    /**
+     * GIVEN: READ 로그의 가장 오래된 이벤트만 최대 대기 시간을 넘었을 때
+     * WHEN: evaluate()를 호출하면
+     * THEN: READ CRUD 코드만 배출되어야 한다.
+     */
+    @Test
+    public void evaluate_shouldFlushOnlyExpiredCrudCode() {
+        long readMaxAge = properties.getFlush().getReadMaxAge().toMillis();
+        when(frontendBuffer.getOldestEnqueuedAt(CrudCode.R)).thenReturn(START - readMaxAge);
+        when(backendBuffer.getOldestEnqueuedAt(CrudCode.C)).thenReturn(START - 1000);
+
+        assertThat(controller.evaluate()).isEqualTo(FlushDecision.AGE);
+
+        verify(flusher).flushAllByCrudCode(CrudCode.R);
+        verify(flusher, never()).flushAllByCrudCode(CrudCode.C);
+        verify(flusher, never()).flushAll();
+    }
+
+    /**
+     * GIVEN: 마지막 전체 배출 후 전체 배출 주기가 지났을 때
+     * WHEN: evaluate()를 호출하면
+     * THEN: 조건과 무관하게 전체 배출이 수행되어야 한다.
+     */
+    @Test
+    public void evaluate_shouldFlushAllPeriodically() {
+        now.addAndGet(properties.getFlush().getFullFlushInterval().toMillis());
+
+        assertThat(controller.evaluate()).isEqualTo(FlushDecision.PERIODIC);
+
+        verify(flusher).flushAll();
+    }
+
+    /**
+     * GIVEN: 직전 배출 후 최소 간격이 지나지 않았을 때
+     * WHEN: 배출 조건을 만족한 상태로 evaluate()를 호출하면
+     * THEN: THROTTLED를 반환하고, 최소 간격이 지난 뒤에만 다시 배출해야 한다.
+     */
+    @Test
+    public void evaluate_shouldThrottleWithinMinInterval() {
+        when(frontendBuffer.getBufferedCount(CrudCode.R)).thenReturn(5000);
+
+        controller.evaluate();
+        now.addAndGet(1000);
+        FlushDecision throttled = controller.evaluate();
+        now.addAndGet(properties.getFlush().getMinInterval().toMillis());
+        FlushDecision resumed = controller.evaluate();
+
+        assertThat(throttled).isEqualTo(FlushDecision.THROTTLED);
+        assertThat(resumed).isEqualTo(FlushDecision.WATERMARK);
+        verify(flusher, times(2)).flushAll();
+    }
+
+    /**
+     * GIVEN: 배출 소요 시간이 목표 쓰기 지연의 4배일 때
+     * WHEN: 배출이 수행되면
+     * THEN: 최소 배출 간격이 4배로 늘어나고, 메트릭으로 노출되어야 한다.
+     */
+    @Test
+    public void evaluate_shouldStretchMinIntervalWhenWritesAreSlow() {
+        properties.getFlush().setTargetWriteLatency(Duration.ofMillis(500));
+        when(frontendBuffer.getBufferedCount(CrudCode.R)).thenReturn(5000);
+        doAnswer(invocation -> now.addAndGet(2000)).when(flusher).flushAll();
+
+        controller.evaluate();
+
+        now.addAndGet(properties.getFlush().getMinInterval().toMillis());
+        assertThat(controller.evaluate()).isEqualTo(FlushDecision.THROTTLED);
+        assertThat(meterRegistry.get("action.log.flush.min.interval").gauge().value()).isEqualTo(20_000);
+        assertThat(meterRegistry.get("action.log.flush.write.latency").gauge().value()).isEqualTo(2000);
+    }
+
+    /**
+     * GIVEN: 여러 번의 평가가 수행되었을 때
+     * WHEN: 결정 결과 메트릭을 조회하면
+     * THEN: 결정별 횟수와 현재 적재 상태가 노출되어야 한다.
+     */
+    @Test
+    public void evaluate_shouldExposeDecisionMetrics() {
+        when(frontendBuffer.getBufferedCount(CrudCode.R)).thenReturn(10);
+        when(frontendBuffer.getOldestEnqueuedAt(CrudCode.R)).thenReturn(START - 30_000);
+
+        controller.evaluate();
+        controller.evaluate();
+
+        assertThat(meterRegistry.get("action.log.flush.decisions").tag("decision", "IDLE").counter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("action.log.flush.buffered.events").gauge().value()).isEqualTo(10);
+        assertThat(meterRegistry.get("action.log.flush.oldest.age").tag("crud_code", "R").gauge().value())
+                .isEqualTo(30);
+    }
+
+    /**
+     * GIVEN: 종료 시 마지막 배출이 수행되었을 때
+     * WHEN: 적재 수위를 넘은 상태로 evaluate()를 호출하면
+     * THEN: 더 이상 배출하지 않고 IDLE을 반환해야 한다.
+     */
+    @Test
+    public void evaluate_shouldStayIdleAfterShutdownFlush() {
+        when(frontendBuffer.getBufferedCount(CrudCode.R)).thenReturn(5000);
+
+        ActionLogFlushResult result = new ActionLogFlushResult();
+        controller.flushAllOnShutdown(Duration.ofSeconds(5), result);
+
+        assertThat(controller.evaluate()).isEqualTo(FlushDecision.IDLE);
+        verify(flusher).flushAll(Duration.ofSeconds(5), result);
+        verify(flusher, never()).flushAll();
+    }
+
+}
@@ -1,67 +1,63 @@
 package kodanect.domain.logging.scheduler;
 
-import kodanect.common.constant.CrudCode;
-import kodanect.domain.logging.flusher.ActionLogFlusher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 /**
  * {@link ActionLogScheduler} 클래스의 스케줄러 동작을 검증하는 단위 테스트입니다.
  *
- * 각 스케줄 메서드가 {@link ActionLogFlusher}에 적절한 flush 요청을 전달하는지 확인합니다.
+ * 스케줄 메서드가 {@link ActionLogFlushController}에 평가 요청을 전달하는지와 평가 메트릭 기록을 확인합니다.
  */
 public class ActionLogSchedulerTest {
 
-    private ActionLogFlusher flusher;
+    private ActionLogFlushController flushController;
+    private MeterRegistry meterRegistry;
     private ActionLogScheduler scheduler;
 
     /**
-     * 테스트 실행 전 {@link ActionLogFlusher}를 Mock으로 생성하고
+     * 테스트 실행 전 {@link ActionLogFlushController}를 Mock으로 생성하고
      * 이를 주입하여 {@link ActionLogScheduler} 인스턴스를 초기화합니다.
      */
     @Before
     public void setUp() {
-        flusher = mock(ActionLogFlusher.class);
-        scheduler = new ActionLogScheduler(flusher);
+        flushController = mock(ActionLogFlushController.class);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new ActionLogScheduler(flushController, meterRegistry);
     }
 
     /**
-     * GIVEN: READ 로그 배출 스케줄이 실행될 때
-     * WHEN: flushReadLogs()가 호출되면
-     * THEN: flusher.flushByCrudCode(CrudCode.R, 100) 이 호출되어야 한다.
+     * GIVEN: 배출 평가 스케줄이 실행될 때
+     * WHEN: evaluateFlush()가 호출되면
+     * THEN: flushController.evaluate() 가 호출되어야 한다.
      */
     @Test
-    public void flushReadLogs_shouldDelegateToFlusherWithReadThreshold() {
-        scheduler.flushReadLogs();
-        verify(flusher).flushByCrudCode(CrudCode.R, 100);
+    public void evaluateFlush_shouldDelegateToFlushController() {
+        scheduler.evaluateFlush();
+        verify(flushController).evaluate();
     }
 
     /**
-     * GIVEN: C/U/D/X 로그 배출 스케줄이 실행될 때
-     * WHEN: flushOtherLogs()가 호출되면
-     * THEN: 각 CRUD 코드에 대해 flusher.flushByCrudCode(code, 10) 이 호출되어야 한다.
+     * GIVEN: 배출 평가가 한 번 성공하고 한 번 실패할 때
+     * WHEN: evaluateFlush()가 두 번 호출되면
+     * THEN: 실패 예외는 전파되고, 평가 횟수와 실패 횟수가 메트릭으로 기록되어야 한다.
      */
     @Test
-    public void flushOtherLogs_shouldFlushEachCrudCodeWithOtherThreshold() {
-        scheduler.flushOtherLogs();
+    public void evaluateFlush_shouldRecordEvaluationMetrics() {
+        when(flushController.evaluate())
+                .thenReturn(ActionLogFlushController.FlushDecision.IDLE)
+                .thenThrow(new IllegalStateException("db down"));
 
-        verify(flusher).flushByCrudCode(CrudCode.C, 10);
-        verify(flusher).flushByCrudCode(CrudCode.U, 10);
-        verify(flusher).flushByCrudCode(CrudCode.D, 10);
-        verify(flusher).flushByCrudCode(CrudCode.X, 10);
-    }
+        scheduler.evaluateFlush();
+        assertThatThrownBy(() -> scheduler.evaluateFlush()).isInstanceOf(IllegalStateException.class);
 
-    /**
-     * GIVEN: 전체 로그 강제 배출 스케줄이 실행될 때
-     * WHEN: flushAllLogsForcefully()가 호출되면
-     * THEN: flusher.flushAll() 이 호출되어야 한다.
-     */
-    @Test
-    public void flushAllLogsForcefully_shouldCallFlusherFlushAll() {
-        scheduler.flushAllLogsForcefully();
-        verify(flusher).flushAll();
+        assertThat(meterRegistry.get("action.log.scheduler.evaluate").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("action.log.scheduler.failures").counter().count()).isEqualTo(1);
     }
 
 }
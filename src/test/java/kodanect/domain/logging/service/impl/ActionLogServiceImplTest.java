@@ -1,15 +1,31 @@
 package kodanect.domain.logging.service.impl;
 
-import kodanect.common.buffer.BackendLogBuffer;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kodanect.common.buffer.FrontendLogBuffer;
-import kodanect.common.buffer.SystemInfoBuffer;
+import kodanect.common.config.properties.ActionLogProperties;
 import kodanect.domain.logging.dto.FrontendLogDto;
+import kodanect.domain.logging.exception.ActionLogBufferSaturatedException;
+import kodanect.domain.logging.exception.EmptyFrontendLogListException;
+import kodanect.domain.logging.exception.InvalidFrontendLogStreamException;
+import kodanect.domain.logging.ingest.ActionLogIngestEvent;
+import kodanect.domain.logging.ingest.ActionLogIngestQueue;
+import kodanect.domain.logging.ingest.FrontendLogBatchDeduplicator;
+import kodanect.domain.logging.ingest.FrontendLogStreamReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.Before;
 import org.junit.Test;
 import org.slf4j.MDC;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 /**
@@ -20,9 +36,12 @@ import static org.mockito.Mockito.*;
  */
 public class ActionLogServiceImplTest {
 
+    private static final String LOGS_JSON = "{\"frontendLogs\":["
+            + "{\"eventType\":\"clickButton\",\"pageUrl\":\"/a\"},"
+            + "{\"eventType\":\"clickMenu\",\"pageUrl\":\"/b\"}]}";
+
     private FrontendLogBuffer frontendLogBuffer;
-    private BackendLogBuffer backendLogBuffer;
-    private SystemInfoBuffer systemInfoBuffer;
+    private ActionLogIngestQueue ingestQueue;
 
     private ActionLogServiceImpl service;
 
@@ -32,10 +51,9 @@ public class ActionLogServiceImplTest {
     @Before
     public void setUp() {
         frontendLogBuffer = mock(FrontendLogBuffer.class);
-        backendLogBuffer = mock(BackendLogBuffer.class);
-        systemInfoBuffer = mock(SystemInfoBuffer.class);
+        ingestQueue = mock(ActionLogIngestQueue.class);
 
-        service = new ActionLogServiceImpl(frontendLogBuffer, backendLogBuffer, systemInfoBuffer);
+        service = createService(new ActionLogProperties());
     }
 
     /**
@@ -58,10 +76,185 @@ public class ActionLogServiceImplTest {
         verify(frontendLogBuffer).add(sessionId, logs);
     }
 
+    /**
+     * GIVEN: 프론트엔드 로그 버퍼가 포화되어 일부 로그가 거부될 때
+     * WHEN: saveFrontendLog()를 호출하면
+     * THEN: 재시도 대기 시간을 담은 ActionLogBufferSaturatedException이 발생해야 한다.
+     */
+    @Test
+    public void saveFrontendLog_shouldThrowWhenBufferIsSaturated() {
+        MDC.put("sessionId", "session-123");
+
+        List<FrontendLogDto> logs = List.of(
+                FrontendLogDto.builder().eventType("clickButton").build()
+        );
+        when(frontendLogBuffer.add("session-123", logs)).thenReturn(1);
+
+        assertThatThrownBy(() -> service.saveFrontendLog(logs))
+                .isInstanceOf(ActionLogBufferSaturatedException.class)
+                .extracting("retryAfterSeconds")
+                .isEqualTo(30);
+    }
+
+    /**
+     * GIVEN: 프론트엔드 로그 2건이 담긴 JSON 요청 본문이 주어졌을 때
+     * WHEN: Content-Encoding 없이 saveFrontendLogStream()을 호출하면
+     * THEN: 읽은 로그가 버퍼에 전달되고 읽은 건수가 반환되어야 한다.
+     */
+    @Test
+    public void saveFrontendLogStream_shouldDelegateChunksToBuffer() {
+        MDC.put("sessionId", "session-123");
+
+        int count = service.saveFrontendLogStream(body(LOGS_JSON), null, null);
+
+        assertThat(count).isEqualTo(2);
+        verify(frontendLogBuffer).add(eq("session-123"), argThat(logs -> logs.size() == 2
+                && "clickButton".equals(logs.get(0).getEventType())
+                && "clickMenu".equals(logs.get(1).getEventType())));
+    }
+
+    /**
+     * GIVEN: gzip으로 압축된 JSON 요청 본문이 주어졌을 때
+     * WHEN: Content-Encoding을 gzip으로 saveFrontendLogStream()을 호출하면
+     * THEN: 압축을 풀어 읽은 로그가 버퍼에 전달되어야 한다.
+     */
+    @Test
+    public void saveFrontendLogStream_shouldDecompressGzipBody() throws IOException {
+        MDC.put("sessionId", "session-123");
+
+        int count = service.saveFrontendLogStream(gzip(LOGS_JSON), "gzip", null);
+
+        assertThat(count).isEqualTo(2);
+        verify(frontendLogBuffer).add(eq("session-123"), argThat(logs -> logs.size() == 2));
+    }
+
+    /**
+     * GIVEN: 로그 목록이 비어 있는 요청 본문이 주어졌을 때
+     * WHEN: saveFrontendLogStream()을 호출하면
+     * THEN: EmptyFrontendLogListException이 발생하고 버퍼에는 전달되지 않아야 한다.
+     */
+    @Test
+    public void saveFrontendLogStream_shouldThrowWhenNoLogs() {
+        assertThatThrownBy(() -> service.saveFrontendLogStream(body("{\"frontendLogs\":[]}"), null, null))
+                .isInstanceOf(EmptyFrontendLogListException.class);
+
+        verifyNoInteractions(frontendLogBuffer);
+    }
+
+    /**
+     * GIVEN: JSON 형식이 깨진 요청 본문이 주어졌을 때
+     * WHEN: saveFrontendLogStream()을 호출하면
+     * THEN: InvalidFrontendLogStreamException이 발생해야 한다.
+     */
+    @Test
+    public void saveFrontendLogStream_shouldThrowWhenBodyIsMalformed() {
+        assertThatThrownBy(() -> service.saveFrontendLogStream(body("{\"frontendLogs\":[{"), null, null))
+                .isInstanceOf(InvalidFrontendLogStreamException.class);
+    }
+
+    /**
+     * GIVEN: 지원하지 않는 Content-Encoding이 주어졌을 때
+     * WHEN: saveFrontendLogStream()을 호출하면
+     * THEN: InvalidFrontendLogStreamException이 발생해야 한다.
+     */
+    @Test
+    public void saveFrontendLogStream_shouldThrowWhenEncodingIsUnsupported() {
+        assertThatThrownBy(() -> service.saveFrontendLogStream(body(LOGS_JSON), "br", null))
+                .isInstanceOf(InvalidFrontendLogStreamException.class);
+    }
+
+    /**
+     * GIVEN: 같은 세션에서 같은 묶음 번호로 요청 본문이 두 번 전달되었을 때
+     * WHEN: saveFrontendLogStream()을 두 번 호출하면
+     * THEN: 두 번째 요청은 0을 반환하고 버퍼에는 한 번만 전달되어야 한다.
+     */
+    @Test
+    public void saveFrontendLogStream_shouldSkipDuplicateBatch() {
+        MDC.put("sessionId", "session-123");
+
+        int first = service.saveFrontendLogStream(body(LOGS_JSON), null, 3L);
+        int second = service.saveFrontendLogStream(body(LOGS_JSON), null, 3L);
+
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isZero();
+        verify(frontendLogBuffer, times(1)).add(eq("session-123"), anyList());
+    }
+
+    /**
+     * GIVEN: 버퍼 포화로 묶음 저장이 실패했을 때
+     * WHEN: 같은 묶음 번호로 다시 saveFrontendLogStream()을 호출하면
+     * THEN: 중복으로 걸러지지 않고 다시 버퍼에 전달되어야 한다.
+     */
+    @Test
+    public void saveFrontendLogStream_shouldAcceptRetryAfterFailure() {
+        MDC.put("sessionId", "session-123");
+        when(frontendLogBuffer.add(eq("session-123"), anyList())).thenReturn(2).thenReturn(0);
+
+        assertThatThrownBy(() -> service.saveFrontendLogStream(body(LOGS_JSON), null, 5L))
+                .isInstanceOf(ActionLogBufferSaturatedException.class);
+        int count = service.saveFrontendLogStream(body(LOGS_JSON), null, 5L);
+
+        assertThat(count).isEqualTo(2);
+        verify(frontendLogBuffer, times(2)).add(eq("session-123"), anyList());
+    }
+
+    /**
+     * GIVEN: 앞부분 로그는 정상이고 뒤에서 JSON 형식이 깨진 요청 본문이 주어졌을 때 (묶음 크기 1)
+     * WHEN: saveFrontendLogStream()을 호출한 뒤 같은 묶음 번호로 정상 본문을 재전송하면
+     * THEN: 거부된 요청의 로그는 한 건도 버퍼에 전달되지 않고, 재전송은 받아들여져야 한다.
+     */
+    @Test
+    public void saveFrontendLogStream_shouldNotBufferAnyChunkOfRejectedBody() {
+        MDC.put("sessionId", "session-123");
+        ActionLogServiceImpl chunked = createService(chunkSizeOne());
+        String brokenTail = "{\"frontendLogs\":["
+                + "{\"eventType\":\"clickButton\",\"pageUrl\":\"/a\"},"
+                + "{\"eventType\":\"clickMenu\",\"pageUrl\":\"/b\"},{";
+
+        assertThatThrownBy(() -> chunked.saveFrontendLogStream(body(brokenTail), null, 7L))
+                .isInstanceOf(InvalidFrontendLogStreamException.class);
+        verifyNoInteractions(frontendLogBuffer);
+
+        int count = chunked.saveFrontendLogStream(body(LOGS_JSON), null, 7L);
+
+        assertThat(count).isEqualTo(2);
+        verify(frontendLogBuffer, times(2)).add(eq("session-123"), anyList());
+    }
+
+    /**
+     * GIVEN: 첫 묶음은 적재되고 두 번째 묶음이 버퍼 포화로 거부될 때 (묶음 크기 1)
+     * WHEN: saveFrontendLogStream()을 호출한 뒤 같은 묶음 번호로 재전송하면
+     * THEN: 첫 요청은 포화 예외가 발생하고, 재전송은 이미 일부 적재된 묶음이므로 중복으로 걸러져야 한다.
+     */
+    @Test
+    public void saveFrontendLogStream_afterPartialSaturation_shouldKeepBatchToAvoidDuplicates() {
+        MDC.put("sessionId", "session-123");
+        ActionLogServiceImpl chunked = createService(chunkSizeOne());
+        when(frontendLogBuffer.add(eq("session-123"), anyList())).thenReturn(0).thenReturn(1);
+
+        assertThatThrownBy(() -> chunked.saveFrontendLogStream(body(LOGS_JSON), null, 9L))
+                .isInstanceOf(ActionLogBufferSaturatedException.class);
+        int retry = chunked.saveFrontendLogStream(body(LOGS_JSON), null, 9L);
+
+        assertThat(retry).isZero();
+        verify(frontendLogBuffer, times(2)).add(eq("session-123"), anyList());
+    }
+
+    /**
+     * GIVEN: 음수 묶음 번호가 주어졌을 때
+     * WHEN: saveFrontendLogStream()을 호출하면
+     * THEN: InvalidFrontendLogStreamException이 발생해야 한다.
+     */
+    @Test
+    public void saveFrontendLogStream_shouldRejectNegativeBatchSeq() {
+        assertThatThrownBy(() -> service.saveFrontendLogStream(body(LOGS_JSON), null, -1L))
+                .isInstanceOf(InvalidFrontendLogStreamException.class);
+    }
+
     /**
      * GIVEN: MDC에 백엔드 로그 관련 정보가 채워져 있을 때
      * WHEN: saveBackendLog()를 호출하면
-     * THEN: BackendLogBuffer에 해당 로그가 저장되어야 한다.
+     * THEN: 해당 로그를 담은 백엔드 로그 이벤트가 적재 큐에 전달되어야 한다.
      */
     @Test
     public void saveBackendLog_shouldExtractFromMdcAndStore() {
@@ -77,20 +270,22 @@ public class ActionLogServiceImplTest {
 
         service.saveBackendLog();
 
-        verify(backendLogBuffer).add(eq(sessionId), argThat(log ->
-                "POST".equals(log.getHttpMethod()) &&
-                        "/api/test".equals(log.getEndpoint()) &&
-                        "TestController".equals(log.getController()) &&
-                        "testMethod".equals(log.getMethod()) &&
-                        "{\"id\":1}".equals(log.getParameters()) &&
-                        "2025-06-16T00:00:00Z".equals(log.getTimestamp())
+        verify(ingestQueue).offer(argThat(event ->
+                event.getType() == ActionLogIngestEvent.Type.BACKEND_LOG &&
+                        sessionId.equals(event.getSessionId()) &&
+                        "POST".equals(event.getBackendLog().getHttpMethod()) &&
+                        "/api/test".equals(event.getBackendLog().getEndpoint()) &&
+                        "TestController".equals(event.getBackendLog().getController()) &&
+                        "testMethod".equals(event.getBackendLog().getMethod()) &&
+                        "{\"id\":1}".equals(event.getBackendLog().getParameters()) &&
+                        "2025-06-16T00:00:00Z".equals(event.getBackendLog().getTimestamp())
         ));
     }
 
     /**
      * GIVEN: MDC에 시스템 정보가 채워져 있을 때
      * WHEN: saveSystemInfo()를 호출하면
-     * THEN: SystemInfoBuffer에 해당 정보가 저장되어야 한다
+     * THEN: 해당 정보를 담은 시스템 정보 이벤트가 적재 큐에 전달되어야 한다
      */
     @Test
     public void saveSystemInfo_shouldExtractFromMdcAndStore() {
@@ -105,13 +300,39 @@ public class ActionLogServiceImplTest {
 
         service.saveSystemInfo();
 
-        verify(systemInfoBuffer).add(eq(sessionId), argThat(info ->
-                "Chrome".equals(info.getBrowserName()) &&
-                        "114.0".equals(info.getBrowserVersion()) &&
-                        "Mac OS".equals(info.getOperatingSystem()) &&
-                        "Computer".equals(info.getDevice()) &&
-                        "ko-KR".equals(info.getLocale())
+        verify(ingestQueue).offer(argThat(event ->
+                event.getType() == ActionLogIngestEvent.Type.SYSTEM_INFO &&
+                        sessionId.equals(event.getSessionId()) &&
+                        "Chrome".equals(event.getSystemInfo().getBrowserName()) &&
+                        "114.0".equals(event.getSystemInfo().getBrowserVersion()) &&
+                        "Mac OS".equals(event.getSystemInfo().getOperatingSystem()) &&
+                        "Computer".equals(event.getSystemInfo().getDevice()) &&
+                        "ko-KR".equals(event.getSystemInfo().getLocale())
         ));
     }
 
+    private ActionLogServiceImpl createService(ActionLogProperties properties) {
+        return new ActionLogServiceImpl(frontendLogBuffer, ingestQueue, properties,
+                new FrontendLogStreamReader(new ObjectMapper(), properties),
+                new FrontendLogBatchDeduplicator(properties, new SimpleMeterRegistry()));
+    }
+
+    private static ActionLogProperties chunkSizeOne() {
+        ActionLogProperties properties = new ActionLogProperties();
+        properties.getCollect().setChunkSize(1);
+        return properties;
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static InputStream gzip(String json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json.getBytes(StandardCharsets.UTF_8));
+        }
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
 }
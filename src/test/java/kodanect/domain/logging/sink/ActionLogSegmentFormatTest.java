@@ -0,0 +1,92 @@
+package kodanect.domain.logging.sink;
+
+import kodanect.domain.logging.entity.ActionLog;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link ActionLogSegmentFormat}의 세그먼트 기록/읽기와 컬럼 인코딩을 검증하는 단위 테스트입니다.
+ */
+public class ActionLogSegmentFormatTest {
+
+    private static final LocalDateTime WRITE_TIME = LocalDateTime.of(2025, 6, 16, 12, 0, 0);
+
+    /**
+     * GIVEN: null 값과 생성 일시가 있는/없는 로그가 섞여 있을 때
+     * WHEN: 세그먼트로 기록한 뒤 다시 읽으면
+     * THEN: 모든 컬럼 값이 그대로 복원되고, 생성 일시가 없던 행은 기록 시각을 가져야 한다.
+     */
+    @Test
+    public void writeAndRead_shouldRoundTripAllColumns() throws IOException {
+        LocalDateTime earlier = WRITE_TIME.minusSeconds(90);
+        List<ActionLog> logs = List.of(
+                ActionLog.builder().urlName("/memorial").crudCode("R").ipAddr("127.0.0.1").logText("{\"a\":1}").build(),
+                ActionLog.builder().urlName("/letter").crudCode("C").ipAddr(null).logText("z1:abc").writeTime(earlier).build(),
+                ActionLog.builder().urlName("/memorial").crudCode("R").ipAddr("127.0.0.1").logText("한글 본문").build()
+        );
+
+        List<ActionLog> restored = roundTrip(logs);
+
+        assertThat(restored).hasSize(3);
+        assertThat(restored).extracting(ActionLog::getUrlName).containsExactly("/memorial", "/letter", "/memorial");
+        assertThat(restored).extracting(ActionLog::getCrudCode).containsExactly("R", "C", "R");
+        assertThat(restored).extracting(ActionLog::getIpAddr).containsExactly("127.0.0.1", null, "127.0.0.1");
+        assertThat(restored).extracting(ActionLog::getLogText).containsExactly("{\"a\":1}", "z1:abc", "한글 본문");
+        assertThat(restored).extracting(ActionLog::getWriteTime).containsExactly(WRITE_TIME, earlier, WRITE_TIME);
+    }
+
+    /**
+     * GIVEN: CRUD 코드는 반복되고 로그 본문은 모두 다른 로그가 많을 때
+     * WHEN: 세그먼트로 기록하면
+     * THEN: 반복 컬럼은 사전 인코딩되어, 같은 로그를 모두 원문으로 기록한 경우보다 작아야 한다.
+     */
+    @Test
+    public void write_shouldDictionaryEncodeRepeatedColumns() throws IOException {
+        List<ActionLog> logs = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            logs.add(ActionLog.builder()
+                    .urlName("/remembrance/letters/" + (i % 10))
+                    .crudCode(i % 2 == 0 ? "R" : "C")
+                    .ipAddr("203.0.113." + (i % 5))
+                    .logText("{\"seq\":" + i + "}")
+                    .build());
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ActionLogSegmentFormat.write(out, logs, WRITE_TIME);
+
+        long plainBytes = logs.stream()
+                .mapToLong(log -> log.getUrlName().length() + log.getCrudCode().length()
+                        + log.getIpAddr().length() + log.getLogText().length() + Long.BYTES)
+                .sum();
+        assertThat(out.size()).isLessThan((int) (plainBytes / 2));
+        assertThat(ActionLogSegmentFormat.read(new ByteArrayInputStream(out.toByteArray()))).hasSize(1000);
+    }
+
+    /**
+     * GIVEN: 세그먼트 형식이 아닌 데이터가 주어졌을 때
+     * WHEN: 세그먼트를 읽으면
+     * THEN: IOException이 발생해야 한다.
+     */
+    @Test
+    public void read_shouldRejectUnknownFormat() {
+        assertThatThrownBy(() -> ActionLogSegmentFormat.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})))
+                .isInstanceOf(IOException.class);
+    }
+
+    private List<ActionLog> roundTrip(List<ActionLog> logs) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ActionLogSegmentFormat.write(out, logs, WRITE_TIME);
+        return ActionLogSegmentFormat.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+}
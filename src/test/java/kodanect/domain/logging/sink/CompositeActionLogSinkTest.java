@@ -0,0 +1,102 @@
+package kodanect.domain.logging.sink;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.domain.logging.entity.ActionLog;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link CompositeActionLogSink}의 fan-out 기록과 실패 처리를 검증하는 단위 테스트입니다.
+ */
+public class CompositeActionLogSinkTest {
+
+    private ActionLogSink jdbcSink;
+    private ActionLogSink fileSink;
+    private MeterRegistry meterRegistry;
+
+    private final List<ActionLog> logs = List.of(ActionLog.builder().urlName("/a").crudCode("R").build());
+
+    /**
+     * 테스트 실행 전 하위 싱크를 Mock으로 생성합니다.
+     */
+    @Before
+    public void setUp() {
+        jdbcSink = mock(ActionLogSink.class);
+        fileSink = mock(ActionLogSink.class);
+        when(jdbcSink.name()).thenReturn("jdbc");
+        when(fileSink.name()).thenReturn("ndjson");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    /**
+     * GIVEN: 두 개의 싱크가 구성되어 있을 때
+     * WHEN: 로그를 기록하면
+     * THEN: 두 싱크 모두에 같은 로그가 기록되고 싱크별 기록 시간이 측정되어야 한다.
+     */
+    @Test
+    public void write_shouldFanOutToAllSinks() {
+        CompositeActionLogSink sink = new CompositeActionLogSink(List.of(jdbcSink, fileSink), meterRegistry);
+
+        int written = sink.write(logs);
+
+        assertThat(written).isEqualTo(1);
+        verify(jdbcSink).write(logs);
+        verify(fileSink).write(logs);
+        assertThat(meterRegistry.get("action.log.sink.write").tag("sink", "ndjson").timer().count()).isEqualTo(1);
+    }
+
+    /**
+     * GIVEN: 주 싱크(첫 번째 싱크)가 실패할 때
+     * WHEN: 로그를 기록하면
+     * THEN: 예외를 다시 던지고 실패 건수를 기록하며, 보조 싱크에는 기록하지 않아야 한다.
+     */
+    @Test
+    public void write_whenPrimaryFails_shouldRethrowWithoutWritingSecondarySinks() {
+        when(jdbcSink.write(logs)).thenThrow(new IllegalStateException("db down"));
+        CompositeActionLogSink sink = new CompositeActionLogSink(List.of(jdbcSink, fileSink), meterRegistry);
+
+        assertThatThrownBy(() -> sink.write(logs))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("db down");
+
+        verify(fileSink, never()).write(logs);
+        assertThat(meterRegistry.get("action.log.sink.failures").tag("sink", "jdbc").counter().count()).isEqualTo(1);
+    }
+
+    /**
+     * GIVEN: 주 싱크는 성공하고 보조 싱크가 실패할 때
+     * WHEN: 로그를 기록하면
+     * THEN: 예외 없이 기록한 건수를 반환하고, 보조 싱크의 실패 건수만 기록되어야 한다.
+     */
+    @Test
+    public void write_whenSecondaryFails_shouldNotFailWrite() {
+        when(fileSink.write(logs)).thenThrow(new IllegalStateException("disk full"));
+        CompositeActionLogSink sink = new CompositeActionLogSink(List.of(jdbcSink, fileSink), meterRegistry);
+
+        int written = sink.write(logs);
+
+        assertThat(written).isEqualTo(1);
+        verify(jdbcSink, times(1)).write(logs);
+        assertThat(meterRegistry.get("action.log.sink.failures").tag("sink", "ndjson").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("action.log.sink.failures").tag("sink", "jdbc").counter().count()).isZero();
+    }
+
+    /**
+     * GIVEN: 싱크 목록이 비어 있을 때
+     * WHEN: 싱크를 생성하면
+     * THEN: IllegalArgumentException이 발생해야 한다.
+     */
+    @Test
+    public void constructor_shouldRejectEmptySinks() {
+        assertThatThrownBy(() -> new CompositeActionLogSink(List.of(), meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
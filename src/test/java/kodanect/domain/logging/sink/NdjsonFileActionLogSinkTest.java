@@ -0,0 +1,168 @@
+package kodanect.domain.logging.sink;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kodanect.common.config.properties.ActionLogProperties;
+import kodanect.domain.logging.entity.ActionLog;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link NdjsonFileActionLogSink}의 NDJSON 기록과 파일 교체 동작을 검증하는 단위 테스트입니다.
+ */
+public class NdjsonFileActionLogSinkTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ActionLogProperties properties;
+    private MutableClock clock;
+
+    /**
+     * 테스트 실행 전 임시 디렉터리를 사용하는 싱크 설정을 준비합니다.
+     */
+    @Before
+    public void setUp() {
+        properties = new ActionLogProperties();
+        properties.getSink().getNdjson().setDirectory(folder.getRoot().getAbsolutePath());
+        clock = new MutableClock(Instant.parse("2025-06-16T03:00:00Z"));
+    }
+
+    /**
+     * GIVEN: 로그 2건을 기록했을 때
+     * WHEN: 싱크를 닫으면
+     * THEN: 완성된 gzip 파일 하나에 한 줄에 하나씩 JSON 객체가 기록되어 있어야 한다.
+     */
+    @Test
+    public void write_shouldAppendGzipNdjsonLines() throws IOException {
+        NdjsonFileActionLogSink sink = new NdjsonFileActionLogSink(properties, clock);
+
+        sink.write(List.of(log("/a"), log("/b")));
+        sink.close();
+
+        List<Path> files = completedFiles();
+        assertThat(files).hasSize(1);
+
+        List<JsonNode> rows = readRows(files.get(0));
+        assertThat(rows).extracting(row -> row.get("urlName").asText()).containsExactly("/a", "/b");
+        assertThat(rows.get(0).get("crudCode").asText()).isEqualTo("R");
+        assertThat(rows.get(0).get("writeTime").asText()).isEqualTo("2025-06-16T03:00");
+    }
+
+    /**
+     * GIVEN: 파일 최대 크기가 작게 설정되어 있을 때
+     * WHEN: 여러 번 기록하면
+     * THEN: 크기를 넘길 때마다 새 파일로 교체되어야 한다.
+     */
+    @Test
+    public void write_shouldRollFileWhenSizeExceeded() throws IOException {
+        properties.getSink().getNdjson().setMaxFileBytes(1);
+        NdjsonFileActionLogSink sink = new NdjsonFileActionLogSink(properties, clock);
+
+        sink.write(List.of(log("/a")));
+        sink.write(List.of(log("/b")));
+        sink.write(List.of(log("/c")));
+        sink.close();
+
+        assertThat(completedFiles()).hasSize(3);
+    }
+
+    /**
+     * GIVEN: 파일 교체 주기가 지났을 때
+     * WHEN: 다음 배치를 기록하면
+     * THEN: 이전 파일이 완성되고 새 파일에 기록되어야 한다.
+     */
+    @Test
+    public void write_shouldRollFileWhenIntervalElapsed() throws IOException {
+        properties.getSink().getNdjson().setRollInterval(Duration.ofMinutes(10));
+        NdjsonFileActionLogSink sink = new NdjsonFileActionLogSink(properties, clock);
+
+        sink.write(List.of(log("/a")));
+        clock.advance(Duration.ofMinutes(11));
+        sink.write(List.of(log("/b")));
+
+        assertThat(completedFiles()).hasSize(1);
+
+        sink.close();
+        assertThat(completedFiles()).hasSize(2);
+    }
+
+    private ActionLog log(String urlName) {
+        return ActionLog.builder().urlName(urlName).crudCode("R").ipAddr("127.0.0.1").logText("{}").build();
+    }
+
+    private List<Path> completedFiles() throws IOException {
+        try (Stream<Path> files = Files.list(folder.getRoot().toPath())) {
+            return files.filter(path -> path.getFileName().toString().endsWith(NdjsonFileActionLogSink.FILE_SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private List<JsonNode> readRows(Path file) throws IOException {
+        List<JsonNode> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                rows.add(objectMapper.readTree(line));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 테스트에서 시간을 직접 진행시키는 시계
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+}
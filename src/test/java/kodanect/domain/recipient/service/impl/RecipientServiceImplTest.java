@@ -1,6 +1,7 @@
 package kodanect.domain.recipient.service.impl;
 
 import kodanect.common.config.properties.GlobalsProperties;
+import kodanect.common.readcount.ReadCountAggregator;
 import kodanect.domain.recipient.dto.RecipientDetailResponseDto;
 import kodanect.domain.recipient.dto.RecipientRequestDto;
 import kodanect.domain.recipient.entity.RecipientCommentEntity;
@@ -47,6 +48,9 @@ public class RecipientServiceImplTest {
     @Mock
     private GlobalsProperties globalsProperties;
 
+    @Mock
+    private ReadCountAggregator readCountAggregator;
+
     private RecipientServiceImpl recipientService;
 
     private Path tempUploadDir;
@@ -69,6 +73,7 @@ public class RecipientServiceImplTest {
                 recipientRepository,
                 recipientCommentRepository,
                 globalsProperties,
+                readCountAggregator,
                 ORGAN_CODE_DIRECT_INPUT,
                 ANONYMOUS_WRITER_VALUE
         );
@@ -9,6 +9,7 @@ import kodanect.domain.remembrance.dto.MemorialCommentResponse;
 import kodanect.domain.remembrance.dto.MemorialCommentUpdateRequest;
 import kodanect.domain.remembrance.entity.Memorial;
 import kodanect.domain.remembrance.entity.MemorialComment;
+import kodanect.domain.remembrance.exception.CommentAlreadyDeleteException;
 import kodanect.domain.remembrance.repository.MemorialCommentRepository;
 import kodanect.domain.remembrance.service.impl.MemorialCommentServiceImpl;
 import org.junit.Test;
@@ -24,6 +25,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -90,6 +92,7 @@ public class MemorialCommentServiceImplTest {
 
         when(memorialFinder.findByIdOrThrow(donateSeq)).thenReturn(mock(Memorial.class));
         when(memorialCommentFinder.findByIdOrThrow(commentSeq)).thenReturn(mockComment);
+        when(memorialCommentRepository.updateCommentContents(commentSeq, "수정 내용", "홍길동")).thenReturn(1);
 
         memorialCommentService.updateComment(donateSeq, commentSeq, request);
 
@@ -118,12 +121,71 @@ public class MemorialCommentServiceImplTest {
 
         when(memorialFinder.findByIdOrThrow(donateSeq)).thenReturn(mock(Memorial.class));
         when(memorialCommentFinder.findByIdOrThrow(commentSeq)).thenReturn(mockComment);
-        when(memorialCommentRepository.save(any(MemorialComment.class))).thenReturn(null);
+        when(memorialCommentRepository.softDeleteComment(commentSeq)).thenReturn(1);
 
         memorialCommentService.deleteComment(donateSeq, commentSeq, request);
 
-        assertEquals("Y", mockComment.getDelFlag());
-        verify(memorialCommentRepository, times(1)).save(mockComment);
+        verify(memorialCommentRepository, times(1)).softDeleteComment(commentSeq);
+        verify(memorialCommentRepository, never()).save(any(MemorialComment.class));
+    }
+
+    @Test
+    @DisplayName("추모관 댓글 동시 삭제")
+    public void 추모관_댓글_동시_삭제() {
+
+        Integer donateSeq = 1;
+        Integer commentSeq = 1;
+
+        MemorialCommentPasswordRequest request =
+                MemorialCommentPasswordRequest
+                        .builder()
+                        .commentPasscode("1234")
+                        .build();
+
+        MemorialComment mockComment = MemorialComment.builder()
+                .commentSeq(commentSeq)
+                .donateSeq(donateSeq)
+                .commentPasscode("1234")
+                .delFlag("N")
+                .build();
+
+        /* 조회 시점에는 삭제되지 않았지만, 다른 요청이 먼저 삭제하여 조건부 UPDATE 가 0건 */
+        when(memorialFinder.findByIdOrThrow(donateSeq)).thenReturn(mock(Memorial.class));
+        when(memorialCommentFinder.findByIdOrThrow(commentSeq)).thenReturn(mockComment);
+        when(memorialCommentRepository.softDeleteComment(commentSeq)).thenReturn(0);
+
+        assertThrows(CommentAlreadyDeleteException.class,
+                () -> memorialCommentService.deleteComment(donateSeq, commentSeq, request));
+    }
+
+    @Test
+    @DisplayName("추모관 삭제된 댓글 동시 수정")
+    public void 추모관_삭제된_댓글_동시_수정() {
+
+        Integer donateSeq = 1;
+        Integer commentSeq = 1;
+
+        MemorialCommentUpdateRequest request =
+                MemorialCommentUpdateRequest
+                        .builder()
+                        .commentWriter("홍길동")
+                        .contents("수정 내용")
+                        .build();
+
+        MemorialComment mockComment = MemorialComment.builder()
+                .commentSeq(commentSeq)
+                .donateSeq(donateSeq)
+                .commentPasscode("1234")
+                .delFlag("N")
+                .build();
+
+        /* 조회 이후 다른 요청이 먼저 삭제하여 조건부 UPDATE 가 0건 */
+        when(memorialFinder.findByIdOrThrow(donateSeq)).thenReturn(mock(Memorial.class));
+        when(memorialCommentFinder.findByIdOrThrow(commentSeq)).thenReturn(mockComment);
+        when(memorialCommentRepository.updateCommentContents(commentSeq, "수정 내용", "홍길동")).thenReturn(0);
+
+        assertThrows(CommentAlreadyDeleteException.class,
+                () -> memorialCommentService.updateComment(donateSeq, commentSeq, request));
     }
 
     @Test
@@ -0,0 +1,451 @@
+package kodanect.domain.remembrance.service;
+
+import config.TestConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.response.CursorCommentCountPaginationResponse;
+import kodanect.common.response.CursorPaginationResponse;
+import kodanect.common.util.MemorialCommentFinder;
+import kodanect.common.util.MemorialFinder;
+import kodanect.domain.heaven.dto.response.MemorialHeavenResponse;
+import kodanect.domain.heaven.service.HeavenService;
+import kodanect.domain.remembrance.dto.MemorialCommentCreateRequest;
+import kodanect.domain.remembrance.dto.MemorialCommentPasswordRequest;
+import kodanect.domain.remembrance.dto.MemorialCommentResponse;
+import kodanect.domain.remembrance.dto.MemorialCommentUpdateRequest;
+import kodanect.domain.remembrance.dto.MemorialDetailResponse;
+import kodanect.domain.remembrance.entity.Memorial;
+import kodanect.domain.remembrance.entity.MemorialComment;
+import kodanect.domain.remembrance.exception.CommentAlreadyDeleteException;
+import kodanect.domain.remembrance.repository.MemorialCommentRepository;
+import kodanect.domain.remembrance.repository.MemorialEmotionCountRepository;
+import kodanect.domain.remembrance.repository.MemorialRepository;
+import kodanect.domain.remembrance.service.impl.MemorialCommentServiceImpl;
+import kodanect.domain.remembrance.service.impl.MemorialEmotionAggregator;
+import kodanect.domain.remembrance.service.impl.MemorialServiceImpl;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * 추모관 상세 조회와 댓글 작성, 수정, 삭제가 섞인 부하에서 동시성 처리 방식을 검증하는 스트레스 테스트입니다.
+ *
+ * 댓글은 H2 테이블에 저장하여 조건부 UPDATE(del_flag = 'N' 인 행만 변경)의 행 수를 실제 DB 잠금으로 확인합니다.
+ * 테스트 트랜잭션을 쓰지 않고 서비스 호출마다 트랜잭션을 커밋하므로, 각 스레드가 서로의 변경을 볼 수 있습니다.
+ * 게시글과 하늘나라 편지 조회는 지연 없는 Mock 으로 대체합니다.
+ * - 동시 삭제, 수정/삭제 경합 검증은 기본 테스트에서 실행됩니다.
+ * - 처리량 비교는 교체 전 방식(게시글별 ReentrantReadWriteLock)과 락 없는 방식을 같은 부하로 측정하며,
+ *   실행 시간이 길어 기본 테스트에서는 제외됩니다. 다음과 같이 명시적으로 실행합니다.
+ *   {@code mvn test -Dtest=MemorialConcurrencyStressTest -Dbenchmark=true}
+ */
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class MemorialConcurrencyStressTest {
+
+    private static final int MEMORIALS = 4;
+    private static final int INITIAL_COMMENTS = 200;
+    private static final int THREADS = 16;
+    private static final int OPERATIONS = 4_000;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURE_ROUNDS = 3;
+    private static final String PASSCODE = "1234asdf";
+
+    @Autowired
+    private MemorialCommentRepository memorialCommentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private List<Integer> commentSeqs;
+    private Map<Integer, Integer> commentDonateSeqs;
+    private MemorialService memorialService;
+    private MemorialCommentService memorialCommentService;
+
+    @Before
+    public void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        memorialCommentRepository.deleteAllInBatch();
+
+        MemorialFinder memorialFinder = new MemorialFinder(stubMemorialRepository());
+        memorialCommentService = new MemorialCommentServiceImpl(
+                memorialCommentRepository, memorialFinder, new MemorialCommentFinder(memorialCommentRepository));
+
+        MemorialEmotionAggregator aggregator = new MemorialEmotionAggregator(
+                mock(MemorialEmotionCountRepository.class, withSettings().stubOnly()), new SimpleMeterRegistry());
+        memorialService = new MemorialServiceImpl(
+                mock(MemorialRepository.class, withSettings().stubOnly()),
+                memorialCommentService, memorialFinder, emptyHeavenService(), aggregator);
+
+        for (int i = 0; i < INITIAL_COMMENTS; i++) {
+            int donateSeq = i % MEMORIALS + 1;
+            inTransaction(() -> memorialCommentService.createComment(donateSeq, createRequest("초기 댓글")));
+        }
+
+        List<MemorialComment> comments = memorialCommentRepository.findAll();
+        commentSeqs = comments.stream().map(MemorialComment::getCommentSeq).sorted().toList();
+        commentDonateSeqs = comments.stream()
+                .collect(Collectors.toMap(MemorialComment::getCommentSeq, MemorialComment::getDonateSeq));
+    }
+
+    /* 테스트 트랜잭션으로 롤백되지 않으므로 같은 컨텍스트를 쓰는 다른 테스트를 위해 직접 비운다. */
+    @After
+    public void tearDown() {
+        memorialCommentRepository.deleteAllInBatch();
+    }
+
+    /**
+     * Given: 여러 스레드가 같은 댓글을 동시에 삭제할 때
+     * When: 모두 deleteComment()를 호출하면
+     * Then: 정확히 한 요청만 성공하고, 나머지는 CommentAlreadyDeleteException을 받아야 한다.
+     */
+    @Test
+    public void deleteComment_concurrently_shouldSucceedOnce() throws Exception {
+        int commentSeq = commentSeqs.get(0);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger deleted = new AtomicInteger();
+        AtomicInteger alreadyDeleted = new AtomicInteger();
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        inTransaction(() -> memorialCommentService.deleteComment(
+                                commentDonateSeqs.get(commentSeq), commentSeq, passwordRequest()));
+                        deleted.incrementAndGet();
+                    } catch (CommentAlreadyDeleteException e) {
+                        alreadyDeleted.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(deleted.get()).isEqualTo(1);
+        assertThat(alreadyDeleted.get()).isEqualTo(THREADS - 1);
+        assertThat(memorialCommentRepository.findById(commentSeq)).get()
+                .extracting(MemorialComment::getDelFlag).isEqualTo("Y");
+    }
+
+    /**
+     * Given: 절반의 스레드는 같은 댓글을 수정하고, 나머지는 삭제할 때
+     * When: 트랜잭션마다 updateCommentContents(), softDeleteComment()를 동시에 실행하면
+     * Then: 삭제 행 수의 합은 1이고, 삭제가 커밋된 뒤 시작한 수정은 0행을 반환해야 한다.
+     */
+    @Test
+    public void conditionalUpdates_concurrently_shouldReturnRowCountsFromDatabase() throws Exception {
+        int commentSeq = commentSeqs.get(0);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger deletedRows = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                boolean delete = i % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    if (delete) {
+                        deletedRows.addAndGet(transaction.execute(
+                                status -> memorialCommentRepository.softDeleteComment(commentSeq)));
+                    } else {
+                        int updated = transaction.execute(
+                                status -> memorialCommentRepository.updateCommentContents(commentSeq, "수정 내용", "홍길동"));
+                        assertThat(updated).isBetween(0, 1);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(deletedRows.get()).isEqualTo(1);
+        assertThat(transaction.execute(status -> memorialCommentRepository.softDeleteComment(commentSeq))).isZero();
+        assertThat(transaction.execute(
+                status -> memorialCommentRepository.updateCommentContents(commentSeq, "늦은 수정", "홍길동"))).isZero();
+        assertThat(memorialCommentRepository.findById(commentSeq)).get()
+                .extracting(MemorialComment::getContents).isNotEqualTo("늦은 수정");
+    }
+
+    /**
+     * GIVEN: 상세 조회 70%, 댓글 작성 15%, 수정 10%, 삭제 5%가 4개 게시글에 몰리는 부하가 주어졌을 때
+     * WHEN: 게시글별 읽기/쓰기 락 방식과 락 없는 방식을 각각 워밍업 후 측정하면
+     * THEN: 두 방식의 초당 처리량을 출력하고, 락 없는 방식이 더 빠르면서 결과는 정확해야 한다.
+     */
+    @Test
+    public void compareLockCacheWithLockFree() throws Exception {
+        Assume.assumeTrue(Boolean.getBoolean("benchmark"));
+
+        double lockedOpsPerSecond = measure(new LegacyLockCache());
+        double lockFreeOpsPerSecond = measure(new LockFree());
+
+        System.out.printf("[추모관 동시성 스트레스] lock-cache=%.0f ops/sec, lock-free=%.0f ops/sec (x%.1f)%n",
+                lockedOpsPerSecond, lockFreeOpsPerSecond, lockFreeOpsPerSecond / lockedOpsPerSecond);
+
+        assertThat(lockFreeOpsPerSecond).isGreaterThan(lockedOpsPerSecond);
+    }
+
+    private double measure(Guard guard) throws Exception {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            setUp();
+            run(guard);
+        }
+
+        double best = 0;
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            setUp();
+            long start = System.nanoTime();
+            Outcome outcome = run(guard);
+            long elapsed = System.nanoTime() - start;
+
+            verifyOutcome(outcome);
+            best = Math.max(best, OPERATIONS / (elapsed / 1_000_000_000.0));
+        }
+        return best;
+    }
+
+    private Outcome run(Guard guard) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger remaining = new AtomicInteger(OPERATIONS);
+        Outcome outcome = new Outcome();
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    while (remaining.getAndDecrement() > 0) {
+                        execute(guard, outcome);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return outcome;
+    }
+
+    private void execute(Guard guard, Outcome outcome) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int donateSeq = random.nextInt(MEMORIALS) + 1;
+        int commentSeq = commentSeqs.get(random.nextInt(INITIAL_COMMENTS));
+        int dice = random.nextInt(100);
+
+        try {
+            if (dice < 70) {
+                MemorialDetailResponse detail = guard.read(donateSeq, () -> inTransaction(
+                        () -> memorialService.getMemorialByDonateSeq(donateSeq)));
+                assertThat(detail.getMemorialCommentResponses().getContent()).hasSizeLessThanOrEqualTo(3);
+            } else if (dice < 85) {
+                guard.write(donateSeq, () -> inTransaction(
+                        () -> memorialCommentService.createComment(donateSeq, createRequest("추가 댓글"))));
+                outcome.created.incrementAndGet();
+            } else if (dice < 95) {
+                int target = commentDonateSeqs.get(commentSeq);
+                guard.write(target, () -> inTransaction(
+                        () -> memorialCommentService.updateComment(target, commentSeq, updateRequest())));
+            } else {
+                int target = commentDonateSeqs.get(commentSeq);
+                guard.write(target, () -> inTransaction(
+                        () -> memorialCommentService.deleteComment(target, commentSeq, passwordRequest())));
+                outcome.deleted.incrementAndGet();
+            }
+        } catch (CommentAlreadyDeleteException e) {
+            outcome.rejected.incrementAndGet();
+        }
+    }
+
+    /* 성공한 작성, 삭제 건수가 테이블 상태와 일치하고, 상세 조회의 댓글 수가 테이블과 일치해야 한다. */
+    private void verifyOutcome(Outcome outcome) {
+        List<MemorialComment> rows = memorialCommentRepository.findAll();
+        long deletedRows = rows.stream().filter(c -> "Y".equals(c.getDelFlag())).count();
+
+        assertThat(rows).hasSize(INITIAL_COMMENTS + outcome.created.get());
+        assertThat(deletedRows).isEqualTo(outcome.deleted.get());
+        assertThat(outcome.deleted.get()).isLessThanOrEqualTo(INITIAL_COMMENTS);
+
+        for (int donateSeq = 1; donateSeq <= MEMORIALS; donateSeq++) {
+            int target = donateSeq;
+            CursorCommentCountPaginationResponse<MemorialCommentResponse, Integer> replies =
+                    (CursorCommentCountPaginationResponse<MemorialCommentResponse, Integer>)
+                            inTransaction(() -> memorialService.getMemorialByDonateSeq(target)).getMemorialCommentResponses();
+            long active = rows.stream().filter(c -> c.getDonateSeq() == target && "N".equals(c.getDelFlag())).count();
+            assertThat(replies.getTotalCommentCount()).isEqualTo(active);
+        }
+    }
+
+    private void inTransaction(Runnable action) {
+        transaction.executeWithoutResult(status -> action.run());
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return transaction.execute(status -> action.get());
+    }
+
+    private MemorialRepository stubMemorialRepository() {
+        MemorialRepository repository = mock(MemorialRepository.class, withSettings().stubOnly());
+
+        when(repository.findById(anyInt())).thenAnswer(invocation -> {
+            int donateSeq = invocation.getArgument(0);
+            return Optional.of(Memorial.builder()
+                    .donateSeq(donateSeq)
+                    .donorName("홍길동")
+                    .anonymityFlag("N")
+                    .donateDate("20240101")
+                    .genderFlag("M")
+                    .donateAge(40)
+                    .writeTime(LocalDateTime.of(2024, 1, 1, 12, 0))
+                    .build());
+        });
+        return repository;
+    }
+
+    private HeavenService emptyHeavenService() {
+        HeavenService heavenService = mock(HeavenService.class, withSettings().stubOnly());
+        CursorPaginationResponse<MemorialHeavenResponse, Integer> letters =
+                CursorPaginationResponse.<MemorialHeavenResponse, Integer>builder()
+                        .content(List.of())
+                        .nextCursor(null)
+                        .hasNext(false)
+                        .build();
+
+        when(heavenService.getMemorialHeavenList(anyInt(), isNull(), anyInt())).thenReturn(letters);
+        return heavenService;
+    }
+
+    private static MemorialCommentCreateRequest createRequest(String contents) {
+        return MemorialCommentCreateRequest.builder()
+                .commentWriter("홍길동")
+                .commentPasscode(PASSCODE)
+                .contents(contents)
+                .build();
+    }
+
+    private static MemorialCommentUpdateRequest updateRequest() {
+        return MemorialCommentUpdateRequest.builder()
+                .commentWriter("홍길동")
+                .contents("수정 내용")
+                .build();
+    }
+
+    private static MemorialCommentPasswordRequest passwordRequest() {
+        return MemorialCommentPasswordRequest.builder()
+                .commentPasscode(PASSCODE)
+                .build();
+    }
+
+    private static final class Outcome {
+        private final AtomicInteger created = new AtomicInteger();
+        private final AtomicInteger deleted = new AtomicInteger();
+        private final AtomicInteger rejected = new AtomicInteger();
+    }
+
+    private interface Guard {
+        <T> T read(int donateSeq, Supplier<T> action);
+
+        void write(int donateSeq, Runnable action);
+    }
+
+    /**
+     * 락 없이 DB 조건부 UPDATE 에 동시성을 맡기는 현재 방식
+     */
+    private static final class LockFree implements Guard {
+
+        @Override
+        public <T> T read(int donateSeq, Supplier<T> action) {
+            return action.get();
+        }
+
+        @Override
+        public void write(int donateSeq, Runnable action) {
+            action.run();
+        }
+
+    }
+
+    /**
+     * 교체 전 방식 (비교용): 게시글별 ReentrantReadWriteLock 으로 상세 조회와 댓글 쓰기를 직렬화
+     */
+    private static final class LegacyLockCache implements Guard {
+
+        private final Map<Integer, ReentrantReadWriteLock> locks = new ConcurrentHashMap<>();
+
+        @Override
+        public <T> T read(int donateSeq, Supplier<T> action) {
+            ReentrantReadWriteLock lock = locks.computeIfAbsent(donateSeq, k -> new ReentrantReadWriteLock());
+            lock.readLock().lock();
+            try {
+                return action.get();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public void write(int donateSeq, Runnable action) {
+            ReentrantReadWriteLock lock = locks.computeIfAbsent(donateSeq, k -> new ReentrantReadWriteLock());
+            lock.writeLock().lock();
+            try {
+                action.run();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+    }
+
+}
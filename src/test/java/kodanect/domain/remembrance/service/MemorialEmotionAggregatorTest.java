@@ -0,0 +1,159 @@
+package kodanect.domain.remembrance.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kodanect.common.util.EmotionType;
+import kodanect.domain.remembrance.repository.MemorialEmotionCountRepository;
+import kodanect.domain.remembrance.service.impl.MemorialEmotionAggregator;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link MemorialEmotionAggregator} 클래스의 동작을 검증하는 단위 테스트입니다.
+ *
+ * 게시글별 이모지 증가분 일괄 반영, 반영 대기 카운트, 반영 실패 시 재시도, 동시 증가 집계를 테스트합니다.
+ */
+public class MemorialEmotionAggregatorTest {
+
+    private MemorialEmotionCountRepository memorialEmotionCountRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private MemorialEmotionAggregator aggregator;
+
+    @Before
+    public void setUp() {
+        memorialEmotionCountRepository = mock(MemorialEmotionCountRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        aggregator = new MemorialEmotionAggregator(memorialEmotionCountRepository, meterRegistry);
+    }
+
+    /**
+     * Given: 여러 게시글에 서로 다른 이모지가 여러 번 눌렸을 때
+     * When: flush()를 호출하면
+     * Then: 한 번의 호출로 게시글별 7개 이모지 증가분이 반영되고, 반영 대기 카운트는 0이 되어야 한다.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void flush_shouldCoalesceAllEmotionsIntoSingleCall() {
+        aggregator.increment(1, EmotionType.FLOWER);
+        aggregator.increment(1, EmotionType.FLOWER);
+        aggregator.increment(1, EmotionType.SAD);
+        aggregator.increment(2, EmotionType.LOVE);
+
+        assertThat(aggregator.getPendingCount(1, EmotionType.FLOWER)).isEqualTo(2);
+        assertThat(aggregator.getPendingCount(2, EmotionType.FLOWER)).isZero();
+        assertThat(aggregator.getTotalPendingCount()).isEqualTo(4);
+
+        int flushed = aggregator.flush();
+
+        ArgumentCaptor<Map<Integer, long[]>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(memorialEmotionCountRepository, times(1)).addEmotionCounts(captor.capture());
+        Map<Integer, long[]> deltas = captor.getValue();
+
+        assertThat(flushed).isEqualTo(2);
+        assertThat(deltas).containsOnlyKeys(1, 2);
+        assertThat(deltas.get(1)).containsExactly(2, 0, 0, 0, 0, 0, 1);
+        assertThat(deltas.get(2)).containsExactly(0, 1, 0, 0, 0, 0, 0);
+        assertThat(aggregator.getTotalPendingCount()).isZero();
+        assertThat(meterRegistry.get("memorial.emotion.pending").gauge().value()).isZero();
+    }
+
+    /**
+     * Given: 이미 반영된 게시글만 있고 새 증가분이 없을 때
+     * When: flush()를 호출하면
+     * Then: 저장소를 호출하지 않아야 한다.
+     */
+    @Test
+    public void flush_withoutPending_shouldNotTouchRepository() {
+        aggregator.increment(1, EmotionType.SEE);
+        aggregator.flush();
+        reset(memorialEmotionCountRepository);
+
+        assertThat(aggregator.flush()).isZero();
+
+        verifyNoInteractions(memorialEmotionCountRepository);
+    }
+
+    /**
+     * Given: 저장소 반영이 실패할 때
+     * When: flush()를 호출하면
+     * Then: 증가분이 다시 반영 대기 상태로 남고, 실패 횟수가 메트릭에 누적되어야 한다.
+     */
+    @Test
+    public void flush_whenRepositoryFails_shouldRestorePendingDeltas() {
+        aggregator.increment(1, EmotionType.MISS);
+        aggregator.increment(1, EmotionType.PROUD);
+        doThrow(new DataAccessResourceFailureException("db down"))
+                .when(memorialEmotionCountRepository).addEmotionCounts(anyMap());
+
+        assertThat(aggregator.flush()).isZero();
+
+        assertThat(aggregator.getPendingCount(1, EmotionType.MISS)).isEqualTo(1);
+        assertThat(aggregator.getPendingCount(1, EmotionType.PROUD)).isEqualTo(1);
+        assertThat(meterRegistry.get("memorial.emotion.flush.failures").counter().count()).isEqualTo(1.0);
+    }
+
+    /**
+     * Given: 종료 시점에 반영 대기 중인 카운트가 남아 있을 때
+     * When: destroy()를 호출하면
+     * Then: 남은 증가분이 반영되어야 한다.
+     */
+    @Test
+    public void destroy_shouldFlushRemainingDeltas() {
+        aggregator.increment(3, EmotionType.HARD);
+
+        aggregator.destroy();
+
+        verify(memorialEmotionCountRepository, times(1)).addEmotionCounts(anyMap());
+        assertThat(aggregator.getTotalPendingCount()).isZero();
+    }
+
+    /**
+     * Given: 여러 스레드가 같은 게시글에 동시에 이모지를 누를 때
+     * When: 모든 증가가 끝난 뒤 반영 대기 카운트를 조회하면
+     * Then: 누락 없이 모든 증가분이 집계되어야 한다.
+     */
+    @Test
+    public void increment_concurrently_shouldNotLoseUpdates() throws Exception {
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                EmotionType emotionType = EmotionType.values()[i % EmotionType.values().length];
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < perThread; j++) {
+                        aggregator.increment(42, emotionType);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(aggregator.getTotalPendingCount()).isEqualTo((long) threads * perThread);
+        assertThat(aggregator.getPendingCount(42, EmotionType.FLOWER)).isEqualTo(2L * perThread);
+    }
+
+}
@@ -1,6 +1,7 @@
 package kodanect.domain.remembrance.service;
 
 import kodanect.common.response.CursorPaginationResponse;
+import kodanect.common.util.EmotionType;
 import kodanect.common.util.FormatUtils;
 import kodanect.common.util.MemorialFinder;
 import kodanect.common.util.MemorialHtmlNormalizer;
@@ -15,6 +16,7 @@ import kodanect.domain.remembrance.dto.MemorialCommentResponse;
 import kodanect.domain.remembrance.dto.common.MemorialNextCursor;
 import kodanect.domain.remembrance.entity.Memorial;
 import kodanect.domain.remembrance.repository.MemorialRepository;
+import kodanect.domain.remembrance.service.impl.MemorialEmotionAggregator;
 import kodanect.domain.remembrance.service.impl.MemorialServiceImpl;
 import org.junit.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -56,6 +58,9 @@ public class MemorialServiceImplTest {
     @Mock
     private MemorialHtmlNormalizer memorialHtmlNormalizer;
 
+    @Mock
+    private MemorialEmotionAggregator memorialEmotionAggregator;
+
     @Test
     @DisplayName("추모관 이모지 카운팅")
     public void 추모관_이모지_카운팅() {
@@ -70,41 +75,7 @@ public class MemorialServiceImplTest {
         final String PROUD = "PROUD";
         final String LOVE = "love";
 
-        Memorial memorial = Memorial.builder()
-                .donateSeq(donateSeq)
-                .donorName("홍길동")
-                .anonymityFlag("N")
-                .donateTitle("기억합니다")
-                .areaCode("A1")
-                .contents("내용입니다")
-                .fileName("img.jpg")
-                .orgFileName("origin.jpg")
-                .writer("관리자")
-                .donateDate("20240101")
-                .genderFlag("M")
-                .donateAge(40)
-                .flowerCount(1)
-                .loveCount(2)
-                .seeCount(3)
-                .missCount(4)
-                .proudCount(5)
-                .hardCount(6)
-                .sadCount(7)
-                .writeTime(LocalDateTime.of(2024, 1, 1, 12, 0))
-                .writerId("admin")
-                .modifyTime(LocalDateTime.of(2024, 1, 2, 12, 0))
-                .modifierId("admin")
-                .delFlag("N")
-                .build();
-
-        when(memorialFinder.findByIdOrThrow(donateSeq)).thenReturn(memorial);
-        doNothing().when(memorialRepository).incrementFlower(donateSeq);
-        doNothing().when(memorialRepository).incrementHard(donateSeq);
-        doNothing().when(memorialRepository).incrementLove(donateSeq);
-        doNothing().when(memorialRepository).incrementMiss(donateSeq);
-        doNothing().when(memorialRepository).incrementSad(donateSeq);
-        doNothing().when(memorialRepository).incrementProud(donateSeq);
-        doNothing().when(memorialRepository).incrementSee(donateSeq);
+        doNothing().when(memorialFinder).existsOrThrow(donateSeq);
 
         memorialService.emotionCountUpdate(donateSeq, FLOWER);
         memorialService.emotionCountUpdate(donateSeq, HARD);
@@ -114,13 +85,15 @@ public class MemorialServiceImplTest {
         memorialService.emotionCountUpdate(donateSeq, PROUD);
         memorialService.emotionCountUpdate(donateSeq, SEE);
 
-        verify(memorialRepository, times(1)).incrementFlower(donateSeq);
-        verify(memorialRepository, times(1)).incrementProud(donateSeq);
-        verify(memorialRepository, times(1)).incrementSad(donateSeq);
-        verify(memorialRepository, times(1)).incrementMiss(donateSeq);
-        verify(memorialRepository, times(1)).incrementSee(donateSeq);
-        verify(memorialRepository, times(1)).incrementLove(donateSeq);
-        verify(memorialRepository, times(1)).incrementHard(donateSeq);
+        verify(memorialFinder, times(7)).existsOrThrow(donateSeq);
+        verify(memorialFinder, never()).findByIdOrThrow(anyInt());
+        verify(memorialEmotionAggregator, times(1)).increment(donateSeq, EmotionType.FLOWER);
+        verify(memorialEmotionAggregator, times(1)).increment(donateSeq, EmotionType.PROUD);
+        verify(memorialEmotionAggregator, times(1)).increment(donateSeq, EmotionType.SAD);
+        verify(memorialEmotionAggregator, times(1)).increment(donateSeq, EmotionType.MISS);
+        verify(memorialEmotionAggregator, times(1)).increment(donateSeq, EmotionType.SEE);
+        verify(memorialEmotionAggregator, times(1)).increment(donateSeq, EmotionType.LOVE);
+        verify(memorialEmotionAggregator, times(1)).increment(donateSeq, EmotionType.HARD);
 
     }
 
@@ -309,6 +282,7 @@ public class MemorialServiceImplTest {
         when(memorialFinder.findByIdOrThrow(donateSeq)).thenReturn(memorial);
         when(memorialCommentService.getMemorialCommentList(eq(donateSeq), eq(null), anyInt())).thenReturn(page);
         when(heavenService.getMemorialHeavenList(eq(donateSeq), eq(null), anyInt())).thenReturn(letters);
+        when(memorialEmotionAggregator.getPendingCount(donateSeq, EmotionType.FLOWER)).thenReturn(2L);
 
         MemorialDetailResponse result = memorialService.getMemorialByDonateSeq(donateSeq);
 
@@ -322,7 +296,7 @@ public class MemorialServiceImplTest {
         assertEquals("2024-01-01", result.getDonateDate());
         assertEquals("M", result.getGenderFlag());
         assertEquals(Integer.valueOf(40), result.getDonateAge());
-        assertEquals(1, result.getFlowerCount());
+        assertEquals(3, result.getFlowerCount());
         assertEquals(2, result.getLoveCount());
         assertEquals(3, result.getSeeCount());
         assertEquals(4, result.getMissCount());